@@ -0,0 +1,157 @@
+package aiApp.applicationcore.appointmentcomponent;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how long it takes to find the appointments that overlap one hour, through the AppointmentIntervalTree and
+ * by scanning all appointments.
+ * There are appointmentCount appointments of up to eight hours each, beginning at random over ten years.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgs = {"-Xmx2g"})
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+public class AppointmentIntervalTreeBenchmark {
+    /**
+     * The amount of appointments.
+     */
+    @Param({"1000000"})
+    public int appointmentCount;
+
+    /**
+     * Creates the appointments and the tree.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        final Random random = new Random(42);
+        final int secondsPerHour = 60 * 60;
+        final int maxLength = 8 * secondsPerHour;
+
+        ids = new int[appointmentCount];
+        begins = new long[appointmentCount];
+        ends = new long[appointmentCount];
+
+        tree = new AppointmentIntervalTree();
+        for (int i = 0; i < appointmentCount; ++i) {
+            ids[i] = i + 1;
+            begins[i] = firstBegin + (long) (random.nextDouble() * tenYears);
+            ends[i] = begins[i] + random.nextInt(maxLength);
+            tree.insert(ids[i], begins[i], ends[i]);
+        }
+
+        queries = new long[queryCount];
+        for (int i = 0; i < queryCount; ++i) {
+            queries[i] = firstBegin + (long) (random.nextDouble() * tenYears);
+        }
+    }
+
+    /**
+     * Finds the appointments that overlap an hour through the tree.
+     *
+     * @return The ids found.
+     */
+    @Benchmark
+    public List<Integer> tree() {
+        final long from = nextQuery();
+
+        return tree.query(from, from + hour);
+    }
+
+    /**
+     * Finds the appointments that overlap an hour by looking at every appointment.
+     *
+     * @return The ids found.
+     */
+    @Benchmark
+    public List<Integer> scan() {
+        final long from = nextQuery();
+        final long to = from + hour;
+
+        List<Integer> result = new ArrayList<>();
+        for (int i = 0; i < appointmentCount; ++i) {
+            if (begins[i] <= to && ends[i] >= from) {
+                result.add(ids[i]);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns the begin of the next hour to query for.
+     *
+     * @return The begin in epoch seconds.
+     */
+    private long nextQuery() {
+        queryIdx = (queryIdx + 1) % queryCount;
+        return queries[queryIdx];
+    }
+
+    /**
+     * The begin of the first appointment, 2017-01-01 in epoch seconds.
+     */
+    private static final long firstBegin = 1483228800L;
+
+    /**
+     * Ten years in seconds.
+     */
+    private static final long tenYears = 10L * 365 * 24 * 60 * 60;
+
+    /**
+     * An hour in seconds.
+     */
+    private static final long hour = 60 * 60;
+
+    /**
+     * The amount of distinct hours queried for.
+     */
+    private static final int queryCount = 1024;
+
+    /**
+     * The ids of the appointments.
+     */
+    private int ids[];
+
+    /**
+     * The begins of the appointments.
+     */
+    private long begins[];
+
+    /**
+     * The ends of the appointments.
+     */
+    private long ends[];
+
+    /**
+     * The tree over all appointments.
+     */
+    private AppointmentIntervalTree tree;
+
+    /**
+     * The begins of the hours to query for.
+     */
+    private long queries[];
+
+    /**
+     * The index of the last query.
+     */
+    private int queryIdx;
+}
@@ -0,0 +1,114 @@
+package aiApp.applicationcore.appointmentcomponent;
+
+import aiApp.applicationcore.Application;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how long it takes to load appointments from the AppointmentRepository.
+ * The repository is filled with appointmentCount appointments of five minutes each, starting on 2017-01-02.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgs = {"-Xmx2g"})
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class AppointmentRepositoryBenchmark {
+    /**
+     * The amount of appointments stored in the repository.
+     */
+    @Param({"100000"})
+    public int appointmentCount;
+
+    /**
+     * Starts the application without the web server and stores the appointments.
+     *
+     * @throws InvalidDateException if a TimePoint could not be created. Should never happen.
+     * @throws InvalidTimePointException if a TimeSpan could not be created. Should never happen.
+     * @throws InvalidTimeSpanException if an Appointment could not be created. Should never happen.
+     * @throws InvalidWeekException if an Appointment could not be created. Should never happen.
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws InvalidDateException, InvalidTimePointException, InvalidTimeSpanException, InvalidWeekException {
+        final long firstBegin = new TimePoint(2017, TimePoint.JANUARY, 2, 0, 0, 0).toEpochSecond();
+        final long lengthInSeconds = 5 * 60;
+        final int batchSize = 1000;
+
+        context = new SpringApplicationBuilder(Application.class).web(false).run();
+        appointmentRepository = context.getBean(AppointmentRepository.class);
+        appointmentRepository.deleteAll();
+
+        List<Appointment> batch = new ArrayList<>(batchSize);
+        for (int i = 0; i < appointmentCount; ++i) {
+            final long begin = firstBegin + i * lengthInSeconds;
+            batch.add(new Appointment(new TimeSpan(TimePoint.fromEpochSecond(begin),
+                                                   TimePoint.fromEpochSecond(begin + lengthInSeconds))));
+
+            if (batch.size() == batchSize) {
+                appointmentRepository.save(batch);
+                batch.clear();
+            }
+        }
+
+        appointmentRepository.save(batch);
+    }
+
+    /**
+     * Shuts the application down.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    /**
+     * Loads every appointment.
+     *
+     * @return The appointments loaded, returned so that the JIT can't eliminate the call.
+     */
+    @Benchmark
+    public List<Appointment> findAll() {
+        return appointmentRepository.findAll();
+    }
+
+    /**
+     * Loads the appointments that begin in week 17.
+     *
+     * @return The appointments loaded, returned so that the JIT can't eliminate the call.
+     */
+    @Benchmark
+    public Optional<List<Appointment>> findByStartWeek() {
+        final int week = 17;
+
+        return appointmentRepository.findByStartWeek(week);
+    }
+
+    /**
+     * The running application.
+     */
+    private ConfigurableApplicationContext context;
+
+    /**
+     * The repository of the running application.
+     */
+    private AppointmentRepository appointmentRepository;
+}
@@ -0,0 +1,159 @@
+package aiApp.applicationcore.appointmentcomponent;
+
+import aiApp.applicationcore.employeecomponent.EmailType;
+import aiApp.applicationcore.employeecomponent.Employee;
+import aiApp.applicationcore.employeecomponent.InvalidEmployeeNameException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how long it takes to serialize a week of appointments to JSON, both through the ObjectMapper as the
+ * HTTP responses do and through toString.
+ * The week holds appointmentCount appointments of attendeeCount attendees each, starting on 2017-01-02.
+ * The ids are set by reflection as the appointments and employees are never stored.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgs = {"-Xmx2g"})
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+public class AppointmentSerializerBenchmark {
+    /**
+     * The amount of appointments in the week.
+     */
+    @Param({"5000"})
+    public int appointmentCount;
+
+    /**
+     * The amount of attendees of every appointment.
+     */
+    @Param({"20"})
+    public int attendeeCount;
+
+    /**
+     * Creates the appointments and their attendees.
+     *
+     * @throws ReflectiveOperationException if an id could not be set. Should never happen.
+     * @throws InvalidDateException if a TimePoint could not be created. Should never happen.
+     * @throws InvalidTimePointException if a TimeSpan could not be created. Should never happen.
+     * @throws InvalidTimeSpanException if an Appointment could not be created. Should never happen.
+     * @throws InvalidWeekException if an Appointment could not be created. Should never happen.
+     * @throws InvalidEmployeeNameException if an Employee could not be created. Should never happen.
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws ReflectiveOperationException, InvalidDateException, InvalidTimePointException,
+                               InvalidTimeSpanException, InvalidWeekException, InvalidEmployeeNameException {
+        final long firstBegin = new TimePoint(2017, TimePoint.JANUARY, 2, 0, 0, 0).toEpochSecond();
+        final long secondsPerWeek = 7 * 24 * 60 * 60;
+        final long step = secondsPerWeek / appointmentCount;
+        final long lengthInSeconds = 30 * 60;
+        final int employeeCount = 200;
+
+        final Field employeeId = Employee.class.getDeclaredField("id");
+        employeeId.setAccessible(true);
+        final Field appointmentId = Appointment.class.getDeclaredField("id");
+        appointmentId.setAccessible(true);
+
+        List<Employee> employees = new ArrayList<>(employeeCount);
+        for (int i = 0; i < employeeCount; ++i) {
+            Employee employee = new Employee("John", "Doe", new EmailType(String.format("john.doe%d@example.com", i)));
+            employeeId.set(employee, i + 1);
+            employees.add(employee);
+        }
+
+        appointments = new ArrayList<>(appointmentCount);
+        for (int i = 0; i < appointmentCount; ++i) {
+            final long begin = firstBegin + i * step;
+            Appointment appointment = new Appointment(new TimeSpan(TimePoint.fromEpochSecond(begin),
+                                                                   TimePoint.fromEpochSecond(begin + lengthInSeconds)));
+            appointmentId.set(appointment, i + 1);
+
+            List<Employee> attendees = new ArrayList<>(attendeeCount);
+            for (int j = 0; j < attendeeCount; ++j) {
+                attendees.add(employees.get((i + j) % employeeCount));
+            }
+
+            appointment.addEmployees(attendees);
+            appointments.add(appointment);
+        }
+    }
+
+    /**
+     * Writes the week as a JSON array through the ObjectMapper into an OutputStream that discards its input,
+     * as the HTTP responses are written.
+     *
+     * @return The amount of bytes written, returned so that the JIT can't eliminate the call.
+     * @throws IOException if the JSON could not be written. Should never happen.
+     */
+    @Benchmark
+    public long objectMapper() throws IOException {
+        CountingOutputStream outputStream = new CountingOutputStream();
+        objectMapper.writeValue(outputStream, appointments);
+        return outputStream.count;
+    }
+
+    /**
+     * Creates the JSON text of every appointment of the week through toString.
+     *
+     * @return The total length of the texts, returned so that the JIT can't eliminate the calls.
+     */
+    @Benchmark
+    public long toStringAll() {
+        long length = 0;
+
+        for (Appointment appointment : appointments) {
+            length += appointment.toString().length();
+        }
+
+        return length;
+    }
+
+    /**
+     * OutputStream that only counts the bytes written to it.
+     */
+    private static final class CountingOutputStream extends OutputStream {
+        @Override
+        public void write(int b) {
+            ++count;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+
+        /**
+         * The amount of bytes written.
+         */
+        private long count;
+    }
+
+    /**
+     * The ObjectMapper to write with.
+     */
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    /**
+     * The appointments of the week.
+     */
+    private List<Appointment> appointments;
+}
@@ -0,0 +1,184 @@
+package aiApp.applicationcore.appointmentcomponent;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how long it takes to search the AppointmentTextIndex for two words.
+ * Each of the appointmentCount appointments has a title of titleLength words drawn from a vocabulary of
+ * vocabularySize words, word k being drawn about 1 / k as often as the most common word, so that a few words occur
+ * in a large share of the appointments and most words are rare.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgs = {"-Xmx4g"})
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+public class AppointmentTextIndexBenchmark {
+    /**
+     * The amount of appointments.
+     */
+    @Param({"2000000"})
+    public int appointmentCount;
+
+    /**
+     * The amount of distinct words.
+     */
+    @Param({"20000"})
+    public int vocabularySize;
+
+    /**
+     * The amount of words of a title.
+     */
+    @Param({"5"})
+    public int titleLength;
+
+    /**
+     * Creates the appointments and the index.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        final Random random = new Random(42);
+
+        // cumulative weights of the words, so that a word is drawn by a binary search.
+        cumulativeWeights = new double[vocabularySize];
+        double sum = 0;
+        for (int k = 0; k < vocabularySize; ++k) {
+            sum += 1.0 / (k + 1);
+            cumulativeWeights[k] = sum;
+        }
+
+        index = new AppointmentTextIndex();
+        StringBuilder title = new StringBuilder();
+
+        for (int appointment = 0; appointment < appointmentCount; ++appointment) {
+            title.setLength(0);
+            for (int i = 0; i < titleLength; ++i) {
+                title.append(word(drawWord(random))).append(' ');
+            }
+
+            index.add(appointment + 1, appointment, title.toString());
+        }
+
+        commonQueries = new String[queryCount];
+        rareQueries = new String[queryCount];
+        for (int i = 0; i < queryCount; ++i) {
+            commonQueries[i] = word(random.nextInt(10)) + " " + word(10 + random.nextInt(10));
+            rareQueries[i] = word(random.nextInt(10)) + " " + word(1000 + random.nextInt(vocabularySize - 1000));
+        }
+    }
+
+    /**
+     * Searches for two common words, both of which occur in hundreds of thousands of appointments.
+     *
+     * @return The ids found.
+     */
+    @Benchmark
+    public List<Integer> commonWords() {
+        return index.search(commonQueries[nextQuery()], limit);
+    }
+
+    /**
+     * Searches for a common and a rare word, the rare one drives the intersection.
+     *
+     * @return The ids found.
+     */
+    @Benchmark
+    public List<Integer> rareWord() {
+        return index.search(rareQueries[nextQuery()], limit);
+    }
+
+    /**
+     * Draws a word, more common words more often.
+     *
+     * @param random The source of randomness.
+     * @return The number of the word.
+     */
+    private int drawWord(Random random) {
+        final double target = random.nextDouble() * cumulativeWeights[vocabularySize - 1];
+
+        int low = 0;
+        int high = vocabularySize - 1;
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+
+            if (cumulativeWeights[middle] < target) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+
+        return low;
+    }
+
+    /**
+     * Returns the text of a word.
+     *
+     * @param number The number of the word.
+     * @return The text of the word.
+     */
+    private static String word(int number) {
+        return "w" + Integer.toString(number, Character.MAX_RADIX);
+    }
+
+    /**
+     * Returns the index of the next query.
+     *
+     * @return The index of the query.
+     */
+    private int nextQuery() {
+        queryIdx = (queryIdx + 1) % queryCount;
+        return queryIdx;
+    }
+
+    /**
+     * The amount of distinct queries of each kind.
+     */
+    private static final int queryCount = 256;
+
+    /**
+     * The largest amount of appointments to find, the default of the AppointmentComponent.
+     */
+    private static final int limit = 100;
+
+    /**
+     * The cumulative weights of the words.
+     */
+    private double cumulativeWeights[];
+
+    /**
+     * The index over all appointments.
+     */
+    private AppointmentTextIndex index;
+
+    /**
+     * The queries for two common words.
+     */
+    private String commonQueries[];
+
+    /**
+     * The queries for a common and a rare word.
+     */
+    private String rareQueries[];
+
+    /**
+     * The index of the last query.
+     */
+    private int queryIdx;
+}
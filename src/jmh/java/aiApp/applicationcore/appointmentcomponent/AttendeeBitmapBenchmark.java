@@ -0,0 +1,285 @@
+package aiApp.applicationcore.appointmentcomponent;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how long it takes to find the appointments attended by all of, any of and none of a group of employees,
+ * through the bitmaps of the AttendeeAgendaIndex and by looking at the attendees of every appointment.
+ * The employeeCount employees form teams of teamSize. Each of the appointmentCount appointments belongs to a random
+ * team and is attended by two to eight of its members. The first member of the team attends about half of the
+ * appointments of the team.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgs = {"-Xmx4g"})
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+public class AttendeeBitmapBenchmark {
+    /**
+     * The amount of employees.
+     */
+    @Param({"100000"})
+    public int employeeCount;
+
+    /**
+     * The amount of appointments.
+     */
+    @Param({"1000000"})
+    public int appointmentCount;
+
+    /**
+     * The amount of employees of a team.
+     */
+    @Param({"100"})
+    public int teamSize;
+
+    /**
+     * Creates the appointments and the index.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        final Random random = new Random(42);
+        final int teamCount = employeeCount / teamSize;
+
+        attendees = new int[appointmentCount][];
+        int attendanceCounts[] = new int[employeeCount];
+
+        for (int appointment = 0; appointment < appointmentCount; ++appointment) {
+            final int firstMember = random.nextInt(teamCount) * teamSize;
+            final int attendeeCount = 2 + random.nextInt(7);
+
+            attendees[appointment] = new int[attendeeCount];
+            attendees[appointment][0] = random.nextBoolean() ? firstMember : firstMember + 1;
+            for (int i = 1; i < attendeeCount; ++i) {
+                attendees[appointment][i] = firstMember + 2 + random.nextInt(teamSize - 2);
+            }
+
+            attendees[appointment] = distinct(attendees[appointment]);
+            for (int attendee : attendees[appointment]) {
+                ++attendanceCounts[attendee];
+            }
+        }
+
+        index = buildIndex(attendanceCounts);
+
+        queries = new int[queryCount][];
+        for (int i = 0; i < queryCount; ++i) {
+            final int firstMember = random.nextInt(teamCount) * teamSize;
+
+            queries[i] = new int[teamSize / 10];
+            for (int j = 0; j < queries[i].length; ++j) {
+                queries[i][j] = firstMember + random.nextInt(teamSize);
+            }
+
+            queries[i][0] = firstMember;
+        }
+    }
+
+    /**
+     * Finds the appointments attended by both the first member of a team and one other member through the bitmaps.
+     *
+     * @return The ids found.
+     */
+    @Benchmark
+    public int[] allOfBitmap() {
+        final int query[] = nextQuery();
+
+        return index.attendedBy(new int[] { query[0], query[1] }, none, none);
+    }
+
+    /**
+     * Finds the appointments attended by both the first member of a team and one other member by looking at every
+     * appointment.
+     *
+     * @return The amount of appointments found.
+     */
+    @Benchmark
+    public int allOfScan() {
+        final int query[] = nextQuery();
+        int count = 0;
+
+        for (int attendeesOfAppointment[] : attendees) {
+            if (contains(attendeesOfAppointment, query[0]) && contains(attendeesOfAppointment, query[1])) {
+                ++count;
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Finds the appointments attended by any of a tenth of a team, but not by the first member of the team, through
+     * the bitmaps.
+     *
+     * @return The ids found.
+     */
+    @Benchmark
+    public int[] anyOfNoneOfBitmap() {
+        final int query[] = nextQuery();
+
+        return index.attendedBy(none, query, new int[] { query[0] });
+    }
+
+    /**
+     * Finds the appointments attended by any of a tenth of a team, but not by the first member of the team, by
+     * looking at every appointment.
+     *
+     * @return The amount of appointments found.
+     */
+    @Benchmark
+    public int anyOfNoneOfScan() {
+        final int query[] = nextQuery();
+        int count = 0;
+
+        for (int attendeesOfAppointment[] : attendees) {
+            if (contains(attendeesOfAppointment, query[0])) {
+                continue;
+            }
+
+            for (int i = 1; i < query.length; ++i) {
+                if (contains(attendeesOfAppointment, query[i])) {
+                    ++count;
+                    break;
+                }
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Builds the index from the attendees of the appointments, appointment i has the id i + 1 and begins at i.
+     *
+     * @param attendanceCounts The amount of appointments of every employee.
+     * @return The index.
+     */
+    private AttendeeAgendaIndex buildIndex(int attendanceCounts[]) {
+        int offsets[] = new int[employeeCount + 1];
+        for (int employee = 0; employee < employeeCount; ++employee) {
+            offsets[employee + 1] = offsets[employee] + attendanceCounts[employee];
+        }
+
+        final int count = offsets[employeeCount];
+        int employeeIds[] = new int[count];
+        int appointmentIds[] = new int[count];
+        long begins[] = new long[count];
+        long ends[] = new long[count];
+
+        int next[] = offsets.clone();
+        for (int appointment = 0; appointment < appointmentCount; ++appointment) {
+            for (int attendee : attendees[appointment]) {
+                final int idx = next[attendee]++;
+                employeeIds[idx] = attendee;
+                appointmentIds[idx] = appointment + 1;
+                begins[idx] = appointment;
+                ends[idx] = appointment;
+            }
+        }
+
+        return AttendeeAgendaIndex.fromSorted(employeeIds, appointmentIds, begins, ends, count);
+    }
+
+    /**
+     * Removes the duplicates from a small array of employees.
+     *
+     * @param employees The employees.
+     * @return The employees without duplicates.
+     */
+    private static int[] distinct(int employees[]) {
+        int result[] = new int[employees.length];
+        int count = 0;
+
+        for (int employee : employees) {
+            if (!contains(result, count, employee)) {
+                result[count++] = employee;
+            }
+        }
+
+        return Arrays.copyOf(result, count);
+    }
+
+    /**
+     * Determines whether an array of employees contains an employee.
+     *
+     * @param employees The employees.
+     * @param employee The employee.
+     * @return true if employee is among the employees; false otherwise.
+     */
+    private static boolean contains(int employees[], int employee) {
+        return contains(employees, employees.length, employee);
+    }
+
+    /**
+     * Determines whether the beginning of an array of employees contains an employee.
+     *
+     * @param employees The employees.
+     * @param length The amount of employees to look at.
+     * @param employee The employee.
+     * @return true if employee is among the first length employees; false otherwise.
+     */
+    private static boolean contains(int employees[], int length, int employee) {
+        for (int i = 0; i < length; ++i) {
+            if (employees[i] == employee) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Returns the next group of employees to query for.
+     *
+     * @return The employees, the first member of a team first.
+     */
+    private int[] nextQuery() {
+        queryIdx = (queryIdx + 1) % queryCount;
+        return queries[queryIdx];
+    }
+
+    /**
+     * The amount of distinct groups of employees queried for.
+     */
+    private static final int queryCount = 256;
+
+    /**
+     * The empty group of employees.
+     */
+    private static final int none[] = new int[0];
+
+    /**
+     * The attendees of every appointment.
+     */
+    private int attendees[][];
+
+    /**
+     * The index over all appointments.
+     */
+    private AttendeeAgendaIndex index;
+
+    /**
+     * The groups of employees to query for.
+     */
+    private int queries[][];
+
+    /**
+     * The index of the last query.
+     */
+    private int queryIdx;
+}
@@ -0,0 +1,212 @@
+package aiApp.applicationcore.appointmentcomponent;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.IsoFields;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the DateKernel with the SimpleDateFormat, Calendar and java.time code it replaces.
+ * Every benchmark processes the same dates, spread over the years 1970 up to 2069.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+public class DateKernelBenchmark {
+    /**
+     * The amount of dates processed per benchmark invocation.
+     */
+    private static final int dateCount = 1024;
+
+    /**
+     * Creates the dates.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        final long firstEpochDay = LocalDate.of(1970, 1, 1).toEpochDay();
+        final int dayRange = 100 * 365;
+        final Random random = new Random(42);
+
+        for (int i = 0; i < dateCount; ++i) {
+            LocalDate date = LocalDate.ofEpochDay(firstEpochDay + random.nextInt(dayRange));
+            years[i] = date.getYear();
+            months[i] = date.getMonthValue();
+            days[i] = date.getDayOfMonth();
+        }
+    }
+
+    /**
+     * Validates the dates the way TimePoint used to: format them as yyyyMMdd and parse them with a strict
+     * SimpleDateFormat.
+     *
+     * @return The amount of valid dates.
+     */
+    @Benchmark
+    public int validateWithSimpleDateFormat() {
+        int valid = 0;
+
+        for (int i = 0; i < dateCount; ++i) {
+            SimpleDateFormat dateFormat = new SimpleDateFormat("yyyyMMdd");
+            dateFormat.setLenient(false);
+
+            try {
+                dateFormat.parse(String.format("%04d%02d%02d", years[i], months[i], days[i]));
+                ++valid;
+            } catch (ParseException e) {
+                // not counted.
+            }
+        }
+
+        return valid;
+    }
+
+    /**
+     * Validates the dates with the DateKernel.
+     *
+     * @return The amount of valid dates.
+     */
+    @Benchmark
+    public int validateWithDateKernel() {
+        int valid = 0;
+
+        for (int i = 0; i < dateCount; ++i) {
+            if (DateKernel.isValidDate(years[i], months[i], days[i])) {
+                ++valid;
+            }
+        }
+
+        return valid;
+    }
+
+    /**
+     * Determines the week of the dates the way Appointment originally did: parse the formatted date
+     * and ask a Calendar for the week of the year.
+     *
+     * @return The sum of the weeks.
+     * @throws ParseException if a date could not be parsed. Should never happen.
+     */
+    @Benchmark
+    public int weekWithCalendar() throws ParseException {
+        int sum = 0;
+
+        for (int i = 0; i < dateCount; ++i) {
+            SimpleDateFormat dateFormat = new SimpleDateFormat("yyyyMMdd");
+            Date date = dateFormat.parse(String.format("%04d%02d%02d", years[i], months[i], days[i]));
+
+            Calendar calendar = Calendar.getInstance();
+            calendar.setTime(date);
+
+            sum += calendar.get(Calendar.WEEK_OF_YEAR);
+        }
+
+        return sum;
+    }
+
+    /**
+     * Determines the ISO week and week-based-year of the dates with java.time.
+     *
+     * @return The sum of the weeks and week-based-years.
+     */
+    @Benchmark
+    public int isoWeekWithLocalDate() {
+        int sum = 0;
+
+        for (int i = 0; i < dateCount; ++i) {
+            LocalDate date = LocalDate.of(years[i], months[i], days[i]);
+
+            sum += date.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR) + date.get(IsoFields.WEEK_BASED_YEAR);
+        }
+
+        return sum;
+    }
+
+    /**
+     * Determines the ISO week and week-based-year of the dates with the DateKernel.
+     *
+     * @return The sum of the weeks and week-based-years.
+     */
+    @Benchmark
+    public int isoWeekWithDateKernel() {
+        int sum = 0;
+
+        for (int i = 0; i < dateCount; ++i) {
+            sum += DateKernel.isoWeek(years[i], months[i], days[i])
+                   + DateKernel.isoWeekBasedYear(years[i], months[i], days[i]);
+        }
+
+        return sum;
+    }
+
+    /**
+     * Converts the dates to epoch seconds and back with java.time.
+     *
+     * @return The sum of the days of the dates converted back.
+     */
+    @Benchmark
+    public long epochSecondRoundTripWithLocalDateTime() {
+        long sum = 0;
+
+        for (int i = 0; i < dateCount; ++i) {
+            final long epochSecond = LocalDateTime.of(years[i], months[i], days[i], 12, 30, 0)
+                                                  .toEpochSecond(ZoneOffset.UTC);
+
+            sum += LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC).getDayOfMonth();
+        }
+
+        return sum;
+    }
+
+    /**
+     * Converts the dates to epoch seconds and back with the DateKernel.
+     *
+     * @return The sum of the days of the dates converted back.
+     */
+    @Benchmark
+    public long epochSecondRoundTripWithDateKernel() {
+        long sum = 0;
+
+        for (int i = 0; i < dateCount; ++i) {
+            final long epochSecond = DateKernel.toEpochSecond(years[i], months[i], days[i], 12, 30, 0);
+
+            sum += DateKernel.packedDay(DateKernel.fromEpochDay(Math.floorDiv(epochSecond, DateKernel.SECONDS_PER_DAY)));
+        }
+
+        return sum;
+    }
+
+    /**
+     * The years of the dates.
+     */
+    private final int years[] = new int[dateCount];
+
+    /**
+     * The months of the dates.
+     */
+    private final int months[] = new int[dateCount];
+
+    /**
+     * The days of the dates.
+     */
+    private final int days[] = new int[dateCount];
+}
@@ -0,0 +1,95 @@
+package aiApp.applicationcore.appointmentcomponent;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.text.ParsePosition;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how long it takes to parse the TimeSpan strings that POST /appointment receives,
+ * both through TimeSpan.fromString and through the TimeSpanParser directly.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+public class TimeSpanParserBenchmark {
+    /**
+     * Parses a well formed TimeSpan string.
+     *
+     * @return The TimeSpan parsed.
+     * @throws ArgumentNotValidException if the string is malformed. Should never happen.
+     * @throws InvalidDateException if the string holds an invalid date. Should never happen.
+     * @throws InvalidTimePointException if the TimeSpan ends before it begins. Should never happen.
+     */
+    @Benchmark
+    public TimeSpan fromStringValid() throws ArgumentNotValidException, InvalidDateException, InvalidTimePointException {
+        return TimeSpan.fromString(valid);
+    }
+
+    /**
+     * Parses a TimeSpan string that is malformed near its end, the worst case for rejecting input.
+     *
+     * @return The exception thrown, returned so that the JIT can't eliminate the call.
+     * @throws InvalidDateException if the string holds an invalid date. Should never happen.
+     * @throws InvalidTimePointException if the TimeSpan ends before it begins. Should never happen.
+     */
+    @Benchmark
+    public Object fromStringMalformed() throws InvalidDateException, InvalidTimePointException {
+        try {
+            return TimeSpan.fromString(malformed);
+        } catch (ArgumentNotValidException | RuntimeException e) {
+            return e;
+        }
+    }
+
+    /**
+     * Parses a well formed TimeSpan string with the TimeSpanParser.
+     *
+     * @return The TimeSpan parsed.
+     * @throws InvalidDateException if the string holds an invalid date. Should never happen.
+     * @throws InvalidTimePointException if the TimeSpan ends before it begins. Should never happen.
+     */
+    @Benchmark
+    public TimeSpan parserValid() throws InvalidDateException, InvalidTimePointException {
+        return TimeSpanParser.parseTimeSpan(valid, new ParsePosition(0));
+    }
+
+    /**
+     * Parses a TimeSpan string that is malformed near its end with the TimeSpanParser, which reports the error
+     * by position instead of throwing.
+     *
+     * @return The error index.
+     * @throws InvalidDateException if the string holds an invalid date. Should never happen.
+     * @throws InvalidTimePointException if the TimeSpan ends before it begins. Should never happen.
+     */
+    @Benchmark
+    public int parserMalformed() throws InvalidDateException, InvalidTimePointException {
+        ParsePosition position = new ParsePosition(0);
+        TimeSpanParser.parseTimeSpan(malformed, position);
+
+        return position.getErrorIndex();
+    }
+
+    /**
+     * A well formed TimeSpan string.
+     */
+    private final String valid = "TimeSpan{TimePoint{year=2017, month=4, day=15, hour=16, minute=0, second=0}"
+                                 + "TimePoint{year=2017, month=4, day=15, hour=17, minute=0, second=0}}";
+
+    /**
+     * A TimeSpan string whose last field has no value.
+     */
+    private final String malformed = "TimeSpan{TimePoint{year=2017, month=4, day=15, hour=16, minute=0, second=0}"
+                                     + "TimePoint{year=2017, month=4, day=15, hour=17, minute=0, second=}}";
+}
@@ -0,0 +1,167 @@
+package aiApp.applicationcore.employeecomponent;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how long it takes to find the first ten employees by the beginning of their names and by a name with a
+ * typo in it, through the EmployeeNameIndex.
+ * The names of the employeeCount employees are made up of two to four random syllables each, with at least four
+ * letters, and contain accented letters.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgs = {"-Xmx4g"})
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+public class EmployeeNameIndexBenchmark {
+    /**
+     * The amount of employees.
+     */
+    @Param({"500000"})
+    public int employeeCount;
+
+    /**
+     * Creates the employees, the index and the queries.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        final Random random = new Random(42);
+        String firstNames[] = new String[employeeCount];
+        String lastNames[] = new String[employeeCount];
+        int ids[] = new int[employeeCount];
+
+        for (int employee = 0; employee < employeeCount; ++employee) {
+            firstNames[employee] = randomName(random);
+            lastNames[employee] = randomName(random);
+            ids[employee] = employee + 1;
+        }
+
+        index = EmployeeNameIndex.fromNames(ids, firstNames, lastNames, employeeCount);
+
+        prefixQueries = new String[queryCount];
+        typoQueries = new String[queryCount];
+        for (int i = 0; i < queryCount; ++i) {
+            final int employee = random.nextInt(employeeCount);
+            final String firstName = firstNames[employee];
+            final String lastName = lastNames[employee];
+
+            prefixQueries[i] = firstName.substring(0, 3) + " " + lastName.substring(0, 2);
+
+            // swaps two adjacent letters of the last name.
+            final int swapped = 1 + random.nextInt(lastName.length() - 2);
+            typoQueries[i] = firstName + " " + lastName.substring(0, swapped) + lastName.charAt(swapped + 1)
+                           + lastName.charAt(swapped) + lastName.substring(swapped + 2);
+        }
+    }
+
+    /**
+     * Finds the employees by the beginnings of their first and last names.
+     *
+     * @return The ids found.
+     */
+    @Benchmark
+    public List<Integer> searchByPrefix() {
+        queryIdx = (queryIdx + 1) % queryCount;
+        return index.search(prefixQueries[queryIdx], limit);
+    }
+
+    /**
+     * Finds the employees by their full names with a typo in the last name, which only the trigrams can find.
+     *
+     * @return The ids found.
+     */
+    @Benchmark
+    public List<Integer> searchBySimilarity() {
+        queryIdx = (queryIdx + 1) % queryCount;
+        return index.search(typoQueries[queryIdx], limit);
+    }
+
+    /**
+     * Creates a random name.
+     *
+     * @param random The Random to use.
+     * @return The name, capitalized.
+     */
+    private static String randomName(Random random) {
+        final int syllableCount = 2 + random.nextInt(3);
+        StringBuilder name = new StringBuilder();
+
+        for (int i = 0; i < syllableCount || name.length() < minNameLength; ++i) {
+            name.append(onsets[random.nextInt(onsets.length)])
+                .append(vowels[random.nextInt(vowels.length)])
+                .append(codas[random.nextInt(codas.length)]);
+        }
+
+        name.setCharAt(0, Character.toUpperCase(name.charAt(0)));
+        return name.toString();
+    }
+
+    /**
+     * The consonants a syllable begins with, so that there are about as many distinct trigrams as in real names.
+     */
+    private static final String onsets[] = {
+            "", "b", "br", "ch", "d", "f", "fr", "g", "h", "j", "k", "kl", "l", "m", "n", "p", "r", "s", "sch", "st",
+            "t", "tr", "v", "w", "z"
+    };
+
+    /**
+     * The vowels of a syllable.
+     */
+    private static final String vowels[] = { "a", "e", "i", "o", "u", "ä", "ö", "ü", "ei", "au", "ie" };
+
+    /**
+     * The consonants a syllable ends with.
+     */
+    private static final String codas[] = { "", "", "", "n", "r", "l", "s", "t", "ck", "nd", "rt", "mm", "tz" };
+
+    /**
+     * The least amount of letters of a name.
+     */
+    private static final int minNameLength = 4;
+
+    /**
+     * The amount of distinct queries of each kind.
+     */
+    private static final int queryCount = 256;
+
+    /**
+     * The amount of employees to find.
+     */
+    private static final int limit = 10;
+
+    /**
+     * The index over the names of all employees.
+     */
+    private EmployeeNameIndex index;
+
+    /**
+     * The queries for the beginnings of names.
+     */
+    private String prefixQueries[];
+
+    /**
+     * The queries for names with typos.
+     */
+    private String typoQueries[];
+
+    /**
+     * The index of the last query.
+     */
+    private int queryIdx;
+}
@@ -1,24 +1,37 @@
 package aiApp.applicationcore.appointmentcomponent;
 
 import aiApp.applicationcore.employeecomponent.Employee;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import javax.persistence.Column;
+import javax.persistence.Embedded;
 import javax.persistence.Entity;
+import javax.persistence.ForeignKey;
 import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.JoinColumn;
+import javax.persistence.JoinTable;
+import javax.persistence.ManyToMany;
+import javax.persistence.OrderColumn;
+import javax.persistence.Table;
 import java.io.Serializable;
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
 import java.util.ArrayList;
-import java.util.Calendar;
-import java.util.Date;
 import java.util.List;
 
 /**
  * Entity class to represent an appointment.
+ * The begin and the end of the time span are indexed, so that appointments can be filtered and sorted by time.
+ * The ISO week in which the appointment begins is indexed together with its week-based-year.
  */
 @Entity
+@Table(indexes = {
+    @Index(name = "idx_appointment_begin", columnList = TimeSpan.BEGIN_COLUMN),
+    @Index(name = "idx_appointment_end", columnList = TimeSpan.END_COLUMN),
+    @Index(name = "idx_appointment_start_week", columnList = "start_week_based_year, start_week")
+})
+@JsonSerialize(using = AppointmentSerializer.class)
 public class Appointment implements Serializable {
     /**
      * magic empty constructor - don't touch.
@@ -39,6 +52,32 @@ public class Appointment implements Serializable {
         this(timeSpan, null);
     }
 
+    /**
+     * Creates a new Appointment instance from a TimeSpan, along with a title and a description.
+     *
+     * @param timeSpan The TimeSpan for which to schedule the Appointment.
+     * @param title The title of the Appointment, at most MAX_TITLE_LENGTH characters. May be null.
+     * @param description The description of the Appointment, at most MAX_DESCRIPTION_LENGTH characters. May be null.
+     * @throws InvalidTimeSpanException If the TimeSpan passed in is null.
+     * @throws InvalidWeekException If the TimeSpan passed in does not begin in a valid week.
+     * @throws ArgumentNotValidException If the title or the description is too long.
+     */
+    public Appointment(TimeSpan timeSpan, String title, String description)
+            throws InvalidTimeSpanException, InvalidWeekException, ArgumentNotValidException {
+        this(timeSpan, null);
+
+        if (title != null && title.length() > MAX_TITLE_LENGTH) {
+            throw new ArgumentNotValidException("title was too long");
+        }
+
+        if (description != null && description.length() > MAX_DESCRIPTION_LENGTH) {
+            throw new ArgumentNotValidException("description was too long");
+        }
+
+        this.title = title;
+        this.description = description;
+    }
+
     /**
      * Getter for the id of the appointment.
      *
@@ -60,9 +99,28 @@ public class Appointment implements Serializable {
     }
 
     /**
-     * Returns the week in which the appointment begins.
+     * Getter for the title of the appointment.
+     *
+     * @return The title of the appointment, may be null.
+     */
+    public String getTitle() {
+        return title;
+    }
+
+    /**
+     * Getter for the description of the appointment.
      *
-     * @return The week in which the appointment begins. Guaranteed to not be null.
+     * @return The description of the appointment, may be null.
+     */
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * Returns the ISO-8601 week in which the appointment begins.
+     * ISO weeks begin on monday, the first week of a year is the one that contains the first thursday of that year.
+     *
+     * @return The week in which the appointment begins, 1 to 53. Guaranteed to not be null.
      */
     @NotNull
     @SuppressWarnings("unused")
@@ -70,6 +128,18 @@ public class Appointment implements Serializable {
         return startWeek;
     }
 
+    /**
+     * Returns the ISO-8601 week-based-year of the week in which the appointment begins.
+     * This differs from the calendar year for the days around new year that belong to a week of the neighbouring year.
+     *
+     * @return The week-based-year of the week in which the appointment begins. Guaranteed to not be null.
+     */
+    @NotNull
+    @SuppressWarnings("unused")
+    public Integer getStartWeekBasedYear() {
+        return startWeekBasedYear;
+    }
+
     /**
      * Getter for the attendees field.
      *
@@ -78,7 +148,7 @@ public class Appointment implements Serializable {
      * @return the attendees field.
      */
     @SuppressWarnings("unused")
-    public ArrayList<Employee> getAttendees() {
+    public List<Employee> getAttendees() {
         return attendees;
     }
 
@@ -99,6 +169,22 @@ public class Appointment implements Serializable {
         }
     }
 
+    /**
+     * Removes the employee identified by the employeeId passed in from the attendees of this appointment.
+     * The attendees that follow move up, so that the order column of the join table stays free of gaps.
+     *
+     * @param employeeId The id of the employee to remove.
+     * @return true if the employee was an attendee of this appointment; false otherwise.
+     */
+    @Contract("null -> false")
+    public boolean removeEmployee(Integer employeeId) {
+        if (employeeId == null) {
+            return false;
+        }
+
+        return attendees.removeIf(attendee -> employeeId.equals(attendee.getId()));
+    }
+
     /**
      * Determines if this appointment has the employee identified by the employeeId passed into the parameter
      * registered as an attendee.
@@ -161,8 +247,7 @@ public class Appointment implements Serializable {
      */
     @Override
     public String toString() {
-        return String.format("{\"startWeek\":%d,\"attendees\":%s,\"timeSpan\":%s,\"id\":%d}",
-                             getStartWeek(), attendeesAsString(), getTimeSpan(), getId());
+        return AppointmentSerializer.toJson(this);
     }
 
     /**
@@ -192,39 +277,33 @@ public class Appointment implements Serializable {
             addEmployee(e);
         }
 
-        startWeek = determineStartWeek(this.timeSpan);
+        TimePoint startDate = determineStartDate(this.timeSpan);
+        startWeek = DateKernel.isoWeek(startDate.getYear(), startDate.getMonth(), startDate.getDay());
+        startWeekBasedYear = DateKernel.isoWeekBasedYear(startDate.getYear(), startDate.getMonth(), startDate.getDay());
     }
 
     /**
-     * Returns the week in which a given TimeSpan starts.
+     * Returns the TimePoint at which a given TimeSpan starts, after checking that it lies on a valid date.
      *
-     * @param timeSpan The TimeSpan to get the start week of.
-     * @return The week in which the TimeSpan given starts.
+     * @param timeSpan The TimeSpan to get the start date of.
+     * @return The TimePoint at which the TimeSpan given starts.
      * @throws InvalidWeekException if the TimeSpan passed in doesn't begin in a valid week or is null.
      */
     @NotNull
     @Contract("null -> fail")
-    static private Integer determineStartWeek(TimeSpan timeSpan) throws InvalidWeekException {
+    static private TimePoint determineStartDate(TimeSpan timeSpan) throws InvalidWeekException {
         if (timeSpan == null) {
             throw new InvalidWeekException("A null TimeSpan does not have a start week.");
         }
 
-        try {
-            final String format = "yyyyMMdd";
+        TimePoint startTimePoint = timeSpan.getStartTimePoint();
 
-            TimePoint startTimePoint = timeSpan.getStartTimePoint();
-            String formattedTimeString = startTimePoint.asStandardFormat();
-
-            SimpleDateFormat dateFormat = new SimpleDateFormat(format);
-            Date date = dateFormat.parse(formattedTimeString);
-
-            Calendar calendar = Calendar.getInstance();
-            calendar.setTime(date);
-
-            return calendar.get(Calendar.WEEK_OF_YEAR);
-        } catch (ParseException e) {
+        if (startTimePoint == null
+            || !DateKernel.isValidDate(startTimePoint.getYear(), startTimePoint.getMonth(), startTimePoint.getDay())) {
             throw new InvalidWeekException("tried to create an appointment that would have an invalid start week");
         }
+
+        return startTimePoint;
     }
 
     /**
@@ -262,55 +341,88 @@ public class Appointment implements Serializable {
     }
 
     /**
-     * Helper function to create the string for the attendees non static data member.
-     *
-     * @return The string for the attendees non static data member.
+     * The id of the employee.
      */
-    @NotNull
-    private String attendeesAsString() {
-        final int numAttendees = getAttendees().size();
-        final int lastAttendeeIdx = numAttendees - 1;
+    @Id
+    @GeneratedValue
+    private Integer id;
 
-        StringBuilder sb = new StringBuilder();
-        sb.append("[");
+    /**
+     * The time span for which this appointment is scheduled.
+     * Stored as the begin and end columns of the TimeSpan embeddable.
+     */
+    @Embedded
+    private TimeSpan timeSpan;
 
-        for (int i = 0; i < numAttendees; ++i) {
-            sb.append(getAttendees().get(i).toString());
+    /**
+     * the ISO week in which the appointment begins.
+     */
+    @Column(name = "start_week")
+    private Integer startWeek;
 
-            if (i != lastAttendeeIdx) {
-                sb.append(",");
-            }
-        }
+    /**
+     * the ISO week-based-year of the week in which the appointment begins.
+     */
+    @Column(name = "start_week_based_year")
+    private Integer startWeekBasedYear;
 
-        sb.append("]");
+    /**
+     * The title of this appointment, null if it has none.
+     */
+    @Column(length = MAX_TITLE_LENGTH)
+    private String title;
 
-        return sb.toString();
-    }
+    /**
+     * The description of this appointment, null if it has none.
+     */
+    @Column(length = MAX_DESCRIPTION_LENGTH)
+    private String description;
 
     /**
-     * The id of the employee.
+     * The attendees of this appointment, in the order in which they were added.
+     * Stored in the appointment_attendee join table that is indexed on both of its sides, so that adding an attendee
+     * only inserts a single row and the appointments of an employee can be looked up without scanning every appointment.
+     * Employees are removed from the appointments they attend through JPA whenever they are deleted, see
+     * EmployeeDeleteListener, as rows the database removes on its own leave gaps in the order column that Hibernate
+     * loads as null attendees. import.sql redefines the foreign key to the employee with "on delete restrict", so
+     * that no deletion can bypass the listener.
      */
-    @Id
-    @GeneratedValue
-    private Integer id;
+    @ManyToMany
+    @JoinTable(
+        name = ATTENDEE_TABLE,
+        joinColumns = @JoinColumn(name = APPOINTMENT_ID_COLUMN),
+        inverseJoinColumns = @JoinColumn(name = EMPLOYEE_ID_COLUMN),
+        inverseForeignKey = @ForeignKey(name = "fk_appointment_attendee_employee"),
+        indexes = {
+            @Index(name = "idx_appointment_attendee_appointment", columnList = APPOINTMENT_ID_COLUMN),
+            @Index(name = "idx_appointment_attendee_employee", columnList = EMPLOYEE_ID_COLUMN)
+        }
+    )
+    @OrderColumn(name = "attendee_order")
+    private List<Employee> attendees;
 
     /**
-     * The time span for which this appointment is scheduled.
-     * The Column annotation makes it so that the application doesn't crash on startup.
+     * The largest amount of characters of the title of an appointment.
      */
-    @Column(length = 100000)
-    private TimeSpan timeSpan;
+    public static final int MAX_TITLE_LENGTH = 255;
 
     /**
-     * the week in which the appointment begins.
+     * The largest amount of characters of the description of an appointment.
      */
-    private Integer startWeek;
+    public static final int MAX_DESCRIPTION_LENGTH = 4000;
+
+    /**
+     * The name of the join table that maps appointments to their attendees.
+     */
+    private static final String ATTENDEE_TABLE = "appointment_attendee";
+
+    /**
+     * The name of the column of the join table that refers to the appointment.
+     */
+    private static final String APPOINTMENT_ID_COLUMN = "appointment_id";
 
     /**
-     * The attendees of this appointment.
-     * The Column annotation makes it so that the application doesn't crash on startup.
-     * ArrayList as JPA will otherwise be too damn stupid to 'serialize' the bloody thing, thanks a lot!
+     * The name of the column of the join table that refers to the employee attending the appointment.
      */
-    @Column(length = 100000)
-    private ArrayList<Employee> attendees;
+    private static final String EMPLOYEE_ID_COLUMN = "employee_id";
 }
@@ -0,0 +1,661 @@
+package aiApp.applicationcore.appointmentcomponent;
+
+import java.util.Arrays;
+
+/**
+ * A compressed set of appointment ids in the manner of a Roaring bitmap.
+ * The ids are split into chunks of 65536 by their upper 16 bits. A chunk with few ids stores their lower 16 bits in a
+ * sorted char array, a chunk with more than 4096 ids stores one bit per possible id in 1024 longs, whichever is smaller.
+ * Intersections, unions and differences of two bitmaps run chunk by chunk, a pair of dense chunks is combined 64 ids
+ * at a time.
+ * Ids may not be negative.
+ */
+final class AppointmentBitmap {
+    /**
+     * Creates an empty AppointmentBitmap.
+     */
+    AppointmentBitmap() {
+        this(initialCapacity);
+    }
+
+    /**
+     * Adds an id.
+     *
+     * @param id The id to add, may not be negative.
+     * @return true if the id was added; false if it was present already.
+     */
+    boolean add(int id) {
+        final char key = highBits(id);
+        final int idx = Arrays.binarySearch(keys, 0, size, key);
+
+        if (idx >= 0) {
+            return chunks[idx].add(lowBits(id));
+        }
+
+        Chunk chunk = new Chunk(new char[] { lowBits(id) }, null, 1);
+        insertChunk(-idx - 1, key, chunk);
+        return true;
+    }
+
+    /**
+     * Removes an id.
+     *
+     * @param id The id to remove.
+     * @return true if the id was removed; false if it was not present.
+     */
+    boolean remove(int id) {
+        final int idx = Arrays.binarySearch(keys, 0, size, highBits(id));
+
+        if (idx < 0 || !chunks[idx].remove(lowBits(id))) {
+            return false;
+        }
+
+        if (chunks[idx].cardinality == 0) {
+            System.arraycopy(keys, idx + 1, keys, idx, size - idx - 1);
+            System.arraycopy(chunks, idx + 1, chunks, idx, size - idx - 1);
+            chunks[--size] = null;
+        }
+
+        return true;
+    }
+
+    /**
+     * Determines whether an id is present.
+     *
+     * @param id The id.
+     * @return true if the id is present; false otherwise.
+     */
+    boolean contains(int id) {
+        final int idx = Arrays.binarySearch(keys, 0, size, highBits(id));
+
+        return idx >= 0 && chunks[idx].contains(lowBits(id));
+    }
+
+    /**
+     * Returns the amount of ids present.
+     *
+     * @return The amount of ids.
+     */
+    int cardinality() {
+        int cardinality = 0;
+        for (int i = 0; i < size; ++i) {
+            cardinality += chunks[i].cardinality;
+        }
+
+        return cardinality;
+    }
+
+    /**
+     * Determines whether no ids are present.
+     *
+     * @return true if the bitmap is empty; false otherwise.
+     */
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the ids present.
+     *
+     * @return The ids in ascending order.
+     */
+    int[] toArray() {
+        int ids[] = new int[cardinality()];
+        int count = 0;
+
+        for (int i = 0; i < size; ++i) {
+            count = chunks[i].copyTo(keys[i] << 16, ids, count);
+        }
+
+        return ids;
+    }
+
+    /**
+     * Creates the intersection of two bitmaps.
+     *
+     * @param lhs The first bitmap.
+     * @param rhs The second bitmap.
+     * @return A new bitmap of the ids present in both bitmaps.
+     */
+    static AppointmentBitmap and(AppointmentBitmap lhs, AppointmentBitmap rhs) {
+        AppointmentBitmap result = new AppointmentBitmap(Math.min(lhs.size, rhs.size));
+
+        int l = 0;
+        int r = 0;
+        while (l < lhs.size && r < rhs.size) {
+            if (lhs.keys[l] < rhs.keys[r]) {
+                ++l;
+            } else if (lhs.keys[l] > rhs.keys[r]) {
+                ++r;
+            } else {
+                result.appendChunk(lhs.keys[l], Chunk.and(lhs.chunks[l], rhs.chunks[r]));
+                ++l;
+                ++r;
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Creates the union of two bitmaps.
+     *
+     * @param lhs The first bitmap.
+     * @param rhs The second bitmap.
+     * @return A new bitmap of the ids present in either bitmap.
+     */
+    static AppointmentBitmap or(AppointmentBitmap lhs, AppointmentBitmap rhs) {
+        AppointmentBitmap result = new AppointmentBitmap(lhs.size + rhs.size);
+
+        int l = 0;
+        int r = 0;
+        while (l < lhs.size || r < rhs.size) {
+            if (r == rhs.size || (l < lhs.size && lhs.keys[l] < rhs.keys[r])) {
+                result.appendChunk(lhs.keys[l], lhs.chunks[l].copy());
+                ++l;
+            } else if (l == lhs.size || lhs.keys[l] > rhs.keys[r]) {
+                result.appendChunk(rhs.keys[r], rhs.chunks[r].copy());
+                ++r;
+            } else {
+                result.appendChunk(lhs.keys[l], Chunk.or(lhs.chunks[l], rhs.chunks[r]));
+                ++l;
+                ++r;
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Creates the difference of two bitmaps.
+     *
+     * @param lhs The bitmap to take the ids from.
+     * @param rhs The bitmap of the ids to leave out.
+     * @return A new bitmap of the ids present in lhs but not in rhs.
+     */
+    static AppointmentBitmap andNot(AppointmentBitmap lhs, AppointmentBitmap rhs) {
+        AppointmentBitmap result = new AppointmentBitmap(lhs.size);
+
+        int r = 0;
+        for (int l = 0; l < lhs.size; ++l) {
+            while (r < rhs.size && rhs.keys[r] < lhs.keys[l]) {
+                ++r;
+            }
+
+            if (r < rhs.size && rhs.keys[r] == lhs.keys[l]) {
+                result.appendChunk(lhs.keys[l], Chunk.andNot(lhs.chunks[l], rhs.chunks[r]));
+            } else {
+                result.appendChunk(lhs.keys[l], lhs.chunks[l].copy());
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Creates an empty AppointmentBitmap with room for a number of chunks.
+     *
+     * @param capacity The amount of chunks to make room for.
+     */
+    private AppointmentBitmap(int capacity) {
+        this.keys = new char[Math.max(capacity, 1)];
+        this.chunks = new Chunk[Math.max(capacity, 1)];
+    }
+
+    /**
+     * Inserts a chunk at an index.
+     *
+     * @param idx The index, the chunks from there on move one index up.
+     * @param key The upper 16 bits of the ids of the chunk.
+     * @param chunk The chunk.
+     */
+    private void insertChunk(int idx, char key, Chunk chunk) {
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            chunks = Arrays.copyOf(chunks, size * 2);
+        }
+
+        System.arraycopy(keys, idx, keys, idx + 1, size - idx);
+        System.arraycopy(chunks, idx, chunks, idx + 1, size - idx);
+        keys[idx] = key;
+        chunks[idx] = chunk;
+        ++size;
+    }
+
+    /**
+     * Appends a chunk whose key is larger than the keys of all chunks present, unless the chunk is empty.
+     *
+     * @param key The upper 16 bits of the ids of the chunk.
+     * @param chunk The chunk.
+     */
+    private void appendChunk(char key, Chunk chunk) {
+        if (chunk.cardinality > 0) {
+            insertChunk(size, key, chunk);
+        }
+    }
+
+    /**
+     * Returns the upper 16 bits of an id, which select its chunk.
+     *
+     * @param id The id.
+     * @return The upper 16 bits.
+     */
+    private static char highBits(int id) {
+        return (char) (id >>> 16);
+    }
+
+    /**
+     * Returns the lower 16 bits of an id, which are stored in its chunk.
+     *
+     * @param id The id.
+     * @return The lower 16 bits.
+     */
+    private static char lowBits(int id) {
+        return (char) id;
+    }
+
+    /**
+     * The ids of a chunk, either as a sorted array of their lower 16 bits or as a bitmap of 65536 bits.
+     */
+    private static final class Chunk {
+        /**
+         * Creates a Chunk.
+         *
+         * @param values The sorted lower 16 bits of the ids, or null if words is used.
+         * @param words The bitmap of the ids, or null if values is used.
+         * @param cardinality The amount of ids.
+         */
+        Chunk(char values[], long words[], int cardinality) {
+            this.values = values;
+            this.words = words;
+            this.cardinality = cardinality;
+        }
+
+        /**
+         * Adds the lower 16 bits of an id.
+         *
+         * @param low The lower 16 bits.
+         * @return true if they were added; false if they were present already.
+         */
+        boolean add(char low) {
+            if (words != null) {
+                final long before = words[low >>> 6];
+                words[low >>> 6] |= 1L << low;
+
+                if (before == words[low >>> 6]) {
+                    return false;
+                }
+
+                ++cardinality;
+                return true;
+            }
+
+            final int idx = Arrays.binarySearch(values, 0, cardinality, low);
+            if (idx >= 0) {
+                return false;
+            }
+
+            if (cardinality == maxValues) {
+                words = toWords(values, cardinality);
+                values = null;
+                words[low >>> 6] |= 1L << low;
+                ++cardinality;
+                return true;
+            }
+
+            if (cardinality == values.length) {
+                values = Arrays.copyOf(values, Math.min(Math.max(cardinality * 2, initialCapacity), maxValues));
+            }
+
+            final int insertionIdx = -idx - 1;
+            System.arraycopy(values, insertionIdx, values, insertionIdx + 1, cardinality - insertionIdx);
+            values[insertionIdx] = low;
+            ++cardinality;
+            return true;
+        }
+
+        /**
+         * Removes the lower 16 bits of an id.
+         *
+         * @param low The lower 16 bits.
+         * @return true if they were removed; false if they were not present.
+         */
+        boolean remove(char low) {
+            if (words != null) {
+                final long before = words[low >>> 6];
+                words[low >>> 6] &= ~(1L << low);
+
+                if (before == words[low >>> 6]) {
+                    return false;
+                }
+
+                --cardinality;
+                if (cardinality <= maxValues) {
+                    values = toValues(words, cardinality);
+                    words = null;
+                }
+
+                return true;
+            }
+
+            final int idx = Arrays.binarySearch(values, 0, cardinality, low);
+            if (idx < 0) {
+                return false;
+            }
+
+            System.arraycopy(values, idx + 1, values, idx, cardinality - idx - 1);
+            --cardinality;
+            return true;
+        }
+
+        /**
+         * Determines whether the lower 16 bits of an id are present.
+         *
+         * @param low The lower 16 bits.
+         * @return true if they are present; false otherwise.
+         */
+        boolean contains(char low) {
+            if (words != null) {
+                return (words[low >>> 6] & (1L << low)) != 0;
+            }
+
+            return Arrays.binarySearch(values, 0, cardinality, low) >= 0;
+        }
+
+        /**
+         * Copies the ids of the chunk into an array.
+         *
+         * @param base The upper 16 bits of the ids, shifted into place.
+         * @param ids The array to copy to.
+         * @param count The index to begin copying at.
+         * @return The index after the last id copied.
+         */
+        int copyTo(int base, int ids[], int count) {
+            if (words == null) {
+                for (int i = 0; i < cardinality; ++i) {
+                    ids[count++] = base | values[i];
+                }
+
+                return count;
+            }
+
+            for (int i = 0; i < words.length; ++i) {
+                long word = words[i];
+                while (word != 0) {
+                    ids[count++] = base | (i << 6) | Long.numberOfTrailingZeros(word);
+                    word &= word - 1;
+                }
+            }
+
+            return count;
+        }
+
+        /**
+         * Creates a copy of the chunk.
+         *
+         * @return The copy.
+         */
+        Chunk copy() {
+            if (words != null) {
+                return new Chunk(null, words.clone(), cardinality);
+            }
+
+            return new Chunk(Arrays.copyOf(values, cardinality), null, cardinality);
+        }
+
+        /**
+         * Creates the intersection of two chunks.
+         *
+         * @param lhs The first chunk.
+         * @param rhs The second chunk.
+         * @return A new chunk, may be empty.
+         */
+        static Chunk and(Chunk lhs, Chunk rhs) {
+            if (lhs.words != null && rhs.words != null) {
+                long words[] = new long[wordCount];
+                for (int i = 0; i < wordCount; ++i) {
+                    words[i] = lhs.words[i] & rhs.words[i];
+                }
+
+                return fromWords(words);
+            }
+
+            if (lhs.words != null) {
+                return filter(rhs, lhs, true);
+            }
+
+            if (rhs.words != null) {
+                return filter(lhs, rhs, true);
+            }
+
+            char values[] = new char[Math.min(lhs.cardinality, rhs.cardinality)];
+            int count = 0;
+            int l = 0;
+            int r = 0;
+            while (l < lhs.cardinality && r < rhs.cardinality) {
+                if (lhs.values[l] < rhs.values[r]) {
+                    ++l;
+                } else if (lhs.values[l] > rhs.values[r]) {
+                    ++r;
+                } else {
+                    values[count++] = lhs.values[l];
+                    ++l;
+                    ++r;
+                }
+            }
+
+            return new Chunk(values, null, count);
+        }
+
+        /**
+         * Creates the union of two chunks.
+         *
+         * @param lhs The first chunk.
+         * @param rhs The second chunk.
+         * @return A new chunk.
+         */
+        static Chunk or(Chunk lhs, Chunk rhs) {
+            if (lhs.words == null && rhs.words == null && lhs.cardinality + rhs.cardinality <= maxValues) {
+                char values[] = new char[lhs.cardinality + rhs.cardinality];
+                int count = 0;
+                int l = 0;
+                int r = 0;
+                while (l < lhs.cardinality || r < rhs.cardinality) {
+                    if (r == rhs.cardinality || (l < lhs.cardinality && lhs.values[l] < rhs.values[r])) {
+                        values[count++] = lhs.values[l++];
+                    } else if (l == lhs.cardinality || lhs.values[l] > rhs.values[r]) {
+                        values[count++] = rhs.values[r++];
+                    } else {
+                        values[count++] = lhs.values[l];
+                        ++l;
+                        ++r;
+                    }
+                }
+
+                return new Chunk(values, null, count);
+            }
+
+            long words[] = lhs.words != null ? lhs.words.clone() : toWords(lhs.values, lhs.cardinality);
+            if (rhs.words != null) {
+                for (int i = 0; i < wordCount; ++i) {
+                    words[i] |= rhs.words[i];
+                }
+            } else {
+                for (int i = 0; i < rhs.cardinality; ++i) {
+                    words[rhs.values[i] >>> 6] |= 1L << rhs.values[i];
+                }
+            }
+
+            return fromWords(words);
+        }
+
+        /**
+         * Creates the difference of two chunks.
+         *
+         * @param lhs The chunk to take the ids from.
+         * @param rhs The chunk of the ids to leave out.
+         * @return A new chunk, may be empty.
+         */
+        static Chunk andNot(Chunk lhs, Chunk rhs) {
+            if (lhs.words == null) {
+                if (rhs.words != null) {
+                    return filter(lhs, rhs, false);
+                }
+
+                char values[] = new char[lhs.cardinality];
+                int count = 0;
+                int r = 0;
+                for (int l = 0; l < lhs.cardinality; ++l) {
+                    while (r < rhs.cardinality && rhs.values[r] < lhs.values[l]) {
+                        ++r;
+                    }
+
+                    if (r == rhs.cardinality || rhs.values[r] != lhs.values[l]) {
+                        values[count++] = lhs.values[l];
+                    }
+                }
+
+                return new Chunk(values, null, count);
+            }
+
+            long words[] = lhs.words.clone();
+            if (rhs.words != null) {
+                for (int i = 0; i < wordCount; ++i) {
+                    words[i] &= ~rhs.words[i];
+                }
+            } else {
+                for (int i = 0; i < rhs.cardinality; ++i) {
+                    words[rhs.values[i] >>> 6] &= ~(1L << rhs.values[i]);
+                }
+            }
+
+            return fromWords(words);
+        }
+
+        /**
+         * Keeps the values of a sparse chunk that are, or are not, present in a dense chunk.
+         *
+         * @param sparse The chunk whose values to filter, must use values.
+         * @param dense The chunk to look the values up in, must use words.
+         * @param keepPresent true to keep the values present in dense; false to keep the ones absent from it.
+         * @return A new chunk, may be empty.
+         */
+        private static Chunk filter(Chunk sparse, Chunk dense, boolean keepPresent) {
+            char values[] = new char[sparse.cardinality];
+            int count = 0;
+
+            for (int i = 0; i < sparse.cardinality; ++i) {
+                final char value = sparse.values[i];
+
+                if (((dense.words[value >>> 6] & (1L << value)) != 0) == keepPresent) {
+                    values[count++] = value;
+                }
+            }
+
+            return new Chunk(values, null, count);
+        }
+
+        /**
+         * Creates a chunk from a bitmap, turning it into an array if it is sparse enough.
+         *
+         * @param words The bitmap, taken over by the chunk.
+         * @return The chunk.
+         */
+        private static Chunk fromWords(long words[]) {
+            int cardinality = 0;
+            for (long word : words) {
+                cardinality += Long.bitCount(word);
+            }
+
+            if (cardinality <= maxValues) {
+                return new Chunk(toValues(words, cardinality), null, cardinality);
+            }
+
+            return new Chunk(null, words, cardinality);
+        }
+
+        /**
+         * Turns sorted values into a bitmap.
+         *
+         * @param values The values.
+         * @param cardinality The amount of values.
+         * @return The bitmap.
+         */
+        private static long[] toWords(char values[], int cardinality) {
+            long words[] = new long[wordCount];
+            for (int i = 0; i < cardinality; ++i) {
+                words[values[i] >>> 6] |= 1L << values[i];
+            }
+
+            return words;
+        }
+
+        /**
+         * Turns a bitmap into sorted values.
+         *
+         * @param words The bitmap.
+         * @param cardinality The amount of bits set.
+         * @return The values.
+         */
+        private static char[] toValues(long words[], int cardinality) {
+            char values[] = new char[Math.max(cardinality, 1)];
+            int count = 0;
+
+            for (int i = 0; i < words.length; ++i) {
+                long word = words[i];
+                while (word != 0) {
+                    values[count++] = (char) ((i << 6) | Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+
+            return values;
+        }
+
+        /**
+         * The sorted lower 16 bits of the ids, null if the chunk uses words.
+         * Only the first cardinality values are in use.
+         */
+        private char values[];
+
+        /**
+         * One bit for each of the 65536 possible ids, null if the chunk uses values.
+         */
+        private long words[];
+
+        /**
+         * The amount of ids in the chunk.
+         */
+        private int cardinality;
+    }
+
+    /**
+     * The largest amount of ids a chunk stores as an array, 4096 chars take as much room as the 1024 longs of a bitmap.
+     */
+    private static final int maxValues = 4096;
+
+    /**
+     * The amount of longs in the bitmap of a chunk.
+     */
+    private static final int wordCount = 1024;
+
+    /**
+     * The amount of chunks an empty bitmap has room for.
+     */
+    private static final int initialCapacity = 4;
+
+    /**
+     * The upper 16 bits of the ids of the chunks, ascending. Only the first size keys are in use.
+     */
+    private char keys[];
+
+    /**
+     * The chunks, in the order of their keys. Only the first size chunks are in use.
+     */
+    private Chunk chunks[];
+
+    /**
+     * The amount of chunks.
+     */
+    private int size;
+}
@@ -0,0 +1,110 @@
+package aiApp.applicationcore.appointmentcomponent;
+
+import aiApp.applicationcore.employeecomponent.Employee;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.internal.SessionFactoryImpl;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.EntityManagerFactory;
+
+/**
+ * Hibernate listener that passes appointments that were stored or deleted, and employees that were deleted, on to
+ * the interval tree, the agendas and the text index of the AppointmentComponent once their transaction has committed.
+ * This keeps the indexes in sync with appointments that are written through the AppointmentRepository directly
+ * instead of through the AppointmentComponent, and with employees that are fired, which the EmployeeDeleteListener
+ * removes from the appointments they attended in the same transaction. Transactions that are rolled back never reach
+ * the indexes.
+ * The TimeSpan, the title and the description of an appointment never change once it has been stored, so updates
+ * are of no interest.
+ * Attendees are only ever added through the AppointmentComponent, which updates the agendas itself once the
+ * transaction has committed.
+ */
+@Component
+class AppointmentCommitListener implements PostCommitInsertEventListener, PostCommitDeleteEventListener {
+    /**
+     * Creates an AppointmentCommitListener and registers it with the Hibernate SessionFactory.
+     *
+     * @param entityManagerFactory The EntityManagerFactory whose SessionFactory to register with.
+     * @param appointmentComponent The AppointmentComponent whose indexes to keep in sync.
+     */
+    @Autowired
+    AppointmentCommitListener(EntityManagerFactory entityManagerFactory, AppointmentComponent appointmentComponent) {
+        this.appointmentComponent = appointmentComponent;
+
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImpl.class)
+                                                             .getServiceRegistry()
+                                                             .getService(EventListenerRegistry.class);
+
+        registry.appendListeners(EventType.POST_COMMIT_INSERT, this);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+    }
+
+    /**
+     * Adds an appointment whose insertion was committed to the indexes.
+     *
+     * @param event The event of the insertion.
+     */
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        if (event.getEntity() instanceof Appointment) {
+            appointmentComponent.addToIndexes((Appointment) event.getEntity());
+        }
+    }
+
+    /**
+     * Does nothing, the insertion never happened.
+     *
+     * @param event The event of the insertion.
+     */
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+
+    }
+
+    /**
+     * Removes an appointment or an employee whose deletion was committed from the indexes.
+     *
+     * @param event The event of the deletion.
+     */
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        if (event.getEntity() instanceof Appointment) {
+            appointmentComponent.removeFromIndexes((Appointment) event.getEntity());
+        } else if (event.getEntity() instanceof Employee) {
+            appointmentComponent.removeAttendeeFromIndexes((Integer) event.getId());
+        }
+    }
+
+    /**
+     * Does nothing, the deletion never happened.
+     *
+     * @param event The event of the deletion.
+     */
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+
+    }
+
+    /**
+     * Determines whether this listener wants to be notified about an entity once its transaction has completed.
+     *
+     * @param persister The persister of the entity.
+     * @return true for appointments and employees; false otherwise.
+     */
+    @Override
+    public boolean requiresPostCommitHanding(EntityPersister persister) {
+        return Appointment.class.equals(persister.getMappedClass()) || Employee.class.equals(persister.getMappedClass());
+    }
+
+    /**
+     * The AppointmentComponent whose indexes to keep in sync.
+     */
+    private final transient AppointmentComponent appointmentComponent;
+}
@@ -1,15 +1,43 @@
 package aiApp.applicationcore.appointmentcomponent;
 
 import aiApp.applicationcore.employeecomponent.Employee;
+import aiApp.applicationcore.employeecomponent.TextNormalizer;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 /**
  * The appointment component class that implements the AppointmentComponentInterface.
+ * Overlap queries are answered by an in-memory AppointmentIntervalTree over the TimeSpans of all appointments,
+ * searches for words by an in-memory AppointmentTextIndex over their titles and descriptions, questions about the
+ * days of the week and hours of the day at which they begin by an in-memory AppointmentWeekdayHourIndex.
+ * The amounts of appointments of every week are counted by an AppointmentWeekCounter, those of every employee are
+ * the sizes of their agendas. The booked minutes of the slots of the week are folded into a BookingHeatmapIndex and
+ * the booked seconds of the employees in every week are added up by an EmployeeUtilizationIndex.
+ * The weeks laid out for the calendar are cached and dropped whenever an appointment that overlaps them changes.
+ * The tree is loaded from the repository on the first query and kept in sync as appointments are added and deleted,
+ * through this component as well as by the AppointmentCommitListener for every other write to the repository, once
+ * the transaction of the change has committed.
  */
 @Component
 public class AppointmentComponent implements AppointmentComponentInterface {
@@ -36,11 +64,11 @@ public class AppointmentComponent implements AppointmentComponentInterface {
      *         Should never occur, if no appointments begin in the week given or no appointments exist at all
      *         an empty list should be returned.
      * @throws InvalidWeekException If the week passed in was invalid. Week must be greater than 0 and may not be
-     *         larger than 52.
+     *         larger than 53.
      */
     @Override
     public List<Appointment> getAppointmentsOfWeek(Integer week) throws AppointmentNotFoundException, InvalidWeekException {
-        final int maxWeeks = 52;
+        final int maxWeeks = 53;
 
         if (week == null) {
             return appointmentRepository.findAll();
@@ -58,6 +86,525 @@ public class AppointmentComponent implements AppointmentComponentInterface {
         }
     }
 
+    /**
+     * Returns a page of the listing of all appointments, which is ordered by the begin and then by the id of the
+     * appointments. Other than offsets, the cursor of a page stays valid while appointments are added and deleted.
+     *
+     * @param after The cursor created by AppointmentCursor::encode from the last appointment of the previous page,
+     *        or null for the first page.
+     * @param limit The amount of appointments per page, or null for the default of 100.
+     *        Larger amounts than 1000 are lowered to 1000.
+     * @return The appointments of the page. The Slice tells whether there are further pages.
+     * @throws InvalidAppointmentPageException if the cursor is malformed or the limit is less than 1.
+     */
+    @Override
+    public Slice<Appointment> getAppointmentsAfter(String after, Integer limit) throws InvalidAppointmentPageException {
+        if (limit != null && limit < 1) {
+            throw new InvalidAppointmentPageException("limit was invalid");
+        }
+
+        final int pageSize = limit == null ? defaultPageSize : Math.min(limit, maxPageSize);
+        final Pageable pageable = new PageRequest(0, pageSize);
+
+        if (after == null) {
+            return appointmentRepository.findAllByOrderByTimeSpanBeginAscIdAsc(pageable);
+        }
+
+        AppointmentCursor cursor = AppointmentCursor.decode(after);
+
+        return appointmentRepository.findPageAfter(cursor.getBegin(), cursor.getId(), pageable);
+    }
+
+    /**
+     * Passes every appointment to an action, ordered by the begin and then by the id of the appointments.
+     * Other than getAppointmentsOfWeek(null) the appointments are never all held in memory at once, each one is
+     * detached once the action has returned. The action must not keep the appointments passed to it.
+     *
+     * @param action The action to pass the appointments to.
+     */
+    @Override
+    public void forEachAppointment(Consumer<Appointment> action) {
+        appointmentRepository.forEachInOrder(action);
+    }
+
+    /**
+     * Returns the appointments that begin in an ISO week of a week-based-year.
+     *
+     * @param year The ISO week-based-year of the week. May not be negative.
+     * @param week The ISO week for which to get the appointments that begin in that week.
+     * @return A list of the appointments that begin in the week passed in, ordered by the point in time at which they
+     *         begin. May be an empty list if there are no appointments beginning in that week.
+     * @throws AppointmentNotFoundException If the optional returned by the repository didn't have a value.
+     *         Should never occur, if no appointments begin in the week given an empty list should be returned.
+     * @throws InvalidWeekException If the year or the week passed in was null or invalid. Week must be greater than 0
+     *         and may not be larger than the amount of weeks of the year given, which is either 52 or 53.
+     */
+    @Override
+    public List<Appointment> getAppointmentsOfWeek(Integer year, Integer week) throws AppointmentNotFoundException, InvalidWeekException {
+        throwIfWeekIsInvalid(year, week);
+
+        Optional<List<Appointment>> res = appointmentRepository.findByStartWeekBasedYearAndStartWeekOrderByTimeSpanBeginAsc(year, week);
+        if (res.isPresent()) {
+            return res.get();
+        } else {
+            throw new AppointmentNotFoundException("Optional was empty in AppointmentComponent::getAppointmentsOfWeek/2.");
+        }
+    }
+
+    /**
+     * Returns the appointments that begin in a range of ISO weeks, possibly spanning several week-based-years,
+     * with a single range scan over the index on the begin of the appointments.
+     *
+     * @param fromYear The ISO week-based-year of the first week.
+     * @param fromWeek The first ISO week of the range, inclusive.
+     * @param toYear The ISO week-based-year of the last week.
+     * @param toWeek The last ISO week of the range, inclusive.
+     * @param limit The largest amount of appointments to return, or null for the default of 100.
+     *        Larger amounts than 1000 are lowered to 1000.
+     * @return A list of the first appointments that begin in the weeks passed in, ordered by the point in time at
+     *         which they begin and then by their ids. May be an empty list if there are no appointments beginning in
+     *         those weeks.
+     * @throws InvalidWeekException If one of the years or weeks passed in was null or invalid, as for
+     *         getAppointmentsOfWeek, or the last week lies before the first week.
+     * @throws ArgumentNotValidException if the limit is less than 1.
+     */
+    @Override
+    public List<Appointment> getAppointmentsOfWeeks(Integer fromYear, Integer fromWeek, Integer toYear, Integer toWeek,
+                                                    Integer limit) throws InvalidWeekException, ArgumentNotValidException {
+        final int daysPerWeek = 7;
+
+        if (limit != null && limit < 1) {
+            throw new ArgumentNotValidException("limit was invalid");
+        }
+
+        final int maxResults = limit == null ? defaultPageSize : Math.min(limit, maxPageSize);
+
+        throwIfWeekIsInvalid(fromYear, fromWeek);
+        throwIfWeekIsInvalid(toYear, toWeek);
+
+        final long firstDay = DateKernel.isoWeekStart(fromYear, fromWeek);
+        final long dayAfterLastWeek = DateKernel.isoWeekStart(toYear, toWeek) + daysPerWeek;
+
+        if (dayAfterLastWeek <= firstDay) {
+            throw new InvalidWeekException("the last week lies before the first week");
+        }
+
+        // the weeks of the early years may begin before the first TimePoint there can be.
+        final long minSecond = DateKernel.toEpochSecond(DateKernel.MIN_YEAR, TimePoint.JANUARY, 1, 0, 0, 0);
+        final long firstSecond = Math.max(firstDay * DateKernel.SECONDS_PER_DAY, minSecond);
+        final long lastSecond = dayAfterLastWeek * DateKernel.SECONDS_PER_DAY - 1;
+
+        if (lastSecond < minSecond) {
+            return new ArrayList<>();
+        }
+
+        try {
+            return appointmentRepository.findStartingBetween(TimePoint.fromEpochSecond(firstSecond),
+                                                             TimePoint.fromEpochSecond(lastSecond),
+                                                             new PageRequest(0, maxResults));
+        } catch (InvalidDateException e) {
+            throw new InvalidWeekException("the weeks could not be converted to TimePoints");
+        }
+    }
+
+    /**
+     * Returns the appointments that overlap a range of time, that is the appointments that begin no later than the
+     * range ends and end no earlier than the range begins. Appointments that run across the boundaries of the range
+     * are returned as well.
+     *
+     * @param range The range of time, both of its TimePoints are inclusive.
+     * @param limit The largest amount of appointments to return, or null for the default of 100.
+     *        Larger amounts than 1000 are lowered to 1000.
+     * @return A list of the first appointments that overlap the range, ordered by the point in time at which they
+     *         begin and then by their ids. May be an empty list if no appointments overlap the range.
+     * @throws InvalidTimeSpanException If the range passed in was null.
+     * @throws ArgumentNotValidException if the limit is less than 1.
+     */
+    @Override
+    public List<Appointment> getAppointmentsOverlapping(TimeSpan range, Integer limit)
+            throws InvalidTimeSpanException, ArgumentNotValidException {
+        if (range == null) {
+            throw new InvalidTimeSpanException("range was null in AppointmentComponent::getAppointmentsOverlapping.");
+        }
+
+        if (limit != null && limit < 1) {
+            throw new ArgumentNotValidException("limit was invalid");
+        }
+
+        final int maxResults = limit == null ? defaultPageSize : Math.min(limit, maxPageSize);
+        final long from = range.getStartTimePoint().toEpochSecond();
+        final long to = range.getEndTimePoint().toEpochSecond();
+
+        return findAllInOrder(queryIndexes(() -> intervalTree.query(from, to, maxResults)));
+    }
+
+    /**
+     * Returns the appointments that overlap an ISO week laid out on a grid of seven days, with every appointment
+     * cut into an entry for each of its days and overlapping entries of a day put into separate lanes.
+     *
+     * @param year The ISO week-based-year of the week. May not be negative.
+     * @param week The ISO week.
+     * @param employeeId The id of the employee whose appointments to lay out, or null for all appointments.
+     *        Weeks that have been laid out before are taken from the cache, only their appointments are loaded.
+     * @return The week laid out. Its days may be empty if no appointments overlap the week.
+     * @throws InvalidWeekException If the year or the week passed in was null or invalid, as for
+     *         getAppointmentsOfWeek.
+     */
+    @Override
+    public CalendarWeek getCalendarWeek(Integer year, Integer week, Integer employeeId) throws InvalidWeekException {
+        throwIfWeekIsInvalid(year, week);
+
+        final long weekStart = DateKernel.isoWeekStart(year, week) * DateKernel.SECONDS_PER_DAY;
+        final long weekEnd = weekStart + CalendarWeekGrid.DAYS_PER_WEEK * DateKernel.SECONDS_PER_DAY - 1;
+        final List<Integer> key = Arrays.asList(year, week, employeeId);
+
+        CalendarWeekGrid grid;
+        long version;
+
+        synchronized (calendarCache) {
+            grid = calendarCache.get(key);
+            version = calendarCacheVersion;
+        }
+
+        if (grid != null) {
+            return new CalendarWeek(year, week, employeeId, grid, findAllInOrder(grid.getAppointmentIds()));
+        }
+
+        List<Appointment> appointments = findAllInOrder(queryIndexes(() -> employeeId == null
+                                                                            ? intervalTree.query(weekStart, weekEnd)
+                                                                            : agendaIndex.query(employeeId, weekStart, weekEnd)));
+        grid = CalendarWeekGrid.layout(weekStart, appointments);
+
+        // an appointment changed while the week was laid out, the layout may already be outdated.
+        synchronized (calendarCache) {
+            if (version == calendarCacheVersion) {
+                calendarCache.put(key, grid);
+            }
+        }
+
+        return new CalendarWeek(year, week, employeeId, grid, appointments);
+    }
+
+    /**
+     * Returns the appointments that begin on certain days of the week within a range of hours of the day, e.g. on
+     * mondays from 8:00 until 12:00 or between 12:00 and 13:00 on any day, optionally only those that begin within a
+     * range of time.
+     *
+     * @param daysOfWeek The ISO days of the week, 1 for monday up to 7 for sunday. May be null or empty for every day.
+     * @param fromHour The first hour of the day, 0 to 23, inclusive. May be null for 0.
+     * @param toHour The hour of the day at which the range of hours ends, 1 to 24, exclusive. May be null for 24.
+     * @param range The range of time within which the appointments begin, inclusive. May be null for all time.
+     * @param limit The largest amount of appointments to return, or null for the default of 100.
+     *        Larger amounts than 1000 are lowered to 1000.
+     * @return A list of the first appointments found, ordered by the point in time at which they begin and then by
+     *         their ids. May be an empty list if no appointment matches.
+     * @throws ArgumentNotValidException if a day of the week or an hour is invalid, fromHour is not before toHour, or
+     *         the limit is less than 1.
+     */
+    @Override
+    public List<Appointment> getAppointmentsByTimeOfWeek(List<Integer> daysOfWeek, Integer fromHour, Integer toHour,
+                                                         TimeSpan range, Integer limit) throws ArgumentNotValidException {
+        if (limit != null && limit < 1) {
+            throw new ArgumentNotValidException("limit was invalid");
+        }
+
+        final int days = toDaysOfWeekSet(daysOfWeek);
+        final int firstHour = fromHour == null ? 0 : fromHour;
+        final int endHour = toHour == null ? hoursPerDay : toHour;
+        throwIfHoursAreInvalid(firstHour, endHour);
+
+        final int maxResults = limit == null ? defaultPageSize : Math.min(limit, maxPageSize);
+        final long from = range == null ? Long.MIN_VALUE : range.getStartTimePoint().toEpochSecond();
+        final long to = range == null ? Long.MAX_VALUE : range.getEndTimePoint().toEpochSecond();
+
+        return findAllInOrder(queryIndexes(() -> weekdayHourIndex.query(days, firstHour, endHour, from, to, maxResults)));
+    }
+
+    /**
+     * Counts the appointments that begin on certain days of the week within a range of hours of the day, e.g. on
+     * mondays from 8:00 until 12:00 within the second quarter of a year, optionally only those that begin within a
+     * range of time.
+     *
+     * @param daysOfWeek The ISO days of the week, 1 for monday up to 7 for sunday. May be null or empty for every day.
+     * @param fromHour The first hour of the day, 0 to 23, inclusive. May be null for 0.
+     * @param toHour The hour of the day at which the range of hours ends, 1 to 24, exclusive. May be null for 24.
+     * @param range The range of time within which the appointments begin, inclusive. May be null for all time.
+     * @return The amount of appointments that match.
+     * @throws ArgumentNotValidException if a day of the week or an hour is invalid, or fromHour is not before toHour.
+     */
+    @Override
+    public int countAppointmentsByTimeOfWeek(List<Integer> daysOfWeek, Integer fromHour, Integer toHour, TimeSpan range)
+            throws ArgumentNotValidException {
+        final int days = toDaysOfWeekSet(daysOfWeek);
+        final int firstHour = fromHour == null ? 0 : fromHour;
+        final int endHour = toHour == null ? hoursPerDay : toHour;
+        throwIfHoursAreInvalid(firstHour, endHour);
+
+        final long from = range == null ? Long.MIN_VALUE : range.getStartTimePoint().toEpochSecond();
+        final long to = range == null ? Long.MAX_VALUE : range.getEndTimePoint().toEpochSecond();
+
+        return queryIndexes(() -> weekdayHourIndex.count(days, firstHour, endHour, from, to));
+    }
+
+    /**
+     * Returns the amount of all appointments, the amounts of appointments that begin in the ISO weeks and the amounts
+     * of appointments the employees attend. The amounts are counted as appointments are added, deleted and gain
+     * attendees, so reading them costs O(1) for every week and employee returned rather than loading the appointments.
+     *
+     * @param year The ISO week-based-year whose weeks to return, or null for the weeks of all years.
+     * @return The summary. Weeks without appointments and employees that attend no appointments are left out.
+     * @throws InvalidWeekException If the year passed in was invalid. May not be negative.
+     */
+    @Override
+    public AppointmentSummary getAppointmentSummary(Integer year) throws InvalidWeekException {
+        long fromWeekStart = Long.MIN_VALUE;
+        long toWeekStart = Long.MAX_VALUE;
+
+        if (year != null) {
+            throwIfWeekIsInvalid(year, 1);
+            fromWeekStart = DateKernel.isoWeekStart(year, 1);
+            toWeekStart = DateKernel.isoWeekStart(year, DateKernel.weeksInWeekBasedYear(year));
+        }
+
+        final long from = fromWeekStart;
+        final long to = toWeekStart;
+
+        return queryIndexes(() -> {
+            List<AppointmentSummary.WeekCount> weekCounts = new ArrayList<>();
+
+            for (Map.Entry<Long, Integer> weekCount : weekCounter.countsByWeekStart(from, to).entrySet()) {
+                final long monday = DateKernel.fromEpochDay(weekCount.getKey());
+                final int mondayYear = (int) DateKernel.packedYear(monday);
+                final int mondayMonth = DateKernel.packedMonth(monday);
+                final int mondayDay = DateKernel.packedDay(monday);
+
+                weekCounts.add(new AppointmentSummary.WeekCount(DateKernel.isoWeekBasedYear(mondayYear, mondayMonth, mondayDay),
+                                                                DateKernel.isoWeek(mondayYear, mondayMonth, mondayDay),
+                                                                weekCount.getValue()));
+            }
+
+            return new AppointmentSummary(weekCounter.total(), weekCounts, agendaIndex.attendanceCounts());
+        });
+    }
+
+    /**
+     * Returns the booked minutes of every 15 minute slot of every day of the week over a range of days, for the whole
+     * organization, a team or a single employee. The heatmaps are folded together as appointments change, so no
+     * appointments are loaded.
+     *
+     * @param employeeIds The ids of the employees whose appointments to add up, a single one for the heatmap of an
+     *        employee or the members of a team. May be null or empty for the whole organization. Ids given twice
+     *        count once. An appointment attended by several of the employees is added up once for each of them.
+     * @param range The range of time. Every day from the day of its begin up to the day of its end is added up whole.
+     * @return The heatmap.
+     * @throws ArgumentNotValidException if the range is null, an id is null or there are more than 1000 ids.
+     */
+    @Override
+    public BookingHeatmap getBookingHeatmap(List<Integer> employeeIds, TimeSpan range) throws ArgumentNotValidException {
+        if (range == null) {
+            throw new ArgumentNotValidException("range may not be null");
+        }
+
+        final int ids[] = Arrays.stream(toIdArray(employeeIds)).distinct().toArray();
+
+        if (ids.length > maxPageSize) {
+            throw new ArgumentNotValidException("too many employeeIds");
+        }
+
+        final long fromDay = Math.floorDiv(range.getStartTimePoint().toEpochSecond(), DateKernel.SECONDS_PER_DAY);
+        final long toDay = Math.floorDiv(range.getEndTimePoint().toEpochSecond(), DateKernel.SECONDS_PER_DAY);
+
+        return new BookingHeatmap(queryIndexes(() -> bookingHeatmap.query(ids.length == 0 ? null : ids, fromDay, toDay)));
+    }
+
+    /**
+     * Returns the booked minutes of an employee in total and in every ISO week of a range of time. The booked minutes
+     * are added up as appointments change, so no appointments are loaded.
+     *
+     * @param employeeId The id of the employee.
+     * @param range The range of time. Every week from the week of its begin up to the week of its end is added up
+     *        whole. May be null, in that case the weeks are not restricted.
+     * @return The utilization of the employee, without any booked minutes if the employee attends no appointments.
+     * @throws ArgumentNotValidException if employeeId is null.
+     */
+    @Override
+    public EmployeeUtilization getEmployeeUtilization(Integer employeeId, TimeSpan range) throws ArgumentNotValidException {
+        if (employeeId == null) {
+            throw new ArgumentNotValidException("employeeId may not be null");
+        }
+
+        final long fromWeekStart = range == null ? Long.MIN_VALUE
+                                                 : AppointmentWeekCounter.weekStartOf(range.getStartTimePoint().toEpochSecond());
+        final long toWeekStart = range == null ? Long.MAX_VALUE
+                                               : AppointmentWeekCounter.weekStartOf(range.getEndTimePoint().toEpochSecond());
+
+        return queryIndexes(() -> toEmployeeUtilization(employeeId, fromWeekStart, toWeekStart));
+    }
+
+    /**
+     * Returns the employees booked the most within a range of time, found with a heap that holds no more employees
+     * than asked for instead of sorting all of them.
+     *
+     * @param range The range of time. Every week from the week of its begin up to the week of its end is added up
+     *        whole. May be null, in that case the weeks are not restricted.
+     * @param limit The largest amount of employees to return, or null for the default of 100.
+     *        Larger amounts than 1000 are lowered to 1000.
+     * @return The utilizations of the employees, the most booked first and then ordered by their ids. Employees
+     *         without booked minutes within the range are left out.
+     * @throws ArgumentNotValidException if the limit is less than 1.
+     */
+    @Override
+    public List<EmployeeUtilization> getMostBookedEmployees(TimeSpan range, Integer limit) throws ArgumentNotValidException {
+        if (limit != null && limit < 1) {
+            throw new ArgumentNotValidException("limit was invalid");
+        }
+
+        final int maxResults = limit == null ? defaultPageSize : Math.min(limit, maxPageSize);
+        final long fromWeekStart = range == null ? Long.MIN_VALUE
+                                                 : AppointmentWeekCounter.weekStartOf(range.getStartTimePoint().toEpochSecond());
+        final long toWeekStart = range == null ? Long.MAX_VALUE
+                                               : AppointmentWeekCounter.weekStartOf(range.getEndTimePoint().toEpochSecond());
+
+        return queryIndexes(() -> {
+            List<EmployeeUtilization> utilizations = new ArrayList<>();
+
+            for (int employeeId : utilizationIndex.mostBooked(maxResults, fromWeekStart, toWeekStart)) {
+                utilizations.add(toEmployeeUtilization(employeeId, fromWeekStart, toWeekStart));
+            }
+
+            return utilizations;
+        });
+    }
+
+    /**
+     * Returns the first appointments an employee attends that overlap a range of time, that is the appointments that
+     * begin no later than the range ends and end no earlier than the range begins.
+     *
+     * @param employeeId The id of the employee.
+     * @param range The range of time, both of its TimePoints are inclusive.
+     *        May be null, in that case the appointments are not restricted in time.
+     * @param limit The largest amount of appointments to return, or null for the default of 100.
+     *        Larger amounts than 1000 are lowered to 1000.
+     * @return A list of the first appointments found, ordered by the point in time at which they begin and then by
+     *         their ids. May be an empty list if the employee attends no appointments within the range, or does not
+     *         exist.
+     * @throws ArgumentNotValidException if the limit is less than 1.
+     */
+    @Override
+    public List<Appointment> getAppointmentsOfEmployee(Integer employeeId, TimeSpan range, Integer limit)
+            throws ArgumentNotValidException {
+        if (limit != null && limit < 1) {
+            throw new ArgumentNotValidException("limit was invalid");
+        }
+
+        if (employeeId == null) {
+            return new ArrayList<>();
+        }
+
+        final int maxResults = limit == null ? defaultPageSize : Math.min(limit, maxPageSize);
+        final long from = range == null ? Long.MIN_VALUE : range.getStartTimePoint().toEpochSecond();
+        final long to = range == null ? Long.MAX_VALUE : range.getEndTimePoint().toEpochSecond();
+
+        return findAllInOrder(queryIndexes(() -> agendaIndex.queryAnyOf(new int[]{employeeId}, from, to, maxResults)));
+    }
+
+    /**
+     * Returns the first appointments that any of a group of employees attends that overlap a range of time.
+     *
+     * @param employeeIds The ids of the employees. May be empty, in that case no appointments are found.
+     * @param range The range of time, both of its TimePoints are inclusive.
+     *        May be null, in that case the appointments are not restricted in time.
+     * @param limit The largest amount of appointments to return, or null for the default of 100.
+     *        Larger amounts than 1000 are lowered to 1000.
+     * @return A list of the first appointments found, ordered by the point in time at which they begin and then by
+     *         their ids. Appointments attended by several of the employees are returned once.
+     * @throws ArgumentNotValidException if employeeIds is null or contains null, or the limit is less than 1.
+     */
+    @Override
+    public List<Appointment> getAppointmentsOfEmployees(List<Integer> employeeIds, TimeSpan range, Integer limit)
+            throws ArgumentNotValidException {
+        if (employeeIds == null) {
+            throw new ArgumentNotValidException("employeeIds was null");
+        }
+
+        if (limit != null && limit < 1) {
+            throw new ArgumentNotValidException("limit was invalid");
+        }
+
+        final int ids[] = toIdArray(employeeIds);
+        final int maxResults = limit == null ? defaultPageSize : Math.min(limit, maxPageSize);
+        final long from = range == null ? Long.MIN_VALUE : range.getStartTimePoint().toEpochSecond();
+        final long to = range == null ? Long.MAX_VALUE : range.getEndTimePoint().toEpochSecond();
+
+        if (ids.length == 0) {
+            return new ArrayList<>();
+        }
+
+        return findAllInOrder(queryIndexes(() -> agendaIndex.queryAnyOf(ids, from, to, maxResults)));
+    }
+
+    /**
+     * Returns the appointments that are attended by all of a group of employees and by any of another group of
+     * employees, but by none of a third group of employees.
+     *
+     * @param allOf The ids of the employees that must all attend. May be null or empty.
+     * @param anyOf The ids of the employees of which at least one must attend. May be null or empty.
+     * @param noneOf The ids of the employees of which none may attend. May be null or empty.
+     * @param limit The largest amount of appointments to return, or null for the default of 100.
+     *        Larger amounts than 1000 are lowered to 1000.
+     * @return A list of the first appointments found, ordered by the point in time at which they begin and then by
+     *         their ids. May be an empty list if no appointments match.
+     * @throws ArgumentNotValidException if allOf and anyOf are both null or empty, an id is null, or the limit is less
+     *         than 1.
+     */
+    @Override
+    public List<Appointment> getAppointmentsAttendedBy(List<Integer> allOf, List<Integer> anyOf, List<Integer> noneOf,
+                                                       Integer limit)
+            throws ArgumentNotValidException {
+        final int allOfIds[] = toIdArray(allOf);
+        final int anyOfIds[] = toIdArray(anyOf);
+        final int noneOfIds[] = toIdArray(noneOf);
+
+        if (allOfIds.length == 0 && anyOfIds.length == 0) {
+            throw new ArgumentNotValidException("allOf or anyOf must name an employee");
+        }
+
+        if (limit != null && limit < 1) {
+            throw new ArgumentNotValidException("limit was invalid");
+        }
+
+        final int maxResults = limit == null ? defaultPageSize : Math.min(limit, maxPageSize);
+
+        return findAllInOrder(queryIndexes(() -> agendaIndex.firstAttendedBy(allOfIds, anyOfIds, noneOfIds, maxResults)));
+    }
+
+    /**
+     * Searches for appointments by the words of their titles and descriptions.
+     * An appointment is found if every word of the text occurs in its title or its description, ignoring case and
+     * accents.
+     *
+     * @param text The words to search for, e.g. "sprint review". Must contain a letter or a digit.
+     * @param limit The largest amount of appointments to return, or null for the default of 100.
+     *        Larger amounts than 1000 are lowered to 1000.
+     * @return A list of the first appointments found, ordered by the point in time at which they begin and then by
+     *         their ids. May be an empty list if no appointment matches.
+     * @throws InvalidAppointmentSearchException if the text is null or has no words, or the limit is less than 1.
+     */
+    @Override
+    public List<Appointment> searchAppointments(String text, Integer limit) throws InvalidAppointmentSearchException {
+        if (text == null || TextNormalizer.words(text).length == 0) {
+            throw new InvalidAppointmentSearchException("text was invalid");
+        }
+
+        if (limit != null && limit < 1) {
+            throw new InvalidAppointmentSearchException("limit was invalid");
+        }
+
+        final int maxResults = limit == null ? defaultPageSize : Math.min(limit, maxPageSize);
+
+        return findAllInOrder(queryIndexes(() -> textIndex.search(text, maxResults)));
+    }
+
     /**
      * Creates a new appointment from a TimeSpan.
      *
@@ -68,13 +615,30 @@ public class AppointmentComponent implements AppointmentComponentInterface {
      */
     @Override
     public Appointment addAppointment(TimeSpan timeSpan) throws FailedToCreateAppointmentException {
+        return addAppointment(timeSpan, null, null);
+    }
+
+    /**
+     * Creates a new appointment from a TimeSpan, along with a title and a description.
+     *
+     * @param timeSpan The TimeSpan to create a new appointment from.
+     * @param title The title of the appointment, at most Appointment.MAX_TITLE_LENGTH characters. May be null.
+     * @param description The description of the appointment, at most Appointment.MAX_DESCRIPTION_LENGTH characters.
+     *        May be null.
+     * @return The appointment created.
+     * @throws FailedToCreateAppointmentException if the appointment could not be created.
+     *         Possible reasons include: The TimeSpan was invalid, or begins in an invalid week, or the title or the
+     *         description was too long.
+     */
+    @Override
+    public Appointment addAppointment(TimeSpan timeSpan, String title, String description) throws FailedToCreateAppointmentException {
         final String exceptStr = "Could not create appointment, reason: ";
 
         Appointment newAppointment;
 
         try {
-            newAppointment = new Appointment(timeSpan);
-        } catch (InvalidWeekException | InvalidTimeSpanException e) {
+            newAppointment = new Appointment(timeSpan, title, description);
+        } catch (InvalidWeekException | InvalidTimeSpanException | ArgumentNotValidException e) {
             throw new FailedToCreateAppointmentException(
                 exceptStr + e.getMessage()
             );
@@ -82,6 +646,8 @@ public class AppointmentComponent implements AppointmentComponentInterface {
 
         appointmentRepository.save(newAppointment);
 
+        afterCommit(() -> addToIndexes(newAppointment));
+
         return newAppointment;
     }
 
@@ -123,7 +689,10 @@ public class AppointmentComponent implements AppointmentComponentInterface {
     public void deleteAppointment(Integer appointmentId) throws InvalidAppointmentIdException {
         throwIfAppointmentIdIsInvalid(appointmentId);
 
-        appointmentRepository.delete(appointmentId);
+        Appointment appointment = appointmentRepository.findOne(appointmentId);
+        appointmentRepository.delete(appointment);
+
+        afterCommit(() -> removeFromIndexes(appointment));
     }
 
     /**
@@ -133,6 +702,7 @@ public class AppointmentComponent implements AppointmentComponentInterface {
      * identified by the appointmentId nothing happens as well.
      * Note that the employees corresponding to the employeeIds in employeesToAdd must actually exist.
      * The EmployeeComponent class offers a member function called doAllEmployeesExist to check for their existence.
+     * The indexes pick up the new attendees only once the transaction has committed.
      *
      * @param appointmentId The ID of the appointment to add the employees to.
      * @param employeesToAdd The IDs of the employees to add to the appointment. All of these employees must exist!
@@ -142,6 +712,7 @@ public class AppointmentComponent implements AppointmentComponentInterface {
      *         the appointmentId.
      */
     @Override
+    @Transactional
     public Appointment addEmployeesToAppointment(Integer appointmentId, List<Employee> employeesToAdd) throws InvalidAppointmentIdException, AppointmentNotFoundException {
         throwIfAppointmentIdIsInvalid(appointmentId);
 
@@ -159,9 +730,34 @@ public class AppointmentComponent implements AppointmentComponentInterface {
 
         targetAppointment = appointmentRepository.save(targetAppointment);
 
+        final Appointment committedAppointment = targetAppointment;
+        afterCommit(() -> addToIndexes(committedAppointment));
+
         return targetAppointment;
     }
 
+    /**
+     * Removes an employee that is about to be fired from the attendees of the appointments they attend.
+     * The rows of the join table are removed through JPA, which moves the attendees that follow up, rather than by
+     * the database once the employee is deleted, which would leave gaps in the order of the attendees.
+     * The EmployeeDeleteListener calls this within the transaction that deletes the employee.
+     *
+     * @param employeeId The id of the employee. Does nothing if it is null or the employee attends no appointments.
+     */
+    @Override
+    @Transactional
+    public void removeEmployeeFromAppointments(Integer employeeId) {
+        if (employeeId == null) {
+            return;
+        }
+
+        // the changed attendees are written once the transaction commits, the indexes drop the employee once the
+        // deletion of the employee has committed.
+        for (Appointment appointment : appointmentRepository.findByAttendeesId(employeeId)) {
+            appointment.removeEmployee(employeeId);
+        }
+    }
+
     /**
      * Determines if the employee identified by employeeId is an attendee of the appointment identified by
      * appointmentId.
@@ -184,13 +780,7 @@ public class AppointmentComponent implements AppointmentComponentInterface {
             return false;
         }
 
-        Appointment appointment = appointmentRepository.findOne(appointmentId);
-
-        if (appointment == null) {
-            throw new AppointmentNotFoundException("Appointment couldn't be found in AppointmentComponent::doesAppointmentHaveEmployee");
-        }
-
-        return appointment.hasAttendee(employeeId);
+        return appointmentRepository.countAttendees(appointmentId, Collections.singletonList(employeeId)) > 0;
     }
 
     /**
@@ -211,13 +801,182 @@ public class AppointmentComponent implements AppointmentComponentInterface {
      */
     @Override
     public boolean doesAppointmentHaveEmployees(Integer appointmentId, List<Integer> employeeIds) throws AppointmentNotFoundException, InvalidAppointmentIdException {
-        for (Integer employeeId : employeeIds) {
-            if (!doesAppointmentHaveEmployee(appointmentId, employeeId)) {
-                return false;
+        if (employeeIds.isEmpty()) {
+            return true;
+        }
+
+        throwIfAppointmentIdIsInvalid(appointmentId);
+
+        if (employeeIds.contains(null)) {
+            return false;
+        }
+
+        // one query for all of the employees, duplicates would skew the count.
+        Set<Integer> distinctEmployeeIds = new HashSet<>(employeeIds);
+
+        return appointmentRepository.countAttendees(appointmentId, distinctEmployeeIds) == distinctEmployeeIds.size();
+    }
+
+    /**
+     * Adds a stored appointment to the interval tree, to the agendas of its attendees, to the text index and to the
+     * weekday and hour index, counts it in its week, folds it into the heatmaps and books it for its attendees, if
+     * they have been loaded. Adding an appointment that already
+     * is in the indexes only adds the attendees that are new.
+     *
+     * @param appointment The appointment, must have an id.
+     */
+    void addToIndexes(Appointment appointment) {
+        final int id = appointment.getId();
+        final long begin = appointment.getTimeSpan().getStartTimePoint().toEpochSecond();
+        final long end = appointment.getTimeSpan().getEndTimePoint().toEpochSecond();
+        final String title = appointment.getTitle();
+        final String description = appointment.getDescription();
+
+        final List<Employee> attendees = appointment.getAttendees();
+        final int attendeeIds[] = new int[attendees.size()];
+        for (int i = 0; i < attendeeIds.length; ++i) {
+            attendeeIds[i] = attendees.get(i).getId();
+        }
+
+        updateIndexes(() -> {
+            intervalTree.insert(id, begin, end);
+            agendaIndex.add(id, begin, end, attendeeIds);
+            textIndex.add(id, begin, title, description);
+            if (weekdayHourIndex.add(id, begin)) {
+                weekCounter.add(begin);
+            }
+
+            bookingHeatmap.add(id, begin, end, attendeeIds);
+            utilizationIndex.add(id, begin, end, attendeeIds);
+        });
+
+        invalidateCalendarWeeks(begin, end);
+    }
+
+    /**
+     * Removes a deleted appointment from the interval tree, from the agendas of its attendees, from the text index and
+     * from the weekday and hour index, no longer counts it in its week, takes it out of the heatmaps and takes it back
+     * off its attendees, if they have been loaded. Removing an
+     * appointment that is not in the indexes does nothing.
+     *
+     * @param appointment The appointment, must have an id. Its attendees are not looked at.
+     */
+    void removeFromIndexes(Appointment appointment) {
+        final int id = appointment.getId();
+        final long begin = appointment.getTimeSpan().getStartTimePoint().toEpochSecond();
+        final String title = appointment.getTitle();
+        final String description = appointment.getDescription();
+        final long end = appointment.getTimeSpan().getEndTimePoint().toEpochSecond();
+
+        updateIndexes(() -> {
+            intervalTree.remove(id, begin);
+            agendaIndex.remove(id, begin);
+            textIndex.remove(id, begin, title, description);
+            if (weekdayHourIndex.remove(id, begin)) {
+                weekCounter.remove(begin);
             }
+
+            bookingHeatmap.remove(id);
+            utilizationIndex.remove(id);
+        });
+
+        invalidateCalendarWeeks(begin, end);
+    }
+
+    /**
+     * Removes the agenda, the heatmap and the booked seconds of a deleted employee, if the indexes have been loaded.
+     * The rows of the employee in the join table have been removed through JPA by removeEmployeeFromAppointments.
+     *
+     * @param employeeId The id of the employee.
+     */
+    void removeAttendeeFromIndexes(int employeeId) {
+        updateIndexes(() -> {
+            agendaIndex.removeAttendee(employeeId);
+            bookingHeatmap.removeAttendee(employeeId);
+            utilizationIndex.removeAttendee(employeeId);
+        });
+
+        // the employee is gone from the attendees of the appointments of every week.
+        invalidateCalendarWeeks(Long.MIN_VALUE, Long.MAX_VALUE);
+    }
+
+    /**
+     * Helper function that throws InvalidWeekException if an ISO week of a week-based-year is invalid.
+     *
+     * @param year The ISO week-based-year of the week. May not be negative.
+     * @param week The ISO week. Must be greater than 0 and may not be larger than the amount of weeks of the year.
+     * @throws InvalidWeekException if the year or the week passed in was null or invalid.
+     */
+    private static void throwIfWeekIsInvalid(Integer year, Integer week) throws InvalidWeekException {
+        if (year == null || year < 0 || year > maxYear) {
+            throw new InvalidWeekException("year was invalid");
         }
 
-        return true;
+        if (week == null || week <= 0 || week > DateKernel.weeksInWeekBasedYear(year)) {
+            throw new InvalidWeekException("week was invalid");
+        }
+    }
+
+    /**
+     * Helper function that turns a list of ISO days of the week into a bit set, as taken by the
+     * AppointmentWeekdayHourIndex.
+     *
+     * @param daysOfWeek The ISO days of the week, 1 for monday up to 7 for sunday. May be null or empty for every day.
+     * @return The days as a bit set, bit 0 for monday up to bit 6 for sunday.
+     * @throws ArgumentNotValidException if one of the days is null or not an ISO day of the week.
+     */
+    private static int toDaysOfWeekSet(List<Integer> daysOfWeek) throws ArgumentNotValidException {
+        if (daysOfWeek == null || daysOfWeek.isEmpty()) {
+            return (1 << CalendarWeekGrid.DAYS_PER_WEEK) - 1;
+        }
+
+        int days = 0;
+        for (Integer day : daysOfWeek) {
+            if (day == null || day < 1 || day > CalendarWeekGrid.DAYS_PER_WEEK) {
+                throw new ArgumentNotValidException("day of week was invalid");
+            }
+
+            days |= 1 << (day - 1);
+        }
+
+        return days;
+    }
+
+    /**
+     * Helper function that throws ArgumentNotValidException if a range of hours of the day is invalid.
+     *
+     * @param fromHour The first hour of the day, inclusive. Must lie between 0 and 23.
+     * @param toHour The hour of the day at which the range ends, exclusive. Must lie after fromHour and not after 24.
+     * @throws ArgumentNotValidException if the range of hours is invalid.
+     */
+    private static void throwIfHoursAreInvalid(int fromHour, int toHour) throws ArgumentNotValidException {
+        if (fromHour < 0 || toHour > hoursPerDay || fromHour >= toHour) {
+            throw new ArgumentNotValidException("hours were invalid");
+        }
+    }
+
+    /**
+     * Helper function that copies a list of ids into an array.
+     *
+     * @param ids The ids, may be null.
+     * @return The ids, an empty array if ids was null.
+     * @throws ArgumentNotValidException if one of the ids is null.
+     */
+    private static int[] toIdArray(List<Integer> ids) throws ArgumentNotValidException {
+        if (ids == null) {
+            return new int[0];
+        }
+
+        int array[] = new int[ids.size()];
+        for (int i = 0; i < array.length; ++i) {
+            if (ids.get(i) == null) {
+                throw new ArgumentNotValidException("ids may not contain null");
+            }
+
+            array[i] = ids.get(i);
+        }
+
+        return array;
     }
 
     /**
@@ -232,8 +991,360 @@ public class AppointmentComponent implements AppointmentComponentInterface {
         }
     }
 
+    /**
+     * Runs a query against the interval tree, the agendas, the text index, the weekday and hour index, the heatmaps
+     * or the booked seconds of the employees, loading them if they have not been loaded yet.
+     *
+     * @param query The query to run.
+     * @param <T> The type of the result of the query.
+     * @return The result of the query, usually the ids of the appointments found.
+     */
+    private <T> T queryIndexes(Supplier<T> query) {
+        indexLock.readLock().lock();
+        try {
+            if (intervalTree != null) {
+                return query.get();
+            }
+        } finally {
+            indexLock.readLock().unlock();
+        }
+
+        indexLock.writeLock().lock();
+        try {
+            if (intervalTree == null) {
+                final List<Object[]> intervals = appointmentRepository.findAllIntervals();
+                final List<Object[]> attendances = appointmentRepository.findAllAttendances();
+
+                agendaIndex = loadAgendaIndex(attendances);
+                textIndex = loadTextIndex();
+                bookingHeatmap = loadBookingHeatmap(intervals, attendances);
+                utilizationIndex = loadUtilizationIndex(attendances);
+                loadIntervalIndexes(intervals);
+            }
+
+            return query.get();
+        } finally {
+            indexLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Applies a change to the interval tree, the agendas, the text index, the weekday and hour index, the heatmaps and
+     * the booked seconds of the employees, if they have been loaded.
+     * If they have not been loaded yet the change will be picked up from the repository once they are.
+     *
+     * @param update The change to apply.
+     */
+    private void updateIndexes(Runnable update) {
+        indexLock.writeLock().lock();
+        try {
+            if (intervalTree != null) {
+                update.run();
+            }
+        } finally {
+            indexLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Runs a change to the indexes once the current transaction has committed, so that writes which are rolled back
+     * never reach them. Runs it right away if there is no transaction.
+     *
+     * @param update The change to apply.
+     */
+    private static void afterCommit(Runnable update) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            update.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+            @Override
+            public void afterCommit() {
+                update.run();
+            }
+        });
+    }
+
+    /**
+     * Drops the cached weeks that overlap a range of time, as an appointment within the range has changed.
+     * Must be called after the indexes have been changed, so that weeks laid out from the unchanged indexes are not
+     * cached after all.
+     *
+     * @param from The begin of the range in epoch seconds.
+     * @param to The end of the range in epoch seconds.
+     */
+    private void invalidateCalendarWeeks(long from, long to) {
+        synchronized (calendarCache) {
+            ++calendarCacheVersion;
+            calendarCache.values().removeIf(grid -> grid.overlaps(from, to));
+        }
+    }
+
+    /**
+     * Builds the interval tree, the weekday and hour index and the week counter from the TimeSpans of all the
+     * appointments in the repository. The interval tree is assigned last, as it tells whether the indexes have been
+     * loaded.
+     *
+     * @param intervals The ids, begins and ends of all the appointments, as returned by
+     *        AppointmentRepository::findAllIntervals.
+     */
+    private void loadIntervalIndexes(List<Object[]> intervals) {
+
+        final int count = intervals.size();
+        int ids[] = new int[count];
+        long begins[] = new long[count];
+        long ends[] = new long[count];
+
+        for (int i = 0; i < count; ++i) {
+            final Object interval[] = intervals.get(i);
+            ids[i] = (Integer) interval[0];
+            begins[i] = ((TimePoint) interval[1]).toEpochSecond();
+            ends[i] = ((TimePoint) interval[2]).toEpochSecond();
+        }
+
+        weekdayHourIndex = AppointmentWeekdayHourIndex.fromSorted(ids, begins, count);
+        weekCounter = AppointmentWeekCounter.fromBegins(begins, count);
+        intervalTree = AppointmentIntervalTree.fromSorted(ids, begins, ends, count);
+    }
+
+    /**
+     * Builds the agendas of the employees from the attendances of all the appointments in the repository.
+     *
+     * @param attendances The attendances of all the appointments, as returned by
+     *        AppointmentRepository::findAllAttendances.
+     * @return The agendas.
+     */
+    private AttendeeAgendaIndex loadAgendaIndex(List<Object[]> attendances) {
+
+        final int count = attendances.size();
+        int employeeIds[] = new int[count];
+        int appointmentIds[] = new int[count];
+        long begins[] = new long[count];
+        long ends[] = new long[count];
+
+        for (int i = 0; i < count; ++i) {
+            final Object attendance[] = attendances.get(i);
+            employeeIds[i] = (Integer) attendance[0];
+            appointmentIds[i] = (Integer) attendance[1];
+            begins[i] = ((TimePoint) attendance[2]).toEpochSecond();
+            ends[i] = ((TimePoint) attendance[3]).toEpochSecond();
+        }
+
+        return AttendeeAgendaIndex.fromSorted(employeeIds, appointmentIds, begins, ends, count);
+    }
+
+    /**
+     * Builds the heatmaps of the organization and of the employees from the TimeSpans and the attendances of all the
+     * appointments in the repository.
+     *
+     * @param intervals The ids, begins and ends of all the appointments, as returned by
+     *        AppointmentRepository::findAllIntervals.
+     * @param attendances The attendances of all the appointments, as returned by
+     *        AppointmentRepository::findAllAttendances.
+     * @return The heatmaps.
+     */
+    private BookingHeatmapIndex loadBookingHeatmap(List<Object[]> intervals, List<Object[]> attendances) {
+        BookingHeatmapIndex heatmap = new BookingHeatmapIndex();
+
+        for (Object interval[] : intervals) {
+            heatmap.add((Integer) interval[0], ((TimePoint) interval[1]).toEpochSecond(),
+                        ((TimePoint) interval[2]).toEpochSecond(), new int[0]);
+        }
+
+        for (Object attendance[] : attendances) {
+            heatmap.add((Integer) attendance[1], ((TimePoint) attendance[2]).toEpochSecond(),
+                        ((TimePoint) attendance[3]).toEpochSecond(), new int[] { (Integer) attendance[0] });
+        }
+
+        return heatmap;
+    }
+
+    /**
+     * Adds up the booked seconds of the employees in every week from the attendances of all the appointments in the
+     * repository.
+     *
+     * @param attendances The attendances of all the appointments, as returned by
+     *        AppointmentRepository::findAllAttendances.
+     * @return The booked seconds of the employees.
+     */
+    private EmployeeUtilizationIndex loadUtilizationIndex(List<Object[]> attendances) {
+        EmployeeUtilizationIndex index = new EmployeeUtilizationIndex();
+
+        for (Object attendance[] : attendances) {
+            index.add((Integer) attendance[1], ((TimePoint) attendance[2]).toEpochSecond(),
+                      ((TimePoint) attendance[3]).toEpochSecond(), new int[] { (Integer) attendance[0] });
+        }
+
+        return index;
+    }
+
+    /**
+     * Helper function that gathers the booked seconds of an employee in the weeks within a range of weeks.
+     * Must be called while the indexes are locked.
+     *
+     * @param employeeId The id of the employee.
+     * @param fromWeekStart The monday of the first week as the amount of days since 1970-01-01, inclusive.
+     * @param toWeekStart The monday of the last week as the amount of days since 1970-01-01, inclusive.
+     * @return The utilization of the employee.
+     */
+    private EmployeeUtilization toEmployeeUtilization(int employeeId, long fromWeekStart, long toWeekStart) {
+        List<EmployeeUtilization.WeekUtilization> weeks = new ArrayList<>();
+        long bookedSeconds = 0;
+
+        for (Map.Entry<Long, Long> week : utilizationIndex.bookedSecondsByWeekStart(employeeId, fromWeekStart,
+                                                                                    toWeekStart).entrySet()) {
+            final long monday = DateKernel.fromEpochDay(week.getKey());
+            final int mondayYear = (int) DateKernel.packedYear(monday);
+            final int mondayMonth = DateKernel.packedMonth(monday);
+            final int mondayDay = DateKernel.packedDay(monday);
+
+            weeks.add(new EmployeeUtilization.WeekUtilization(DateKernel.isoWeekBasedYear(mondayYear, mondayMonth, mondayDay),
+                                                              DateKernel.isoWeek(mondayYear, mondayMonth, mondayDay),
+                                                              week.getValue()));
+            bookedSeconds += week.getValue();
+        }
+
+        return new EmployeeUtilization(employeeId, weeks, bookedSeconds);
+    }
+
+    /**
+     * Builds the text index from the titles and descriptions of all the appointments in the repository that have any.
+     *
+     * @return The text index.
+     */
+    private AppointmentTextIndex loadTextIndex() {
+        AppointmentTextIndex index = new AppointmentTextIndex();
+
+        // ordered like the listing, so every appointment is appended to its postings lists.
+        for (Object text[] : appointmentRepository.findAllTexts()) {
+            index.add((Integer) text[0], ((TimePoint) text[1]).toEpochSecond(), (String) text[2], (String) text[3]);
+        }
+
+        return index;
+    }
+
+    /**
+     * Loads appointments by their ids, keeping the order of the ids.
+     * Ids of appointments that no longer exist are skipped.
+     *
+     * @param appointmentIds The ids of the appointments to load.
+     * @return The appointments, in the order of appointmentIds.
+     */
+    private List<Appointment> findAllInOrder(List<Integer> appointmentIds) {
+        List<Appointment> appointments = new ArrayList<>(appointmentIds.size());
+
+        if (appointmentIds.isEmpty()) {
+            return appointments;
+        }
+
+        Map<Integer, Appointment> appointmentsById = new HashMap<>(appointmentIds.size() * 2);
+        for (Appointment appointment : appointmentRepository.findAll(appointmentIds)) {
+            appointmentsById.put(appointment.getId(), appointment);
+        }
+
+        for (Integer appointmentId : appointmentIds) {
+            Appointment appointment = appointmentsById.get(appointmentId);
+
+            if (appointment != null) {
+                appointments.add(appointment);
+            }
+        }
+
+        return appointments;
+    }
+
+    /**
+     * The amount of appointments on a page if the caller does not ask for a specific amount.
+     */
+    private static final int defaultPageSize = 100;
+
+    /**
+     * The largest amount of appointments on a page.
+     */
+    private static final int maxPageSize = 1000;
+
+    /**
+     * The largest year that a week can be requested for.
+     */
+    private static final int maxYear = 999999;
+
+    /**
+     * The amount of hours of a day.
+     */
+    private static final int hoursPerDay = 24;
+
+    /**
+     * The largest amount of weeks laid out for the calendar that are cached.
+     */
+    private static final int maxCachedCalendarWeeks = 1024;
+
     /**
      * Autowiring by Constructor-Injection
      */
     private AppointmentRepository appointmentRepository;
+
+    /**
+     * The interval tree over the TimeSpans of all appointments, null until it is needed for the first time.
+     * Guarded by indexLock.
+     */
+    private AppointmentIntervalTree intervalTree;
+
+    /**
+     * The agendas of all employees, loaded along with the interval tree. Guarded by indexLock.
+     */
+    private AttendeeAgendaIndex agendaIndex;
+
+    /**
+     * The text index over the titles and descriptions of all appointments, loaded along with the interval tree.
+     * Guarded by indexLock.
+     */
+    private AppointmentTextIndex textIndex;
+
+    /**
+     * The index of the days of the week and hours of the day at which all appointments begin, loaded along with the
+     * interval tree. Guarded by indexLock.
+     */
+    private AppointmentWeekdayHourIndex weekdayHourIndex;
+
+    /**
+     * The amounts of appointments that begin in every week, loaded along with the interval tree. Kept in step with the
+     * weekday and hour index, so that an appointment added twice is counted once. Guarded by indexLock.
+     */
+    private AppointmentWeekCounter weekCounter;
+
+    /**
+     * The heatmaps of the booked minutes of the organization and of every employee, loaded along with the interval
+     * tree. Guarded by indexLock.
+     */
+    private BookingHeatmapIndex bookingHeatmap;
+
+    /**
+     * The booked seconds of the employees in every week, loaded along with the interval tree. Guarded by indexLock.
+     */
+    private EmployeeUtilizationIndex utilizationIndex;
+
+    /**
+     * The lock that guards the interval tree, the agendas, the text index, the weekday and hour index, the heatmaps
+     * and the booked seconds of the employees, queries share it and changes take it exclusively.
+     */
+    private final ReadWriteLock indexLock = new ReentrantReadWriteLock();
+
+    /**
+     * The weeks laid out for the calendar by their week-based-year, their week and the id of their employee, or null
+     * for weeks of all appointments. The least recently used week is dropped once there are too many.
+     * Guarded by its own monitor.
+     */
+    private final Map<List<Integer>, CalendarWeekGrid> calendarCache = new LinkedHashMap<List<Integer>, CalendarWeekGrid>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<List<Integer>, CalendarWeekGrid> eldest) {
+            return size() > maxCachedCalendarWeeks;
+        }
+    };
+
+    /**
+     * The amount of times the calendar cache has been invalidated, so that a week laid out while an appointment
+     * changed is not cached. Guarded by the monitor of calendarCache.
+     */
+    private long calendarCacheVersion;
 }
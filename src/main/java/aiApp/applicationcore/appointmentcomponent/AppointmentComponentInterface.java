@@ -2,7 +2,10 @@ package aiApp.applicationcore.appointmentcomponent;
 
 import aiApp.applicationcore.employeecomponent.Employee;
 
+import org.springframework.data.domain.Slice;
+
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Interface for the AppointmentComponent.
@@ -21,10 +24,244 @@ public interface AppointmentComponentInterface {
      *         Should never occur, if no appointments begin in the week given or no appointments exist at all
      *         an empty list should be returned.
      * @throws InvalidWeekException If the week passed in was invalid. Week must be greater than 0 and may not be
-     *         larger than 52.
+     *         larger than 53.
      */
     List<Appointment> getAppointmentsOfWeek(Integer week) throws AppointmentNotFoundException, InvalidWeekException;
 
+    /**
+     * Returns a page of the listing of all appointments, which is ordered by the begin and then by the id of the
+     * appointments. Other than offsets, the cursor of a page stays valid while appointments are added and deleted.
+     *
+     * @param after The cursor created by AppointmentCursor::encode from the last appointment of the previous page,
+     *        or null for the first page.
+     * @param limit The amount of appointments per page, or null for the default of 100.
+     *        Larger amounts than 1000 are lowered to 1000.
+     * @return The appointments of the page. The Slice tells whether there are further pages.
+     * @throws InvalidAppointmentPageException if the cursor is malformed or the limit is less than 1.
+     */
+    Slice<Appointment> getAppointmentsAfter(String after, Integer limit) throws InvalidAppointmentPageException;
+
+    /**
+     * Passes every appointment to an action, ordered by the begin and then by the id of the appointments.
+     * Other than getAppointmentsOfWeek(null) the appointments are never all held in memory at once, each one is
+     * detached once the action has returned. The action must not keep the appointments passed to it.
+     *
+     * @param action The action to pass the appointments to.
+     */
+    void forEachAppointment(Consumer<Appointment> action);
+
+    /**
+     * Returns the appointments that begin in an ISO week of a week-based-year.
+     *
+     * @param year The ISO week-based-year of the week. May not be negative.
+     * @param week The ISO week for which to get the appointments that begin in that week.
+     * @return A list of the appointments that begin in the week passed in, ordered by the point in time at which they
+     *         begin. May be an empty list if there are no appointments beginning in that week.
+     * @throws AppointmentNotFoundException If the optional returned by the repository didn't have a value.
+     *         Should never occur, if no appointments begin in the week given an empty list should be returned.
+     * @throws InvalidWeekException If the year or the week passed in was null or invalid. Week must be greater than 0
+     *         and may not be larger than the amount of weeks of the year given, which is either 52 or 53.
+     */
+    List<Appointment> getAppointmentsOfWeek(Integer year, Integer week) throws AppointmentNotFoundException, InvalidWeekException;
+
+    /**
+     * Returns the appointments that begin in a range of ISO weeks, possibly spanning several week-based-years,
+     * with a single range scan over the index on the begin of the appointments.
+     *
+     * @param fromYear The ISO week-based-year of the first week.
+     * @param fromWeek The first ISO week of the range, inclusive.
+     * @param toYear The ISO week-based-year of the last week.
+     * @param toWeek The last ISO week of the range, inclusive.
+     * @param limit The largest amount of appointments to return, or null for the default of 100.
+     *        Larger amounts than 1000 are lowered to 1000.
+     * @return A list of the first appointments that begin in the weeks passed in, ordered by the point in time at
+     *         which they begin and then by their ids. May be an empty list if there are no appointments beginning in
+     *         those weeks.
+     * @throws InvalidWeekException If one of the years or weeks passed in was null or invalid, as for
+     *         getAppointmentsOfWeek, or the last week lies before the first week.
+     * @throws ArgumentNotValidException if the limit is less than 1.
+     */
+    List<Appointment> getAppointmentsOfWeeks(Integer fromYear, Integer fromWeek, Integer toYear, Integer toWeek,
+                                             Integer limit) throws InvalidWeekException, ArgumentNotValidException;
+
+    /**
+     * Returns the appointments that overlap a range of time, that is the appointments that begin no later than the
+     * range ends and end no earlier than the range begins. Appointments that run across the boundaries of the range
+     * are returned as well.
+     *
+     * @param range The range of time, both of its TimePoints are inclusive.
+     * @param limit The largest amount of appointments to return, or null for the default of 100.
+     *        Larger amounts than 1000 are lowered to 1000.
+     * @return A list of the first appointments that overlap the range, ordered by the point in time at which they
+     *         begin and then by their ids. May be an empty list if no appointments overlap the range.
+     * @throws InvalidTimeSpanException If the range passed in was null.
+     * @throws ArgumentNotValidException if the limit is less than 1.
+     */
+    List<Appointment> getAppointmentsOverlapping(TimeSpan range, Integer limit)
+            throws InvalidTimeSpanException, ArgumentNotValidException;
+
+    /**
+     * Returns the appointments that overlap an ISO week laid out on a grid of seven days, with every appointment
+     * cut into an entry for each of its days and overlapping entries of a day put into separate lanes.
+     *
+     * @param year The ISO week-based-year of the week. May not be negative.
+     * @param week The ISO week.
+     * @param employeeId The id of the employee whose appointments to lay out, or null for all appointments.
+     * @return The week laid out. Its days may be empty if no appointments overlap the week.
+     * @throws InvalidWeekException If the year or the week passed in was null or invalid, as for
+     *         getAppointmentsOfWeek.
+     */
+    CalendarWeek getCalendarWeek(Integer year, Integer week, Integer employeeId) throws InvalidWeekException;
+
+    /**
+     * Returns the appointments that begin on certain days of the week within a range of hours of the day, e.g. on
+     * mondays from 8:00 until 12:00 or between 12:00 and 13:00 on any day, optionally only those that begin within a
+     * range of time.
+     *
+     * @param daysOfWeek The ISO days of the week, 1 for monday up to 7 for sunday. May be null or empty for every day.
+     * @param fromHour The first hour of the day, 0 to 23, inclusive. May be null for 0.
+     * @param toHour The hour of the day at which the range of hours ends, 1 to 24, exclusive. May be null for 24.
+     * @param range The range of time within which the appointments begin, inclusive. May be null for all time.
+     * @param limit The largest amount of appointments to return, or null for the default of 100.
+     *        Larger amounts than 1000 are lowered to 1000.
+     * @return A list of the first appointments found, ordered by the point in time at which they begin and then by
+     *         their ids. May be an empty list if no appointment matches.
+     * @throws ArgumentNotValidException if a day of the week or an hour is invalid, fromHour is not before toHour, or
+     *         the limit is less than 1.
+     */
+    List<Appointment> getAppointmentsByTimeOfWeek(List<Integer> daysOfWeek, Integer fromHour, Integer toHour,
+                                                  TimeSpan range, Integer limit) throws ArgumentNotValidException;
+
+    /**
+     * Counts the appointments that begin on certain days of the week within a range of hours of the day, e.g. on
+     * mondays from 8:00 until 12:00 within the second quarter of a year, optionally only those that begin within a
+     * range of time.
+     *
+     * @param daysOfWeek The ISO days of the week, 1 for monday up to 7 for sunday. May be null or empty for every day.
+     * @param fromHour The first hour of the day, 0 to 23, inclusive. May be null for 0.
+     * @param toHour The hour of the day at which the range of hours ends, 1 to 24, exclusive. May be null for 24.
+     * @param range The range of time within which the appointments begin, inclusive. May be null for all time.
+     * @return The amount of appointments that match.
+     * @throws ArgumentNotValidException if a day of the week or an hour is invalid, or fromHour is not before toHour.
+     */
+    int countAppointmentsByTimeOfWeek(List<Integer> daysOfWeek, Integer fromHour, Integer toHour, TimeSpan range)
+            throws ArgumentNotValidException;
+
+    /**
+     * Returns the amount of all appointments, the amounts of appointments that begin in the ISO weeks and the amounts
+     * of appointments the employees attend. The amounts are counted as appointments are added, deleted and gain
+     * attendees, so reading them costs O(1) for every week and employee returned rather than loading the appointments.
+     *
+     * @param year The ISO week-based-year whose weeks to return, or null for the weeks of all years.
+     * @return The summary. Weeks without appointments and employees that attend no appointments are left out.
+     * @throws InvalidWeekException If the year passed in was invalid. May not be negative.
+     */
+    AppointmentSummary getAppointmentSummary(Integer year) throws InvalidWeekException;
+
+    /**
+     * Returns the booked minutes of every 15 minute slot of every day of the week over a range of days, for the whole
+     * organization, a team or a single employee. The heatmaps are folded together as appointments change, so no
+     * appointments are loaded.
+     *
+     * @param employeeIds The ids of the employees whose appointments to add up, a single one for the heatmap of an
+     *        employee or the members of a team. May be null or empty for the whole organization. Ids given twice
+     *        count once. An appointment attended by several of the employees is added up once for each of them.
+     * @param range The range of time. Every day from the day of its begin up to the day of its end is added up whole.
+     * @return The heatmap.
+     * @throws ArgumentNotValidException if the range is null, an id is null or there are more than 1000 ids.
+     */
+    BookingHeatmap getBookingHeatmap(List<Integer> employeeIds, TimeSpan range) throws ArgumentNotValidException;
+
+    /**
+     * Returns the booked minutes of an employee in total and in every ISO week of a range of time. The booked minutes
+     * are added up as appointments change, so no appointments are loaded.
+     *
+     * @param employeeId The id of the employee.
+     * @param range The range of time. Every week from the week of its begin up to the week of its end is added up
+     *        whole. May be null, in that case the weeks are not restricted.
+     * @return The utilization of the employee, without any booked minutes if the employee attends no appointments.
+     * @throws ArgumentNotValidException if employeeId is null.
+     */
+    EmployeeUtilization getEmployeeUtilization(Integer employeeId, TimeSpan range) throws ArgumentNotValidException;
+
+    /**
+     * Returns the employees booked the most within a range of time, found with a heap that holds no more employees
+     * than asked for instead of sorting all of them.
+     *
+     * @param range The range of time. Every week from the week of its begin up to the week of its end is added up
+     *        whole. May be null, in that case the weeks are not restricted.
+     * @param limit The largest amount of employees to return, or null for the default of 100.
+     *        Larger amounts than 1000 are lowered to 1000.
+     * @return The utilizations of the employees, the most booked first and then ordered by their ids. Employees
+     *         without booked minutes within the range are left out.
+     * @throws ArgumentNotValidException if the limit is less than 1.
+     */
+    List<EmployeeUtilization> getMostBookedEmployees(TimeSpan range, Integer limit) throws ArgumentNotValidException;
+
+    /**
+     * Returns the first appointments an employee attends that overlap a range of time, that is the appointments that
+     * begin no later than the range ends and end no earlier than the range begins.
+     *
+     * @param employeeId The id of the employee.
+     * @param range The range of time, both of its TimePoints are inclusive.
+     *        May be null, in that case the appointments are not restricted in time.
+     * @param limit The largest amount of appointments to return, or null for the default of 100.
+     *        Larger amounts than 1000 are lowered to 1000.
+     * @return A list of the first appointments found, ordered by the point in time at which they begin and then by
+     *         their ids. May be an empty list if the employee attends no appointments within the range, or does not
+     *         exist.
+     * @throws ArgumentNotValidException if the limit is less than 1.
+     */
+    List<Appointment> getAppointmentsOfEmployee(Integer employeeId, TimeSpan range, Integer limit)
+            throws ArgumentNotValidException;
+
+    /**
+     * Returns the first appointments that any of a group of employees attends that overlap a range of time.
+     *
+     * @param employeeIds The ids of the employees. May be empty, in that case no appointments are found.
+     * @param range The range of time, both of its TimePoints are inclusive.
+     *        May be null, in that case the appointments are not restricted in time.
+     * @param limit The largest amount of appointments to return, or null for the default of 100.
+     *        Larger amounts than 1000 are lowered to 1000.
+     * @return A list of the first appointments found, ordered by the point in time at which they begin and then by
+     *         their ids. Appointments attended by several of the employees are returned once.
+     * @throws ArgumentNotValidException if employeeIds is null or contains null, or the limit is less than 1.
+     */
+    List<Appointment> getAppointmentsOfEmployees(List<Integer> employeeIds, TimeSpan range, Integer limit)
+            throws ArgumentNotValidException;
+
+    /**
+     * Returns the appointments that are attended by all of a group of employees and by any of another group of
+     * employees, but by none of a third group of employees.
+     *
+     * @param allOf The ids of the employees that must all attend. May be null or empty.
+     * @param anyOf The ids of the employees of which at least one must attend. May be null or empty.
+     * @param noneOf The ids of the employees of which none may attend. May be null or empty.
+     * @param limit The largest amount of appointments to return, or null for the default of 100.
+     *        Larger amounts than 1000 are lowered to 1000.
+     * @return A list of the first appointments found, ordered by the point in time at which they begin and then by
+     *         their ids. May be an empty list if no appointments match.
+     * @throws ArgumentNotValidException if allOf and anyOf are both null or empty, an id is null, or the limit is less
+     *         than 1.
+     */
+    List<Appointment> getAppointmentsAttendedBy(List<Integer> allOf, List<Integer> anyOf, List<Integer> noneOf,
+                                                Integer limit)
+            throws ArgumentNotValidException;
+
+    /**
+     * Searches for appointments by the words of their titles and descriptions.
+     * An appointment is found if every word of the text occurs in its title or its description, ignoring case and
+     * accents.
+     *
+     * @param text The words to search for, e.g. "sprint review". Must contain a letter or a digit.
+     * @param limit The largest amount of appointments to return, or null for the default of 100.
+     *        Larger amounts than 1000 are lowered to 1000.
+     * @return A list of the first appointments found, ordered by the point in time at which they begin and then by
+     *         their ids. May be an empty list if no appointment matches.
+     * @throws InvalidAppointmentSearchException if the text is null or has no words, or the limit is less than 1.
+     */
+    List<Appointment> searchAppointments(String text, Integer limit) throws InvalidAppointmentSearchException;
+
     /**
      * Creates a new appointment from a TimeSpan.
      *
@@ -35,6 +272,20 @@ public interface AppointmentComponentInterface {
      */
     Appointment addAppointment(TimeSpan timeSpan) throws FailedToCreateAppointmentException;
 
+    /**
+     * Creates a new appointment from a TimeSpan, along with a title and a description.
+     *
+     * @param timeSpan The TimeSpan to create a new appointment from.
+     * @param title The title of the appointment, at most Appointment.MAX_TITLE_LENGTH characters. May be null.
+     * @param description The description of the appointment, at most Appointment.MAX_DESCRIPTION_LENGTH characters.
+     *        May be null.
+     * @return The appointment created.
+     * @throws FailedToCreateAppointmentException if the appointment could not be created.
+     *         Possible reasons include: The TimeSpan was invalid, or begins in an invalid week, or the title or the
+     *         description was too long.
+     */
+    Appointment addAppointment(TimeSpan timeSpan, String title, String description) throws FailedToCreateAppointmentException;
+
     /**
      * Creates a new appointment from a string that represents a TimeSpan.
      *
@@ -106,4 +357,13 @@ public interface AppointmentComponentInterface {
      * @throws InvalidAppointmentIdException if the appointmentId was invalid.
      */
     boolean doesAppointmentHaveEmployees(Integer appointmentId, List<Integer> employeeIds) throws AppointmentNotFoundException, InvalidAppointmentIdException;
+
+    /**
+     * Removes an employee that is about to be fired from the attendees of the appointments they attend.
+     * The rows of the join table are removed through JPA, which moves the attendees that follow up, rather than by
+     * the database once the employee is deleted, which would leave gaps in the order of the attendees.
+     *
+     * @param employeeId The id of the employee. Does nothing if it is null or the employee attends no appointments.
+     */
+    void removeEmployeeFromAppointments(Integer employeeId);
 }
@@ -0,0 +1,98 @@
+package aiApp.applicationcore.appointmentcomponent;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The position within the listing of all appointments, which is ordered by the begin and then by the id of the
+ * appointments. A page of the listing continues right after the appointment its cursor was created from.
+ * The textual form of a cursor is the begin of the appointment in epoch seconds and its id, separated by an
+ * underscore, e.g. 1492369200_17. Clients are to treat it as opaque.
+ */
+public final class AppointmentCursor {
+    /**
+     * Creates the textual form of the cursor that points just past an appointment.
+     *
+     * @param appointment The appointment, must have been stored.
+     * @return The textual form of the cursor.
+     */
+    @NotNull
+    public static String encode(@NotNull Appointment appointment) {
+        return appointment.getTimeSpan().getStartTimePoint().toEpochSecond() + separator + appointment.getId();
+    }
+
+    /**
+     * Parses the textual form of a cursor.
+     *
+     * @param cursor The textual form of the cursor, as created by encode.
+     * @return The cursor.
+     * @throws InvalidAppointmentPageException if the cursor passed in is null or malformed.
+     */
+    @NotNull
+    @Contract("null -> fail")
+    static AppointmentCursor decode(String cursor) throws InvalidAppointmentPageException {
+        final String invalidCursorErrorTxt = "cursor was invalid";
+
+        if (cursor == null) {
+            throw new InvalidAppointmentPageException(invalidCursorErrorTxt);
+        }
+
+        final int separatorIdx = cursor.indexOf(separator);
+        if (separatorIdx < 0) {
+            throw new InvalidAppointmentPageException(invalidCursorErrorTxt);
+        }
+
+        try {
+            final long begin = Long.parseLong(cursor.substring(0, separatorIdx));
+            final int id = Integer.parseInt(cursor.substring(separatorIdx + 1));
+
+            return new AppointmentCursor(TimePoint.fromEpochSecond(begin), id);
+        } catch (NumberFormatException | InvalidDateException e) {
+            throw new InvalidAppointmentPageException(invalidCursorErrorTxt);
+        }
+    }
+
+    /**
+     * Getter for the begin of the appointment the cursor points past.
+     *
+     * @return The begin of the appointment.
+     */
+    TimePoint getBegin() {
+        return begin;
+    }
+
+    /**
+     * Getter for the id of the appointment the cursor points past.
+     *
+     * @return The id of the appointment.
+     */
+    int getId() {
+        return id;
+    }
+
+    /**
+     * Creates an AppointmentCursor.
+     *
+     * @param begin The begin of the appointment the cursor points past.
+     * @param id The id of the appointment the cursor points past.
+     */
+    private AppointmentCursor(TimePoint begin, int id) {
+        this.begin = begin;
+        this.id = id;
+    }
+
+    /**
+     * The text that separates the begin from the id.
+     */
+    private static final String separator = "_";
+
+    /**
+     * The begin of the appointment the cursor points past.
+     */
+    private final TimePoint begin;
+
+    /**
+     * The id of the appointment the cursor points past.
+     */
+    private final int id;
+}
@@ -0,0 +1,65 @@
+package aiApp.applicationcore.appointmentcomponent;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+
+/**
+ * The contents of an appointment that is yet to be created, as read from the body of a request by the
+ * AppointmentDraftDeserializer.
+ */
+@JsonDeserialize(using = AppointmentDraftDeserializer.class)
+public final class AppointmentDraft {
+    /**
+     * Creates an AppointmentDraft.
+     *
+     * @param timeSpan The TimeSpan for which to schedule the appointment.
+     * @param title The title of the appointment, may be null.
+     * @param description The description of the appointment, may be null.
+     */
+    AppointmentDraft(TimeSpan timeSpan, String title, String description) {
+        this.timeSpan = timeSpan;
+        this.title = title;
+        this.description = description;
+    }
+
+    /**
+     * Getter for the TimeSpan for which to schedule the appointment.
+     *
+     * @return The TimeSpan, never null.
+     */
+    public TimeSpan getTimeSpan() {
+        return timeSpan;
+    }
+
+    /**
+     * Getter for the title of the appointment.
+     *
+     * @return The title, may be null.
+     */
+    public String getTitle() {
+        return title;
+    }
+
+    /**
+     * Getter for the description of the appointment.
+     *
+     * @return The description, may be null.
+     */
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * The TimeSpan for which to schedule the appointment.
+     */
+    private final TimeSpan timeSpan;
+
+    /**
+     * The title of the appointment, may be null.
+     */
+    private final String title;
+
+    /**
+     * The description of the appointment, may be null.
+     */
+    private final String description;
+}
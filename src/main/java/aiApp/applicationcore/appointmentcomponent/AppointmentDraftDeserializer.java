@@ -0,0 +1,115 @@
+package aiApp.applicationcore.appointmentcomponent;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+import java.io.IOException;
+
+/**
+ * Streaming Jackson deserializer that reads an AppointmentDraft from a JSON object of the two ISO-8601 local
+ * date-times that the TimeSpanDeserializer reads, along with an optional title and description, e.g.
+ * {"start":"2017-04-15T16:00:00","end":"2017-04-15T17:00:00","title":"Sprint review"}
+ */
+public class AppointmentDraftDeserializer extends StdDeserializer<AppointmentDraft> {
+    /**
+     * Creates an AppointmentDraftDeserializer, used by Jackson.
+     */
+    public AppointmentDraftDeserializer() {
+        super(AppointmentDraft.class);
+    }
+
+    /**
+     * Reads an AppointmentDraft from the JSON object the parser passed in is positioned at.
+     *
+     * @param parser The JsonParser to read from.
+     * @param context The context of the deserialization.
+     * @return The AppointmentDraft read.
+     * @throws IOException if the JSON could not be read or does not denote a valid AppointmentDraft.
+     */
+    @Override
+    public AppointmentDraft deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+        JsonToken token = parser.getCurrentToken();
+        if (token == JsonToken.START_OBJECT) {
+            token = parser.nextToken();
+        }
+
+        TimePoint start = null;
+        TimePoint end = null;
+        String title = null;
+        String description = null;
+
+        for (; token == JsonToken.FIELD_NAME; token = parser.nextToken()) {
+            final String fieldName = parser.getCurrentName();
+            parser.nextToken();
+
+            if (startField.equals(fieldName)) {
+                start = TimeSpanDeserializer.readTimePoint(parser, fieldName);
+            } else if (endField.equals(fieldName)) {
+                end = TimeSpanDeserializer.readTimePoint(parser, fieldName);
+            } else if (titleField.equals(fieldName)) {
+                title = readText(parser, fieldName);
+            } else if (descriptionField.equals(fieldName)) {
+                description = readText(parser, fieldName);
+            } else {
+                context.handleUnknownProperty(parser, this, AppointmentDraft.class, fieldName);
+            }
+        }
+
+        if (token != JsonToken.END_OBJECT) {
+            throw JsonMappingException.from(parser, "Expected a JSON object for an appointment.");
+        }
+
+        if (start == null || end == null) {
+            throw JsonMappingException.from(parser, "An appointment requires both a start and an end.");
+        }
+
+        try {
+            return new AppointmentDraft(new TimeSpan(start, end), title, description);
+        } catch (InvalidTimePointException e) {
+            throw JsonMappingException.from(parser, "The end of a TimeSpan may not lie before its start.");
+        }
+    }
+
+    /**
+     * Reads a text that may be null from the JSON value the parser passed in is positioned at.
+     *
+     * @param parser The JsonParser to read from.
+     * @param fieldName The name of the field being read, for error messages.
+     * @return The text read, null for JSON null.
+     * @throws IOException if the JSON could not be read or the value is neither a string nor null.
+     */
+    private static String readText(JsonParser parser, String fieldName) throws IOException {
+        if (parser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        if (parser.getCurrentToken() != JsonToken.VALUE_STRING) {
+            throw JsonMappingException.from(parser, String.format("\"%s\" must be a string.", fieldName));
+        }
+
+        return parser.getText();
+    }
+
+    /**
+     * The name of the field that holds the start of the TimeSpan.
+     */
+    private static final String startField = "start";
+
+    /**
+     * The name of the field that holds the end of the TimeSpan.
+     */
+    private static final String endField = "end";
+
+    /**
+     * The name of the field that holds the title.
+     */
+    private static final String titleField = "title";
+
+    /**
+     * The name of the field that holds the description.
+     */
+    private static final String descriptionField = "description";
+}
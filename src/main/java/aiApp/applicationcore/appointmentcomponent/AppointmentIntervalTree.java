@@ -0,0 +1,584 @@
+package aiApp.applicationcore.appointmentcomponent;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Augmented interval tree over the TimeSpans of appointments, used to answer which appointments overlap a range of
+ * time without scanning all of them.
+ * The tree is an AVL tree ordered by the begin and then the id of the appointments, every node additionally knows the
+ * latest end within its subtree. A query only descends into subtrees that can hold an overlapping appointment and
+ * stops as soon as it reaches appointments beginning after the range, so it runs in O(log n + k) for the typical
+ * k appointments found and never worse than O(k * log n).
+ * The nodes live in parallel primitive arrays and refer to one another by index, which keeps millions of appointments
+ * compact and free of per node objects. Removed nodes are recycled.
+ * The begin and the end of an appointment are given in epoch seconds, the intervals are closed just like those of
+ * AppointmentRepository::findOverlapping.
+ * Not thread-safe, the AppointmentComponent guards its tree with a lock.
+ */
+final class AppointmentIntervalTree {
+    /**
+     * Creates an empty AppointmentIntervalTree.
+     */
+    AppointmentIntervalTree() {
+        this(initialCapacity);
+    }
+
+    /**
+     * Creates a balanced AppointmentIntervalTree from appointments that are sorted by their begin and then their id,
+     * in O(n).
+     *
+     * @param ids The ids of the appointments.
+     * @param begins The begins of the appointments in epoch seconds, in ascending order.
+     * @param ends The ends of the appointments in epoch seconds.
+     * @param count The amount of appointments, the arrays may be longer than that.
+     * @return The AppointmentIntervalTree holding the appointments passed in.
+     * @throws IllegalArgumentException if the appointments are not sorted by their begin and then their id.
+     */
+    static AppointmentIntervalTree fromSorted(int[] ids, long[] begins, long[] ends, int count) {
+        for (int i = 1; i < count; ++i) {
+            if (begins[i - 1] > begins[i] || (begins[i - 1] == begins[i] && ids[i - 1] >= ids[i])) {
+                throw new IllegalArgumentException("appointments passed to AppointmentIntervalTree::fromSorted were not sorted");
+            }
+        }
+
+        AppointmentIntervalTree tree = new AppointmentIntervalTree(count + 1);
+        tree.root = tree.buildBalanced(ids, begins, ends, 0, count);
+        tree.size = count;
+        return tree;
+    }
+
+    /**
+     * Adds an appointment.
+     * Adding an appointment with the same id and begin as one already in the tree does nothing.
+     *
+     * @param id The id of the appointment.
+     * @param begin The begin of the appointment in epoch seconds.
+     * @param end The end of the appointment in epoch seconds.
+     */
+    void insert(int id, long begin, long end) {
+        final int node = allocate(id, begin, end);
+
+        changed = false;
+        root = insert(root, node);
+
+        if (changed) {
+            ++size;
+        } else {
+            free(node);
+        }
+    }
+
+    /**
+     * Removes an appointment.
+     *
+     * @param id The id of the appointment.
+     * @param begin The begin of the appointment in epoch seconds, as it was passed to insert.
+     * @return true if the appointment was removed; false if it was not in the tree.
+     */
+    boolean remove(int id, long begin) {
+        changed = false;
+        root = remove(root, id, begin);
+
+        if (changed) {
+            --size;
+        }
+
+        return changed;
+    }
+
+    /**
+     * Determines the appointments that overlap a closed range of time, that is the appointments that begin no later
+     * than the range ends and end no earlier than the range begins.
+     *
+     * @param from The begin of the range in epoch seconds.
+     * @param to The end of the range in epoch seconds.
+     * @return The ids of the appointments found, ordered by the begin of the appointments and then by their id.
+     *         Empty if to lies before from.
+     */
+    List<Integer> query(long from, long to) {
+        List<Integer> result = new ArrayList<>();
+
+        if (from <= to) {
+            query(root, from, to, result);
+        }
+
+        return result;
+    }
+
+    /**
+     * Determines the first appointments that overlap a closed range of time.
+     * The search stops once limit appointments have been found.
+     *
+     * @param from The begin of the range in epoch seconds.
+     * @param to The end of the range in epoch seconds.
+     * @param limit The largest amount of appointments to find.
+     * @return The ids of the appointments found, ordered by the begin of the appointments and then by their id.
+     *         Empty if to lies before from.
+     */
+    List<Integer> query(long from, long to, int limit) {
+        final int capacity = Math.max(0, limit);
+        final int foundIds[] = new int[capacity];
+        final int count = query(from, to, capacity, foundIds, new long[capacity]);
+
+        List<Integer> result = new ArrayList<>(count);
+        for (int i = 0; i < count; ++i) {
+            result.add(foundIds[i]);
+        }
+
+        return result;
+    }
+
+    /**
+     * Determines the first appointments that overlap a closed range of time, along with their begins.
+     * The search stops once limit appointments have been found.
+     *
+     * @param from The begin of the range in epoch seconds.
+     * @param to The end of the range in epoch seconds.
+     * @param limit The largest amount of appointments to find.
+     * @param foundIds The array to put the ids of the appointments found into, must have room for limit ids.
+     * @param foundBegins The array to put the begins of the appointments found into, must have room for limit begins.
+     * @return The amount of appointments found, ordered by their begin and then by their id.
+     */
+    int query(long from, long to, int limit, int foundIds[], long foundBegins[]) {
+        if (from > to || limit < 1) {
+            return 0;
+        }
+
+        return query(root, from, to, limit, foundIds, foundBegins, 0);
+    }
+
+    /**
+     * Returns the amount of appointments in the tree.
+     *
+     * @return The amount of appointments.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the height of the tree, for tests.
+     *
+     * @return The height, 0 for an empty tree.
+     */
+    int height() {
+        return heights[root];
+    }
+
+    /**
+     * Creates an empty AppointmentIntervalTree with room for a given amount of nodes.
+     *
+     * @param capacity The amount of nodes to make room for, including the sentinel.
+     */
+    private AppointmentIntervalTree(int capacity) {
+        capacity = Math.max(capacity, 2);
+
+        ids = new int[capacity];
+        begins = new long[capacity];
+        ends = new long[capacity];
+        maxEnds = new long[capacity];
+        lefts = new int[capacity];
+        rights = new int[capacity];
+        heights = new int[capacity];
+
+        // the sentinel ends before everything, so that queries never descend into it.
+        maxEnds[nil] = Long.MIN_VALUE;
+        nextNode = nil + 1;
+        freeList = nil;
+        root = nil;
+    }
+
+    /**
+     * Builds a balanced subtree from a sorted range of appointments.
+     *
+     * @param ids The ids of the appointments.
+     * @param begins The begins of the appointments.
+     * @param ends The ends of the appointments.
+     * @param from The index of the first appointment of the range.
+     * @param to The index just past the last appointment of the range.
+     * @return The root of the subtree.
+     */
+    private int buildBalanced(int[] ids, long[] begins, long[] ends, int from, int to) {
+        if (from >= to) {
+            return nil;
+        }
+
+        final int middle = (from + to) >>> 1;
+        final int node = allocate(ids[middle], begins[middle], ends[middle]);
+
+        lefts[node] = buildBalanced(ids, begins, ends, from, middle);
+        rights[node] = buildBalanced(ids, begins, ends, middle + 1, to);
+        update(node);
+
+        return node;
+    }
+
+    /**
+     * Inserts a node into a subtree.
+     *
+     * @param node The root of the subtree.
+     * @param newNode The node to insert.
+     * @return The new root of the subtree.
+     */
+    private int insert(int node, int newNode) {
+        if (node == nil) {
+            changed = true;
+            return newNode;
+        }
+
+        final int comparison = compare(begins[newNode], ids[newNode], node);
+        if (comparison == 0) {
+            return node;
+        }
+
+        if (comparison < 0) {
+            lefts[node] = insert(lefts[node], newNode);
+        } else {
+            rights[node] = insert(rights[node], newNode);
+        }
+
+        return rebalance(node);
+    }
+
+    /**
+     * Removes an appointment from a subtree.
+     *
+     * @param node The root of the subtree.
+     * @param id The id of the appointment.
+     * @param begin The begin of the appointment.
+     * @return The new root of the subtree.
+     */
+    private int remove(int node, int id, long begin) {
+        if (node == nil) {
+            return nil;
+        }
+
+        final int comparison = compare(begin, id, node);
+
+        if (comparison < 0) {
+            lefts[node] = remove(lefts[node], id, begin);
+        } else if (comparison > 0) {
+            rights[node] = remove(rights[node], id, begin);
+        } else {
+            changed = true;
+
+            if (lefts[node] == nil || rights[node] == nil) {
+                final int child = lefts[node] == nil ? rights[node] : lefts[node];
+                free(node);
+                return child;
+            }
+
+            // take over the appointment of the successor and remove the successor instead.
+            int successor = rights[node];
+            while (lefts[successor] != nil) {
+                successor = lefts[successor];
+            }
+
+            ids[node] = ids[successor];
+            begins[node] = begins[successor];
+            ends[node] = ends[successor];
+            rights[node] = removeMin(rights[node]);
+        }
+
+        return rebalance(node);
+    }
+
+    /**
+     * Removes the leftmost node of a subtree.
+     *
+     * @param node The root of the subtree, may not be the sentinel.
+     * @return The new root of the subtree.
+     */
+    private int removeMin(int node) {
+        if (lefts[node] == nil) {
+            final int child = rights[node];
+            free(node);
+            return child;
+        }
+
+        lefts[node] = removeMin(lefts[node]);
+        return rebalance(node);
+    }
+
+    /**
+     * Collects the ids of the appointments of a subtree that overlap a range, in order.
+     *
+     * @param node The root of the subtree.
+     * @param from The begin of the range.
+     * @param to The end of the range.
+     * @param result The list to add the ids to.
+     */
+    private void query(int node, long from, long to, List<Integer> result) {
+        // the subtree is empty or nothing in it ends at or after from.
+        if (node == nil || maxEnds[node] < from) {
+            return;
+        }
+
+        query(lefts[node], from, to, result);
+
+        // this appointment and everything to its right begins after to.
+        if (begins[node] > to) {
+            return;
+        }
+
+        if (ends[node] >= from) {
+            result.add(ids[node]);
+        }
+
+        query(rights[node], from, to, result);
+    }
+
+    /**
+     * Collects the ids and the begins of the appointments of a subtree that overlap a range, in order, until limit
+     * appointments have been collected.
+     *
+     * @param node The root of the subtree.
+     * @param from The begin of the range.
+     * @param to The end of the range.
+     * @param limit The largest amount of appointments to collect.
+     * @param foundIds The array to put the ids into.
+     * @param foundBegins The array to put the begins into.
+     * @param count The amount of appointments collected so far.
+     * @return The amount of appointments collected including those of the subtree.
+     */
+    private int query(int node, long from, long to, int limit, int foundIds[], long foundBegins[], int count) {
+        if (node == nil || maxEnds[node] < from || count == limit) {
+            return count;
+        }
+
+        count = query(lefts[node], from, to, limit, foundIds, foundBegins, count);
+
+        if (count == limit || begins[node] > to) {
+            return count;
+        }
+
+        if (ends[node] >= from) {
+            foundIds[count] = ids[node];
+            foundBegins[count] = begins[node];
+            ++count;
+        }
+
+        return query(rights[node], from, to, limit, foundIds, foundBegins, count);
+    }
+
+    /**
+     * Compares an appointment to the appointment of a node.
+     *
+     * @param begin The begin of the appointment.
+     * @param id The id of the appointment.
+     * @param node The node.
+     * @return A negative number, zero or a positive number if the appointment sorts before, equal to or after the
+     *         appointment of the node.
+     */
+    private int compare(long begin, int id, int node) {
+        final int comparison = Long.compare(begin, begins[node]);
+        return comparison != 0 ? comparison : Integer.compare(id, ids[node]);
+    }
+
+    /**
+     * Restores the AVL property of a node whose subtrees differ in height by at most two.
+     *
+     * @param node The node.
+     * @return The new root of the subtree.
+     */
+    private int rebalance(int node) {
+        update(node);
+
+        final int balance = heights[lefts[node]] - heights[rights[node]];
+
+        if (balance > 1) {
+            if (heights[lefts[lefts[node]]] < heights[rights[lefts[node]]]) {
+                lefts[node] = rotateLeft(lefts[node]);
+            }
+
+            return rotateRight(node);
+        }
+
+        if (balance < -1) {
+            if (heights[rights[rights[node]]] < heights[lefts[rights[node]]]) {
+                rights[node] = rotateRight(rights[node]);
+            }
+
+            return rotateLeft(node);
+        }
+
+        return node;
+    }
+
+    /**
+     * Rotates a subtree to the left.
+     *
+     * @param node The root of the subtree, must have a right child.
+     * @return The new root of the subtree.
+     */
+    private int rotateLeft(int node) {
+        final int pivot = rights[node];
+
+        rights[node] = lefts[pivot];
+        lefts[pivot] = node;
+        update(node);
+        update(pivot);
+
+        return pivot;
+    }
+
+    /**
+     * Rotates a subtree to the right.
+     *
+     * @param node The root of the subtree, must have a left child.
+     * @return The new root of the subtree.
+     */
+    private int rotateRight(int node) {
+        final int pivot = lefts[node];
+
+        lefts[node] = rights[pivot];
+        rights[pivot] = node;
+        update(node);
+        update(pivot);
+
+        return pivot;
+    }
+
+    /**
+     * Recomputes the height and the latest end of a node from its children.
+     *
+     * @param node The node.
+     */
+    private void update(int node) {
+        final int left = lefts[node];
+        final int right = rights[node];
+
+        heights[node] = 1 + Math.max(heights[left], heights[right]);
+        maxEnds[node] = Math.max(ends[node], Math.max(maxEnds[left], maxEnds[right]));
+    }
+
+    /**
+     * Creates a leaf node, reusing a removed node if there is one.
+     *
+     * @param id The id of the appointment.
+     * @param begin The begin of the appointment.
+     * @param end The end of the appointment.
+     * @return The node.
+     */
+    private int allocate(int id, long begin, long end) {
+        int node;
+
+        if (freeList != nil) {
+            node = freeList;
+            freeList = lefts[node];
+        } else {
+            if (nextNode == ids.length) {
+                grow();
+            }
+
+            node = nextNode++;
+        }
+
+        ids[node] = id;
+        begins[node] = begin;
+        ends[node] = end;
+        maxEnds[node] = end;
+        lefts[node] = nil;
+        rights[node] = nil;
+        heights[node] = 1;
+
+        return node;
+    }
+
+    /**
+     * Puts a node on the free list, the left child links the free list.
+     *
+     * @param node The node, which must no longer be referenced by the tree.
+     */
+    private void free(int node) {
+        lefts[node] = freeList;
+        freeList = node;
+    }
+
+    /**
+     * Doubles the capacity of the node arrays.
+     */
+    private void grow() {
+        final int capacity = ids.length * 2;
+
+        ids = Arrays.copyOf(ids, capacity);
+        begins = Arrays.copyOf(begins, capacity);
+        ends = Arrays.copyOf(ends, capacity);
+        maxEnds = Arrays.copyOf(maxEnds, capacity);
+        lefts = Arrays.copyOf(lefts, capacity);
+        rights = Arrays.copyOf(rights, capacity);
+        heights = Arrays.copyOf(heights, capacity);
+    }
+
+    /**
+     * The index of the sentinel node that stands in for missing children.
+     */
+    private static final int nil = 0;
+
+    /**
+     * The amount of nodes an empty tree has room for.
+     */
+    private static final int initialCapacity = 64;
+
+    /**
+     * The ids of the appointments of the nodes.
+     */
+    private int ids[];
+
+    /**
+     * The begins of the appointments of the nodes.
+     */
+    private long begins[];
+
+    /**
+     * The ends of the appointments of the nodes.
+     */
+    private long ends[];
+
+    /**
+     * The latest end within the subtree of each node.
+     */
+    private long maxEnds[];
+
+    /**
+     * The left children of the nodes, the next free node for nodes on the free list.
+     */
+    private int lefts[];
+
+    /**
+     * The right children of the nodes.
+     */
+    private int rights[];
+
+    /**
+     * The heights of the subtrees of the nodes, 0 for the sentinel.
+     */
+    private int heights[];
+
+    /**
+     * The root node.
+     */
+    private int root;
+
+    /**
+     * The index of the next node that has never been used.
+     */
+    private int nextNode;
+
+    /**
+     * The first node of the free list.
+     */
+    private int freeList;
+
+    /**
+     * The amount of appointments in the tree.
+     */
+    private int size;
+
+    /**
+     * Whether the last insert or remove changed the tree.
+     */
+    private boolean changed;
+}
@@ -1,7 +1,12 @@
 package aiApp.applicationcore.appointmentcomponent;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -9,7 +14,7 @@ import java.util.Optional;
  * A repository for Appointments.
  */
 @Repository
-public interface AppointmentRepository extends JpaRepository<Appointment, Integer> {
+public interface AppointmentRepository extends JpaRepository<Appointment, Integer>, AppointmentRepositoryCustom {
     /**
      * Function to get all the Appointments that start in the week passed in.
      *
@@ -17,4 +22,123 @@ public interface AppointmentRepository extends JpaRepository<Appointment, Intege
      * @return A Optional List of all the Appointments that begin in startWeek.
      */
     Optional<List<Appointment>> findByStartWeek(Integer startWeek);
+
+    /**
+     * Function to get all the Appointments that start in an ISO week of a week-based-year, ordered by their begin.
+     * Served by the composite index on the week-based-year and the week.
+     *
+     * @param startWeekBasedYear The ISO week-based-year of the week.
+     * @param startWeek The ISO week for which to get all the appointments of.
+     * @return A Optional List of all the Appointments that begin in startWeek of startWeekBasedYear,
+     *         the earliest one first.
+     */
+    Optional<List<Appointment>> findByStartWeekBasedYearAndStartWeekOrderByTimeSpanBeginAsc(Integer startWeekBasedYear, Integer startWeek);
+
+    /**
+     * Function to get all the Appointments ordered by the point in time at which they begin.
+     *
+     * @return A List of all the Appointments, the earliest one first.
+     */
+    List<Appointment> findAllByOrderByTimeSpanBeginAsc();
+
+    /**
+     * Function to get the first page of all the Appointments, ordered by their begin and then by their id.
+     *
+     * @param pageable The page to get, only its size is used.
+     * @return A Slice of at most pageable.getPageSize() Appointments, the earliest one first.
+     */
+    Slice<Appointment> findAllByOrderByTimeSpanBeginAscIdAsc(Pageable pageable);
+
+    /**
+     * Function to get the page of all the Appointments that follows an Appointment, ordered by their begin and then
+     * by their id. Served by the index on the begin, the range begins at the begin of the Appointment passed in.
+     *
+     * @param begin The begin of the Appointment the page follows.
+     * @param id The id of the Appointment the page follows.
+     * @param pageable The page to get, only its size is used.
+     * @return A Slice of at most pageable.getPageSize() Appointments that sort after the Appointment passed in,
+     *         the earliest one first.
+     */
+    @Query("select a from Appointment a where a.timeSpan.begin >= :begin and (a.timeSpan.begin > :begin or a.id > :id) "
+           + "order by a.timeSpan.begin, a.id")
+    Slice<Appointment> findPageAfter(@Param("begin") TimePoint begin, @Param("id") Integer id, Pageable pageable);
+
+    /**
+     * Function to get the first Appointments that begin within a closed range of time, ordered by their begin and
+     * then by their id.
+     *
+     * @param from The earliest point in time at which the Appointments returned may begin.
+     * @param to The latest point in time at which the Appointments returned may begin.
+     * @param pageable The page to get, only its size is used.
+     * @return A List of at most pageable.getPageSize() Appointments that begin within from and to, the earliest one
+     *         first.
+     */
+    @Query("select a from Appointment a where a.timeSpan.begin >= :from and a.timeSpan.begin <= :to "
+           + "order by a.timeSpan.begin, a.id")
+    List<Appointment> findStartingBetween(@Param("from") TimePoint from, @Param("to") TimePoint to, Pageable pageable);
+
+    /**
+     * Function to get all the Appointments whose TimeSpan overlaps a closed range of time, ordered by their begin.
+     *
+     * @param from The point in time at which the range begins.
+     * @param to The point in time at which the range ends.
+     * @return A List of the Appointments that have at least one point in time in common with the range from - to,
+     *         the earliest one first.
+     */
+    @Query("select a from Appointment a where a.timeSpan.begin <= :to and a.timeSpan.end >= :from order by a.timeSpan.begin")
+    List<Appointment> findOverlapping(@Param("from") TimePoint from, @Param("to") TimePoint to);
+
+    /**
+     * Function to get the id, the begin and the end of every Appointment without loading the Appointments themselves,
+     * ordered by their begin and then by their id.
+     * Used to build the interval tree of the AppointmentComponent.
+     *
+     * @return A List of arrays that hold the Integer id, the begin TimePoint and the end TimePoint of an Appointment.
+     */
+    @Query("select a.id, a.timeSpan.begin, a.timeSpan.end from Appointment a order by a.timeSpan.begin, a.id")
+    List<Object[]> findAllIntervals();
+
+    /**
+     * Function to get the id, the begin, the title and the description of every Appointment that has a title or a
+     * description without loading the Appointments themselves, ordered by their begin and then by their id.
+     * Used to build the text index of the AppointmentComponent.
+     *
+     * @return A List of arrays that hold the Integer id, the begin TimePoint, the title String and the description
+     *         String of an Appointment. The title or the description may be null.
+     */
+    @Query("select a.id, a.timeSpan.begin, a.title, a.description from Appointment a "
+           + "where a.title is not null or a.description is not null order by a.timeSpan.begin, a.id")
+    List<Object[]> findAllTexts();
+
+    /**
+     * Function to get every attendance of an Employee at an Appointment along with the begin and the end of the
+     * Appointment, ordered by the id of the Employee, then by the begin and then by the id of the Appointment.
+     * Used to build the agendas of the employees of the AppointmentComponent.
+     *
+     * @return A List of arrays that hold the Integer id of the Employee, the Integer id of the Appointment,
+     *         the begin TimePoint and the end TimePoint of the Appointment.
+     */
+    @Query("select e.id, a.id, a.timeSpan.begin, a.timeSpan.end from Appointment a join a.attendees e "
+           + "order by e.id, a.timeSpan.begin, a.id")
+    List<Object[]> findAllAttendances();
+
+    /**
+     * Function to get all the Appointments that an employee attends.
+     * Served by the index on the employee side of the attendee join table.
+     *
+     * @param employeeId The id of the employee to get the appointments of.
+     * @return A List of the Appointments that the employee identified by employeeId attends.
+     */
+    List<Appointment> findByAttendeesId(Integer employeeId);
+
+    /**
+     * Function to count how many of the employees passed in attend an appointment.
+     *
+     * @param appointmentId The id of the appointment.
+     * @param employeeIds The ids of the employees to look for. May not contain duplicates.
+     * @return The amount of the employees identified by employeeIds that attend the appointment identified by
+     *         appointmentId.
+     */
+    @Query("select count(e) from Appointment a join a.attendees e where a.id = :appointmentId and e.id in :employeeIds")
+    long countAttendees(@Param("appointmentId") Integer appointmentId, @Param("employeeIds") Collection<Integer> employeeIds);
 }
@@ -0,0 +1,19 @@
+package aiApp.applicationcore.appointmentcomponent;
+
+import java.util.function.Consumer;
+
+/**
+ * The part of the AppointmentRepository that is implemented by hand, see AppointmentRepositoryImpl.
+ */
+public interface AppointmentRepositoryCustom {
+    /**
+     * Passes every appointment to an action, ordered by the begin and then by the id of the appointments.
+     * The appointments are read through a forward-only database cursor within a read-only transaction, along with
+     * their attendees. Each appointment and its attendees are detached once the action has returned, so that the
+     * memory used stays the same no matter how many appointments there are.
+     * The action must not keep the appointments passed to it.
+     *
+     * @param action The action to pass the appointments to.
+     */
+    void forEachInOrder(Consumer<Appointment> action);
+}
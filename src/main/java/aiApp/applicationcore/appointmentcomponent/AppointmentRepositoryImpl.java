@@ -0,0 +1,62 @@
+package aiApp.applicationcore.appointmentcomponent;
+
+import aiApp.applicationcore.employeecomponent.Employee;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.function.Consumer;
+
+/**
+ * Implements the AppointmentRepositoryCustom part of the AppointmentRepository.
+ * Found by Spring Data through its name.
+ */
+class AppointmentRepositoryImpl implements AppointmentRepositoryCustom {
+    /**
+     * Passes every appointment to an action, ordered by the begin and then by the id of the appointments.
+     * The attendees are fetched by the same query, the rows of an appointment are adjacent due to the ordering.
+     *
+     * @param action The action to pass the appointments to.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachInOrder(Consumer<Appointment> action) {
+        Session session = entityManager.unwrap(Session.class);
+
+        try (ScrollableResults results = session.createQuery(forEachInOrderQuery)
+                                                .setReadOnly(true)
+                                                .setFetchSize(fetchSize)
+                                                .scroll(ScrollMode.FORWARD_ONLY)) {
+            while (results.next()) {
+                Appointment appointment = (Appointment) results.get(0);
+
+                action.accept(appointment);
+
+                session.evict(appointment);
+                for (Employee attendee : appointment.getAttendees()) {
+                    session.evict(attendee);
+                }
+            }
+        }
+    }
+
+    /**
+     * The query that selects every appointment along with its attendees.
+     */
+    private static final String forEachInOrderQuery =
+            "select a from Appointment a left join fetch a.attendees order by a.timeSpan.begin, a.id";
+
+    /**
+     * The amount of rows the JDBC driver is asked to fetch from the database at once.
+     */
+    private static final int fetchSize = 1000;
+
+    /**
+     * The EntityManager of the current transaction.
+     */
+    @PersistenceContext
+    private EntityManager entityManager;
+}
@@ -0,0 +1,156 @@
+package aiApp.applicationcore.appointmentcomponent;
+
+import aiApp.applicationcore.employeecomponent.Employee;
+import aiApp.applicationcore.employeecomponent.EmployeeSerializer;
+import aiApp.applicationcore.employeecomponent.JsonText;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Jackson serializer that writes an Appointment as a JSON object, e.g.
+ * {"startWeek":15,"attendees":[...],"startWeekBasedYear":2017,"timeSpan":{...},"id":1}
+ * The attendees and the TimeSpan are written by the EmployeeSerializer and the TimeSpanSerializer into the same
+ * JsonGenerator, so the whole appointment goes straight to the output without any intermediate Strings.
+ * The title and the description follow the id, they are left out if the appointment has none.
+ * Appointment.toString writes through this class as well.
+ */
+public class AppointmentSerializer extends StdSerializer<Appointment> {
+    /**
+     * Creates an AppointmentSerializer, used by Jackson.
+     */
+    public AppointmentSerializer() {
+        super(Appointment.class);
+    }
+
+    /**
+     * Writes an Appointment to the JsonGenerator passed in.
+     *
+     * @param appointment The Appointment to write.
+     * @param generator The JsonGenerator to write to.
+     * @param provider The provider of the serialization, unused.
+     * @throws IOException if the JsonGenerator could not write.
+     */
+    @Override
+    public void serialize(Appointment appointment, JsonGenerator generator, SerializerProvider provider)
+            throws IOException {
+        write(appointment, generator);
+    }
+
+    /**
+     * Writes an Appointment to a JsonGenerator.
+     *
+     * @param appointment The Appointment to write, null is written as JSON null.
+     * @param generator The JsonGenerator to write to.
+     * @throws IOException if the JsonGenerator could not write.
+     */
+    static void write(Appointment appointment, JsonGenerator generator) throws IOException {
+        if (appointment == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject();
+        generator.writeFieldName(startWeekField);
+        writeInteger(appointment.getStartWeek(), generator);
+        generator.writeFieldName(attendeesField);
+
+        final List<Employee> attendees = appointment.getAttendees();
+        if (attendees == null) {
+            generator.writeNull();
+        } else {
+            generator.writeStartArray(attendees.size());
+            for (int i = 0; i < attendees.size(); ++i) {
+                EmployeeSerializer.write(attendees.get(i), generator);
+            }
+            generator.writeEndArray();
+        }
+
+        generator.writeFieldName(startWeekBasedYearField);
+        writeInteger(appointment.getStartWeekBasedYear(), generator);
+        generator.writeFieldName(timeSpanField);
+        TimeSpanSerializer.write(appointment.getTimeSpan(), generator);
+        generator.writeFieldName(idField);
+        writeInteger(appointment.getId(), generator);
+
+        // appointments without a title or a description look the same as before they could have any.
+        if (appointment.getTitle() != null) {
+            generator.writeFieldName(titleField);
+            generator.writeString(appointment.getTitle());
+        }
+
+        if (appointment.getDescription() != null) {
+            generator.writeFieldName(descriptionField);
+            generator.writeString(appointment.getDescription());
+        }
+
+        generator.writeEndObject();
+    }
+
+    /**
+     * Creates the JSON text of an Appointment.
+     *
+     * @param appointment The Appointment to create the JSON text of.
+     * @return The JSON text.
+     */
+    static String toJson(Appointment appointment) {
+        final int expectedLength = 512;
+
+        return JsonText.toJson(appointment, expectedLength, AppointmentSerializer::write);
+    }
+
+    /**
+     * Writes an Integer that may be null.
+     *
+     * @param value The Integer to write, null is written as JSON null.
+     * @param generator The JsonGenerator to write to.
+     * @throws IOException if the JsonGenerator could not write.
+     */
+    private static void writeInteger(Integer value, JsonGenerator generator) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            generator.writeNumber(value);
+        }
+    }
+
+    /**
+     * The name of the field that holds the ISO week in which the appointment begins.
+     */
+    private static final SerializableString startWeekField = new SerializedString("startWeek");
+
+    /**
+     * The name of the field that holds the attendees.
+     */
+    private static final SerializableString attendeesField = new SerializedString("attendees");
+
+    /**
+     * The name of the field that holds the ISO week-based-year of the week in which the appointment begins.
+     */
+    private static final SerializableString startWeekBasedYearField = new SerializedString("startWeekBasedYear");
+
+    /**
+     * The name of the field that holds the TimeSpan.
+     */
+    private static final SerializableString timeSpanField = new SerializedString("timeSpan");
+
+    /**
+     * The name of the field that holds the id.
+     */
+    private static final SerializableString idField = new SerializedString("id");
+
+    /**
+     * The name of the field that holds the title, left out if the appointment has none.
+     */
+    private static final SerializableString titleField = new SerializedString("title");
+
+    /**
+     * The name of the field that holds the description, left out if the appointment has none.
+     */
+    private static final SerializableString descriptionField = new SerializedString("description");
+}
@@ -0,0 +1,129 @@
+package aiApp.applicationcore.appointmentcomponent;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import java.util.List;
+import java.util.SortedMap;
+
+/**
+ * The amounts of appointments in total, of every ISO week and of every employee, as polled by dashboards.
+ * Weeks without appointments and employees that attend no appointments are left out. Written by the
+ * AppointmentSummarySerializer.
+ */
+@JsonSerialize(using = AppointmentSummarySerializer.class)
+public final class AppointmentSummary {
+    /**
+     * The amount of appointments that begin in an ISO week.
+     */
+    public static final class WeekCount {
+        /**
+         * Creates a WeekCount.
+         *
+         * @param year The ISO week-based-year of the week.
+         * @param week The ISO week.
+         * @param appointmentCount The amount of appointments that begin in the week.
+         */
+        WeekCount(int year, int week, int appointmentCount) {
+            this.year = year;
+            this.week = week;
+            this.appointmentCount = appointmentCount;
+        }
+
+        /**
+         * Getter for the ISO week-based-year of the week.
+         *
+         * @return The week-based-year.
+         */
+        public int getYear() {
+            return year;
+        }
+
+        /**
+         * Getter for the ISO week.
+         *
+         * @return The week, 1 to 53.
+         */
+        public int getWeek() {
+            return week;
+        }
+
+        /**
+         * Getter for the amount of appointments that begin in the week.
+         *
+         * @return The amount of appointments.
+         */
+        public int getAppointmentCount() {
+            return appointmentCount;
+        }
+
+        /**
+         * The ISO week-based-year of the week.
+         */
+        private final int year;
+
+        /**
+         * The ISO week.
+         */
+        private final int week;
+
+        /**
+         * The amount of appointments that begin in the week.
+         */
+        private final int appointmentCount;
+    }
+
+    /**
+     * Creates an AppointmentSummary.
+     *
+     * @param appointmentCount The amount of all appointments.
+     * @param weekCounts The amounts of appointments of the weeks, ordered by the weeks.
+     * @param attendanceCounts The amounts of appointments the employees attend by their ids, ordered by the ids.
+     */
+    AppointmentSummary(int appointmentCount, List<WeekCount> weekCounts, SortedMap<Integer, Integer> attendanceCounts) {
+        this.appointmentCount = appointmentCount;
+        this.weekCounts = weekCounts;
+        this.attendanceCounts = attendanceCounts;
+    }
+
+    /**
+     * Getter for the amount of all appointments, regardless of the weeks asked for.
+     *
+     * @return The amount of appointments.
+     */
+    public int getAppointmentCount() {
+        return appointmentCount;
+    }
+
+    /**
+     * Getter for the amounts of appointments of the weeks that have any.
+     *
+     * @return The amounts of appointments, ordered by the weeks.
+     */
+    public List<WeekCount> getWeekCounts() {
+        return weekCounts;
+    }
+
+    /**
+     * Getter for the amounts of appointments the employees attend.
+     *
+     * @return The amounts of appointments by the ids of the employees, ordered by the ids.
+     */
+    public SortedMap<Integer, Integer> getAttendanceCounts() {
+        return attendanceCounts;
+    }
+
+    /**
+     * The amount of all appointments.
+     */
+    private final int appointmentCount;
+
+    /**
+     * The amounts of appointments of the weeks that have any.
+     */
+    private final List<WeekCount> weekCounts;
+
+    /**
+     * The amounts of appointments the employees attend, by the ids of the employees.
+     */
+    private final SortedMap<Integer, Integer> attendanceCounts;
+}
@@ -0,0 +1,98 @@
+package aiApp.applicationcore.appointmentcomponent;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Jackson serializer that writes an AppointmentSummary as a JSON object, e.g.
+ * {"appointmentCount":42,"weeks":[{"year":2017,"week":15,"appointmentCount":3},...],
+ * "employees":[{"employeeId":1,"appointmentCount":2},...]}
+ * The weeks and the employees are written in ascending order.
+ */
+public class AppointmentSummarySerializer extends StdSerializer<AppointmentSummary> {
+    /**
+     * Creates an AppointmentSummarySerializer, used by Jackson.
+     */
+    public AppointmentSummarySerializer() {
+        super(AppointmentSummary.class);
+    }
+
+    /**
+     * Writes an AppointmentSummary to the JsonGenerator passed in.
+     *
+     * @param summary The AppointmentSummary to write.
+     * @param generator The JsonGenerator to write to.
+     * @param provider The provider of the serialization, unused.
+     * @throws IOException if the JsonGenerator could not write.
+     */
+    @Override
+    public void serialize(AppointmentSummary summary, JsonGenerator generator, SerializerProvider provider)
+            throws IOException {
+        generator.writeStartObject();
+        generator.writeFieldName(appointmentCountField);
+        generator.writeNumber(summary.getAppointmentCount());
+
+        generator.writeFieldName(weeksField);
+        generator.writeStartArray(summary.getWeekCounts().size());
+        for (AppointmentSummary.WeekCount weekCount : summary.getWeekCounts()) {
+            generator.writeStartObject();
+            generator.writeFieldName(yearField);
+            generator.writeNumber(weekCount.getYear());
+            generator.writeFieldName(weekField);
+            generator.writeNumber(weekCount.getWeek());
+            generator.writeFieldName(appointmentCountField);
+            generator.writeNumber(weekCount.getAppointmentCount());
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+
+        generator.writeFieldName(employeesField);
+        generator.writeStartArray(summary.getAttendanceCounts().size());
+        for (Map.Entry<Integer, Integer> attendanceCount : summary.getAttendanceCounts().entrySet()) {
+            generator.writeStartObject();
+            generator.writeFieldName(employeeIdField);
+            generator.writeNumber(attendanceCount.getKey());
+            generator.writeFieldName(appointmentCountField);
+            generator.writeNumber(attendanceCount.getValue());
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    /**
+     * The name of the field that holds an amount of appointments.
+     */
+    private static final SerializableString appointmentCountField = new SerializedString("appointmentCount");
+
+    /**
+     * The name of the field that holds the amounts of appointments of the weeks.
+     */
+    private static final SerializableString weeksField = new SerializedString("weeks");
+
+    /**
+     * The name of the field that holds the ISO week-based-year of a week.
+     */
+    private static final SerializableString yearField = new SerializedString("year");
+
+    /**
+     * The name of the field that holds the ISO week of a week.
+     */
+    private static final SerializableString weekField = new SerializedString("week");
+
+    /**
+     * The name of the field that holds the amounts of appointments of the employees.
+     */
+    private static final SerializableString employeesField = new SerializedString("employees");
+
+    /**
+     * The name of the field that holds the id of an employee.
+     */
+    private static final SerializableString employeeIdField = new SerializedString("employeeId");
+}
@@ -0,0 +1,288 @@
+package aiApp.applicationcore.appointmentcomponent;
+
+import aiApp.applicationcore.employeecomponent.TextNormalizer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The inverted index from the words of the titles and descriptions of appointments to the appointments they occur in.
+ * Every word has a postings list of the appointments it occurs in, ordered by the begin and then by the id of the
+ * appointments, just like the listing of all appointments. A query for several words intersects their postings lists,
+ * driven by the shortest one: the other lists are only ever searched forward from the last match by galloping, so a
+ * query costs O(s log(l / s)) with s being the length of the shortest and l the length of the longest list, however
+ * many appointments there are. As the lists are ordered like the listing, a query with a limit stops at the limit-th
+ * match.
+ * Appointments are added and removed with their words, as the titles and descriptions never change once stored.
+ * Not thread safe, the AppointmentComponent guards it with its lock.
+ */
+final class AppointmentTextIndex {
+    /**
+     * Creates an empty AppointmentTextIndex.
+     */
+    AppointmentTextIndex() {
+        this.postingsOfWords = new HashMap<>();
+    }
+
+    /**
+     * Adds an appointment to the postings lists of the words of its title and its description.
+     * Adding an appointment that already is in the index does nothing.
+     * Adding appointments in the order of the listing is fastest, as their ids are then appended to the lists.
+     *
+     * @param appointmentId The id of the appointment.
+     * @param begin The begin of the appointment in epoch seconds.
+     * @param texts The title and the description of the appointment, each may be null.
+     */
+    void add(int appointmentId, long begin, String... texts) {
+        for (String word : distinctWords(texts)) {
+            postingsOfWords.computeIfAbsent(word, key -> new Postings()).add(begin, appointmentId);
+        }
+    }
+
+    /**
+     * Removes an appointment from the postings lists of the words of its title and its description.
+     * Removing an appointment that is not in the index does nothing.
+     *
+     * @param appointmentId The id of the appointment.
+     * @param begin The begin of the appointment in epoch seconds.
+     * @param texts The title and the description of the appointment, each may be null.
+     */
+    void remove(int appointmentId, long begin, String... texts) {
+        for (String word : distinctWords(texts)) {
+            Postings postings = postingsOfWords.get(word);
+
+            if (postings != null && postings.remove(begin, appointmentId) && postings.size == 0) {
+                postingsOfWords.remove(word);
+            }
+        }
+    }
+
+    /**
+     * Returns the amount of distinct words in the index.
+     *
+     * @return The amount of words.
+     */
+    int wordCount() {
+        return postingsOfWords.size();
+    }
+
+    /**
+     * Finds the appointments whose title or description contain every word of a query.
+     *
+     * @param query The query, must contain a letter or a digit.
+     * @param limit The largest amount of appointments to find.
+     * @return The ids of the first limit appointments found, ordered by the begin and then by the id of the
+     *         appointments.
+     */
+    List<Integer> search(String query, int limit) {
+        final Set<String> queryWords = distinctWords(query);
+        List<Integer> found = new ArrayList<>();
+
+        Postings lists[] = new Postings[queryWords.size()];
+        int count = 0;
+        for (String queryWord : queryWords) {
+            final Postings postings = postingsOfWords.get(queryWord);
+
+            if (postings == null) {
+                return found;
+            }
+
+            lists[count++] = postings;
+        }
+
+        if (count == 0 || limit < 1) {
+            return found;
+        }
+
+        Arrays.sort(lists, Comparator.comparingInt((Postings postings) -> postings.size));
+
+        final Postings shortest = lists[0];
+        int positions[] = new int[count];
+
+        while (positions[0] < shortest.size) {
+            final long begin = shortest.begins[positions[0]];
+            final int id = shortest.ids[positions[0]];
+            boolean inAll = true;
+
+            for (int i = 1; i < count; ++i) {
+                final Postings list = lists[i];
+                positions[i] = list.seek(positions[i], begin, id);
+
+                if (positions[i] == list.size) {
+                    return found;
+                }
+
+                if (list.begins[positions[i]] != begin || list.ids[positions[i]] != id) {
+                    // skips the shortest list ahead to the first appointment that may be in this one.
+                    positions[0] = shortest.seek(positions[0] + 1, list.begins[positions[i]], list.ids[positions[i]]);
+                    inAll = false;
+                    break;
+                }
+            }
+
+            if (inAll) {
+                found.add(id);
+
+                if (found.size() == limit) {
+                    return found;
+                }
+
+                ++positions[0];
+            }
+        }
+
+        return found;
+    }
+
+    /**
+     * Collects the distinct words of texts.
+     *
+     * @param texts The texts, each may be null.
+     * @return The distinct words, in the order in which they first occur.
+     */
+    private static Set<String> distinctWords(String... texts) {
+        Set<String> words = new LinkedHashSet<>();
+
+        for (String text : texts) {
+            if (text != null) {
+                words.addAll(Arrays.asList(TextNormalizer.words(text)));
+            }
+        }
+
+        return words;
+    }
+
+    /**
+     * The postings list of a word, the appointments it occurs in as parallel arrays of their begins and ids,
+     * ordered by the begin and then by the id.
+     */
+    private static final class Postings {
+        /**
+         * Adds an appointment to the list, if it is not in it yet.
+         *
+         * @param begin The begin of the appointment in epoch seconds.
+         * @param id The id of the appointment.
+         */
+        void add(long begin, int id) {
+            final int idx = seek(0, begin, id);
+
+            if (idx < size && begins[idx] == begin && ids[idx] == id) {
+                return;
+            }
+
+            if (size == ids.length) {
+                final int capacity = Math.max(initialCapacity, size + (size >> 1));
+                begins = Arrays.copyOf(begins, capacity);
+                ids = Arrays.copyOf(ids, capacity);
+            }
+
+            System.arraycopy(begins, idx, begins, idx + 1, size - idx);
+            System.arraycopy(ids, idx, ids, idx + 1, size - idx);
+            begins[idx] = begin;
+            ids[idx] = id;
+            ++size;
+        }
+
+        /**
+         * Removes an appointment from the list.
+         *
+         * @param begin The begin of the appointment in epoch seconds.
+         * @param id The id of the appointment.
+         * @return true if the appointment was in the list; false otherwise.
+         */
+        boolean remove(long begin, int id) {
+            final int idx = seek(0, begin, id);
+
+            if (idx == size || begins[idx] != begin || ids[idx] != id) {
+                return false;
+            }
+
+            System.arraycopy(begins, idx + 1, begins, idx, size - idx - 1);
+            System.arraycopy(ids, idx + 1, ids, idx, size - idx - 1);
+            --size;
+
+            return true;
+        }
+
+        /**
+         * Finds the first appointment at or after a position that does not sort before an appointment.
+         * Gallops forward from the position and then searches binary, so that skipping ahead by d entries
+         * costs O(log d).
+         *
+         * @param from The position to start at.
+         * @param begin The begin of the appointment to look for.
+         * @param id The id of the appointment to look for.
+         * @return The position of the first appointment at or after from that does not sort before the one looked
+         *         for, size if there is none.
+         */
+        int seek(int from, long begin, int id) {
+            if (from >= size || !isBefore(from, begin, id)) {
+                return from;
+            }
+
+            // entry low sorts before the appointment, entry high does not or lies past the end.
+            int low = from;
+            int step = 1;
+            while (low + step < size && isBefore(low + step, begin, id)) {
+                low += step;
+                step <<= 1;
+            }
+
+            int high = Math.min(low + step, size);
+            while (high - low > 1) {
+                final int middle = (low + high) >>> 1;
+
+                if (isBefore(middle, begin, id)) {
+                    low = middle;
+                } else {
+                    high = middle;
+                }
+            }
+
+            return high;
+        }
+
+        /**
+         * Determines whether the appointment at a position sorts before an appointment.
+         *
+         * @param idx The position.
+         * @param begin The begin of the other appointment.
+         * @param id The id of the other appointment.
+         * @return true if the appointment at idx begins earlier, or begins at the same time and has a lower id.
+         */
+        private boolean isBefore(int idx, long begin, int id) {
+            return begins[idx] < begin || (begins[idx] == begin && ids[idx] < id);
+        }
+
+        /**
+         * The capacity of a list once the first appointment is added.
+         */
+        private static final int initialCapacity = 4;
+
+        /**
+         * The begins of the appointments in epoch seconds.
+         */
+        private long begins[] = new long[0];
+
+        /**
+         * The ids of the appointments.
+         */
+        private int ids[] = new int[0];
+
+        /**
+         * The amount of appointments in the list.
+         */
+        private int size;
+    }
+
+    /**
+     * The postings lists by the words that occur in them.
+     */
+    private final Map<String, Postings> postingsOfWords;
+}
@@ -0,0 +1,118 @@
+package aiApp.applicationcore.appointmentcomponent;
+
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Counts the appointments that begin in every ISO week, so that the amount of appointments of a week is read in O(1)
+ * instead of loading the appointments.
+ * The weeks are keyed by their monday as the amount of days since 1970-01-01, which orders them by time and spares
+ * working out the week-based-year and the week of every appointment that is counted. Weeks without appointments have
+ * no count at all.
+ * The counts must only be changed as appointments are added to and removed from one of the other indexes, which tell
+ * whether an appointment is new, so that an appointment added twice is counted once.
+ * Not thread safe, the AppointmentComponent guards it with its lock.
+ */
+final class AppointmentWeekCounter {
+    /**
+     * Creates an AppointmentWeekCounter that has counted no appointments.
+     */
+    AppointmentWeekCounter() {
+        this.countsByWeekStart = new TreeMap<>();
+    }
+
+    /**
+     * Creates an AppointmentWeekCounter that has counted appointments.
+     *
+     * @param begins The begins of the appointments in epoch seconds.
+     * @param count The amount of appointments, the array may be longer than that.
+     * @return The AppointmentWeekCounter that has counted the appointments passed in.
+     */
+    static AppointmentWeekCounter fromBegins(long begins[], int count) {
+        AppointmentWeekCounter counter = new AppointmentWeekCounter();
+
+        for (int i = 0; i < count; ++i) {
+            counter.add(begins[i]);
+        }
+
+        return counter;
+    }
+
+    /**
+     * Counts an appointment in the week in which it begins.
+     *
+     * @param begin The begin of the appointment in epoch seconds.
+     */
+    void add(long begin) {
+        countsByWeekStart.merge(weekStartOf(begin), 1, Integer::sum);
+        ++total;
+    }
+
+    /**
+     * No longer counts an appointment in the week in which it begins.
+     *
+     * @param begin The begin of the appointment in epoch seconds, as it was passed to add.
+     */
+    void remove(long begin) {
+        final long weekStart = weekStartOf(begin);
+        final Integer count = countsByWeekStart.get(weekStart);
+
+        if (count == null) {
+            return;
+        }
+
+        if (count == 1) {
+            countsByWeekStart.remove(weekStart);
+        } else {
+            countsByWeekStart.put(weekStart, count - 1);
+        }
+
+        --total;
+    }
+
+    /**
+     * Returns the amount of appointments counted in all weeks.
+     *
+     * @return The amount of appointments.
+     */
+    int total() {
+        return total;
+    }
+
+    /**
+     * Returns the amounts of appointments of the weeks within a range of weeks that have any.
+     *
+     * @param fromWeekStart The monday of the first week as the amount of days since 1970-01-01, inclusive.
+     * @param toWeekStart The monday of the last week as the amount of days since 1970-01-01, inclusive.
+     * @return A copy of the amounts of appointments by the mondays of their weeks, ordered by the weeks.
+     */
+    SortedMap<Long, Integer> countsByWeekStart(long fromWeekStart, long toWeekStart) {
+        if (fromWeekStart > toWeekStart) {
+            return new TreeMap<>();
+        }
+
+        return new TreeMap<>(countsByWeekStart.subMap(fromWeekStart, true, toWeekStart, true));
+    }
+
+    /**
+     * Returns the monday of the week in which a point in time lies.
+     *
+     * @param epochSecond The point in time in epoch seconds.
+     * @return The monday as the amount of days since 1970-01-01.
+     */
+    static long weekStartOf(long epochSecond) {
+        final long epochDay = Math.floorDiv(epochSecond, DateKernel.SECONDS_PER_DAY);
+
+        return epochDay - (DateKernel.dayOfWeek(epochDay) - 1);
+    }
+
+    /**
+     * The amounts of appointments by the mondays of their weeks.
+     */
+    private final TreeMap<Long, Integer> countsByWeekStart;
+
+    /**
+     * The amount of appointments counted in all weeks.
+     */
+    private int total;
+}
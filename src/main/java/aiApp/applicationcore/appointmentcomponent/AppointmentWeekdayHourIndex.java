@@ -0,0 +1,319 @@
+package aiApp.applicationcore.appointmentcomponent;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Secondary index that buckets appointments by the day of the week and the hour of the day at which they begin, used
+ * to answer recurring questions such as which appointments begin on monday mornings or between 12:00 and 13:00 on any
+ * day without scanning all of them.
+ * There is one bucket for every hour of every day of the week, 168 in all. Every bucket holds the appointments that
+ * begin within its hour as parallel arrays of their begins and ids, ordered by the begin and then by the id, so the
+ * appointments of a bucket that begin within a range of dates are found by two binary searches. A count therefore
+ * costs O(b log n) for the b buckets asked for, and a listing merges the ranges of the buckets in the order of the
+ * listing and stops at its limit.
+ * The days of the week are the ISO days, 1 for monday up to 7 for sunday, and like the begins themselves they are
+ * taken from the local date-time of the appointments.
+ * Not thread safe, the AppointmentComponent guards it with its lock.
+ */
+final class AppointmentWeekdayHourIndex {
+    /**
+     * Creates an empty AppointmentWeekdayHourIndex.
+     */
+    AppointmentWeekdayHourIndex() {
+        for (int bucket = 0; bucket < bucketCount; ++bucket) {
+            begins[bucket] = new long[0];
+            ids[bucket] = new int[0];
+        }
+    }
+
+    /**
+     * Creates an AppointmentWeekdayHourIndex from appointments that are sorted by their begin and then their id,
+     * in O(n).
+     *
+     * @param ids The ids of the appointments.
+     * @param begins The begins of the appointments in epoch seconds, in ascending order.
+     * @param count The amount of appointments, the arrays may be longer than that.
+     * @return The AppointmentWeekdayHourIndex holding the appointments passed in.
+     * @throws IllegalArgumentException if the appointments are not sorted by their begin and then their id.
+     */
+    static AppointmentWeekdayHourIndex fromSorted(int[] ids, long[] begins, int count) {
+        AppointmentWeekdayHourIndex index = new AppointmentWeekdayHourIndex();
+
+        for (int i = 0; i < count; ++i) {
+            if (i > 0 && (begins[i - 1] > begins[i] || (begins[i - 1] == begins[i] && ids[i - 1] >= ids[i]))) {
+                throw new IllegalArgumentException("appointments passed to AppointmentWeekdayHourIndex::fromSorted were not sorted");
+            }
+
+            ++index.sizes[bucketOf(begins[i])];
+        }
+
+        for (int bucket = 0; bucket < bucketCount; ++bucket) {
+            index.begins[bucket] = new long[index.sizes[bucket]];
+            index.ids[bucket] = new int[index.sizes[bucket]];
+            index.sizes[bucket] = 0;
+        }
+
+        // appending keeps every bucket in the order of the appointments passed in.
+        for (int i = 0; i < count; ++i) {
+            final int bucket = bucketOf(begins[i]);
+            final int idx = index.sizes[bucket]++;
+
+            index.begins[bucket][idx] = begins[i];
+            index.ids[bucket][idx] = ids[i];
+        }
+
+        index.size = count;
+
+        return index;
+    }
+
+    /**
+     * Adds an appointment to the bucket of its begin.
+     * Adding an appointment that already is in the index does nothing.
+     *
+     * @param id The id of the appointment.
+     * @param begin The begin of the appointment in epoch seconds.
+     * @return true if the appointment was added; false if it already was in the index.
+     */
+    boolean add(int id, long begin) {
+        final int bucket = bucketOf(begin);
+        final int idx = seek(bucket, begin, id);
+        final int bucketSize = sizes[bucket];
+
+        if (idx < bucketSize && begins[bucket][idx] == begin && ids[bucket][idx] == id) {
+            return false;
+        }
+
+        if (bucketSize == ids[bucket].length) {
+            final int capacity = Math.max(initialCapacity, bucketSize + (bucketSize >> 1));
+            begins[bucket] = Arrays.copyOf(begins[bucket], capacity);
+            ids[bucket] = Arrays.copyOf(ids[bucket], capacity);
+        }
+
+        System.arraycopy(begins[bucket], idx, begins[bucket], idx + 1, bucketSize - idx);
+        System.arraycopy(ids[bucket], idx, ids[bucket], idx + 1, bucketSize - idx);
+        begins[bucket][idx] = begin;
+        ids[bucket][idx] = id;
+        ++sizes[bucket];
+        ++size;
+
+        return true;
+    }
+
+    /**
+     * Removes an appointment from the bucket of its begin.
+     *
+     * @param id The id of the appointment.
+     * @param begin The begin of the appointment in epoch seconds, as it was passed to add.
+     * @return true if the appointment was removed; false if it was not in the index.
+     */
+    boolean remove(int id, long begin) {
+        final int bucket = bucketOf(begin);
+        final int idx = seek(bucket, begin, id);
+        final int bucketSize = sizes[bucket];
+
+        if (idx == bucketSize || begins[bucket][idx] != begin || ids[bucket][idx] != id) {
+            return false;
+        }
+
+        System.arraycopy(begins[bucket], idx + 1, begins[bucket], idx, bucketSize - idx - 1);
+        System.arraycopy(ids[bucket], idx + 1, ids[bucket], idx, bucketSize - idx - 1);
+        --sizes[bucket];
+        --size;
+
+        return true;
+    }
+
+    /**
+     * Returns the amount of appointments in the index.
+     *
+     * @return The amount of appointments.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Counts the appointments that begin on certain days of the week within a range of hours of the day and within
+     * a range of time.
+     *
+     * @param days The days of the week as a bit set, bit 0 for monday up to bit 6 for sunday.
+     * @param fromHour The first hour of the day, 0 to 23, inclusive.
+     * @param toHour The last hour of the day, 1 to 24, exclusive.
+     * @param from The earliest begin in epoch seconds, inclusive.
+     * @param to The latest begin in epoch seconds, inclusive.
+     * @return The amount of appointments.
+     */
+    int count(int days, int fromHour, int toHour, long from, long to) {
+        int count = 0;
+
+        for (int day = 0; day < daysPerWeek; ++day) {
+            if ((days & (1 << day)) == 0) {
+                continue;
+            }
+
+            for (int hour = fromHour; hour < toHour; ++hour) {
+                final int bucket = day * hoursPerDay + hour;
+                count += Math.max(0, seek(bucket, to, Integer.MAX_VALUE) - seek(bucket, from, Integer.MIN_VALUE));
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Finds the appointments that begin on certain days of the week within a range of hours of the day and within
+     * a range of time.
+     *
+     * @param days The days of the week as a bit set, bit 0 for monday up to bit 6 for sunday.
+     * @param fromHour The first hour of the day, 0 to 23, inclusive.
+     * @param toHour The last hour of the day, 1 to 24, exclusive.
+     * @param from The earliest begin in epoch seconds, inclusive.
+     * @param to The latest begin in epoch seconds, inclusive.
+     * @param limit The largest amount of appointments to find.
+     * @return The ids of the first limit appointments found, ordered by their begin and then by their id.
+     */
+    List<Integer> query(int days, int fromHour, int toHour, long from, long to, int limit) {
+        int buckets[] = new int[bucketCount];
+        int positions[] = new int[bucketCount];
+        int ends[] = new int[bucketCount];
+        int count = 0;
+
+        for (int day = 0; day < daysPerWeek; ++day) {
+            if ((days & (1 << day)) == 0) {
+                continue;
+            }
+
+            for (int hour = fromHour; hour < toHour; ++hour) {
+                final int bucket = day * hoursPerDay + hour;
+                final int position = seek(bucket, from, Integer.MIN_VALUE);
+                final int end = seek(bucket, to, Integer.MAX_VALUE);
+
+                if (position < end) {
+                    buckets[count] = bucket;
+                    positions[count] = position;
+                    ends[count] = end;
+                    ++count;
+                }
+            }
+        }
+
+        List<Integer> found = new ArrayList<>();
+
+        // merges the ranges of the buckets, at most 168 of them, so a linear scan for the next one will do.
+        while (found.size() < limit && count > 0) {
+            int next = 0;
+            for (int i = 1; i < count; ++i) {
+                if (isBefore(buckets[i], positions[i], begins[buckets[next]][positions[next]], ids[buckets[next]][positions[next]])) {
+                    next = i;
+                }
+            }
+
+            found.add(ids[buckets[next]][positions[next]]);
+
+            if (++positions[next] == ends[next]) {
+                --count;
+                buckets[next] = buckets[count];
+                positions[next] = positions[count];
+                ends[next] = ends[count];
+            }
+        }
+
+        return found;
+    }
+
+    /**
+     * Returns the bucket of the hour of the day of the week at which an appointment begins.
+     *
+     * @param begin The begin of the appointment in epoch seconds.
+     * @return The bucket, the day of the week times 24 plus the hour of the day, monday being day 0.
+     */
+    static int bucketOf(long begin) {
+        // 1970-01-01 was a thursday, day 3 counting from monday.
+        final int day = (int) Math.floorMod(Math.floorDiv(begin, DateKernel.SECONDS_PER_DAY) + 3, daysPerWeek);
+        final int hour = (int) (Math.floorMod(begin, DateKernel.SECONDS_PER_DAY) / 3600);
+
+        return day * hoursPerDay + hour;
+    }
+
+    /**
+     * Finds the first appointment of a bucket that does not sort before an appointment, by a binary search.
+     *
+     * @param bucket The bucket.
+     * @param begin The begin of the appointment to look for.
+     * @param id The id of the appointment to look for.
+     * @return The position of the first appointment that does not sort before the one looked for, the size of the
+     *         bucket if there is none.
+     */
+    private int seek(int bucket, long begin, int id) {
+        int low = 0;
+        int high = sizes[bucket];
+
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+
+            if (isBefore(bucket, middle, begin, id)) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+
+        return low;
+    }
+
+    /**
+     * Determines whether the appointment at a position of a bucket sorts before an appointment.
+     *
+     * @param bucket The bucket.
+     * @param idx The position.
+     * @param begin The begin of the other appointment.
+     * @param id The id of the other appointment.
+     * @return true if the appointment at idx begins earlier, or begins at the same time and has a lower id.
+     */
+    private boolean isBefore(int bucket, int idx, long begin, int id) {
+        return begins[bucket][idx] < begin || (begins[bucket][idx] == begin && ids[bucket][idx] < id);
+    }
+
+    /**
+     * The amount of days of a week.
+     */
+    private static final int daysPerWeek = 7;
+
+    /**
+     * The amount of hours of a day.
+     */
+    private static final int hoursPerDay = 24;
+
+    /**
+     * The amount of buckets, one for every hour of the week.
+     */
+    private static final int bucketCount = daysPerWeek * hoursPerDay;
+
+    /**
+     * The capacity of a bucket once the first appointment is added.
+     */
+    private static final int initialCapacity = 4;
+
+    /**
+     * The begins of the appointments of every bucket in epoch seconds.
+     */
+    private final long begins[][] = new long[bucketCount][];
+
+    /**
+     * The ids of the appointments of every bucket.
+     */
+    private final int ids[][] = new int[bucketCount][];
+
+    /**
+     * The amount of appointments in every bucket.
+     */
+    private final int sizes[] = new int[bucketCount];
+
+    /**
+     * The amount of appointments in all buckets.
+     */
+    private int size;
+}
@@ -0,0 +1,425 @@
+package aiApp.applicationcore.appointmentcomponent;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * The reverse index from the ids of employees to the appointments they attend.
+ * Every employee that attends at least one appointment has an AppointmentIntervalTree over the TimeSpans of
+ * the appointments they attend, so that the agenda of an employee within a range of time is found in O(log n + k),
+ * n being the amount of appointments of the employee and k the amount of appointments found.
+ * Every employee also has an AppointmentBitmap of the ids of the appointments they attend, so that the appointments
+ * attended by all of, any of or none of a group of employees are found by intersecting, uniting and subtracting
+ * bitmaps.
+ * Also remembers the attendees of every appointment, so that an appointment can be removed by its id alone, and its
+ * begin, so that the appointments found in the bitmaps can be ranked by their begins.
+ * Not thread safe, the AppointmentComponent guards it with its lock.
+ */
+final class AttendeeAgendaIndex {
+    /**
+     * Creates an empty AttendeeAgendaIndex.
+     */
+    AttendeeAgendaIndex() {
+        this.agendas = new HashMap<>();
+        this.bitmaps = new HashMap<>();
+        this.attendeeIdsOfAppointments = new HashMap<>();
+        this.beginsOfAppointments = new HashMap<>();
+    }
+
+    /**
+     * Builds an AttendeeAgendaIndex from the attendances of all appointments.
+     *
+     * @param employeeIds The ids of the attending employees.
+     * @param appointmentIds The ids of the attended appointments.
+     * @param begins The begins of the attended appointments in epoch seconds.
+     * @param ends The ends of the attended appointments in epoch seconds.
+     * @param count The amount of attendances.
+     * @return The AttendeeAgendaIndex.
+     * @throws IllegalArgumentException if the attendances are not ordered by the employee id, then by the begin and
+     *         then by the appointment id.
+     */
+    static AttendeeAgendaIndex fromSorted(int employeeIds[], int appointmentIds[], long begins[], long ends[], int count) {
+        AttendeeAgendaIndex index = new AttendeeAgendaIndex();
+        Map<Integer, List<Integer>> attendeeIdLists = new HashMap<>();
+
+        int first = 0;
+        while (first < count) {
+            int last = first + 1;
+            while (last < count && employeeIds[last] == employeeIds[first]) {
+                ++last;
+            }
+
+            if (last < count && employeeIds[last] < employeeIds[first]) {
+                throw new IllegalArgumentException("attendances must be ordered by the employee id");
+            }
+
+            final int length = last - first;
+            index.agendas.put(employeeIds[first], AppointmentIntervalTree.fromSorted(
+                    Arrays.copyOfRange(appointmentIds, first, last), Arrays.copyOfRange(begins, first, last),
+                    Arrays.copyOfRange(ends, first, last), length));
+
+            AppointmentBitmap bitmap = new AppointmentBitmap();
+            index.bitmaps.put(employeeIds[first], bitmap);
+
+            for (int i = first; i < last; ++i) {
+                bitmap.add(appointmentIds[i]);
+                attendeeIdLists.computeIfAbsent(appointmentIds[i], appointmentId -> new ArrayList<>())
+                               .add(employeeIds[i]);
+                index.beginsOfAppointments.put(appointmentIds[i], begins[i]);
+            }
+
+            first = last;
+        }
+
+        for (Map.Entry<Integer, List<Integer>> entry : attendeeIdLists.entrySet()) {
+            index.attendeeIdsOfAppointments.put(entry.getKey(), toArray(entry.getValue()));
+        }
+
+        return index;
+    }
+
+    /**
+     * Adds an appointment to the agendas of its attendees.
+     * Attendees that already have the appointment in their agendas are left as they are, so that an appointment
+     * that gained attendees can simply be added again.
+     *
+     * @param appointmentId The id of the appointment.
+     * @param begin The begin of the appointment in epoch seconds.
+     * @param end The end of the appointment in epoch seconds.
+     * @param attendeeIds The ids of the attendees of the appointment.
+     */
+    void add(int appointmentId, long begin, long end, int attendeeIds[]) {
+        if (attendeeIds.length == 0) {
+            return;
+        }
+
+        for (int attendeeId : attendeeIds) {
+            agendas.computeIfAbsent(attendeeId, employeeId -> new AppointmentIntervalTree())
+                   .insert(appointmentId, begin, end);
+            bitmaps.computeIfAbsent(attendeeId, employeeId -> new AppointmentBitmap())
+                   .add(appointmentId);
+        }
+
+        beginsOfAppointments.put(appointmentId, begin);
+
+        final int known[] = attendeeIdsOfAppointments.get(appointmentId);
+        if (known == null) {
+            attendeeIdsOfAppointments.put(appointmentId, attendeeIds.clone());
+            return;
+        }
+
+        List<Integer> merged = new ArrayList<>(known.length + attendeeIds.length);
+        for (int attendeeId : known) {
+            merged.add(attendeeId);
+        }
+
+        for (int attendeeId : attendeeIds) {
+            if (!merged.contains(attendeeId)) {
+                merged.add(attendeeId);
+            }
+        }
+
+        attendeeIdsOfAppointments.put(appointmentId, toArray(merged));
+    }
+
+    /**
+     * Removes an appointment from the agendas of its attendees.
+     * Removing an appointment that is not in the index does nothing.
+     *
+     * @param appointmentId The id of the appointment.
+     * @param begin The begin of the appointment in epoch seconds.
+     */
+    void remove(int appointmentId, long begin) {
+        final int attendeeIds[] = attendeeIdsOfAppointments.remove(appointmentId);
+        beginsOfAppointments.remove(appointmentId);
+        if (attendeeIds == null) {
+            return;
+        }
+
+        for (int attendeeId : attendeeIds) {
+            AppointmentIntervalTree agenda = agendas.get(attendeeId);
+
+            if (agenda != null && agenda.remove(appointmentId, begin) && agenda.size() == 0) {
+                agendas.remove(attendeeId);
+            }
+
+            AppointmentBitmap bitmap = bitmaps.get(attendeeId);
+            if (bitmap != null && bitmap.remove(appointmentId) && bitmap.isEmpty()) {
+                bitmaps.remove(attendeeId);
+            }
+        }
+    }
+
+    /**
+     * Removes the agenda of an employee that no longer exists.
+     * The id of the employee may linger among the attendees of appointments, which is harmless as ids of employees
+     * are never reused.
+     *
+     * @param employeeId The id of the employee.
+     */
+    void removeAttendee(int employeeId) {
+        agendas.remove(employeeId);
+        bitmaps.remove(employeeId);
+    }
+
+    /**
+     * Returns the amount of appointments every employee attends, which is the size of their agenda.
+     *
+     * @return The amounts of appointments by the ids of the employees, ordered by the ids. Employees that attend no
+     *         appointments are left out.
+     */
+    SortedMap<Integer, Integer> attendanceCounts() {
+        SortedMap<Integer, Integer> counts = new TreeMap<>();
+
+        for (Map.Entry<Integer, AppointmentIntervalTree> agenda : agendas.entrySet()) {
+            if (agenda.getValue().size() > 0) {
+                counts.put(agenda.getKey(), agenda.getValue().size());
+            }
+        }
+
+        return counts;
+    }
+
+    /**
+     * Finds the appointments an employee attends that overlap a closed range of time.
+     *
+     * @param employeeId The id of the employee.
+     * @param from The begin of the range in epoch seconds.
+     * @param to The end of the range in epoch seconds.
+     * @return The ids of the appointments found, ordered by the begin and then by the id of the appointments.
+     */
+    List<Integer> query(int employeeId, long from, long to) {
+        AppointmentIntervalTree agenda = agendas.get(employeeId);
+
+        if (agenda == null) {
+            return Collections.emptyList();
+        }
+
+        return agenda.query(from, to);
+    }
+
+    /**
+     * Finds the first appointments that any of a group of employees attends that overlap a closed range of time.
+     * Takes at most limit appointments from the agenda of every employee and merges them.
+     *
+     * @param employeeIds The ids of the employees, may be empty.
+     * @param from The begin of the range in epoch seconds.
+     * @param to The end of the range in epoch seconds.
+     * @param limit The largest amount of appointments to find, must be greater than 0.
+     * @return The ids of the first limit appointments found, ordered by the begin and then by the id of the
+     *         appointments. Appointments attended by several of the employees are found once.
+     */
+    List<Integer> queryAnyOf(int employeeIds[], long from, long to, int limit) {
+        int ids[] = new int[limit];
+        long begins[] = new long[limit];
+        int mergedIds[] = new int[limit];
+        long mergedBegins[] = new long[limit];
+        int resultIds[] = new int[limit];
+        long resultBegins[] = new long[limit];
+        int mergedCount = 0;
+
+        for (int employeeId : employeeIds) {
+            final AppointmentIntervalTree agenda = agendas.get(employeeId);
+
+            if (agenda == null) {
+                continue;
+            }
+
+            // merges the agenda into what has been found so far, the arrays of the two are swapped afterwards.
+            final int count = agenda.query(from, to, limit, ids, begins);
+            int resultCount = 0;
+            int i = 0;
+            int j = 0;
+
+            while (resultCount < limit && (i < mergedCount || j < count)) {
+                final int comparison;
+                if (i == mergedCount) {
+                    comparison = 1;
+                } else if (j == count) {
+                    comparison = -1;
+                } else {
+                    final int beginComparison = Long.compare(mergedBegins[i], begins[j]);
+                    comparison = beginComparison != 0 ? beginComparison : Integer.compare(mergedIds[i], ids[j]);
+                }
+
+                if (comparison <= 0) {
+                    resultIds[resultCount] = mergedIds[i];
+                    resultBegins[resultCount] = mergedBegins[i];
+                    ++i;
+
+                    if (comparison == 0) {
+                        ++j;
+                    }
+                } else {
+                    resultIds[resultCount] = ids[j];
+                    resultBegins[resultCount] = begins[j];
+                    ++j;
+                }
+
+                ++resultCount;
+            }
+
+            final int swappedIds[] = mergedIds;
+            final long swappedBegins[] = mergedBegins;
+            mergedIds = resultIds;
+            mergedBegins = resultBegins;
+            resultIds = swappedIds;
+            resultBegins = swappedBegins;
+            mergedCount = resultCount;
+        }
+
+        List<Integer> result = new ArrayList<>(mergedCount);
+        for (int i = 0; i < mergedCount; ++i) {
+            result.add(mergedIds[i]);
+        }
+
+        return result;
+    }
+
+    /**
+     * Finds the appointments that are attended by all of a group of employees and by any of another group of
+     * employees, but by none of a third group of employees.
+     *
+     * @param allOf The ids of the employees that must all attend, may be empty.
+     * @param anyOf The ids of the employees of which at least one must attend, may be empty.
+     * @param noneOf The ids of the employees of which none may attend, may be empty.
+     * @return The ids of the appointments found, ascending.
+     * @throws IllegalArgumentException if both allOf and anyOf are empty.
+     */
+    int[] attendedBy(int allOf[], int anyOf[], int noneOf[]) {
+        if (allOf.length == 0 && anyOf.length == 0) {
+            throw new IllegalArgumentException("allOf or anyOf must name an employee");
+        }
+
+        AppointmentBitmap result = null;
+
+        for (int employeeId : allOf) {
+            final AppointmentBitmap bitmap = bitmapOf(employeeId);
+            result = result == null ? bitmap : AppointmentBitmap.and(result, bitmap);
+
+            if (result.isEmpty()) {
+                return new int[0];
+            }
+        }
+
+        if (anyOf.length > 0) {
+            AppointmentBitmap union = bitmapOf(anyOf[0]);
+            for (int i = 1; i < anyOf.length; ++i) {
+                union = AppointmentBitmap.or(union, bitmapOf(anyOf[i]));
+            }
+
+            result = result == null ? union : AppointmentBitmap.and(result, union);
+        }
+
+        for (int employeeId : noneOf) {
+            if (result.isEmpty()) {
+                break;
+            }
+
+            result = AppointmentBitmap.andNot(result, bitmapOf(employeeId));
+        }
+
+        return result.toArray();
+    }
+
+    /**
+     * Finds the first appointments that are attended by all of a group of employees and by any of another group of
+     * employees, but by none of a third group of employees.
+     * The appointments found are ranked with a heap that holds no more of them than asked for instead of sorting all
+     * of them.
+     *
+     * @param allOf The ids of the employees that must all attend, may be empty.
+     * @param anyOf The ids of the employees of which at least one must attend, may be empty.
+     * @param noneOf The ids of the employees of which none may attend, may be empty.
+     * @param limit The largest amount of appointments to find, must be greater than 0.
+     * @return The ids of the first limit appointments found, ordered by the begin and then by the id of the
+     *         appointments.
+     * @throws IllegalArgumentException if both allOf and anyOf are empty.
+     */
+    List<Integer> firstAttendedBy(int allOf[], int anyOf[], int noneOf[], int limit) {
+        // {begin, appointment id}, the latest of the appointments kept so far at the head.
+        PriorityQueue<long[]> heap = new PriorityQueue<>(limit, earliestFirst.reversed());
+
+        for (int appointmentId : attendedBy(allOf, anyOf, noneOf)) {
+            final long candidate[] = { beginsOfAppointments.get(appointmentId), appointmentId };
+
+            if (heap.size() < limit) {
+                heap.add(candidate);
+            } else if (earliestFirst.compare(candidate, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(candidate);
+            }
+        }
+
+        Integer ids[] = new Integer[heap.size()];
+        for (int i = ids.length - 1; i >= 0; --i) {
+            ids[i] = (int) heap.poll()[1];
+        }
+
+        return Arrays.asList(ids);
+    }
+
+    /**
+     * Returns the bitmap of the appointments an employee attends.
+     *
+     * @param employeeId The id of the employee.
+     * @return The bitmap, which must not be changed. Empty if the employee attends no appointments.
+     */
+    private AppointmentBitmap bitmapOf(int employeeId) {
+        return bitmaps.getOrDefault(employeeId, emptyBitmap);
+    }
+
+    /**
+     * Copies a list of ids into an array.
+     *
+     * @param ids The ids.
+     * @return The array of the ids.
+     */
+    private static int[] toArray(List<Integer> ids) {
+        int array[] = new int[ids.size()];
+        for (int i = 0; i < array.length; ++i) {
+            array[i] = ids.get(i);
+        }
+
+        return array;
+    }
+
+    /**
+     * The agendas of the employees, by the ids of the employees.
+     */
+    private final Map<Integer, AppointmentIntervalTree> agendas;
+
+    /**
+     * The bitmaps of the appointments the employees attend, by the ids of the employees.
+     */
+    private final Map<Integer, AppointmentBitmap> bitmaps;
+
+    /**
+     * Orders pairs of the begin and the id of appointments by the begin and then by the id.
+     */
+    private static final Comparator<long[]> earliestFirst =
+            Comparator.<long[]>comparingLong(pair -> pair[0]).thenComparingLong(pair -> pair[1]);
+
+    /**
+     * The bitmap of employees that attend no appointments, never changed.
+     */
+    private static final AppointmentBitmap emptyBitmap = new AppointmentBitmap();
+
+    /**
+     * The ids of the attendees of the appointments that have any, by the ids of the appointments.
+     */
+    private final Map<Integer, int[]> attendeeIdsOfAppointments;
+
+    /**
+     * The begins in epoch seconds of the appointments that have attendees, by the ids of the appointments.
+     */
+    private final Map<Integer, Long> beginsOfAppointments;
+}
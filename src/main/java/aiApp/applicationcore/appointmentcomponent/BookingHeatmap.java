@@ -0,0 +1,46 @@
+package aiApp.applicationcore.appointmentcomponent;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+/**
+ * The booked minutes of every 15 minute slot of every day of the week over a range of days, for the whole
+ * organization, a team or a single employee. Written by the BookingHeatmapSerializer.
+ */
+@JsonSerialize(using = BookingHeatmapSerializer.class)
+public final class BookingHeatmap {
+    /**
+     * The length of a slot in minutes.
+     */
+    public static final int SLOT_MINUTES = BookingHeatmapIndex.SLOT_SECONDS / 60;
+
+    /**
+     * The amount of slots of a day.
+     */
+    public static final int SLOTS_PER_DAY = BookingHeatmapIndex.SLOTS_PER_DAY;
+
+    /**
+     * Creates a BookingHeatmap.
+     *
+     * @param bookedSeconds The booked seconds of the cells, as returned by BookingHeatmapIndex::query.
+     */
+    BookingHeatmap(long bookedSeconds[]) {
+        this.bookedSeconds = bookedSeconds;
+    }
+
+    /**
+     * Returns the booked minutes of a slot of a day of the week, added up over all the days of the range that fall
+     * on that day of the week. Seconds that do not add up to a whole minute are dropped.
+     *
+     * @param dayOfWeek The ISO day of the week, 1 for monday up to 7 for sunday.
+     * @param slot The slot of the day, 0 for 0:00 until 0:15 up to 95 for 23:45 until 0:00.
+     * @return The booked minutes.
+     */
+    public long getBookedMinutes(int dayOfWeek, int slot) {
+        return bookedSeconds[(dayOfWeek - 1) * SLOTS_PER_DAY + slot] / 60;
+    }
+
+    /**
+     * The booked seconds of the slots of all the days of the week, monday first.
+     */
+    private final long bookedSeconds[];
+}
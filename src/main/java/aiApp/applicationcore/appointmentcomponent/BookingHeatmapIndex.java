@@ -0,0 +1,391 @@
+package aiApp.applicationcore.appointmentcomponent;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * The booked seconds of every 15 minute slot of every day of the week, for the whole organization and for every
+ * employee, folded together from the TimeSpans of the appointments as they are added and removed.
+ * Every scope keeps one matrix of 7 days times 96 slots for every week in which an appointment begins or ends part
+ * way through, holding the seconds booked within each slot of that very week. The weeks an appointment covers
+ * entirely are not written out but kept as a count of the appointments that cover every week, as the difference to
+ * the week before, so that an appointment that runs for months costs no more than one that runs for an hour.
+ * A heatmap over a range of days adds up the rows of the partial matrices of the weeks within the range and the
+ * covered weeks, in O(w + c) for the w partial weeks within the range and the c changes of the coverage, without
+ * looking at a single appointment.
+ * The booked seconds of an appointment are the seconds from its begin up to its end, exclusive.
+ * Also remembers the TimeSpan and the attendees of every appointment, so that appointments can be added again as they
+ * gain attendees and be removed by their id alone.
+ * Not thread safe, the AppointmentComponent guards it with its lock.
+ */
+final class BookingHeatmapIndex {
+    /**
+     * The length of a slot in seconds.
+     */
+    static final int SLOT_SECONDS = 15 * 60;
+
+    /**
+     * The amount of slots of a day.
+     */
+    static final int SLOTS_PER_DAY = DateKernel.SECONDS_PER_DAY / SLOT_SECONDS;
+
+    /**
+     * The amount of cells of a heatmap, the slots of all the days of a week. Cell day * SLOTS_PER_DAY + slot holds
+     * the slot of the day, monday being day 0.
+     */
+    static final int CELL_COUNT = 7 * SLOTS_PER_DAY;
+
+    /**
+     * Creates an empty BookingHeatmapIndex.
+     */
+    BookingHeatmapIndex() {
+        this.organization = new Matrix();
+        this.employees = new HashMap<>();
+        this.spansOfAppointments = new HashMap<>();
+        this.attendeeIdsOfAppointments = new HashMap<>();
+    }
+
+    /**
+     * Folds an appointment into the heatmap of the organization and into those of its attendees.
+     * Adding an appointment that already is in the index only folds it into the heatmaps of the attendees that are
+     * new, so that an appointment that gained attendees can simply be added again.
+     *
+     * @param appointmentId The id of the appointment.
+     * @param begin The begin of the appointment in epoch seconds.
+     * @param end The end of the appointment in epoch seconds.
+     * @param attendeeIds The ids of the attendees of the appointment.
+     */
+    void add(int appointmentId, long begin, long end, int attendeeIds[]) {
+        if (!spansOfAppointments.containsKey(appointmentId)) {
+            spansOfAppointments.put(appointmentId, new long[] { begin, end });
+            organization.fold(begin, end, 1);
+        }
+
+        final int known[] = attendeeIdsOfAppointments.getOrDefault(appointmentId, noAttendees);
+        List<Integer> merged = new ArrayList<>(known.length + attendeeIds.length);
+        for (int attendeeId : known) {
+            merged.add(attendeeId);
+        }
+
+        for (int attendeeId : attendeeIds) {
+            if (!merged.contains(attendeeId)) {
+                merged.add(attendeeId);
+                employees.computeIfAbsent(attendeeId, employeeId -> new Matrix()).fold(begin, end, 1);
+            }
+        }
+
+        if (merged.size() > known.length) {
+            int mergedIds[] = new int[merged.size()];
+            for (int i = 0; i < mergedIds.length; ++i) {
+                mergedIds[i] = merged.get(i);
+            }
+
+            attendeeIdsOfAppointments.put(appointmentId, mergedIds);
+        }
+    }
+
+    /**
+     * Takes an appointment back out of the heatmap of the organization and out of those of its attendees.
+     * Removing an appointment that is not in the index does nothing.
+     *
+     * @param appointmentId The id of the appointment.
+     */
+    void remove(int appointmentId) {
+        final long span[] = spansOfAppointments.remove(appointmentId);
+
+        if (span == null) {
+            return;
+        }
+
+        organization.fold(span[0], span[1], -1);
+
+        for (int attendeeId : attendeeIdsOfAppointments.getOrDefault(appointmentId, noAttendees)) {
+            final Matrix matrix = employees.get(attendeeId);
+
+            if (matrix != null) {
+                matrix.fold(span[0], span[1], -1);
+
+                if (matrix.isEmpty()) {
+                    employees.remove(attendeeId);
+                }
+            }
+        }
+
+        attendeeIdsOfAppointments.remove(appointmentId);
+    }
+
+    /**
+     * Removes the heatmap of an employee that no longer exists.
+     * The id of the employee may linger among the attendees of appointments, which is harmless as ids of employees
+     * are never reused.
+     *
+     * @param employeeId The id of the employee.
+     */
+    void removeAttendee(int employeeId) {
+        employees.remove(employeeId);
+    }
+
+    /**
+     * Adds up the booked seconds of every slot of the week over a range of days, for the whole organization or for
+     * a group of employees.
+     *
+     * @param employeeIds The ids of the employees whose appointments to add up, or null for the whole organization.
+     *        An appointment attended by several of the employees is added up once for each of them.
+     * @param fromDay The first day of the range as the amount of days since 1970-01-01, inclusive.
+     * @param toDay The last day of the range as the amount of days since 1970-01-01, inclusive.
+     * @return The booked seconds of the CELL_COUNT cells.
+     */
+    long[] query(int employeeIds[], long fromDay, long toDay) {
+        long cells[] = new long[CELL_COUNT];
+
+        if (fromDay > toDay) {
+            return cells;
+        }
+
+        if (employeeIds == null) {
+            organization.addTo(cells, fromDay, toDay);
+            return cells;
+        }
+
+        for (int employeeId : employeeIds) {
+            final Matrix matrix = employees.get(employeeId);
+
+            if (matrix != null) {
+                matrix.addTo(cells, fromDay, toDay);
+            }
+        }
+
+        return cells;
+    }
+
+    /**
+     * Returns the monday of the week in which a day lies.
+     *
+     * @param epochDay The day as the amount of days since 1970-01-01.
+     * @return The monday as the amount of days since 1970-01-01.
+     */
+    private static long weekStartOf(long epochDay) {
+        return epochDay - (DateKernel.dayOfWeek(epochDay) - 1);
+    }
+
+    /**
+     * The heatmap of a scope: the matrices of the weeks that appointments cover in part and the counts of the
+     * appointments that cover weeks entirely.
+     */
+    private static final class Matrix {
+        /**
+         * Adds the seconds of an appointment to the heatmap, or takes them back out.
+         *
+         * @param begin The begin of the appointment in epoch seconds.
+         * @param end The end of the appointment in epoch seconds.
+         * @param sign 1 to add the appointment, -1 to take it back out.
+         */
+        void fold(long begin, long end, int sign) {
+            if (end <= begin) {
+                return;
+            }
+
+            final long firstWeek = weekStartOf(Math.floorDiv(begin, DateKernel.SECONDS_PER_DAY));
+            final long lastWeek = weekStartOf(Math.floorDiv(end - 1, DateKernel.SECONDS_PER_DAY));
+            final long firstFullWeek = begin == firstWeek * DateKernel.SECONDS_PER_DAY ? firstWeek : firstWeek + 7;
+            final long lastFullWeek = end == (lastWeek + 7) * DateKernel.SECONDS_PER_DAY ? lastWeek : lastWeek - 7;
+
+            if (firstFullWeek > lastFullWeek) {
+                foldPartial(begin, end, sign);
+                return;
+            }
+
+            addCoverage(firstFullWeek, sign);
+            addCoverage(lastFullWeek + 7, -sign);
+            foldPartial(begin, firstFullWeek * DateKernel.SECONDS_PER_DAY, sign);
+            foldPartial((lastFullWeek + 7) * DateKernel.SECONDS_PER_DAY, end, sign);
+        }
+
+        /**
+         * Adds up the booked seconds of every slot of the week over a range of days.
+         *
+         * @param cells The cells to add the booked seconds to.
+         * @param fromDay The first day of the range as the amount of days since 1970-01-01, inclusive.
+         * @param toDay The last day of the range as the amount of days since 1970-01-01, inclusive.
+         */
+        void addTo(long cells[], long fromDay, long toDay) {
+            final long fromWeek = weekStartOf(fromDay);
+            final long toWeek = weekStartOf(toDay);
+
+            for (Map.Entry<Long, long[]> week : partialWeeks.subMap(fromWeek, true, toWeek, true).entrySet()) {
+                final long matrix[] = week.getValue();
+
+                for (int day = 0; day < 7; ++day) {
+                    final long date = week.getKey() + day;
+
+                    if (date < fromDay || date > toDay) {
+                        continue;
+                    }
+
+                    for (int cell = day * SLOTS_PER_DAY; cell < (day + 1) * SLOTS_PER_DAY; ++cell) {
+                        cells[cell] += matrix[cell];
+                    }
+                }
+            }
+
+            // the coverage stays the same from one change up to the next, every covered day is booked through.
+            long covering = 0;
+            long segmentStart = 0;
+            for (Map.Entry<Long, Integer> change : coverage.headMap(toWeek, true).entrySet()) {
+                if (covering != 0) {
+                    addCovered(cells, covering, segmentStart, change.getKey(), fromDay, toDay);
+                }
+
+                covering += change.getValue();
+                segmentStart = change.getKey();
+            }
+
+            if (covering != 0) {
+                addCovered(cells, covering, segmentStart, toWeek + 7, fromDay, toDay);
+            }
+        }
+
+        /**
+         * Determines whether the heatmap holds no booked seconds at all.
+         *
+         * @return true if no appointment is folded into the heatmap; false otherwise.
+         */
+        boolean isEmpty() {
+            return partialWeeks.isEmpty() && coverage.isEmpty();
+        }
+
+        /**
+         * Adds the seconds of a part of an appointment that lies within at most two weeks to their matrices slot by
+         * slot, or takes them back out. Matrices that no longer hold any seconds are dropped.
+         *
+         * @param from The begin of the part in epoch seconds, inclusive.
+         * @param to The end of the part in epoch seconds, exclusive.
+         * @param sign 1 to add the part, -1 to take it back out.
+         */
+        private void foldPartial(long from, long to, int sign) {
+            if (from >= to) {
+                return;
+            }
+
+            long time = from;
+            while (time < to) {
+                final long slotEnd = Math.min(to, (Math.floorDiv(time, SLOT_SECONDS) + 1) * SLOT_SECONDS);
+                final long day = Math.floorDiv(time, DateKernel.SECONDS_PER_DAY);
+                final long week = weekStartOf(day);
+                final int cell = (int) (day - week) * SLOTS_PER_DAY
+                                 + (int) (Math.floorMod(time, DateKernel.SECONDS_PER_DAY) / SLOT_SECONDS);
+
+                partialWeeks.computeIfAbsent(week, key -> new long[CELL_COUNT])[cell] += sign * (slotEnd - time);
+                time = slotEnd;
+            }
+
+            if (sign < 0) {
+                final long lastWeek = weekStartOf(Math.floorDiv(to - 1, DateKernel.SECONDS_PER_DAY));
+
+                for (long week = weekStartOf(Math.floorDiv(from, DateKernel.SECONDS_PER_DAY)); week <= lastWeek; week += 7) {
+                    final long matrix[] = partialWeeks.get(week);
+
+                    if (matrix != null && isZero(matrix)) {
+                        partialWeeks.remove(week);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Changes the amount of appointments that cover every week from a week on.
+         *
+         * @param week The monday of the week as the amount of days since 1970-01-01.
+         * @param change The amount to add.
+         */
+        private void addCoverage(long week, int change) {
+            if (coverage.merge(week, change, Integer::sum) == 0) {
+                coverage.remove(week);
+            }
+        }
+
+        /**
+         * Adds the seconds of the days of weeks that are covered by the same amount of appointments to every slot of
+         * those days that lies within a range of days.
+         *
+         * @param cells The cells to add the booked seconds to.
+         * @param covering The amount of appointments that cover the weeks.
+         * @param fromWeek The monday of the first week, inclusive.
+         * @param toWeek The monday after the last week, exclusive.
+         * @param fromDay The first day of the range, inclusive.
+         * @param toDay The last day of the range, inclusive.
+         */
+        private static void addCovered(long cells[], long covering, long fromWeek, long toWeek, long fromDay, long toDay) {
+            for (int day = 0; day < 7; ++day) {
+                // the mondays w of the weeks whose day w + day lies within the range.
+                final long low = Math.max(fromWeek, fromDay - day);
+                final long high = Math.min(toWeek - 7, toDay - day);
+                final long firstMonday = low + Math.floorMod(fromWeek - low, 7);
+
+                if (firstMonday > high) {
+                    continue;
+                }
+
+                final long seconds = covering * ((high - firstMonday) / 7 + 1) * SLOT_SECONDS;
+                for (int cell = day * SLOTS_PER_DAY; cell < (day + 1) * SLOTS_PER_DAY; ++cell) {
+                    cells[cell] += seconds;
+                }
+            }
+        }
+
+        /**
+         * Determines whether a matrix holds no seconds.
+         *
+         * @param matrix The matrix.
+         * @return true if every cell is 0; false otherwise.
+         */
+        private static boolean isZero(long matrix[]) {
+            for (long seconds : matrix) {
+                if (seconds != 0) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        /**
+         * The matrices of the weeks that appointments cover in part, by the mondays of the weeks.
+         */
+        private final TreeMap<Long, long[]> partialWeeks = new TreeMap<>();
+
+        /**
+         * The changes of the amount of appointments that cover weeks entirely, by the mondays of the weeks from which
+         * on they apply.
+         */
+        private final TreeMap<Long, Integer> coverage = new TreeMap<>();
+    }
+
+    /**
+     * The attendees of appointments that have none, never changed.
+     */
+    private static final int noAttendees[] = new int[0];
+
+    /**
+     * The heatmap of all appointments.
+     */
+    private final Matrix organization;
+
+    /**
+     * The heatmaps of the appointments the employees attend, by the ids of the employees.
+     */
+    private final Map<Integer, Matrix> employees;
+
+    /**
+     * The begins and ends of the appointments in epoch seconds, by the ids of the appointments.
+     */
+    private final Map<Integer, long[]> spansOfAppointments;
+
+    /**
+     * The ids of the attendees of the appointments that have any, by the ids of the appointments.
+     */
+    private final Map<Integer, int[]> attendeeIdsOfAppointments;
+}
@@ -0,0 +1,76 @@
+package aiApp.applicationcore.appointmentcomponent;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+/**
+ * Jackson serializer that writes a BookingHeatmap as a JSON object, e.g.
+ * {"slotMinutes":15,"days":[{"dayOfWeek":1,"bookedMinutes":[0,0,...,15,15,...]},...]}
+ * The seven days begin with monday, each with the booked minutes of its 96 slots beginning at 0:00.
+ */
+public class BookingHeatmapSerializer extends StdSerializer<BookingHeatmap> {
+    /**
+     * Creates a BookingHeatmapSerializer, used by Jackson.
+     */
+    public BookingHeatmapSerializer() {
+        super(BookingHeatmap.class);
+    }
+
+    /**
+     * Writes a BookingHeatmap to the JsonGenerator passed in.
+     *
+     * @param heatmap The BookingHeatmap to write.
+     * @param generator The JsonGenerator to write to.
+     * @param provider The provider of the serialization, unused.
+     * @throws IOException if the JsonGenerator could not write.
+     */
+    @Override
+    public void serialize(BookingHeatmap heatmap, JsonGenerator generator, SerializerProvider provider)
+            throws IOException {
+        generator.writeStartObject();
+        generator.writeFieldName(slotMinutesField);
+        generator.writeNumber(BookingHeatmap.SLOT_MINUTES);
+
+        generator.writeFieldName(daysField);
+        generator.writeStartArray(CalendarWeekGrid.DAYS_PER_WEEK);
+        for (int dayOfWeek = 1; dayOfWeek <= CalendarWeekGrid.DAYS_PER_WEEK; ++dayOfWeek) {
+            generator.writeStartObject();
+            generator.writeFieldName(dayOfWeekField);
+            generator.writeNumber(dayOfWeek);
+            generator.writeFieldName(bookedMinutesField);
+            generator.writeStartArray(BookingHeatmap.SLOTS_PER_DAY);
+            for (int slot = 0; slot < BookingHeatmap.SLOTS_PER_DAY; ++slot) {
+                generator.writeNumber(heatmap.getBookedMinutes(dayOfWeek, slot));
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    /**
+     * The name of the field that holds the length of a slot in minutes.
+     */
+    private static final SerializableString slotMinutesField = new SerializedString("slotMinutes");
+
+    /**
+     * The name of the field that holds the days of the week.
+     */
+    private static final SerializableString daysField = new SerializedString("days");
+
+    /**
+     * The name of the field that holds the ISO day of the week of a day.
+     */
+    private static final SerializableString dayOfWeekField = new SerializedString("dayOfWeek");
+
+    /**
+     * The name of the field that holds the booked minutes of the slots of a day.
+     */
+    private static final SerializableString bookedMinutesField = new SerializedString("bookedMinutes");
+}
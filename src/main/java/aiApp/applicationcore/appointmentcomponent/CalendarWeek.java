@@ -0,0 +1,100 @@
+package aiApp.applicationcore.appointmentcomponent;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import java.util.List;
+
+/**
+ * The appointments of an ISO week laid out on a grid of seven days, as rendered by a week view of a calendar.
+ * Every day lists the entries of the appointments that overlap it with the lanes they were put into, the appointments
+ * themselves are listed once for the whole week. Written by the CalendarWeekSerializer.
+ */
+@JsonSerialize(using = CalendarWeekSerializer.class)
+public final class CalendarWeek {
+    /**
+     * Creates a CalendarWeek.
+     *
+     * @param year The ISO week-based-year of the week.
+     * @param week The ISO week.
+     * @param employeeId The id of the employee whose appointments were laid out, or null for all appointments.
+     * @param grid The layout of the appointments.
+     * @param appointments The appointments laid out, ordered by their begin and then by their id.
+     */
+    CalendarWeek(int year, int week, Integer employeeId, CalendarWeekGrid grid, List<Appointment> appointments) {
+        this.year = year;
+        this.week = week;
+        this.employeeId = employeeId;
+        this.grid = grid;
+        this.appointments = appointments;
+    }
+
+    /**
+     * Getter for the ISO week-based-year of the week.
+     *
+     * @return The week-based-year.
+     */
+    public int getYear() {
+        return year;
+    }
+
+    /**
+     * Getter for the ISO week.
+     *
+     * @return The week, 1 to 53.
+     */
+    public int getWeek() {
+        return week;
+    }
+
+    /**
+     * Getter for the id of the employee whose appointments were laid out.
+     *
+     * @return The id of the employee, or null if the appointments of all employees were laid out.
+     */
+    public Integer getEmployeeId() {
+        return employeeId;
+    }
+
+    /**
+     * Getter for the appointments laid out.
+     *
+     * @return The appointments, ordered by their begin and then by their id.
+     */
+    public List<Appointment> getAppointments() {
+        return appointments;
+    }
+
+    /**
+     * Getter for the layout of the appointments.
+     *
+     * @return The layout.
+     */
+    CalendarWeekGrid getGrid() {
+        return grid;
+    }
+
+    /**
+     * The ISO week-based-year of the week.
+     */
+    private final int year;
+
+    /**
+     * The ISO week.
+     */
+    private final int week;
+
+    /**
+     * The id of the employee whose appointments were laid out, null for all appointments.
+     */
+    private final Integer employeeId;
+
+    /**
+     * The layout of the appointments.
+     */
+    private final CalendarWeekGrid grid;
+
+    /**
+     * The appointments laid out.
+     */
+    private final List<Appointment> appointments;
+}
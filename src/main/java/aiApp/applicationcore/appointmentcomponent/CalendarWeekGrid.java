@@ -0,0 +1,332 @@
+package aiApp.applicationcore.appointmentcomponent;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The layout of the appointments of an ISO week on a grid of seven days.
+ * Every appointment is cut into one entry for every day of the week it overlaps, so that an appointment that runs
+ * across midnight, or begins in the previous or ends in the next week, shows up on each of its days.
+ * Within a day the entries are put into lanes so that entries that overlap never share a lane. Entries that merely
+ * touch, one ending in the very second the next one begins, do share a lane, as calendars draw them one below
+ * the other.
+ * The layout is computed in a single sweep over the appointments ordered by their begin: as an appointment never
+ * begins before the ones before it, the entries of each day arrive ordered by the point in time at which they begin
+ * within the day, and every entry takes the lowest lane that is free by then.
+ * Immutable once laid out, so the AppointmentComponent shares it between threads through its calendar cache.
+ */
+final class CalendarWeekGrid {
+    /**
+     * Lays out the appointments that overlap a week.
+     *
+     * @param weekStart The first second of the monday of the week, in epoch seconds.
+     * @param appointments The appointments, ordered by their begin and then by their id.
+     *        Appointments that do not overlap the week are ignored.
+     * @return The layout.
+     */
+    static CalendarWeekGrid layout(long weekStart, List<Appointment> appointments) {
+        CalendarWeekGrid grid = new CalendarWeekGrid(weekStart);
+        List<Integer> appointmentIds = new ArrayList<>(appointments.size());
+
+        for (Appointment appointment : appointments) {
+            final long begin = appointment.getTimeSpan().getStartTimePoint().toEpochSecond();
+            final long end = appointment.getTimeSpan().getEndTimePoint().toEpochSecond();
+
+            if (end < weekStart || begin > weekStart + DAYS_PER_WEEK * DateKernel.SECONDS_PER_DAY - 1) {
+                continue;
+            }
+
+            final int firstDay = (int) Math.max(0, Math.floorDiv(begin - weekStart, DateKernel.SECONDS_PER_DAY));
+            final int lastDay = (int) Math.min(DAYS_PER_WEEK - 1, Math.floorDiv(end - weekStart, DateKernel.SECONDS_PER_DAY));
+
+            for (int day = firstDay; day <= lastDay; ++day) {
+                grid.days[day].add(appointment.getId(), begin, end);
+            }
+
+            appointmentIds.add(appointment.getId());
+        }
+
+        grid.appointmentIds = Collections.unmodifiableList(appointmentIds);
+
+        return grid;
+    }
+
+    /**
+     * Returns the first second of the monday of the week.
+     *
+     * @return The first second of the week in epoch seconds.
+     */
+    long getWeekStart() {
+        return weekStart;
+    }
+
+    /**
+     * Returns the ids of the appointments laid out, ordered by their begin and then by their id.
+     *
+     * @return The ids of the appointments, unmodifiable.
+     */
+    List<Integer> getAppointmentIds() {
+        return appointmentIds;
+    }
+
+    /**
+     * Returns a day of the week.
+     *
+     * @param day The day, 0 for monday up to 6 for sunday.
+     * @return The layout of the day.
+     */
+    Day getDay(int day) {
+        return days[day];
+    }
+
+    /**
+     * Determines whether the week overlaps a closed range of time.
+     *
+     * @param from The begin of the range in epoch seconds.
+     * @param to The end of the range in epoch seconds.
+     * @return true if at least one second of the week lies within the range; false otherwise.
+     */
+    boolean overlaps(long from, long to) {
+        return from <= weekStart + DAYS_PER_WEEK * DateKernel.SECONDS_PER_DAY - 1 && to >= weekStart;
+    }
+
+    /**
+     * The amount of days of a week.
+     */
+    static final int DAYS_PER_WEEK = 7;
+
+    /**
+     * The entries of a day of the week, in the order in which they begin within the day, and the lanes they were
+     * put into.
+     */
+    static final class Day {
+        /**
+         * Returns the amount of entries of the day.
+         *
+         * @return The amount of entries.
+         */
+        int size() {
+            return size;
+        }
+
+        /**
+         * Returns the amount of lanes the entries of the day take up.
+         *
+         * @return The amount of lanes, 0 if the day has no entries.
+         */
+        int getLaneCount() {
+            return laneCount;
+        }
+
+        /**
+         * Returns the first second of the day.
+         *
+         * @return The first second of the day in epoch seconds.
+         */
+        long getDayStart() {
+            return dayStart;
+        }
+
+        /**
+         * Returns the id of the appointment of an entry.
+         *
+         * @param entry The index of the entry.
+         * @return The id of the appointment.
+         */
+        int getAppointmentId(int entry) {
+            return appointmentIds[entry];
+        }
+
+        /**
+         * Returns the lane of an entry.
+         *
+         * @param entry The index of the entry.
+         * @return The lane, 0 for the first lane.
+         */
+        int getLane(int entry) {
+            return lanes[entry];
+        }
+
+        /**
+         * Returns the second of the day at which an entry begins, which is 0 for an appointment that began before.
+         *
+         * @param entry The index of the entry.
+         * @return The second of the day, 0 to 86399.
+         */
+        int getBeginSecond(int entry) {
+            return beginSeconds[entry];
+        }
+
+        /**
+         * Returns the second of the day at which an entry ends, which is 86399 for an appointment that ends after.
+         *
+         * @param entry The index of the entry.
+         * @return The second of the day, 0 to 86399, inclusive.
+         */
+        int getEndSecond(int entry) {
+            return endSeconds[entry];
+        }
+
+        /**
+         * Determines whether the appointment of an entry began before the day.
+         *
+         * @param entry The index of the entry.
+         * @return true if the appointment began on an earlier day; false otherwise.
+         */
+        boolean continuesFromPreviousDay(int entry) {
+            return beginsBefore[entry];
+        }
+
+        /**
+         * Determines whether the appointment of an entry ends after the day.
+         *
+         * @param entry The index of the entry.
+         * @return true if the appointment ends on a later day; false otherwise.
+         */
+        boolean continuesOnNextDay(int entry) {
+            return endsAfter[entry];
+        }
+
+        /**
+         * Creates an empty Day.
+         *
+         * @param dayStart The first second of the day in epoch seconds.
+         */
+        private Day(long dayStart) {
+            this.dayStart = dayStart;
+        }
+
+        /**
+         * Adds the entry of an appointment that overlaps the day and puts it into the lowest free lane.
+         * Must be called in the order of the begins of the appointments.
+         *
+         * @param appointmentId The id of the appointment.
+         * @param begin The begin of the appointment in epoch seconds.
+         * @param end The end of the appointment in epoch seconds.
+         */
+        private void add(int appointmentId, long begin, long end) {
+            final int lastSecond = DateKernel.SECONDS_PER_DAY - 1;
+            final int beginSecond = begin < dayStart ? 0 : (int) (begin - dayStart);
+            final int endSecond = end - dayStart > lastSecond ? lastSecond : (int) (end - dayStart);
+
+            int lane = 0;
+            while (lane < laneCount && laneEnds[lane] > beginSecond) {
+                ++lane;
+            }
+
+            if (lane == laneCount) {
+                if (laneCount == laneEnds.length) {
+                    laneEnds = Arrays.copyOf(laneEnds, laneCount * 2);
+                }
+
+                ++laneCount;
+            }
+
+            laneEnds[lane] = endSecond;
+
+            if (size == appointmentIds.length) {
+                final int capacity = Math.max(initialCapacity, size * 2);
+                appointmentIds = Arrays.copyOf(appointmentIds, capacity);
+                lanes = Arrays.copyOf(lanes, capacity);
+                beginSeconds = Arrays.copyOf(beginSeconds, capacity);
+                endSeconds = Arrays.copyOf(endSeconds, capacity);
+                beginsBefore = Arrays.copyOf(beginsBefore, capacity);
+                endsAfter = Arrays.copyOf(endsAfter, capacity);
+            }
+
+            appointmentIds[size] = appointmentId;
+            lanes[size] = lane;
+            beginSeconds[size] = beginSecond;
+            endSeconds[size] = endSecond;
+            beginsBefore[size] = begin < dayStart;
+            endsAfter[size] = end - dayStart > lastSecond;
+            ++size;
+        }
+
+        /**
+         * The capacity of the arrays of the entries once the first entry is added.
+         */
+        private static final int initialCapacity = 8;
+
+        /**
+         * The first second of the day in epoch seconds.
+         */
+        private final long dayStart;
+
+        /**
+         * The amount of entries.
+         */
+        private int size;
+
+        /**
+         * The amount of lanes taken up.
+         */
+        private int laneCount;
+
+        /**
+         * The second of the day at which the last entry of every lane ends.
+         */
+        private int laneEnds[] = new int[initialCapacity];
+
+        /**
+         * The ids of the appointments of the entries.
+         */
+        private int appointmentIds[] = new int[0];
+
+        /**
+         * The lanes of the entries.
+         */
+        private int lanes[] = new int[0];
+
+        /**
+         * The seconds of the day at which the entries begin.
+         */
+        private int beginSeconds[] = new int[0];
+
+        /**
+         * The seconds of the day at which the entries end.
+         */
+        private int endSeconds[] = new int[0];
+
+        /**
+         * Whether the appointments of the entries began on an earlier day.
+         */
+        private boolean beginsBefore[] = new boolean[0];
+
+        /**
+         * Whether the appointments of the entries end on a later day.
+         */
+        private boolean endsAfter[] = new boolean[0];
+    }
+
+    /**
+     * Creates a CalendarWeekGrid without any entries.
+     *
+     * @param weekStart The first second of the monday of the week, in epoch seconds.
+     */
+    private CalendarWeekGrid(long weekStart) {
+        this.weekStart = weekStart;
+        this.days = new Day[DAYS_PER_WEEK];
+
+        for (int day = 0; day < DAYS_PER_WEEK; ++day) {
+            days[day] = new Day(weekStart + (long) day * DateKernel.SECONDS_PER_DAY);
+        }
+    }
+
+    /**
+     * The first second of the monday of the week in epoch seconds.
+     */
+    private final long weekStart;
+
+    /**
+     * The days of the week, monday first.
+     */
+    private final Day days[];
+
+    /**
+     * The ids of the appointments laid out.
+     */
+    private List<Integer> appointmentIds;
+}
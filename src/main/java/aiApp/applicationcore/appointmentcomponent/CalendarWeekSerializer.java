@@ -0,0 +1,179 @@
+package aiApp.applicationcore.appointmentcomponent;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Jackson serializer that writes a CalendarWeek as a JSON object, e.g.
+ * {"year":2017,"week":15,"employeeId":null,"days":[{"date":"2017-04-10","laneCount":2,"entries":[{"appointmentId":1,
+ * "lane":0,"beginSecond":68400,"endSecond":72000,"continuesFromPreviousDay":false,"continuesOnNextDay":false},...]},
+ * ...],"appointments":[...]}
+ * The seven days begin with monday, beginSecond and endSecond are the seconds of the day at which an entry begins and
+ * ends, both inclusive. The appointments are written by the AppointmentSerializer into the same JsonGenerator.
+ */
+public class CalendarWeekSerializer extends StdSerializer<CalendarWeek> {
+    /**
+     * Creates a CalendarWeekSerializer, used by Jackson.
+     */
+    public CalendarWeekSerializer() {
+        super(CalendarWeek.class);
+    }
+
+    /**
+     * Writes a CalendarWeek to the JsonGenerator passed in.
+     *
+     * @param calendarWeek The CalendarWeek to write.
+     * @param generator The JsonGenerator to write to.
+     * @param provider The provider of the serialization, unused.
+     * @throws IOException if the JsonGenerator could not write.
+     */
+    @Override
+    public void serialize(CalendarWeek calendarWeek, JsonGenerator generator, SerializerProvider provider)
+            throws IOException {
+        final CalendarWeekGrid grid = calendarWeek.getGrid();
+
+        generator.writeStartObject();
+        generator.writeFieldName(yearField);
+        generator.writeNumber(calendarWeek.getYear());
+        generator.writeFieldName(weekField);
+        generator.writeNumber(calendarWeek.getWeek());
+        generator.writeFieldName(employeeIdField);
+        if (calendarWeek.getEmployeeId() == null) {
+            generator.writeNull();
+        } else {
+            generator.writeNumber(calendarWeek.getEmployeeId());
+        }
+
+        generator.writeFieldName(daysField);
+        generator.writeStartArray(CalendarWeekGrid.DAYS_PER_WEEK);
+        for (int day = 0; day < CalendarWeekGrid.DAYS_PER_WEEK; ++day) {
+            writeDay(grid.getDay(day), generator);
+        }
+        generator.writeEndArray();
+
+        final List<Appointment> appointments = calendarWeek.getAppointments();
+        generator.writeFieldName(appointmentsField);
+        generator.writeStartArray(appointments.size());
+        for (int i = 0; i < appointments.size(); ++i) {
+            AppointmentSerializer.write(appointments.get(i), generator);
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    /**
+     * Writes a day of a CalendarWeek to a JsonGenerator.
+     *
+     * @param day The day to write.
+     * @param generator The JsonGenerator to write to.
+     * @throws IOException if the JsonGenerator could not write.
+     */
+    private static void writeDay(CalendarWeekGrid.Day day, JsonGenerator generator) throws IOException {
+        final long date = DateKernel.fromEpochDay(Math.floorDiv(day.getDayStart(), DateKernel.SECONDS_PER_DAY));
+
+        generator.writeStartObject();
+        generator.writeFieldName(dateField);
+        generator.writeString(String.format("%04d-%02d-%02d", DateKernel.packedYear(date),
+                                            DateKernel.packedMonth(date), DateKernel.packedDay(date)));
+        generator.writeFieldName(laneCountField);
+        generator.writeNumber(day.getLaneCount());
+        generator.writeFieldName(entriesField);
+        generator.writeStartArray(day.size());
+
+        for (int entry = 0; entry < day.size(); ++entry) {
+            generator.writeStartObject();
+            generator.writeFieldName(appointmentIdField);
+            generator.writeNumber(day.getAppointmentId(entry));
+            generator.writeFieldName(laneField);
+            generator.writeNumber(day.getLane(entry));
+            generator.writeFieldName(beginSecondField);
+            generator.writeNumber(day.getBeginSecond(entry));
+            generator.writeFieldName(endSecondField);
+            generator.writeNumber(day.getEndSecond(entry));
+            generator.writeFieldName(continuesFromPreviousDayField);
+            generator.writeBoolean(day.continuesFromPreviousDay(entry));
+            generator.writeFieldName(continuesOnNextDayField);
+            generator.writeBoolean(day.continuesOnNextDay(entry));
+            generator.writeEndObject();
+        }
+
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    /**
+     * The name of the field that holds the ISO week-based-year.
+     */
+    private static final SerializableString yearField = new SerializedString("year");
+
+    /**
+     * The name of the field that holds the ISO week.
+     */
+    private static final SerializableString weekField = new SerializedString("week");
+
+    /**
+     * The name of the field that holds the id of the employee.
+     */
+    private static final SerializableString employeeIdField = new SerializedString("employeeId");
+
+    /**
+     * The name of the field that holds the days.
+     */
+    private static final SerializableString daysField = new SerializedString("days");
+
+    /**
+     * The name of the field that holds the appointments.
+     */
+    private static final SerializableString appointmentsField = new SerializedString("appointments");
+
+    /**
+     * The name of the field that holds the date of a day.
+     */
+    private static final SerializableString dateField = new SerializedString("date");
+
+    /**
+     * The name of the field that holds the amount of lanes of a day.
+     */
+    private static final SerializableString laneCountField = new SerializedString("laneCount");
+
+    /**
+     * The name of the field that holds the entries of a day.
+     */
+    private static final SerializableString entriesField = new SerializedString("entries");
+
+    /**
+     * The name of the field that holds the id of the appointment of an entry.
+     */
+    private static final SerializableString appointmentIdField = new SerializedString("appointmentId");
+
+    /**
+     * The name of the field that holds the lane of an entry.
+     */
+    private static final SerializableString laneField = new SerializedString("lane");
+
+    /**
+     * The name of the field that holds the second of the day at which an entry begins.
+     */
+    private static final SerializableString beginSecondField = new SerializedString("beginSecond");
+
+    /**
+     * The name of the field that holds the second of the day at which an entry ends.
+     */
+    private static final SerializableString endSecondField = new SerializedString("endSecond");
+
+    /**
+     * The name of the field that tells whether the appointment of an entry began on an earlier day.
+     */
+    private static final SerializableString continuesFromPreviousDayField = new SerializedString("continuesFromPreviousDay");
+
+    /**
+     * The name of the field that tells whether the appointment of an entry ends on a later day.
+     */
+    private static final SerializableString continuesOnNextDayField = new SerializedString("continuesOnNextDay");
+}
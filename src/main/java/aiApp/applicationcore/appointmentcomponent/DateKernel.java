@@ -0,0 +1,329 @@
+package aiApp.applicationcore.appointmentcomponent;
+
+/**
+ * Pure arithmetic on dates of the proleptic gregorian calendar, the same calendar java.time uses.
+ * Validates dates, converts them to and from the number of days since 1970-01-01 and determines their ISO-8601 week.
+ * None of the functions allocate, so they can be called for every TimePoint that is created or loaded.
+ */
+final class DateKernel {
+    /**
+     * The earliest year a date may have.
+     */
+    static final int MIN_YEAR = 1;
+
+    /**
+     * The amount of seconds in a day.
+     */
+    static final int SECONDS_PER_DAY = 24 * 60 * 60;
+
+    /**
+     * Non-instantiable.
+     */
+    private DateKernel() {
+
+    }
+
+    /**
+     * Determines whether a year is a leap year.
+     *
+     * @param year The year to check.
+     * @return true if year is a leap year; false otherwise.
+     */
+    static boolean isLeapYear(long year) {
+        return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+    }
+
+    /**
+     * Determines how many days a month has.
+     *
+     * @param year The year of the month.
+     * @param month The month, 1 for january up to 12 for december.
+     * @return The amount of days of the month or 0 if month is not a valid month.
+     */
+    static int daysInMonth(long year, int month) {
+        switch (month) {
+            case TimePoint.FEBRUARY:
+                return isLeapYear(year) ? 29 : 28;
+            case TimePoint.APRIL:
+            case TimePoint.JUNE:
+            case TimePoint.SEPTEMBER:
+            case TimePoint.NOVEMBER:
+                return 30;
+            case TimePoint.JANUARY:
+            case TimePoint.MARCH:
+            case TimePoint.MAY:
+            case TimePoint.JULY:
+            case TimePoint.AUGUST:
+            case TimePoint.OCTOBER:
+            case TimePoint.DECEMBER:
+                return 31;
+            default:
+                return 0;
+        }
+    }
+
+    /**
+     * Determines whether a year, month and day form a valid date.
+     *
+     * @param year The year of the date, must be at least MIN_YEAR.
+     * @param month The month of the date.
+     * @param day The day of the month of the date.
+     * @return true if the date exists; false otherwise.
+     */
+    static boolean isValidDate(int year, int month, int day) {
+        return year >= MIN_YEAR && day >= 1 && day <= daysInMonth(year, month);
+    }
+
+    /**
+     * Converts a date to the number of days since 1970-01-01.
+     * The date passed in must be valid.
+     *
+     * @param year The year of the date.
+     * @param month The month of the date.
+     * @param day The day of the month of the date.
+     * @return The amount of days between 1970-01-01 and the date, negative for dates before 1970-01-01.
+     */
+    static long toEpochDay(long year, int month, int day) {
+        // shift the year so that it begins in march, this puts the leap day at the end of the year.
+        final long y = month <= TimePoint.FEBRUARY ? year - 1 : year;
+        final long era = Math.floorDiv(y, 400);
+        final long yearOfEra = y - era * 400;
+        final int shiftedMonth = month > TimePoint.FEBRUARY ? month - 3 : month + 9;
+        final long dayOfYear = (153 * shiftedMonth + 2) / 5 + day - 1;
+        final long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+
+        return era * DAYS_PER_ERA + dayOfEra - DAYS_FROM_YEAR_0_TO_1970;
+    }
+
+    /**
+     * Converts a date and a time of day to the number of seconds since 1970-01-01T00:00:00.
+     * The date and the time passed in must be valid.
+     *
+     * @param year The year.
+     * @param month The month.
+     * @param day The day of the month.
+     * @param hour The hour of the day.
+     * @param minute The minute of the hour.
+     * @param second The second of the minute.
+     * @return The amount of seconds between 1970-01-01T00:00:00 and the point in time passed in.
+     */
+    static long toEpochSecond(int year, int month, int day, int hour, int minute, int second) {
+        return toEpochDay(year, month, day) * SECONDS_PER_DAY + hour * 3600 + minute * 60 + second;
+    }
+
+    /**
+     * Converts a number of days since 1970-01-01 to a date.
+     * The date is packed into a single long, so that no object has to be created;
+     * use packedYear, packedMonth and packedDay to unpack it.
+     *
+     * @param epochDay The amount of days since 1970-01-01.
+     * @return The packed date.
+     */
+    static long fromEpochDay(long epochDay) {
+        final long shiftedDay = epochDay + DAYS_FROM_YEAR_0_TO_1970;
+        final long era = Math.floorDiv(shiftedDay, DAYS_PER_ERA);
+        final long dayOfEra = shiftedDay - era * DAYS_PER_ERA;
+        final long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+        final long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        final int shiftedMonth = (int) ((5 * dayOfYear + 2) / 153);
+        final int day = (int) (dayOfYear - (153 * shiftedMonth + 2) / 5 + 1);
+        final int month = shiftedMonth < 10 ? shiftedMonth + 3 : shiftedMonth - 9;
+        final long year = yearOfEra + era * 400 + (month <= TimePoint.FEBRUARY ? 1 : 0);
+
+        return (year << YEAR_SHIFT) | ((long) month << MONTH_SHIFT) | day;
+    }
+
+    /**
+     * Extracts the year of a date packed by fromEpochDay.
+     *
+     * @param packedDate The packed date.
+     * @return The year of the date.
+     */
+    static long packedYear(long packedDate) {
+        return packedDate >> YEAR_SHIFT;
+    }
+
+    /**
+     * Extracts the month of a date packed by fromEpochDay.
+     *
+     * @param packedDate The packed date.
+     * @return The month of the date.
+     */
+    static int packedMonth(long packedDate) {
+        return (int) (packedDate >> MONTH_SHIFT) & MONTH_MASK;
+    }
+
+    /**
+     * Extracts the day of the month of a date packed by fromEpochDay.
+     *
+     * @param packedDate The packed date.
+     * @return The day of the month of the date.
+     */
+    static int packedDay(long packedDate) {
+        return (int) packedDate & DAY_MASK;
+    }
+
+    /**
+     * Determines the day of the week of a date.
+     *
+     * @param epochDay The date as the amount of days since 1970-01-01.
+     * @return The ISO day of the week, 1 for monday up to 7 for sunday.
+     */
+    static int dayOfWeek(long epochDay) {
+        // 1970-01-01 was a thursday.
+        return (int) Math.floorMod(epochDay + 3, 7) + 1;
+    }
+
+    /**
+     * Determines the day of the year of a date.
+     * The date passed in must be valid.
+     *
+     * @param year The year of the date.
+     * @param month The month of the date.
+     * @param day The day of the month of the date.
+     * @return The day of the year, 1 for the first of january.
+     */
+    static int dayOfYear(int year, int month, int day) {
+        final int leapDay = month > TimePoint.FEBRUARY && isLeapYear(year) ? 1 : 0;
+
+        return DAYS_BEFORE_MONTH[month - 1] + leapDay + day;
+    }
+
+    /**
+     * Determines how many ISO weeks a week-based-year has.
+     * A week-based-year has 53 weeks if it begins on a thursday, or if it is a leap year that begins on a wednesday.
+     *
+     * @param year The week-based-year.
+     * @return 52 or 53.
+     */
+    static int weeksInWeekBasedYear(int year) {
+        final int thursday = 4;
+        final int wednesday = 3;
+
+        final int firstDayOfWeek = dayOfWeek(toEpochDay(year, TimePoint.JANUARY, 1));
+
+        if (firstDayOfWeek == thursday || (firstDayOfWeek == wednesday && isLeapYear(year))) {
+            return 53;
+        }
+
+        return 52;
+    }
+
+    /**
+     * Determines the monday on which an ISO week begins.
+     * The fourth of january always lies in the first week of its week-based-year.
+     *
+     * @param weekBasedYear The week-based-year of the week.
+     * @param week The ISO week, 1 up to the amount of weeks of the week-based-year.
+     * @return The monday as the amount of days since 1970-01-01.
+     */
+    static long isoWeekStart(int weekBasedYear, int week) {
+        final int dayInFirstWeek = 4;
+        final int daysPerWeek = 7;
+
+        final long fourthOfJanuary = toEpochDay(weekBasedYear, TimePoint.JANUARY, dayInFirstWeek);
+        final long mondayOfFirstWeek = fourthOfJanuary - (dayOfWeek(fourthOfJanuary) - 1);
+
+        return mondayOfFirstWeek + (long) (week - 1) * daysPerWeek;
+    }
+
+    /**
+     * Determines the ISO week of a date, that is the week beginning on monday that the date falls into,
+     * the first week of a year being the one that contains the first thursday of the year.
+     * The date passed in must be valid.
+     *
+     * @param year The year of the date.
+     * @param month The month of the date.
+     * @param day The day of the month of the date.
+     * @return The ISO week, 1 up to 53. Use isoWeekBasedYear to determine the year the week belongs to.
+     */
+    static int isoWeek(int year, int month, int day) {
+        final int week = rawIsoWeek(year, month, day);
+
+        if (week < 1) {
+            return weeksInWeekBasedYear(year - 1);
+        }
+
+        if (week > weeksInWeekBasedYear(year)) {
+            return 1;
+        }
+
+        return week;
+    }
+
+    /**
+     * Determines the ISO week-based-year of a date, the year the week returned by isoWeek belongs to.
+     * Differs from the year of the date for some days at the very beginning or the very end of a year.
+     * The date passed in must be valid.
+     *
+     * @param year The year of the date.
+     * @param month The month of the date.
+     * @param day The day of the month of the date.
+     * @return The ISO week-based-year.
+     */
+    static int isoWeekBasedYear(int year, int month, int day) {
+        final int week = rawIsoWeek(year, month, day);
+
+        if (week < 1) {
+            return year - 1;
+        }
+
+        if (week > weeksInWeekBasedYear(year)) {
+            return year + 1;
+        }
+
+        return year;
+    }
+
+    /**
+     * Calculates the ISO week of a date relative to its calendar year.
+     *
+     * @param year The year of the date.
+     * @param month The month of the date.
+     * @param day The day of the month of the date.
+     * @return The week, 0 if the date belongs to the last week of the previous year and possibly 53 if it belongs
+     *         to the first week of the next year.
+     */
+    private static int rawIsoWeek(int year, int month, int day) {
+        final int dayOfWeek = dayOfWeek(toEpochDay(year, month, day));
+
+        return (dayOfYear(year, month, day) - dayOfWeek + 10) / 7;
+    }
+
+    /**
+     * The amount of days in 400 years.
+     */
+    private static final long DAYS_PER_ERA = 146097;
+
+    /**
+     * The amount of days from 0000-03-01 to 1970-01-01.
+     */
+    private static final long DAYS_FROM_YEAR_0_TO_1970 = 719468;
+
+    /**
+     * The amount of days in a non leap year before the first day of each month.
+     */
+    private static final int DAYS_BEFORE_MONTH[] = new int[] {
+        0, 31, 59, 90, 120, 151, 181, 212, 243, 273, 304, 334
+    };
+
+    /**
+     * Bit position of the month in a packed date.
+     */
+    private static final int MONTH_SHIFT = 5;
+
+    /**
+     * Bit position of the year in a packed date.
+     */
+    private static final int YEAR_SHIFT = 9;
+
+    /**
+     * Mask for the month of a packed date.
+     */
+    private static final int MONTH_MASK = 0xF;
+
+    /**
+     * Mask for the day of a packed date.
+     */
+    private static final int DAY_MASK = 0x1F;
+}
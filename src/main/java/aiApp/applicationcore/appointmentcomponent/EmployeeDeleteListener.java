@@ -0,0 +1,70 @@
+package aiApp.applicationcore.appointmentcomponent;
+
+import aiApp.applicationcore.employeecomponent.Employee;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.DeleteEvent;
+import org.hibernate.event.spi.DeleteEventListener;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.internal.SessionFactoryImpl;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.Set;
+
+/**
+ * Hibernate listener that removes an employee from the attendees of the appointments they attend as soon as the
+ * employee is deleted, within the transaction that deletes them.
+ * The foreign key from the appointment_attendee join table to the employee restricts deletions, as rows the
+ * database removed on its own would leave gaps in the order of the attendees. Thus every way of deleting an
+ * employee, be it through the EmployeeComponent or through the EmployeeRepository directly, has to pass this
+ * listener, which removes the rows through JPA and moves the attendees that follow up.
+ */
+@Component
+class EmployeeDeleteListener implements DeleteEventListener {
+    /**
+     * Creates an EmployeeDeleteListener and registers it with the Hibernate SessionFactory, ahead of the listener
+     * that deletes the entity.
+     *
+     * @param entityManagerFactory The EntityManagerFactory whose SessionFactory to register with.
+     * @param appointmentComponent The AppointmentComponent to remove the employees from the appointments with.
+     */
+    @Autowired
+    EmployeeDeleteListener(EntityManagerFactory entityManagerFactory, AppointmentComponent appointmentComponent) {
+        this.appointmentComponent = appointmentComponent;
+
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImpl.class)
+                                                             .getServiceRegistry()
+                                                             .getService(EventListenerRegistry.class);
+
+        registry.prependListeners(EventType.DELETE, this);
+    }
+
+    /**
+     * Removes an employee that is being deleted from the attendees of the appointments they attend.
+     *
+     * @param event The event of the deletion.
+     */
+    @Override
+    public void onDelete(DeleteEvent event) {
+        if (event.getObject() instanceof Employee) {
+            appointmentComponent.removeEmployeeFromAppointments(((Employee) event.getObject()).getId());
+        }
+    }
+
+    /**
+     * Removes an employee that is being deleted by a cascade from the attendees of the appointments they attend.
+     *
+     * @param event The event of the deletion.
+     * @param transientEntities The entities already deleted by the cascade, unused.
+     */
+    @Override
+    public void onDelete(DeleteEvent event, Set transientEntities) {
+        onDelete(event);
+    }
+
+    /**
+     * The AppointmentComponent to remove the employees from the appointments with.
+     */
+    private final transient AppointmentComponent appointmentComponent;
+}
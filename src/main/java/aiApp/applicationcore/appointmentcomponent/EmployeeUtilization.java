@@ -0,0 +1,127 @@
+package aiApp.applicationcore.appointmentcomponent;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import java.util.List;
+
+/**
+ * The booked minutes of an employee in total and in every ISO week of a range of weeks, as checked against workload
+ * policies. Weeks without booked minutes are left out. Written by the EmployeeUtilizationSerializer.
+ */
+@JsonSerialize(using = EmployeeUtilizationSerializer.class)
+public final class EmployeeUtilization {
+    /**
+     * The booked minutes of an employee in an ISO week.
+     */
+    public static final class WeekUtilization {
+        /**
+         * Creates a WeekUtilization.
+         *
+         * @param year The ISO week-based-year of the week.
+         * @param week The ISO week.
+         * @param bookedSeconds The seconds booked in the week.
+         */
+        WeekUtilization(int year, int week, long bookedSeconds) {
+            this.year = year;
+            this.week = week;
+            this.bookedSeconds = bookedSeconds;
+        }
+
+        /**
+         * Getter for the ISO week-based-year of the week.
+         *
+         * @return The week-based-year.
+         */
+        public int getYear() {
+            return year;
+        }
+
+        /**
+         * Getter for the ISO week.
+         *
+         * @return The week, 1 to 53.
+         */
+        public int getWeek() {
+            return week;
+        }
+
+        /**
+         * Getter for the minutes booked in the week. Seconds that do not add up to a whole minute are dropped.
+         *
+         * @return The booked minutes.
+         */
+        public long getBookedMinutes() {
+            return bookedSeconds / 60;
+        }
+
+        /**
+         * The ISO week-based-year of the week.
+         */
+        private final int year;
+
+        /**
+         * The ISO week.
+         */
+        private final int week;
+
+        /**
+         * The seconds booked in the week.
+         */
+        private final long bookedSeconds;
+    }
+
+    /**
+     * Creates an EmployeeUtilization.
+     *
+     * @param employeeId The id of the employee.
+     * @param weeks The booked minutes of the weeks, ordered by the weeks.
+     * @param bookedSeconds The seconds booked in all of the weeks.
+     */
+    EmployeeUtilization(int employeeId, List<WeekUtilization> weeks, long bookedSeconds) {
+        this.employeeId = employeeId;
+        this.weeks = weeks;
+        this.bookedSeconds = bookedSeconds;
+    }
+
+    /**
+     * Getter for the id of the employee.
+     *
+     * @return The id of the employee.
+     */
+    public int getEmployeeId() {
+        return employeeId;
+    }
+
+    /**
+     * Getter for the minutes booked in all of the weeks. Seconds that do not add up to a whole minute are dropped.
+     *
+     * @return The booked minutes.
+     */
+    public long getBookedMinutes() {
+        return bookedSeconds / 60;
+    }
+
+    /**
+     * Getter for the booked minutes of the weeks that have any.
+     *
+     * @return The booked minutes of the weeks, ordered by the weeks.
+     */
+    public List<WeekUtilization> getWeeks() {
+        return weeks;
+    }
+
+    /**
+     * The id of the employee.
+     */
+    private final int employeeId;
+
+    /**
+     * The booked minutes of the weeks that have any.
+     */
+    private final List<WeekUtilization> weeks;
+
+    /**
+     * The seconds booked in all of the weeks.
+     */
+    private final long bookedSeconds;
+}
@@ -0,0 +1,235 @@
+package aiApp.applicationcore.appointmentcomponent;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * The booked seconds of every employee in every ISO week, added up from the TimeSpans of the appointments they attend
+ * as appointments are added, gain attendees and are removed.
+ * An appointment that runs across the end of a week is split at midnight of the monday, so every week holds the very
+ * seconds booked within it. The weeks are keyed by their monday as the amount of days since 1970-01-01 and weeks
+ * without booked seconds have no entry, the booked seconds of all weeks of an employee are kept as well so that the
+ * employees booked the most overall are found without adding up their weeks.
+ * The most booked employees are selected with a heap that never holds more than the amount of employees asked for.
+ * Also remembers the TimeSpan and the attendees of every appointment that has any, so that appointments can be added
+ * again as they gain attendees and be removed by their id alone.
+ * Not thread safe, the AppointmentComponent guards it with its lock.
+ */
+final class EmployeeUtilizationIndex {
+    /**
+     * Creates an empty EmployeeUtilizationIndex.
+     */
+    EmployeeUtilizationIndex() {
+        this.weeksOfEmployees = new HashMap<>();
+        this.totalsOfEmployees = new HashMap<>();
+        this.spansOfAppointments = new HashMap<>();
+        this.attendeeIdsOfAppointments = new HashMap<>();
+    }
+
+    /**
+     * Books the seconds of an appointment for its attendees.
+     * Adding an appointment that already is in the index only books it for the attendees that are new, so that an
+     * appointment that gained attendees can simply be added again.
+     *
+     * @param appointmentId The id of the appointment.
+     * @param begin The begin of the appointment in epoch seconds.
+     * @param end The end of the appointment in epoch seconds.
+     * @param attendeeIds The ids of the attendees of the appointment.
+     */
+    void add(int appointmentId, long begin, long end, int attendeeIds[]) {
+        final int known[] = attendeeIdsOfAppointments.getOrDefault(appointmentId, noAttendees);
+        List<Integer> merged = new ArrayList<>(known.length + attendeeIds.length);
+        for (int attendeeId : known) {
+            merged.add(attendeeId);
+        }
+
+        for (int attendeeId : attendeeIds) {
+            if (!merged.contains(attendeeId)) {
+                merged.add(attendeeId);
+                book(attendeeId, begin, end, 1);
+            }
+        }
+
+        if (merged.size() > known.length) {
+            int mergedIds[] = new int[merged.size()];
+            for (int i = 0; i < mergedIds.length; ++i) {
+                mergedIds[i] = merged.get(i);
+            }
+
+            spansOfAppointments.put(appointmentId, new long[] { begin, end });
+            attendeeIdsOfAppointments.put(appointmentId, mergedIds);
+        }
+    }
+
+    /**
+     * Takes the seconds of an appointment back off its attendees.
+     * Removing an appointment that is not in the index does nothing.
+     *
+     * @param appointmentId The id of the appointment.
+     */
+    void remove(int appointmentId) {
+        final long span[] = spansOfAppointments.remove(appointmentId);
+
+        if (span == null) {
+            return;
+        }
+
+        for (int attendeeId : attendeeIdsOfAppointments.remove(appointmentId)) {
+            book(attendeeId, span[0], span[1], -1);
+        }
+    }
+
+    /**
+     * Removes the booked seconds of an employee that no longer exists.
+     * The id of the employee may linger among the attendees of appointments, which is harmless as ids of employees
+     * are never reused and booking seconds for an employee without any entries does nothing on removal.
+     *
+     * @param employeeId The id of the employee.
+     */
+    void removeAttendee(int employeeId) {
+        weeksOfEmployees.remove(employeeId);
+        totalsOfEmployees.remove(employeeId);
+    }
+
+    /**
+     * Returns the booked seconds of an employee in the weeks within a range of weeks that have any.
+     *
+     * @param employeeId The id of the employee.
+     * @param fromWeekStart The monday of the first week as the amount of days since 1970-01-01, inclusive.
+     * @param toWeekStart The monday of the last week as the amount of days since 1970-01-01, inclusive.
+     * @return A copy of the booked seconds by the mondays of their weeks, ordered by the weeks.
+     */
+    SortedMap<Long, Long> bookedSecondsByWeekStart(int employeeId, long fromWeekStart, long toWeekStart) {
+        final TreeMap<Long, Long> weeks = weeksOfEmployees.get(employeeId);
+
+        if (weeks == null || fromWeekStart > toWeekStart) {
+            return new TreeMap<>();
+        }
+
+        return new TreeMap<>(weeks.subMap(fromWeekStart, true, toWeekStart, true));
+    }
+
+    /**
+     * Returns the ids of the employees with the most booked seconds within a range of weeks, in O(e log n) for the e
+     * employees with booked seconds and the n employees asked for.
+     *
+     * @param limit The largest amount of employees to return.
+     * @param fromWeekStart The monday of the first week as the amount of days since 1970-01-01, inclusive.
+     *        Long.MIN_VALUE along with Long.MAX_VALUE for toWeekStart to compare the booked seconds of all weeks.
+     * @param toWeekStart The monday of the last week as the amount of days since 1970-01-01, inclusive.
+     * @return The ids of the employees ordered by their booked seconds, the most booked first, and then by their ids.
+     *         Employees without booked seconds within the range are left out.
+     */
+    int[] mostBooked(int limit, long fromWeekStart, long toWeekStart) {
+        final boolean allWeeks = fromWeekStart == Long.MIN_VALUE && toWeekStart == Long.MAX_VALUE;
+
+        // {booked seconds, employee id}, the least booked of the employees kept so far at the head.
+        PriorityQueue<long[]> heap = new PriorityQueue<>(Math.max(1, limit), leastBookedFirst);
+
+        for (Map.Entry<Integer, Long> total : totalsOfEmployees.entrySet()) {
+            long seconds = total.getValue();
+
+            if (!allWeeks) {
+                seconds = 0;
+                if (fromWeekStart <= toWeekStart) {
+                    for (long weekSeconds : weeksOfEmployees.get(total.getKey())
+                                                            .subMap(fromWeekStart, true, toWeekStart, true).values()) {
+                        seconds += weekSeconds;
+                    }
+                }
+            }
+
+            if (seconds <= 0) {
+                continue;
+            }
+
+            final long candidate[] = { seconds, total.getKey() };
+
+            if (heap.size() < limit) {
+                heap.add(candidate);
+            } else if (limit > 0 && leastBookedFirst.compare(candidate, heap.peek()) > 0) {
+                heap.poll();
+                heap.add(candidate);
+            }
+        }
+
+        int ids[] = new int[heap.size()];
+        for (int i = ids.length - 1; i >= 0; --i) {
+            ids[i] = (int) heap.poll()[1];
+        }
+
+        return ids;
+    }
+
+    /**
+     * Adds the seconds of an appointment to the weeks of an employee week by week, or takes them back off.
+     * Weeks and employees that no longer hold any seconds are dropped.
+     *
+     * @param employeeId The id of the employee.
+     * @param begin The begin of the appointment in epoch seconds, inclusive.
+     * @param end The end of the appointment in epoch seconds, exclusive.
+     * @param sign 1 to book the appointment, -1 to take it back off.
+     */
+    private void book(int employeeId, long begin, long end, int sign) {
+        if (end <= begin || (sign < 0 && !weeksOfEmployees.containsKey(employeeId))) {
+            return;
+        }
+
+        TreeMap<Long, Long> weeks = weeksOfEmployees.computeIfAbsent(employeeId, key -> new TreeMap<>());
+
+        long time = begin;
+        while (time < end) {
+            final long weekStart = AppointmentWeekCounter.weekStartOf(time);
+            final long weekEnd = Math.min(end, (weekStart + 7) * DateKernel.SECONDS_PER_DAY);
+
+            if (weeks.merge(weekStart, sign * (weekEnd - time), Long::sum) == 0) {
+                weeks.remove(weekStart);
+            }
+
+            time = weekEnd;
+        }
+
+        if (totalsOfEmployees.merge(employeeId, sign * (end - begin), Long::sum) == 0 || weeks.isEmpty()) {
+            weeksOfEmployees.remove(employeeId);
+            totalsOfEmployees.remove(employeeId);
+        }
+    }
+
+    /**
+     * Orders {booked seconds, employee id} pairs from the least booked employee to the most booked one, employees
+     * booked alike by their ids in descending order.
+     */
+    private static final Comparator<long[]> leastBookedFirst =
+            Comparator.<long[]>comparingLong(pair -> pair[0]).thenComparingLong(pair -> -pair[1]);
+
+    /**
+     * The attendees of appointments that have none, never changed.
+     */
+    private static final int noAttendees[] = new int[0];
+
+    /**
+     * The booked seconds of the weeks of the employees, by the ids of the employees and the mondays of the weeks.
+     */
+    private final Map<Integer, TreeMap<Long, Long>> weeksOfEmployees;
+
+    /**
+     * The booked seconds of all weeks of the employees, by the ids of the employees.
+     */
+    private final Map<Integer, Long> totalsOfEmployees;
+
+    /**
+     * The begins and ends of the appointments that have attendees in epoch seconds, by the ids of the appointments.
+     */
+    private final Map<Integer, long[]> spansOfAppointments;
+
+    /**
+     * The ids of the attendees of the appointments that have any, by the ids of the appointments.
+     */
+    private final Map<Integer, int[]> attendeeIdsOfAppointments;
+}
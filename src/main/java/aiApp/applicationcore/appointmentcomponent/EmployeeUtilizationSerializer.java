@@ -0,0 +1,81 @@
+package aiApp.applicationcore.appointmentcomponent;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+/**
+ * Jackson serializer that writes an EmployeeUtilization as a JSON object, e.g.
+ * {"employeeId":1,"bookedMinutes":150,"weeks":[{"year":2017,"week":15,"bookedMinutes":90},...]}
+ * The weeks are written in ascending order.
+ */
+public class EmployeeUtilizationSerializer extends StdSerializer<EmployeeUtilization> {
+    /**
+     * Creates an EmployeeUtilizationSerializer, used by Jackson.
+     */
+    public EmployeeUtilizationSerializer() {
+        super(EmployeeUtilization.class);
+    }
+
+    /**
+     * Writes an EmployeeUtilization to the JsonGenerator passed in.
+     *
+     * @param utilization The EmployeeUtilization to write.
+     * @param generator The JsonGenerator to write to.
+     * @param provider The provider of the serialization, unused.
+     * @throws IOException if the JsonGenerator could not write.
+     */
+    @Override
+    public void serialize(EmployeeUtilization utilization, JsonGenerator generator, SerializerProvider provider)
+            throws IOException {
+        generator.writeStartObject();
+        generator.writeFieldName(employeeIdField);
+        generator.writeNumber(utilization.getEmployeeId());
+        generator.writeFieldName(bookedMinutesField);
+        generator.writeNumber(utilization.getBookedMinutes());
+
+        generator.writeFieldName(weeksField);
+        generator.writeStartArray(utilization.getWeeks().size());
+        for (EmployeeUtilization.WeekUtilization week : utilization.getWeeks()) {
+            generator.writeStartObject();
+            generator.writeFieldName(yearField);
+            generator.writeNumber(week.getYear());
+            generator.writeFieldName(weekField);
+            generator.writeNumber(week.getWeek());
+            generator.writeFieldName(bookedMinutesField);
+            generator.writeNumber(week.getBookedMinutes());
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    /**
+     * The name of the field that holds the id of the employee.
+     */
+    private static final SerializableString employeeIdField = new SerializedString("employeeId");
+
+    /**
+     * The name of the field that holds an amount of booked minutes.
+     */
+    private static final SerializableString bookedMinutesField = new SerializedString("bookedMinutes");
+
+    /**
+     * The name of the field that holds the booked minutes of the weeks.
+     */
+    private static final SerializableString weeksField = new SerializedString("weeks");
+
+    /**
+     * The name of the field that holds the ISO week-based-year of a week.
+     */
+    private static final SerializableString yearField = new SerializedString("year");
+
+    /**
+     * The name of the field that holds the ISO week of a week.
+     */
+    private static final SerializableString weekField = new SerializedString("week");
+}
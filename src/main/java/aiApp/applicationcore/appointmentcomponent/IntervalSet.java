@@ -0,0 +1,544 @@
+package aiApp.applicationcore.appointmentcomponent;
+
+import javax.validation.constraints.NotNull;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * An immutable set of points in time, represented as sorted, disjoint intervals of epoch seconds.
+ * The intervals are half-open: an interval from start to end contains start but not end, thus the duration of an
+ * interval is end - start and an interval ending at the very second another one starts is merged with it.
+ * A TimeSpan is converted to the half-open interval from its begin to its end, unlike the overlap queries of the
+ * AppointmentComponent which treat both of its TimePoints as inclusive. Thus a TimeSpan from 10:00 to 11:00 lasts one
+ * hour, as it does for the BookingHeatmap and the EmployeeUtilization, and a TimeSpan that begins and ends at the same
+ * TimePoint is empty.
+ * The intervals are stored in two primitive arrays, the operations on IntervalSets take linear time and only
+ * allocate the arrays of the result.
+ */
+public final class IntervalSet {
+    /**
+     * The empty IntervalSet.
+     */
+    public static final IntervalSet EMPTY = new IntervalSet(new long[0], new long[0], 0);
+
+    /**
+     * Creates an IntervalSet of a single interval.
+     *
+     * @param start The epoch second at which the interval begins, inclusive.
+     * @param end The epoch second at which the interval ends, exclusive.
+     * @return The IntervalSet holding the interval, empty if end is not after start.
+     */
+    @NotNull
+    public static IntervalSet of(long start, long end) {
+        if (end <= start) {
+            return EMPTY;
+        }
+
+        return new IntervalSet(new long[] { start }, new long[] { end }, 1);
+    }
+
+    /**
+     * Creates an IntervalSet from intervals that may be unsorted, overlapping or empty.
+     * The arrays passed in are not modified.
+     *
+     * @param starts The epoch seconds at which the intervals begin, inclusive.
+     * @param ends The epoch seconds at which the intervals end, exclusive. Must have the same length as starts.
+     * @return The union of the intervals.
+     * @throws IllegalArgumentException if the arrays differ in length.
+     */
+    @NotNull
+    public static IntervalSet fromIntervals(@NotNull long starts[], @NotNull long ends[]) {
+        if (starts.length != ends.length) {
+            throw new IllegalArgumentException("starts and ends in IntervalSet::fromIntervals differ in length.");
+        }
+
+        return normalize(starts.clone(), ends.clone(), starts.length);
+    }
+
+    /**
+     * Creates an IntervalSet from TimeSpans.
+     * Every TimeSpan becomes the half-open interval that contains its begin but not its end. TimeSpans that begin and
+     * end at the same TimePoint, like those of appointments of no length, contain no point in time and are left out;
+     * a TimeSpan ending at the very second another one begins is merged with it.
+     *
+     * @param timeSpans The TimeSpans, in any order. May overlap.
+     * @return The union of the TimeSpans.
+     */
+    @NotNull
+    public static IntervalSet fromTimeSpans(@NotNull Collection<TimeSpan> timeSpans) {
+        final long starts[] = new long[timeSpans.size()];
+        final long ends[] = new long[timeSpans.size()];
+
+        int count = 0;
+        for (TimeSpan timeSpan : timeSpans) {
+            starts[count] = timeSpan.getStartTimePoint().toEpochSecond();
+            ends[count] = timeSpan.getEndTimePoint().toEpochSecond();
+            ++count;
+        }
+
+        return normalize(starts, ends, count);
+    }
+
+    /**
+     * Converts this IntervalSet to TimeSpans, one per interval, each one beginning at the start of its interval and
+     * ending at the end of its interval. The end of a TimeSpan returned is the first second after its interval, as
+     * with fromTimeSpans, so the TimeSpans of adjacent gaps and intervals share their TimePoints.
+     *
+     * @return The TimeSpans, sorted chronologically.
+     * @throws InvalidDateException if an interval lies outside of the range of TimePoints.
+     */
+    @NotNull
+    public List<TimeSpan> toTimeSpans() throws InvalidDateException {
+        final List<TimeSpan> timeSpans = new ArrayList<>(count);
+
+        for (int i = 0; i < count; ++i) {
+            try {
+                timeSpans.add(new TimeSpan(TimePoint.fromEpochSecond(starts[i]), TimePoint.fromEpochSecond(ends[i])));
+            } catch (InvalidTimePointException e) {
+                throw new IllegalStateException("An interval of an IntervalSet ends before it starts.");
+            }
+        }
+
+        return timeSpans;
+    }
+
+    /**
+     * The amount of disjoint intervals in this IntervalSet.
+     *
+     * @return The amount of intervals.
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Determines whether this IntervalSet is empty.
+     *
+     * @return true if this IntervalSet contains no point in time; false otherwise.
+     */
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    /**
+     * The start of an interval.
+     *
+     * @param index The index of the interval, 0 for the earliest one.
+     * @return The epoch second at which the interval begins, inclusive.
+     * @throws IndexOutOfBoundsException if index is not within 0 and size() - 1.
+     */
+    public long start(int index) {
+        checkIndex(index);
+        return starts[index];
+    }
+
+    /**
+     * The end of an interval.
+     *
+     * @param index The index of the interval, 0 for the earliest one.
+     * @return The epoch second at which the interval ends, exclusive.
+     * @throws IndexOutOfBoundsException if index is not within 0 and size() - 1.
+     */
+    public long end(int index) {
+        checkIndex(index);
+        return ends[index];
+    }
+
+    /**
+     * Determines whether this IntervalSet contains a point in time.
+     * Takes logarithmic time.
+     *
+     * @param epochSecond The point in time.
+     * @return true if one of the intervals contains epochSecond; false otherwise.
+     */
+    public boolean contains(long epochSecond) {
+        final int idx = Arrays.binarySearch(starts, 0, count, epochSecond);
+
+        if (idx >= 0) {
+            return true;
+        }
+
+        final int preceding = -idx - 2;
+        return preceding >= 0 && epochSecond < ends[preceding];
+    }
+
+    /**
+     * Determines whether this IntervalSet has a point in time in common with an interval.
+     * Takes logarithmic time.
+     *
+     * @param start The epoch second at which the interval begins, inclusive.
+     * @param end The epoch second at which the interval ends, exclusive.
+     * @return true if at least one point in time lies in both this IntervalSet and the interval; false otherwise.
+     */
+    public boolean overlaps(long start, long end) {
+        if (end <= start || count == 0) {
+            return false;
+        }
+
+        // the first interval that ends after start is the only candidate.
+        int low = 0;
+        int high = count;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+
+            if (ends[mid] <= start) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+
+        return low < count && starts[low] < end;
+    }
+
+    /**
+     * The total duration of the intervals.
+     *
+     * @return The sum of the lengths of the intervals in seconds.
+     */
+    public long totalDuration() {
+        long duration = 0;
+
+        for (int i = 0; i < count; ++i) {
+            duration += ends[i] - starts[i];
+        }
+
+        return duration;
+    }
+
+    /**
+     * Calculates the union of this IntervalSet and another one.
+     *
+     * @param other The other IntervalSet.
+     * @return The points in time contained in either IntervalSet.
+     */
+    @NotNull
+    public IntervalSet union(@NotNull IntervalSet other) {
+        if (other.isEmpty()) {
+            return this;
+        }
+
+        if (isEmpty()) {
+            return other;
+        }
+
+        final long resultStarts[] = new long[count + other.count];
+        final long resultEnds[] = new long[count + other.count];
+        int resultCount = 0;
+
+        int i = 0;
+        int j = 0;
+        while (i < count || j < other.count) {
+            final long start;
+            final long end;
+
+            if (j >= other.count || (i < count && starts[i] <= other.starts[j])) {
+                start = starts[i];
+                end = ends[i];
+                ++i;
+            } else {
+                start = other.starts[j];
+                end = other.ends[j];
+                ++j;
+            }
+
+            if (resultCount > 0 && start <= resultEnds[resultCount - 1]) {
+                resultEnds[resultCount - 1] = Math.max(resultEnds[resultCount - 1], end);
+            } else {
+                resultStarts[resultCount] = start;
+                resultEnds[resultCount] = end;
+                ++resultCount;
+            }
+        }
+
+        return new IntervalSet(resultStarts, resultEnds, resultCount);
+    }
+
+    /**
+     * Calculates the intersection of this IntervalSet and another one.
+     *
+     * @param other The other IntervalSet.
+     * @return The points in time contained in both IntervalSets.
+     */
+    @NotNull
+    public IntervalSet intersection(@NotNull IntervalSet other) {
+        if (isEmpty() || other.isEmpty()) {
+            return EMPTY;
+        }
+
+        final long resultStarts[] = new long[count + other.count];
+        final long resultEnds[] = new long[count + other.count];
+        int resultCount = 0;
+
+        int i = 0;
+        int j = 0;
+        while (i < count && j < other.count) {
+            final long start = Math.max(starts[i], other.starts[j]);
+            final long end = Math.min(ends[i], other.ends[j]);
+
+            if (start < end) {
+                resultStarts[resultCount] = start;
+                resultEnds[resultCount] = end;
+                ++resultCount;
+            }
+
+            if (ends[i] < other.ends[j]) {
+                ++i;
+            } else {
+                ++j;
+            }
+        }
+
+        return new IntervalSet(resultStarts, resultEnds, resultCount);
+    }
+
+    /**
+     * Subtracts another IntervalSet from this one.
+     *
+     * @param other The IntervalSet to subtract.
+     * @return The points in time contained in this IntervalSet but not in other.
+     */
+    @NotNull
+    public IntervalSet subtract(@NotNull IntervalSet other) {
+        if (isEmpty() || other.isEmpty()) {
+            return this;
+        }
+
+        final long resultStarts[] = new long[count + other.count];
+        final long resultEnds[] = new long[count + other.count];
+        int resultCount = 0;
+
+        int j = 0;
+        for (int i = 0; i < count; ++i) {
+            long start = starts[i];
+            final long end = ends[i];
+
+            // skip the intervals of other that end before this interval starts.
+            while (j < other.count && other.ends[j] <= start) {
+                ++j;
+            }
+
+            // cut out the intervals of other that overlap this interval.
+            int k = j;
+            while (k < other.count && other.starts[k] < end) {
+                if (other.starts[k] > start) {
+                    resultStarts[resultCount] = start;
+                    resultEnds[resultCount] = other.starts[k];
+                    ++resultCount;
+                }
+
+                start = Math.max(start, other.ends[k]);
+                ++k;
+            }
+
+            if (start < end) {
+                resultStarts[resultCount] = start;
+                resultEnds[resultCount] = end;
+                ++resultCount;
+            }
+        }
+
+        return new IntervalSet(resultStarts, resultEnds, resultCount);
+    }
+
+    /**
+     * Calculates the gaps between the intervals of this IntervalSet, that is the points in time from the start of
+     * the first interval to the end of the last one that are not contained in this IntervalSet.
+     *
+     * @return The gaps, one fewer than there are intervals.
+     */
+    @NotNull
+    public IntervalSet gaps() {
+        if (count <= 1) {
+            return EMPTY;
+        }
+
+        return new IntervalSet(Arrays.copyOfRange(ends, 0, count - 1), Arrays.copyOfRange(starts, 1, count), count - 1);
+    }
+
+    /**
+     * Calculates the gaps of this IntervalSet within a window, that is the points in time within the window that
+     * are not contained in this IntervalSet.
+     *
+     * @param start The epoch second at which the window begins, inclusive.
+     * @param end The epoch second at which the window ends, exclusive.
+     * @return The free points in time within the window.
+     */
+    @NotNull
+    public IntervalSet gaps(long start, long end) {
+        return of(start, end).subtract(this);
+    }
+
+    /**
+     * Compares this IntervalSet with another object.
+     *
+     * @param o The other object.
+     * @return true if o is an IntervalSet that contains the same points in time; false otherwise.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        IntervalSet other = (IntervalSet) o;
+
+        if (count != other.count) {
+            return false;
+        }
+
+        for (int i = 0; i < count; ++i) {
+            if (starts[i] != other.starts[i] || ends[i] != other.ends[i]) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Calculates the hash code of this object from its intervals.
+     *
+     * @return The hash code calculated.
+     */
+    @Override
+    public int hashCode() {
+        final int magicNumber = 31;
+
+        int result = count;
+        for (int i = 0; i < count; ++i) {
+            result = magicNumber * result + Long.hashCode(starts[i]);
+            result = magicNumber * result + Long.hashCode(ends[i]);
+        }
+
+        return result;
+    }
+
+    /**
+     * Creates a textual representation of this object, the intervals as epoch seconds.
+     *
+     * @return A String that holds the textual representation of this object.
+     */
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("[");
+
+        for (int i = 0; i < count; ++i) {
+            if (i > 0) {
+                sb.append(',');
+            }
+
+            sb.append('[').append(starts[i]).append(',').append(ends[i]).append(')');
+        }
+
+        return sb.append(']').toString();
+    }
+
+    /**
+     * Creates an IntervalSet from intervals that are already sorted, disjoint and not adjacent.
+     *
+     * @param starts The starts of the intervals. Taken over, not copied.
+     * @param ends The ends of the intervals. Taken over, not copied.
+     * @param count The amount of intervals, may be less than the length of the arrays.
+     */
+    private IntervalSet(long starts[], long ends[], int count) {
+        this.starts = starts;
+        this.ends = ends;
+        this.count = count;
+    }
+
+    /**
+     * Merges arbitrary intervals into sorted, disjoint, non adjacent ones.
+     * Sorts the starts and the ends separately and sweeps over both, keeping track of how many intervals cover the
+     * current point in time, thus no intervals have to be boxed in order to be sorted.
+     *
+     * @param starts The starts of the intervals. Reused for the result.
+     * @param ends The ends of the intervals. Reused for the result.
+     * @param count The amount of intervals.
+     * @return The union of the intervals.
+     */
+    private static IntervalSet normalize(long starts[], long ends[], int count) {
+        // drop empty intervals, they would unbalance the sweep.
+        int nonEmpty = 0;
+        for (int i = 0; i < count; ++i) {
+            if (starts[i] < ends[i]) {
+                starts[nonEmpty] = starts[i];
+                ends[nonEmpty] = ends[i];
+                ++nonEmpty;
+            }
+        }
+
+        if (nonEmpty == 0) {
+            return EMPTY;
+        }
+
+        Arrays.sort(starts, 0, nonEmpty);
+        Arrays.sort(ends, 0, nonEmpty);
+
+        // the result has at most as many intervals as there are starts processed, so it can be written in place.
+        int resultCount = 0;
+        int depth = 0;
+        int i = 0;
+        int j = 0;
+        long currentStart = 0;
+
+        while (j < nonEmpty) {
+            // process starts before ends at the same second, so that adjacent intervals are merged.
+            if (i < nonEmpty && starts[i] <= ends[j]) {
+                if (depth == 0) {
+                    currentStart = starts[i];
+                }
+
+                ++depth;
+                ++i;
+            } else {
+                --depth;
+
+                if (depth == 0) {
+                    starts[resultCount] = currentStart;
+                    ends[resultCount] = ends[j];
+                    ++resultCount;
+                }
+
+                ++j;
+            }
+        }
+
+        return new IntervalSet(starts, ends, resultCount);
+    }
+
+    /**
+     * Throws if an index doesn't refer to an interval.
+     *
+     * @param index The index to check.
+     * @throws IndexOutOfBoundsException if index is not within 0 and size() - 1.
+     */
+    private void checkIndex(int index) {
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException(String.format("Index %d of an IntervalSet of size %d", index, count));
+        }
+    }
+
+    /**
+     * The epoch seconds at which the intervals begin, inclusive, sorted ascending.
+     * Only the first count elements are used.
+     */
+    private final long starts[];
+
+    /**
+     * The epoch seconds at which the intervals end, exclusive, sorted ascending.
+     * Only the first count elements are used.
+     */
+    private final long ends[];
+
+    /**
+     * The amount of intervals.
+     */
+    private final int count;
+}
@@ -0,0 +1,17 @@
+package aiApp.applicationcore.appointmentcomponent;
+
+import javax.validation.constraints.NotNull;
+
+/**
+ * Thrown by AppointmentComponent::getAppointmentsAfter if the cursor or the page size requested is invalid.
+ */
+public class InvalidAppointmentPageException extends Throwable {
+    /**
+     * Creates a new InvalidAppointmentPageException.
+     *
+     * @param errorMsg The error message to use. May not be null.
+     */
+    InvalidAppointmentPageException(@NotNull String errorMsg) {
+        super(errorMsg);
+    }
+}
@@ -0,0 +1,17 @@
+package aiApp.applicationcore.appointmentcomponent;
+
+import javax.validation.constraints.NotNull;
+
+/**
+ * Thrown by AppointmentComponent::searchAppointments if the text or the limit requested is invalid.
+ */
+public class InvalidAppointmentSearchException extends Throwable {
+    /**
+     * Creates a new InvalidAppointmentSearchException.
+     *
+     * @param errorMsg The error message to use. May not be null.
+     */
+    InvalidAppointmentSearchException(@NotNull String errorMsg) {
+        super(errorMsg);
+    }
+}
@@ -0,0 +1,129 @@
+package aiApp.applicationcore.appointmentcomponent;
+
+/**
+ * The outcome of parsing a single line of a batch of TimeSpan strings.
+ * Either holds the TimeSpan parsed or a description of why the line could not be parsed.
+ */
+public class ParsedTimeSpan {
+    /**
+     * Creates the outcome of a line that was parsed successfully.
+     *
+     * @param lineNumber The number of the line, starting at 1.
+     * @param timeSpan The TimeSpan parsed. May not be null.
+     */
+    ParsedTimeSpan(long lineNumber, TimeSpan timeSpan) {
+        this(lineNumber, timeSpan, null, noErrorIndex);
+    }
+
+    /**
+     * Creates the outcome of a line that could not be parsed.
+     *
+     * @param lineNumber The number of the line, starting at 1.
+     * @param error The reason why the line could not be parsed. May not be null.
+     * @param errorIndex The index within the line at which parsing failed or -1 if the line was well formed,
+     *        but did not denote a valid TimeSpan.
+     */
+    ParsedTimeSpan(long lineNumber, String error, int errorIndex) {
+        this(lineNumber, null, error, errorIndex);
+    }
+
+    /**
+     * Getter for the line number.
+     *
+     * @return The number of the line this is the outcome of, starting at 1.
+     */
+    public long getLineNumber() {
+        return lineNumber;
+    }
+
+    /**
+     * Getter for the TimeSpan.
+     *
+     * @return The TimeSpan parsed or null if the line could not be parsed.
+     */
+    public TimeSpan getTimeSpan() {
+        return timeSpan;
+    }
+
+    /**
+     * Getter for the error.
+     *
+     * @return The reason why the line could not be parsed or null if it was parsed successfully.
+     */
+    public String getError() {
+        return error;
+    }
+
+    /**
+     * Getter for the error index.
+     *
+     * @return The index within the line at which parsing failed; -1 if the line was parsed successfully or was well
+     *         formed, but did not denote a valid TimeSpan.
+     */
+    public int getErrorIndex() {
+        return errorIndex;
+    }
+
+    /**
+     * Determines whether the line was parsed successfully.
+     *
+     * @return true if the line holds a valid TimeSpan; false otherwise.
+     */
+    public boolean isValid() {
+        return timeSpan != null;
+    }
+
+    /**
+     * Creates a textual representation of this object.
+     *
+     * @return A String that holds the textual representation of this object.
+     */
+    @Override
+    public String toString() {
+        if (isValid()) {
+            return String.format("line %d: %s", lineNumber, timeSpan);
+        }
+
+        return String.format("line %d, index %d: %s", lineNumber, errorIndex, error);
+    }
+
+    /**
+     * Constructor used by the other constructors.
+     *
+     * @param lineNumber The number of the line, starting at 1.
+     * @param timeSpan The TimeSpan parsed, null if the line could not be parsed.
+     * @param error The reason why the line could not be parsed, null if it was parsed successfully.
+     * @param errorIndex The index within the line at which parsing failed or -1.
+     */
+    private ParsedTimeSpan(long lineNumber, TimeSpan timeSpan, String error, int errorIndex) {
+        this.lineNumber = lineNumber;
+        this.timeSpan = timeSpan;
+        this.error = error;
+        this.errorIndex = errorIndex;
+    }
+
+    /**
+     * The error index used if there is no error or no position to report.
+     */
+    static final int noErrorIndex = -1;
+
+    /**
+     * The number of the line, starting at 1.
+     */
+    private final long lineNumber;
+
+    /**
+     * The TimeSpan parsed, null if the line could not be parsed.
+     */
+    private final TimeSpan timeSpan;
+
+    /**
+     * The reason why the line could not be parsed, null if it was parsed successfully.
+     */
+    private final String error;
+
+    /**
+     * The index within the line at which parsing failed or -1.
+     */
+    private final int errorIndex;
+}
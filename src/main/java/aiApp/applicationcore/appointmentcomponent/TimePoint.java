@@ -1,23 +1,25 @@
 package aiApp.applicationcore.appointmentcomponent;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import org.jetbrains.annotations.Contract;
 
-import javax.validation.constraints.NotNull;
 import java.io.Serializable;
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
+import java.text.ParsePosition;
 import java.time.LocalDateTime;
 
 /**
  * Represents a point in time, identified by the year, month, day, hour, minute and second of that point in time.
+ * The fields are packed into a single long, from the year in the most significant bits down to the second in the
+ * least significant bits, so that comparing the packed values orders TimePoints chronologically.
  */
+@JsonSerialize(using = TimePointSerializer.class)
 public class TimePoint implements Serializable, Comparable<TimePoint> {
     /**
      * Magic empty constructor - don't touch.
      */
     @SuppressWarnings("unused")
     TimePoint() {
-
+        packed = 0;
     }
 
     /**
@@ -48,26 +50,14 @@ public class TimePoint implements Serializable, Comparable<TimePoint> {
             throw new InvalidDateException("Too large value passed to TimePoint ctor.");
         }
 
-        // set the fields of this instance
-        this.year = year;
-        this.month = month;
-        this.day = day;
-        this.hour = hour;
-        this.minute = minute;
-        this.second = second;
-
-        final String datePattern = "yyyyMMdd";
-        // convert to a string using the yyyyMMdd pattern
-        final String dateStr = asStandardFormat();
-
         // check if the date is a valid one.
-        SimpleDateFormat df = new SimpleDateFormat(datePattern);
-        df.setLenient(false);
-        try {
-            df.parse(dateStr);
-        } catch (ParseException e) {
+        if (!DateKernel.isValidDate(year, month, day)) {
             throw new InvalidDateException("Not a valid date in TimePoint ctor.");
         }
+
+        // pack the fields of this instance
+        packed = ((long) year << YEAR_SHIFT) | ((long) month << MONTH_SHIFT) | ((long) day << DAY_SHIFT)
+                 | ((long) hour << HOUR_SHIFT) | ((long) minute << MINUTE_SHIFT) | second;
     }
 
     /**
@@ -161,13 +151,110 @@ public class TimePoint implements Serializable, Comparable<TimePoint> {
         );
     }
 
+    /**
+     * Creates a TimePoint from the number of seconds since 1970-01-01T00:00:00.
+     * TimePoints carry no time zone, the epoch second is interpreted without any offset.
+     *
+     * @param epochSecond The number of seconds since 1970-01-01T00:00:00.
+     * @return The TimePoint corresponding to the epoch second passed in.
+     * @throws InvalidDateException if the epoch second passed in does not correspond to a valid TimePoint,
+     *         for instance because it lies before the year 0.
+     */
+    @org.jetbrains.annotations.NotNull
+    public static TimePoint fromEpochSecond(long epochSecond) throws InvalidDateException {
+        final long date = DateKernel.fromEpochDay(Math.floorDiv(epochSecond, DateKernel.SECONDS_PER_DAY));
+        final int secondOfDay = (int) Math.floorMod(epochSecond, DateKernel.SECONDS_PER_DAY);
+        final long year = DateKernel.packedYear(date);
+
+        if (year < DateKernel.MIN_YEAR || year > Integer.MAX_VALUE) {
+            throw new InvalidDateException("epochSecond out of range in TimePoint::fromEpochSecond.");
+        }
+
+        return new TimePoint(
+            (int) year,
+            DateKernel.packedMonth(date),
+            DateKernel.packedDay(date),
+            secondOfDay / 3600,
+            secondOfDay / 60 % 60,
+            secondOfDay % 60
+        );
+    }
+
+    /**
+     * Converts this TimePoint to the number of seconds since 1970-01-01T00:00:00.
+     * TimePoints carry no time zone, thus the result is calculated without any offset.
+     * The order of the epoch seconds is the same as the order defined by compareTo.
+     *
+     * @return The number of seconds since 1970-01-01T00:00:00 for this TimePoint.
+     */
+    public long toEpochSecond() {
+        return DateKernel.toEpochSecond(getYear(), getMonth(), getDay(), getHour(), getMinute(), getSecond());
+    }
+
+    /**
+     * Creates a TimePoint from its packed representation, as returned by toPacked.
+     *
+     * @param packed The packed representation of the TimePoint.
+     * @return The TimePoint corresponding to the packed value passed in.
+     * @throws InvalidDateException if the value passed in is not the packed representation of a valid TimePoint.
+     */
+    @org.jetbrains.annotations.NotNull
+    public static TimePoint fromPacked(long packed) throws InvalidDateException {
+        final long year = packed >>> YEAR_SHIFT;
+
+        if (year > Integer.MAX_VALUE) {
+            throw new InvalidDateException("packed out of range in TimePoint::fromPacked.");
+        }
+
+        return new TimePoint((int) year, unpack(packed, MONTH_SHIFT, MONTH_BITS), unpack(packed, DAY_SHIFT, DAY_BITS),
+                             unpack(packed, HOUR_SHIFT, HOUR_BITS), unpack(packed, MINUTE_SHIFT, MINUTE_BITS),
+                             unpack(packed, SECOND_SHIFT, SECOND_BITS));
+    }
+
+    /**
+     * Gives the packed representation of this TimePoint.
+     * The order of the packed values is the same as the order defined by compareTo.
+     *
+     * @return The year, month, day, hour, minute and second of this TimePoint packed into a long.
+     */
+    public long toPacked() {
+        return packed;
+    }
+
+    /**
+     * Returns a canonical instance that is equal to this TimePoint, if this TimePoint is on the top of an hour.
+     * Appointments tend to begin and end on full hours, so sharing those instances saves a lot of memory when many
+     * TimeSpans are held in memory. The pool is a fixed size cache, an instance may be evicted by a different one
+     * that maps to the same slot, so equal TimePoints are not guaranteed to be identical.
+     * TimePoints are immutable, thus the instance returned can be used in place of this one.
+     *
+     * @return A TimePoint equal to this one, possibly this one itself.
+     */
+    @org.jetbrains.annotations.NotNull
+    public TimePoint intern() {
+        if (getMinute() != 0 || getSecond() != 0) {
+            return this;
+        }
+
+        final long hourKey = packed >>> HOUR_SHIFT;
+        final int slot = (int) (hourKey ^ (hourKey >>> INTERN_POOL_BITS)) & (INTERN_POOL_SIZE - 1);
+
+        final TimePoint pooled = internPool[slot];
+        if (pooled != null && pooled.packed == packed) {
+            return pooled;
+        }
+
+        internPool[slot] = this;
+        return this;
+    }
+
     /**
      * Getter for the year.
      *
      * @return Returns the year of this TimePoint
      */
     public int getYear() {
-        return year;
+        return (int) (packed >>> YEAR_SHIFT);
     }
 
     /**
@@ -176,7 +263,7 @@ public class TimePoint implements Serializable, Comparable<TimePoint> {
      * @return Returns the month of this TimePoint
      */
     public int getMonth() {
-        return month;
+        return unpack(packed, MONTH_SHIFT, MONTH_BITS);
     }
 
     /**
@@ -185,7 +272,7 @@ public class TimePoint implements Serializable, Comparable<TimePoint> {
      * @return Returns the day of this TimePoint
      */
     public int getDay() {
-        return day;
+        return unpack(packed, DAY_SHIFT, DAY_BITS);
     }
 
     /**
@@ -194,7 +281,7 @@ public class TimePoint implements Serializable, Comparable<TimePoint> {
      * @return Returns the hour of this TimePoint
      */
     public int getHour() {
-        return hour;
+        return unpack(packed, HOUR_SHIFT, HOUR_BITS);
     }
 
     /**
@@ -203,7 +290,7 @@ public class TimePoint implements Serializable, Comparable<TimePoint> {
      * @return Returns the minute of this TimePoint
      */
     public int getMinute() {
-        return minute;
+        return unpack(packed, MINUTE_SHIFT, MINUTE_BITS);
     }
 
     /**
@@ -212,7 +299,7 @@ public class TimePoint implements Serializable, Comparable<TimePoint> {
      * @return Returns the second of this TimePoint
      */
     public int getSecond() {
-        return second;
+        return unpack(packed, SECOND_SHIFT, SECOND_BITS);
     }
 
     /**
@@ -223,8 +310,6 @@ public class TimePoint implements Serializable, Comparable<TimePoint> {
      */
     @Override
     public boolean equals(Object o) {
-        final int equal = 0;
-
         if (this == o) {
             return true;
         }
@@ -235,26 +320,17 @@ public class TimePoint implements Serializable, Comparable<TimePoint> {
 
         TimePoint timePoint = (TimePoint) o;
 
-        return compareTo(timePoint) == equal;
+        return packed == timePoint.packed;
     }
 
     /**
-     * Calculates the hash code of this object from all of its fields.
+     * Calculates the hash code of this object from its packed representation.
      *
      * @return The hash code calculated.
      */
     @Override
     public int hashCode() {
-        final int magicNumber = 31;
-
-        int result = year;
-        result = magicNumber * result + month;
-        result = magicNumber * result + day;
-        result = magicNumber * result + hour;
-        result = magicNumber * result + minute;
-        result = magicNumber * result + second;
-
-        return result;
+        return Long.hashCode(packed);
     }
 
     /**
@@ -265,9 +341,7 @@ public class TimePoint implements Serializable, Comparable<TimePoint> {
      */
     @Override
     public String toString() {
-        return String.format("{\"month\":%d,\"hour\":%d,\"year\":%d,\"day\":%d,\"minute\":%d,\"second\":%d}",
-                             getMonth(), getHour(), getYear(), getDay(), getMinute(), getSecond());
-
+        return TimePointSerializer.toJson(this);
     }
 
     /**
@@ -280,74 +354,7 @@ public class TimePoint implements Serializable, Comparable<TimePoint> {
      */
     @Override
     public int compareTo(@org.jetbrains.annotations.NotNull TimePoint o) {
-        // this awful code really makes me wonder if there is such a thing as the 'tie-idiom' in Java (http://en.cppreference.com/w/cpp/utility/tuple/tie).
-
-        final int equal = 0;
-
-        Integer thisYear = getYear();
-        Integer thisMonth = getMonth();
-        Integer thisDay = getDay();
-        Integer thisHour = getHour();
-        Integer thisMinute = getMinute();
-        Integer thisSecond = getSecond();
-
-        Integer otherYear = o.getYear();
-        Integer otherMonth = o.getMonth();
-        Integer otherDay = o.getDay();
-        Integer otherHour = o.getHour();
-        Integer otherMinute = o.getMinute();
-        Integer otherSecond = o.getSecond();
-
-        int cmpRes;
-        cmpRes = thisYear.compareTo(otherYear);
-
-        if (cmpRes != equal) {
-            return cmpRes;
-        }
-
-        cmpRes = thisMonth.compareTo(otherMonth);
-
-        if (cmpRes != equal) {
-            return cmpRes;
-        }
-
-        cmpRes = thisDay.compareTo(otherDay);
-
-        if (cmpRes != equal) {
-            return cmpRes;
-        }
-
-        cmpRes = thisHour.compareTo(otherHour);
-
-        if (cmpRes != equal) {
-            return cmpRes;
-        }
-
-        cmpRes = thisMinute.compareTo(otherMinute);
-
-        if (cmpRes != equal) {
-            return cmpRes;
-        }
-
-        cmpRes = thisSecond.compareTo(otherSecond);
-
-        if (cmpRes != equal) {
-            return cmpRes;
-        }
-
-        return equal;
-    }
-
-    /**
-     * Gives a String of the 'standard' format for this instance's year, month and day.
-     * The 'standard' format is "yyyyMMdd", that is four digits for the year, followed by two digits for the month
-     * and two digits for the day.
-     *
-     * @return A String of the 'standard' format of this instance's year, month and day.
-     */
-    String asStandardFormat() {
-        return String.format("%s%s%s",
-                String.format("%04d", getYear()), String.format("%02d", getMonth()), String.format("%02d", getDay()));
+        return Long.compare(packed, o.packed);
     }
 
     /**
@@ -366,172 +373,97 @@ public class TimePoint implements Serializable, Comparable<TimePoint> {
     @org.jetbrains.annotations.NotNull
     @Contract("null -> fail")
     static TimePoint fromString(String timePointString) throws ArgumentNotValidException, InvalidDateException, RuntimeException {
-        final String yearStr = "year=";
-        final String monthStr = "month=";
-        final String dayStr = "day=";
-        final String hourStr = "hour=";
-        final String minuteStr = "minute=";
-        final String secondStr = "second=";
-
-        final int yearIdx = 0;
-        final int monthIdx = 1;
-        final int dayIdx = 2;
-        final int hourIdx = 3;
-        final int minuteIdx = 4;
-        final int secondIdx = 5;
-
-        final int begin = 0;
-        final int next = 1;
-
-        final int notFound = -1;
-
         if (timePointString == null) {
             throw new ArgumentNotValidException(new String[]{"timePointString in TimePoint::fromString was null"});
         }
 
-        if (!timePointString.startsWith("TimePoint{") || ! timePointString.endsWith("}")) {
-            throw new RuntimeException("garbage string");
-        }
+        ParsePosition position = new ParsePosition(0);
+        TimePoint timePoint = TimeSpanParser.parseTimePoint(timePointString, position);
 
-        final String ary[] = new String[]{
-                yearStr, monthStr, dayStr, hourStr, minuteStr, secondStr
-        };
-
-        int yearExtracted = 0;
-        int monthExtracted = 0;
-        int dayExtracted = 0;
-        int hourExtracted = 0;
-        int minuteExtracted = 0;
-        int secondExtracted = 0;
-
-        int idx = begin;
-        for (int i = 0; i < ary.length; ++i) {
-            idx = timePointString.indexOf(ary[i], idx);
-
-            if (idx == notFound) {
-                throw new RuntimeException("ary[i] could not be found in TimePoint::fromString");
-            }
-
-            idx += ary[i].length() - 1;
-
-            final int numExtracted = getNumberAtIdx(timePointString, idx + next);
-
-            switch (i) {
-                case yearIdx:
-                    yearExtracted = numExtracted;
-                    break;
-                case monthIdx:
-                    monthExtracted = numExtracted;
-                    break;
-                case dayIdx:
-                    dayExtracted = numExtracted;
-                    break;
-                case hourIdx:
-                    hourExtracted = numExtracted;
-                    break;
-                case minuteIdx:
-                    minuteExtracted = numExtracted;
-                    break;
-                case secondIdx:
-                    secondExtracted = numExtracted;
-                    break;
-                default:
-                    break;
-            }
+        if (timePoint == null || position.getIndex() != timePointString.length()) {
+            final int errorIdx = timePoint == null ? position.getErrorIndex() : position.getIndex();
+
+            throw new RuntimeException(String.format("garbage string at index %d in TimePoint::fromString", errorIdx));
         }
 
-        return new TimePoint(yearExtracted, monthExtracted, dayExtracted,
-                hourExtracted, minuteExtracted, secondExtracted);
+        return timePoint;
     }
 
     /**
-     * Extracts the decimal number beginning at index idx in the String str until the end of the decimal number.
+     * Creates a TimePoint from an ISO-8601 local date-time such as 2017-04-15T16:00:00 or 2017-04-15T16:00.
      *
-     * @param str The String to extract a decimal number from.
-     * @param idx The index at which the decimal number starts in the String str.
-     * @return The decimal number extracted from str at idx as int.
-     * @throws IndexOutOfBoundsException If the index idx passed into the second parameter is not within the range
-     *         of valid indices of the String str.
-     * @throws ArgumentNotValidException if a decimal number could not be extracted from the String str.
-     */
-    private static int getNumberAtIdx(@NotNull String str, int idx) throws RuntimeException, ArgumentNotValidException {
-        // a decimal number is to be extracted.
-        final int base = 10;
-
-        if (idx >= str.length()) {
-            throw new IndexOutOfBoundsException("idx out of bounds in TimePoint::getNUmberAtIdx");
+     * @param isoString The ISO-8601 local date-time.
+     * @return The TimePoint created from the isoString passed in.
+     * @throws ArgumentNotValidException if the isoString passed in is null or not an ISO-8601 local date-time.
+     * @throws InvalidDateException if the isoString passed in is well formed but does not denote a valid date.
+     */
+    @org.jetbrains.annotations.NotNull
+    @Contract("null -> fail")
+    public static TimePoint fromIsoString(String isoString) throws ArgumentNotValidException, InvalidDateException {
+        if (isoString == null) {
+            throw new ArgumentNotValidException(new String[]{"isoString in TimePoint::fromIsoString was null"});
         }
 
-        int accumulator = 0;
-        char curChar = str.charAt(idx);
+        ParsePosition position = new ParsePosition(0);
+        TimePoint timePoint = TimeSpanParser.parseIsoTimePoint(isoString, position);
 
-        if (!Character.isDigit(curChar)) {
-            throw new RuntimeException(String.format("no digit found in TimePoint::getNumberAtIdx\ncurChar: %s idx: %d",
-                                                     curChar, idx)
-            );
-        }
+        if (timePoint == null || position.getIndex() != isoString.length()) {
+            final int errorIdx = timePoint == null ? position.getErrorIndex() : position.getIndex();
 
-        for (int i = idx; i < str.length() && Character.isDigit(curChar); ++i, curChar = str.charAt(i)) {
-            accumulator *= base; // multiply with 10 to get the number right.
-            accumulator += charAsInt(curChar); // add the current char converted to int on top.
+            throw new ArgumentNotValidException(new String[]{
+                String.format("isoString in TimePoint::fromIsoString was invalid at index %d", errorIdx)
+            });
         }
 
-        // return the decimal number just extracted.
-        return accumulator;
+        return timePoint;
     }
 
     /**
-     * Helper function to convert a char ch to an int.
+     * Extracts a field of a packed TimePoint.
      *
-     * @param ch The character to be converted to an int.
-     *        Must be '0', '1', '2', '3', '4', '5', '6', '7', '8', or '9'.
-     * @return The number that corresponds the character passed in.
-     * @throws ArgumentNotValidException if the character passed in was not a digit.
+     * @param packed The packed TimePoint.
+     * @param shift The bit position of the field.
+     * @param bits The width of the field in bits.
+     * @return The value of the field.
      */
-    private static int charAsInt(char ch) throws ArgumentNotValidException {
-        final int notFound = -1;
-
-        // the indices of the chars in this string are the integers with the values corresponding
-        // to the Character-Digits that are expected as the input to this function.
-        final String digits = "0123456789";
-
-        // get the corresponding number.
-        final int res = digits.indexOf(ch);
-
-        if (res == notFound) {
-            throw new ArgumentNotValidException(new String[]{String.format("Invalid char: %c", ch)});
-        }
-
-        return res;
+    private static int unpack(long packed, int shift, int bits) {
+        return (int) (packed >>> shift) & ((1 << bits) - 1);
     }
 
-    /**
-     * The year of this TimePoint
-     */
-    private int year;
+    // the widths of the fields of a packed TimePoint, the year takes up the remaining bits.
+    private static final int SECOND_BITS = 6;
+    private static final int MINUTE_BITS = 6;
+    private static final int HOUR_BITS = 5;
+    private static final int DAY_BITS = 5;
+    private static final int MONTH_BITS = 4;
 
-    /**
-     * The month of this TimePoint
-     */
-    private int month;
+    // the bit positions of the fields of a packed TimePoint.
+    private static final int SECOND_SHIFT = 0;
+    private static final int MINUTE_SHIFT = SECOND_SHIFT + SECOND_BITS;
+    private static final int HOUR_SHIFT = MINUTE_SHIFT + MINUTE_BITS;
+    private static final int DAY_SHIFT = HOUR_SHIFT + HOUR_BITS;
+    private static final int MONTH_SHIFT = DAY_SHIFT + DAY_BITS;
+    private static final int YEAR_SHIFT = MONTH_SHIFT + MONTH_BITS;
 
     /**
-     * The day of this TimePoint
+     * log2 of the amount of slots in the intern pool.
      */
-    private int day;
+    private static final int INTERN_POOL_BITS = 16;
 
     /**
-     * The hour of this TimePoint
+     * The amount of slots in the intern pool.
      */
-    private int hour;
+    private static final int INTERN_POOL_SIZE = 1 << INTERN_POOL_BITS;
 
     /**
-     * The minute of this TimePoint
+     * The pool of canonical TimePoints used by intern.
+     * Racy by design: TimePoints are immutable and their only field is final, so any instance read from the pool
+     * is fully initialized.
      */
-    private int minute;
+    private static final TimePoint internPool[] = new TimePoint[INTERN_POOL_SIZE];
 
     /**
-     * The second of this TimePoint
+     * The year, month, day, hour, minute and second of this TimePoint.
      */
-    private int second;
+    private final long packed;
 }
@@ -0,0 +1,47 @@
+package aiApp.applicationcore.appointmentcomponent;
+
+import javax.persistence.AttributeConverter;
+import javax.persistence.Converter;
+
+/**
+ * JPA converter that stores a TimePoint as the number of seconds since 1970-01-01T00:00:00.
+ * Storing a plain number instead of the serialized object allows the database to index, compare and sort TimePoints.
+ */
+@Converter
+public class TimePointConverter implements AttributeConverter<TimePoint, Long> {
+    /**
+     * Converts a TimePoint to the value stored in the database.
+     *
+     * @param timePoint The TimePoint to convert. May be null.
+     * @return The epoch second of the TimePoint passed in or null if null was passed in.
+     */
+    @Override
+    public Long convertToDatabaseColumn(TimePoint timePoint) {
+        if (timePoint == null) {
+            return null;
+        }
+
+        return timePoint.toEpochSecond();
+    }
+
+    /**
+     * Converts a value stored in the database back to a TimePoint.
+     *
+     * @param epochSecond The epoch second stored in the database. May be null.
+     * @return The TimePoint corresponding to the epoch second passed in or null if null was passed in.
+     *         TimePoints on the top of an hour are interned, as many rows share them.
+     * @throws IllegalStateException if the database holds an epoch second that doesn't represent a valid TimePoint.
+     */
+    @Override
+    public TimePoint convertToEntityAttribute(Long epochSecond) {
+        if (epochSecond == null) {
+            return null;
+        }
+
+        try {
+            return TimePoint.fromEpochSecond(epochSecond).intern();
+        } catch (InvalidDateException e) {
+            throw new IllegalStateException("Invalid epoch second stored in the database: " + epochSecond);
+        }
+    }
+}
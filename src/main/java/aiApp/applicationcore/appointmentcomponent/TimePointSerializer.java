@@ -0,0 +1,110 @@
+package aiApp.applicationcore.appointmentcomponent;
+
+import aiApp.applicationcore.employeecomponent.JsonText;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+/**
+ * Jackson serializer that writes a TimePoint as a JSON object of its fields, e.g.
+ * {"month":4,"hour":16,"year":2017,"day":15,"minute":0,"second":0}
+ * The field names are encoded once up front and the values are written as numbers straight into the JsonGenerator,
+ * so writing a TimePoint creates no objects.
+ * TimePoint.toString writes through this class as well.
+ */
+public class TimePointSerializer extends StdSerializer<TimePoint> {
+    /**
+     * Creates a TimePointSerializer, used by Jackson.
+     */
+    public TimePointSerializer() {
+        super(TimePoint.class);
+    }
+
+    /**
+     * Writes a TimePoint to the JsonGenerator passed in.
+     *
+     * @param timePoint The TimePoint to write.
+     * @param generator The JsonGenerator to write to.
+     * @param provider The provider of the serialization, unused.
+     * @throws IOException if the JsonGenerator could not write.
+     */
+    @Override
+    public void serialize(TimePoint timePoint, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        write(timePoint, generator);
+    }
+
+    /**
+     * Writes a TimePoint to a JsonGenerator.
+     *
+     * @param timePoint The TimePoint to write, null is written as JSON null.
+     * @param generator The JsonGenerator to write to.
+     * @throws IOException if the JsonGenerator could not write.
+     */
+    static void write(TimePoint timePoint, JsonGenerator generator) throws IOException {
+        if (timePoint == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject();
+        generator.writeFieldName(monthField);
+        generator.writeNumber(timePoint.getMonth());
+        generator.writeFieldName(hourField);
+        generator.writeNumber(timePoint.getHour());
+        generator.writeFieldName(yearField);
+        generator.writeNumber(timePoint.getYear());
+        generator.writeFieldName(dayField);
+        generator.writeNumber(timePoint.getDay());
+        generator.writeFieldName(minuteField);
+        generator.writeNumber(timePoint.getMinute());
+        generator.writeFieldName(secondField);
+        generator.writeNumber(timePoint.getSecond());
+        generator.writeEndObject();
+    }
+
+    /**
+     * Creates the JSON text of a TimePoint.
+     *
+     * @param timePoint The TimePoint to create the JSON text of.
+     * @return The JSON text.
+     */
+    static String toJson(TimePoint timePoint) {
+        final int expectedLength = 64;
+
+        return JsonText.toJson(timePoint, expectedLength, TimePointSerializer::write);
+    }
+
+    /**
+     * The name of the month field.
+     */
+    private static final SerializableString monthField = new SerializedString("month");
+
+    /**
+     * The name of the hour field.
+     */
+    private static final SerializableString hourField = new SerializedString("hour");
+
+    /**
+     * The name of the year field.
+     */
+    private static final SerializableString yearField = new SerializedString("year");
+
+    /**
+     * The name of the day field.
+     */
+    private static final SerializableString dayField = new SerializedString("day");
+
+    /**
+     * The name of the minute field.
+     */
+    private static final SerializableString minuteField = new SerializedString("minute");
+
+    /**
+     * The name of the second field.
+     */
+    private static final SerializableString secondField = new SerializedString("second");
+}
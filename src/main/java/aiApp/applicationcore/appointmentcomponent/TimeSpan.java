@@ -1,15 +1,25 @@
 package aiApp.applicationcore.appointmentcomponent;
 
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
-import org.springframework.util.StringUtils;
 
+import javax.persistence.Column;
+import javax.persistence.Convert;
+import javax.persistence.Embeddable;
 import java.io.Serializable;
+import java.text.ParsePosition;
 
 /**
  * Represents a span of time, that is a span from one point in time to another.
  * Both of the time points are considered part of the range, thus creating a closed range.
+ * When embedded in an entity the TimeSpan is stored as two epoch second columns, so that it can be queried and sorted.
+ * JSON input is read by the TimeSpanDeserializer, as {"start":"2017-04-15T16:00:00","end":"2017-04-15T17:00:00"}.
  */
+@Embeddable
+@JsonDeserialize(using = TimeSpanDeserializer.class)
+@JsonSerialize(using = TimeSpanSerializer.class)
 public class TimeSpan implements Serializable {
     /**
      * magic empty constructor - don't touch.
@@ -57,37 +67,18 @@ public class TimeSpan implements Serializable {
             throw new ArgumentNotValidException(new String[]{"timeSpanString in TimeSpan::fromString was null."});
         }
 
-        if (!isTimeSpanStringOk(timeSpanString)) {
-            throw new ArgumentNotValidException(new String[]{"timeSpanString in TimeSpan::fromString was invalid"});
-        }
-
-        final String timePoint = "TimePoint";
-
-        // get the beginning of the first "TimePoint"-String.
-        final int beginOfFirstTimePointString = timeSpanString.indexOf(timePoint);
-
-        // this index will refer to the 't'-Character at the end of the first "TimePoint"-String
-        final int endOfFirstTimePointString = beginOfFirstTimePointString + (timePoint.length() - 1);
-
-        // get the beginning of the second "TimePoint"-String
-        final int beginOfSecondTimePoint = timeSpanString.indexOf(timePoint, endOfFirstTimePointString);
-
-        // from the 'T'-character that the first "TimePoint"-String starts out with
-        // to the character just before where the second TimePoint-Part begins.
-        String firstTimePointStr = timeSpanString.substring(beginOfFirstTimePointString, beginOfSecondTimePoint);
-
-        // from the 'T-'character that the second "TimePoint"-String starts out with
-        // to the end, excluding the closing curly brace, that belongs to the surrounding TimeSpan.
-        String secondTimePointStr = timeSpanString.substring(beginOfSecondTimePoint, timeSpanString.length() - 1);
+        ParsePosition position = new ParsePosition(0);
+        TimeSpan timeSpan = TimeSpanParser.parseTimeSpan(timeSpanString, position);
 
-        // create the first time point
-        TimePoint firstTimePoint = TimePoint.fromString(firstTimePointStr);
+        if (timeSpan == null || position.getIndex() != timeSpanString.length()) {
+            final int errorIdx = timeSpan == null ? position.getErrorIndex() : position.getIndex();
 
-        // create the second time point
-        TimePoint secondTimePoint = TimePoint.fromString(secondTimePointStr);
+            throw new ArgumentNotValidException(new String[]{
+                String.format("timeSpanString in TimeSpan::fromString was invalid at index %d", errorIdx)
+            });
+        }
 
-        // create the TimeSpan
-        return new TimeSpan(firstTimePoint, secondTimePoint);
+        return timeSpan;
     }
 
     /**
@@ -151,44 +142,32 @@ public class TimeSpan implements Serializable {
      */
     @Override
     public String toString() {
-        return String.format("{\"startTimePoint\":%s,\"endTimePoint\":%s}",
-                             getStartTimePoint(), getEndTimePoint());
-
+        return TimeSpanSerializer.toJson(this);
     }
 
     /**
-     * Checks if the timeSpanString passed in is ok.
-     *
-     * @param timeSpanString The timeSpanString to check.
-     * @return true if the timeSpanString passed in is considered 'ok'; false otherwise.
+     * The name of the database column that holds the epoch second of the begin TimePoint.
      */
-    @Contract("null -> false")
-    private static boolean isTimeSpanStringOk(String timeSpanString) {
-        final int expectedTimePointOccurrences = 2;
-        final int expectedCurlyBracePairs = 3;
-
-        final String timePointStr = "TimePoint";
-        final String openingCurlyBrace = "{";
-        final String closingCurlyBrace = "}";
-
-        return (timeSpanString != null)
-                && timeSpanString.endsWith("}}")
-                && timeSpanString.startsWith("TimeSpan")
-                && (StringUtils.countOccurrencesOf(timeSpanString, timePointStr) == expectedTimePointOccurrences)
-                && !((StringUtils.countOccurrencesOf(timeSpanString, openingCurlyBrace) != expectedCurlyBracePairs)
-                || (StringUtils.countOccurrencesOf(timeSpanString, closingCurlyBrace) != expectedCurlyBracePairs));
+    static final String BEGIN_COLUMN = "begin_epoch_second";
 
-    }
+    /**
+     * The name of the database column that holds the epoch second of the end TimePoint.
+     */
+    static final String END_COLUMN = "end_epoch_second";
 
     /**
      * The start TimePoint, where the TimeSpan begins.
      * Considered to be part of the range represented by this TimeSpan.
      */
+    @Convert(converter = TimePointConverter.class)
+    @Column(name = BEGIN_COLUMN)
     private TimePoint begin;
 
     /**
      * The end TimePoint, where the TimeSpan ends.
      * Considered to be part of the range represented by this TimeSpan.
      */
+    @Convert(converter = TimePointConverter.class)
+    @Column(name = END_COLUMN)
     private TimePoint end;
 }
@@ -0,0 +1,417 @@
+package aiApp.applicationcore.appointmentcomponent;
+
+import javax.validation.constraints.NotNull;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.text.ParsePosition;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Parses large, newline delimited batches of TimeSpan strings, one TimeSpan string per line, for instance
+ * TimeSpan{TimePoint{year=2017, month=4, day=15, hour=16, minute=0, second=0}TimePoint{year=2017, month=4, day=15, hour=17, minute=0, second=0}}
+ * The input is split into chunks of whole lines that are parsed in parallel; the outcome of every line is yielded in
+ * the order of the lines as a ParsedTimeSpan, so that a malformed line doesn't abort the batch.
+ * Empty lines are skipped, line endings may be "\n" or "\r\n".
+ * Byte input is read as ISO-8859-1 without copying it, a TimeSpan string never contains other characters.
+ */
+public final class TimeSpanBatchParser {
+    /**
+     * Non-instantiable.
+     */
+    private TimeSpanBatchParser() {
+
+    }
+
+    /**
+     * Parses the lines read from a Reader.
+     * The lines are read one chunk at a time whenever the Stream hands work to one of its threads, thus the input is
+     * not read much further ahead than it is parsed. The Reader is not closed.
+     *
+     * @param reader The Reader to read the lines from. May not be null.
+     * @return A parallel Stream of the outcome of every non-empty line.
+     *         An IOException thrown by the Reader is rethrown as an UncheckedIOException by the Stream.
+     */
+    public static Stream<ParsedTimeSpan> parse(@NotNull Reader reader) {
+        final BufferedReader bufferedReader = reader instanceof BufferedReader
+                                              ? (BufferedReader) reader
+                                              : new BufferedReader(reader);
+
+        return StreamSupport.stream(new LineChunkSpliterator(bufferedReader), true)
+                            .flatMap(chunk -> parseLines(chunk.lines, chunk.firstLineNumber).stream());
+    }
+
+    /**
+     * Parses the lines held by a ByteBuffer, from its position up to its limit.
+     * The ByteBuffer itself is not modified.
+     *
+     * @param buffer The ByteBuffer that holds the lines. May not be null.
+     * @return A parallel Stream of the outcome of every non-empty line.
+     */
+    public static Stream<ParsedTimeSpan> parse(@NotNull ByteBuffer buffer) {
+        final List<ByteBuffer> chunks = new ArrayList<>();
+        addChunks(buffer, chunks);
+
+        return parseChunks(chunks);
+    }
+
+    /**
+     * Parses the lines of a file.
+     * The file is memory mapped instead of being read onto the heap, thus files larger than the heap can be parsed.
+     *
+     * @param file The file that holds the lines. May not be null.
+     * @return A parallel Stream of the outcome of every non-empty line.
+     * @throws IOException if the file could not be opened or mapped.
+     */
+    public static Stream<ParsedTimeSpan> parse(@NotNull Path file) throws IOException {
+        final List<ByteBuffer> chunks = new ArrayList<>();
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final long size = channel.size();
+
+            // a single mapping is limited to Integer.MAX_VALUE bytes; map segments that end after a line break.
+            long segmentStart = 0;
+            while (segmentStart < size) {
+                final long segmentSize = Math.min(size - segmentStart, maxSegmentSize);
+                final ByteBuffer segment = channel.map(FileChannel.MapMode.READ_ONLY, segmentStart, segmentSize);
+
+                int segmentEnd = (int) segmentSize;
+                if (segmentStart + segmentSize < size) {
+                    segmentEnd = lastLineBreak(segment) + 1;
+
+                    if (segmentEnd == 0) {
+                        throw new IOException(String.format("Line at byte %d of %s is too long", segmentStart, file));
+                    }
+                }
+
+                segment.limit(segmentEnd);
+                addChunks(segment, chunks);
+                segmentStart += segmentEnd;
+            }
+        }
+
+        return parseChunks(chunks);
+    }
+
+    /**
+     * Parses a single line.
+     *
+     * @param line The line, without the line break.
+     * @param lineNumber The number of the line.
+     * @return The outcome of parsing the line.
+     */
+    static ParsedTimeSpan parseLine(CharSequence line, long lineNumber) {
+        final ParsePosition position = new ParsePosition(0);
+
+        try {
+            final TimeSpan timeSpan = TimeSpanParser.parseTimeSpan(line, position);
+
+            if (timeSpan == null) {
+                return new ParsedTimeSpan(lineNumber, "malformed TimeSpan", position.getErrorIndex());
+            }
+
+            if (position.getIndex() != line.length()) {
+                return new ParsedTimeSpan(lineNumber, "unexpected characters after the TimeSpan", position.getIndex());
+            }
+
+            return new ParsedTimeSpan(lineNumber, timeSpan);
+        } catch (InvalidDateException | InvalidTimePointException e) {
+            return new ParsedTimeSpan(lineNumber, e.getMessage(), ParsedTimeSpan.noErrorIndex);
+        }
+    }
+
+    /**
+     * Parses chunks of lines in parallel.
+     *
+     * @param chunks The chunks, each one ending after a line break unless it is the last one.
+     * @return A parallel Stream of the outcome of every non-empty line, in order.
+     */
+    private static Stream<ParsedTimeSpan> parseChunks(List<ByteBuffer> chunks) {
+        // count the lines of the chunks in parallel, so that each chunk knows the number of its first line.
+        final long firstLineNumbers[] = IntStream.range(0, chunks.size())
+                                                 .parallel()
+                                                 .mapToLong(i -> countLineBreaks(chunks.get(i)))
+                                                 .toArray();
+
+        long lineNumber = 1;
+        for (int i = 0; i < firstLineNumbers.length; ++i) {
+            final long lineBreaks = firstLineNumbers[i];
+            firstLineNumbers[i] = lineNumber;
+            lineNumber += lineBreaks;
+        }
+
+        return IntStream.range(0, chunks.size())
+                        .parallel()
+                        .boxed()
+                        .flatMap(i -> parseLines(chunks.get(i), firstLineNumbers[i]).stream());
+    }
+
+    /**
+     * Parses the lines of a chunk of bytes.
+     *
+     * @param chunk The chunk, from its position up to its limit.
+     * @param firstLineNumber The number of the first line in the chunk.
+     * @return The outcome of every non-empty line of the chunk.
+     */
+    private static List<ParsedTimeSpan> parseLines(ByteBuffer chunk, long firstLineNumber) {
+        final List<ParsedTimeSpan> results = new ArrayList<>();
+        final Latin1Sequence line = new Latin1Sequence(chunk);
+
+        long lineNumber = firstLineNumber;
+        int lineStart = chunk.position();
+        final int end = chunk.limit();
+
+        while (lineStart < end) {
+            int lineEnd = lineStart;
+            while (lineEnd < end && chunk.get(lineEnd) != '\n') {
+                ++lineEnd;
+            }
+
+            line.reset(lineStart, lineEnd > lineStart && chunk.get(lineEnd - 1) == '\r' ? lineEnd - 1 : lineEnd);
+            if (line.length() > 0) {
+                results.add(parseLine(line, lineNumber));
+            }
+
+            ++lineNumber;
+            lineStart = lineEnd + 1;
+        }
+
+        return results;
+    }
+
+    /**
+     * Parses a chunk of lines read from a Reader.
+     *
+     * @param lines The lines.
+     * @param firstLineNumber The number of the first line.
+     * @return The outcome of every non-empty line.
+     */
+    private static List<ParsedTimeSpan> parseLines(List<String> lines, long firstLineNumber) {
+        final List<ParsedTimeSpan> results = new ArrayList<>(lines.size());
+
+        long lineNumber = firstLineNumber;
+        for (String line : lines) {
+            if (!line.isEmpty()) {
+                results.add(parseLine(line, lineNumber));
+            }
+
+            ++lineNumber;
+        }
+
+        return results;
+    }
+
+    /**
+     * Splits a ByteBuffer into chunks of roughly chunkSize bytes, each one ending after a line break unless it is the
+     * last one. The chunks share the content of the ByteBuffer.
+     *
+     * @param buffer The ByteBuffer to split, from its position up to its limit.
+     * @param chunks The List to add the chunks to.
+     */
+    private static void addChunks(ByteBuffer buffer, List<ByteBuffer> chunks) {
+        final int end = buffer.limit();
+
+        int chunkStart = buffer.position();
+        while (chunkStart < end) {
+            int chunkEnd = (int) Math.min((long) chunkStart + chunkSize, end);
+
+            while (chunkEnd < end && buffer.get(chunkEnd - 1) != '\n') {
+                ++chunkEnd;
+            }
+
+            final ByteBuffer chunk = buffer.duplicate();
+            chunk.limit(chunkEnd);
+            chunk.position(chunkStart);
+            chunks.add(chunk);
+
+            chunkStart = chunkEnd;
+        }
+    }
+
+    /**
+     * Counts the line breaks in a chunk.
+     *
+     * @param chunk The chunk, from its position up to its limit.
+     * @return The amount of line breaks in the chunk.
+     */
+    private static long countLineBreaks(ByteBuffer chunk) {
+        long lineBreaks = 0;
+
+        for (int i = chunk.position(); i < chunk.limit(); ++i) {
+            if (chunk.get(i) == '\n') {
+                ++lineBreaks;
+            }
+        }
+
+        return lineBreaks;
+    }
+
+    /**
+     * Finds the last line break in a ByteBuffer.
+     *
+     * @param buffer The ByteBuffer, from 0 up to its limit.
+     * @return The index of the last line break or -1 if there is none.
+     */
+    private static int lastLineBreak(ByteBuffer buffer) {
+        for (int i = buffer.limit() - 1; i >= 0; --i) {
+            if (buffer.get(i) == '\n') {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * A chunk of lines read from a Reader, together with the number of its first line.
+     */
+    private static final class LineChunk {
+        LineChunk(List<String> lines, long firstLineNumber) {
+            this.lines = lines;
+            this.firstLineNumber = firstLineNumber;
+        }
+
+        final List<String> lines;
+        final long firstLineNumber;
+    }
+
+    /**
+     * Reads the chunks of lines from a BufferedReader in order, thus each chunk knows the number of its first line by
+     * the amount read before. Splitting hands out the next chunk alone, so that a parallel Stream reads the input no
+     * further ahead than its threads parse it.
+     */
+    private static final class LineChunkSpliterator implements Spliterator<LineChunk> {
+        LineChunkSpliterator(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super LineChunk> action) {
+            final LineChunk chunk = readChunk();
+
+            if (chunk == null) {
+                return false;
+            }
+
+            action.accept(chunk);
+            return true;
+        }
+
+        @Override
+        public Spliterator<LineChunk> trySplit() {
+            final LineChunk chunk = readChunk();
+
+            return chunk == null ? null : Collections.singletonList(chunk).spliterator();
+        }
+
+        @Override
+        public long estimateSize() {
+            return Long.MAX_VALUE;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.NONNULL;
+        }
+
+        /**
+         * Reads the next chunk of lines.
+         *
+         * @return The chunk or null if the Reader has no more lines.
+         */
+        private LineChunk readChunk() {
+            final List<String> lines = new ArrayList<>(linesPerChunk);
+
+            try {
+                String line;
+                while (lines.size() < linesPerChunk && (line = reader.readLine()) != null) {
+                    lines.add(line);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+
+            if (lines.isEmpty()) {
+                return null;
+            }
+
+            final LineChunk chunk = new LineChunk(lines, linesRead + 1);
+            linesRead += lines.size();
+            return chunk;
+        }
+
+        private final BufferedReader reader;
+        private long linesRead;
+    }
+
+    /**
+     * A reusable view of a range of ISO-8859-1 encoded bytes of a ByteBuffer as a CharSequence.
+     */
+    private static final class Latin1Sequence implements CharSequence {
+        Latin1Sequence(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        void reset(int start, int end) {
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        public int length() {
+            return end - start;
+        }
+
+        @Override
+        public char charAt(int index) {
+            return (char) (buffer.get(start + index) & 0xFF);
+        }
+
+        @Override
+        public CharSequence subSequence(int subStart, int subEnd) {
+            return toString().subSequence(subStart, subEnd);
+        }
+
+        @Override
+        public String toString() {
+            final StringBuilder sb = new StringBuilder(length());
+
+            for (int i = 0; i < length(); ++i) {
+                sb.append(charAt(i));
+            }
+
+            return sb.toString();
+        }
+
+        private final ByteBuffer buffer;
+        private int start;
+        private int end;
+    }
+
+    /**
+     * The approximate size of a chunk of bytes that is parsed by a single thread.
+     */
+    private static final int chunkSize = 1 << 20;
+
+    /**
+     * The amount of lines read from a Reader that are parsed by a single thread.
+     */
+    private static final int linesPerChunk = 8192;
+
+    /**
+     * The largest part of a file that is mapped at once.
+     */
+    private static final long maxSegmentSize = 1L << 30;
+}
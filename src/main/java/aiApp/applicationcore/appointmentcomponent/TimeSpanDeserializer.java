@@ -0,0 +1,112 @@
+package aiApp.applicationcore.appointmentcomponent;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+import java.io.IOException;
+import java.nio.CharBuffer;
+import java.text.ParsePosition;
+
+/**
+ * Streaming Jackson deserializer that reads a TimeSpan from a JSON object of two ISO-8601 local date-times, e.g.
+ * {"start":"2017-04-15T16:00:00","end":"2017-04-15T17:00:00"}
+ * The date-times are parsed straight out of the character buffer of the JsonParser, no Strings are created for them.
+ */
+public class TimeSpanDeserializer extends StdDeserializer<TimeSpan> {
+    /**
+     * Creates a TimeSpanDeserializer, used by Jackson.
+     */
+    public TimeSpanDeserializer() {
+        super(TimeSpan.class);
+    }
+
+    /**
+     * Reads a TimeSpan from the JSON object the parser passed in is positioned at.
+     *
+     * @param parser The JsonParser to read from.
+     * @param context The context of the deserialization.
+     * @return The TimeSpan read.
+     * @throws IOException if the JSON could not be read or does not denote a valid TimeSpan.
+     */
+    @Override
+    public TimeSpan deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+        JsonToken token = parser.getCurrentToken();
+        if (token == JsonToken.START_OBJECT) {
+            token = parser.nextToken();
+        }
+
+        TimePoint start = null;
+        TimePoint end = null;
+
+        for (; token == JsonToken.FIELD_NAME; token = parser.nextToken()) {
+            final String fieldName = parser.getCurrentName();
+            parser.nextToken();
+
+            if (startField.equals(fieldName)) {
+                start = readTimePoint(parser, fieldName);
+            } else if (endField.equals(fieldName)) {
+                end = readTimePoint(parser, fieldName);
+            } else {
+                context.handleUnknownProperty(parser, this, TimeSpan.class, fieldName);
+            }
+        }
+
+        if (token != JsonToken.END_OBJECT) {
+            throw JsonMappingException.from(parser, "Expected a JSON object for a TimeSpan.");
+        }
+
+        if (start == null || end == null) {
+            throw JsonMappingException.from(parser, "A TimeSpan requires both a start and an end.");
+        }
+
+        try {
+            return new TimeSpan(start, end);
+        } catch (InvalidTimePointException e) {
+            throw JsonMappingException.from(parser, "The end of a TimeSpan may not lie before its start.");
+        }
+    }
+
+    /**
+     * Reads a TimePoint from the ISO-8601 local date-time string the parser passed in is positioned at.
+     *
+     * @param parser The JsonParser to read from.
+     * @param fieldName The name of the field being read, for error messages.
+     * @return The TimePoint read.
+     * @throws IOException if the JSON could not be read or the string is not a valid ISO-8601 local date-time.
+     */
+    static TimePoint readTimePoint(JsonParser parser, String fieldName) throws IOException {
+        if (parser.getCurrentToken() != JsonToken.VALUE_STRING) {
+            throw JsonMappingException.from(parser, String.format("\"%s\" must be an ISO-8601 date-time string.", fieldName));
+        }
+
+        final CharSequence text = CharBuffer.wrap(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+        final ParsePosition position = new ParsePosition(0);
+
+        try {
+            final TimePoint timePoint = TimeSpanParser.parseIsoTimePoint(text, position);
+
+            if (timePoint == null || position.getIndex() != text.length()) {
+                throw JsonMappingException.from(parser, String.format(
+                    "\"%s\" is not an ISO-8601 local date-time, error at index %d.", fieldName,
+                    timePoint == null ? position.getErrorIndex() : position.getIndex()));
+            }
+
+            return timePoint;
+        } catch (InvalidDateException e) {
+            throw JsonMappingException.from(parser, String.format("\"%s\" is not a valid date.", fieldName));
+        }
+    }
+
+    /**
+     * The name of the field that holds the start of the TimeSpan.
+     */
+    private static final String startField = "start";
+
+    /**
+     * The name of the field that holds the end of the TimeSpan.
+     */
+    private static final String endField = "end";
+}
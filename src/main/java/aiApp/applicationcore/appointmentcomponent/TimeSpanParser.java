@@ -0,0 +1,347 @@
+package aiApp.applicationcore.appointmentcomponent;
+
+import javax.validation.constraints.NotNull;
+import java.text.ParsePosition;
+
+/**
+ * Single pass parser for the textual representation of TimeSpans and TimePoints, for instance
+ * TimeSpan{TimePoint{year=2017, month=4, day=15, hour=16, minute=0, second=0}TimePoint{year=2017, month=4, day=15, hour=17, minute=0, second=0}}
+ * The parser walks a cursor over the text once and creates no intermediate objects.
+ * Like the parsers of java.text it does not throw on malformed text: it returns null and stores the index of the
+ * offending character as the error index of the ParsePosition passed in.
+ * Well formed text that does not denote a valid TimePoint or TimeSpan is reported by the exceptions of the
+ * respective constructor.
+ * TimePoints can also be parsed from ISO-8601 local date-times such as 2017-04-15T16:00:00.
+ */
+final class TimeSpanParser {
+    /**
+     * Non-instantiable.
+     */
+    private TimeSpanParser() {
+
+    }
+
+    /**
+     * Parses a TimeSpan beginning at the index of the ParsePosition passed in.
+     * Whitespace is permitted between the two TimePoints.
+     *
+     * @param text The text to parse.
+     * @param position The position at which to start parsing. On success its index is advanced just past the closing
+     *        curly brace of the TimeSpan; on failure its error index is set to the offending index and its index
+     *        is left unchanged.
+     * @return The TimeSpan parsed or null if the text is malformed.
+     * @throws InvalidDateException if one of the TimePoints is well formed but not a valid date.
+     * @throws InvalidTimePointException if the end of the TimeSpan lies before its begin.
+     */
+    static TimeSpan parseTimeSpan(@NotNull CharSequence text, @NotNull ParsePosition position)
+            throws InvalidDateException, InvalidTimePointException {
+        final int start = position.getIndex();
+
+        int idx = expect(text, start, TIME_SPAN_PREFIX);
+        if (idx < 0) {
+            return fail(position, start, ~idx);
+        }
+
+        position.setIndex(idx);
+        final TimePoint begin = parseTimePoint(text, position);
+        if (begin == null) {
+            position.setIndex(start);
+            return null;
+        }
+
+        position.setIndex(skipWhitespace(text, position.getIndex()));
+        final TimePoint end = parseTimePoint(text, position);
+        if (end == null) {
+            position.setIndex(start);
+            return null;
+        }
+
+        idx = position.getIndex();
+        if (idx >= text.length() || text.charAt(idx) != '}') {
+            return fail(position, start, idx);
+        }
+
+        position.setIndex(idx + 1);
+        return new TimeSpan(begin, end);
+    }
+
+    /**
+     * Parses a TimePoint beginning at the index of the ParsePosition passed in.
+     * Any amount of whitespace is permitted after the commas that separate the fields.
+     *
+     * @param text The text to parse.
+     * @param position The position at which to start parsing. On success its index is advanced just past the closing
+     *        curly brace of the TimePoint; on failure its error index is set to the offending index and its index
+     *        is left unchanged.
+     * @return The TimePoint parsed or null if the text is malformed.
+     * @throws InvalidDateException if the TimePoint is well formed but not a valid date.
+     */
+    static TimePoint parseTimePoint(@NotNull CharSequence text, @NotNull ParsePosition position)
+            throws InvalidDateException {
+        final int start = position.getIndex();
+
+        int idx = expect(text, start, TIME_POINT_PREFIX);
+        if (idx < 0) {
+            return fail(position, start, ~idx);
+        }
+
+        // year, month, day, hour, minute and second, in that order.
+        int year = 0;
+        int month = 0;
+        int day = 0;
+        int hour = 0;
+        int minute = 0;
+        int second = 0;
+
+        for (int field = 0; field < FIELD_NAMES.length; ++field) {
+            if (field > 0) {
+                if (idx >= text.length() || text.charAt(idx) != ',') {
+                    return fail(position, start, idx);
+                }
+
+                idx = skipWhitespace(text, idx + 1);
+            }
+
+            idx = expect(text, idx, FIELD_NAMES[field]);
+            if (idx < 0) {
+                return fail(position, start, ~idx);
+            }
+
+            final long number = parseNumber(text, idx);
+            if (number < 0) {
+                return fail(position, start, (int) ~number);
+            }
+
+            idx = (int) (number >>> Integer.SIZE);
+            final int value = (int) number;
+
+            switch (field) {
+                case 0:
+                    year = value;
+                    break;
+                case 1:
+                    month = value;
+                    break;
+                case 2:
+                    day = value;
+                    break;
+                case 3:
+                    hour = value;
+                    break;
+                case 4:
+                    minute = value;
+                    break;
+                default:
+                    second = value;
+                    break;
+            }
+        }
+
+        if (idx >= text.length() || text.charAt(idx) != '}') {
+            return fail(position, start, idx);
+        }
+
+        position.setIndex(idx + 1);
+        return new TimePoint(year, month, day, hour, minute, second);
+    }
+
+    /**
+     * Parses an ISO-8601 local date-time beginning at the index of the ParsePosition passed in,
+     * that is yyyy-MM-ddTHH:mm:ss or yyyy-MM-ddTHH:mm, the year having at least four digits.
+     * Fractions of a second and time zone offsets are not supported, as TimePoints have neither.
+     *
+     * @param text The text to parse.
+     * @param position The position at which to start parsing. On success its index is advanced just past the
+     *        date-time; on failure its error index is set to the offending index and its index is left unchanged.
+     * @return The TimePoint parsed or null if the text is malformed.
+     * @throws InvalidDateException if the date-time is well formed but not a valid date.
+     */
+    static TimePoint parseIsoTimePoint(@NotNull CharSequence text, @NotNull ParsePosition position)
+            throws InvalidDateException {
+        final int start = position.getIndex();
+        final int minYearDigits = 4;
+
+        long number = parseNumber(text, start);
+        if (number < 0) {
+            return fail(position, start, (int) ~number);
+        }
+
+        int idx = (int) (number >>> Integer.SIZE);
+        if (idx - start < minYearDigits) {
+            return fail(position, start, idx);
+        }
+
+        final int year = (int) number;
+
+        // month, day, hour, minute and the optional second, each preceded by its separator.
+        int month = 0;
+        int day = 0;
+        int hour = 0;
+        int minute = 0;
+        int second = 0;
+
+        for (int field = 0; field < ISO_SEPARATORS.length(); ++field) {
+            if (idx >= text.length() || text.charAt(idx) != ISO_SEPARATORS.charAt(field)) {
+                if (field == ISO_SECOND_FIELD) {
+                    break;
+                }
+
+                return fail(position, start, idx);
+            }
+
+            ++idx;
+
+            // every field but the year has exactly two digits.
+            if (idx + 1 >= text.length() || !isDigit(text.charAt(idx)) || !isDigit(text.charAt(idx + 1))) {
+                return fail(position, start, idx);
+            }
+
+            final int value = (text.charAt(idx) - '0') * 10 + (text.charAt(idx + 1) - '0');
+            idx += 2;
+
+            switch (field) {
+                case 0:
+                    month = value;
+                    break;
+                case 1:
+                    day = value;
+                    break;
+                case 2:
+                    hour = value;
+                    break;
+                case 3:
+                    minute = value;
+                    break;
+                default:
+                    second = value;
+                    break;
+            }
+        }
+
+        position.setIndex(idx);
+        return new TimePoint(year, month, day, hour, minute, second);
+    }
+
+    /**
+     * Determines whether a character is an ASCII digit.
+     *
+     * @param ch The character.
+     * @return true if ch is one of '0' up to '9'; false otherwise.
+     */
+    private static boolean isDigit(char ch) {
+        return ch >= '0' && ch <= '9';
+    }
+
+    /**
+     * Matches a literal at an index of the text.
+     *
+     * @param text The text.
+     * @param idx The index at which the literal is expected.
+     * @param literal The literal expected.
+     * @return The index just past the literal or, if the literal does not match, the bitwise complement of the
+     *         index of the first character that differs.
+     */
+    private static int expect(CharSequence text, int idx, String literal) {
+        final int length = literal.length();
+
+        for (int i = 0; i < length; ++i, ++idx) {
+            if (idx >= text.length() || text.charAt(idx) != literal.charAt(i)) {
+                return ~idx;
+            }
+        }
+
+        return idx;
+    }
+
+    /**
+     * Parses a non-negative decimal number that fits into an int.
+     *
+     * @param text The text.
+     * @param idx The index of the first digit.
+     * @return The index just past the number in the upper 32 bits and the number in the lower 32 bits or,
+     *         if there is no digit at idx or the number does not fit into an int, the bitwise complement of the
+     *         offending index.
+     */
+    private static long parseNumber(CharSequence text, int idx) {
+        final int base = 10;
+        final int begin = idx;
+
+        long accumulator = 0;
+        for (; idx < text.length(); ++idx) {
+            final int digit = text.charAt(idx) - '0';
+
+            if (digit < 0 || digit >= base) {
+                break;
+            }
+
+            accumulator = accumulator * base + digit;
+
+            if (accumulator > Integer.MAX_VALUE) {
+                return ~idx;
+            }
+        }
+
+        if (idx == begin) {
+            return ~idx;
+        }
+
+        return ((long) idx << Integer.SIZE) | accumulator;
+    }
+
+    /**
+     * Advances an index over whitespace.
+     *
+     * @param text The text.
+     * @param idx The index to start at.
+     * @return The index of the first character at or after idx that is not whitespace.
+     */
+    private static int skipWhitespace(CharSequence text, int idx) {
+        while (idx < text.length() && Character.isWhitespace(text.charAt(idx))) {
+            ++idx;
+        }
+
+        return idx;
+    }
+
+    /**
+     * Records a parse failure.
+     *
+     * @param position The ParsePosition to record the failure in.
+     * @param start The index to reset the ParsePosition to.
+     * @param errorIdx The index at which parsing failed.
+     * @param <T> The type of the result that could not be parsed.
+     * @return Always null.
+     */
+    private static <T> T fail(ParsePosition position, int start, int errorIdx) {
+        position.setIndex(start);
+        position.setErrorIndex(errorIdx);
+        return null;
+    }
+
+    /**
+     * The text a TimeSpan starts out with.
+     */
+    private static final String TIME_SPAN_PREFIX = "TimeSpan{";
+
+    /**
+     * The text a TimePoint starts out with.
+     */
+    private static final String TIME_POINT_PREFIX = "TimePoint{";
+
+    /**
+     * The separators that precede the month, day, hour, minute and second of an ISO-8601 date-time.
+     */
+    private static final String ISO_SEPARATORS = "--T::";
+
+    /**
+     * The index of the second, which may be omitted, in ISO_SEPARATORS.
+     */
+    private static final int ISO_SECOND_FIELD = 4;
+
+    /**
+     * The names of the fields of a TimePoint, including the equals sign, in the order in which they appear.
+     */
+    private static final String FIELD_NAMES[] = new String[] {
+        "year=", "month=", "day=", "hour=", "minute=", "second="
+    };
+}
@@ -0,0 +1,81 @@
+package aiApp.applicationcore.appointmentcomponent;
+
+import aiApp.applicationcore.employeecomponent.JsonText;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+/**
+ * Jackson serializer that writes a TimeSpan as a JSON object of its two TimePoints, e.g.
+ * {"startTimePoint":{...},"endTimePoint":{...}}
+ * The TimePoints are written by the TimePointSerializer into the same JsonGenerator.
+ * TimeSpan.toString writes through this class as well.
+ */
+public class TimeSpanSerializer extends StdSerializer<TimeSpan> {
+    /**
+     * Creates a TimeSpanSerializer, used by Jackson.
+     */
+    public TimeSpanSerializer() {
+        super(TimeSpan.class);
+    }
+
+    /**
+     * Writes a TimeSpan to the JsonGenerator passed in.
+     *
+     * @param timeSpan The TimeSpan to write.
+     * @param generator The JsonGenerator to write to.
+     * @param provider The provider of the serialization, unused.
+     * @throws IOException if the JsonGenerator could not write.
+     */
+    @Override
+    public void serialize(TimeSpan timeSpan, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        write(timeSpan, generator);
+    }
+
+    /**
+     * Writes a TimeSpan to a JsonGenerator.
+     *
+     * @param timeSpan The TimeSpan to write, null is written as JSON null.
+     * @param generator The JsonGenerator to write to.
+     * @throws IOException if the JsonGenerator could not write.
+     */
+    static void write(TimeSpan timeSpan, JsonGenerator generator) throws IOException {
+        if (timeSpan == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject();
+        generator.writeFieldName(startTimePointField);
+        TimePointSerializer.write(timeSpan.getStartTimePoint(), generator);
+        generator.writeFieldName(endTimePointField);
+        TimePointSerializer.write(timeSpan.getEndTimePoint(), generator);
+        generator.writeEndObject();
+    }
+
+    /**
+     * Creates the JSON text of a TimeSpan.
+     *
+     * @param timeSpan The TimeSpan to create the JSON text of.
+     * @return The JSON text.
+     */
+    static String toJson(TimeSpan timeSpan) {
+        final int expectedLength = 160;
+
+        return JsonText.toJson(timeSpan, expectedLength, TimeSpanSerializer::write);
+    }
+
+    /**
+     * The name of the field that holds the TimePoint at which the TimeSpan begins.
+     */
+    private static final SerializableString startTimePointField = new SerializedString("startTimePoint");
+
+    /**
+     * The name of the field that holds the TimePoint at which the TimeSpan ends.
+     */
+    private static final SerializableString endTimePointField = new SerializedString("endTimePoint");
+}
@@ -1,26 +1,39 @@
 package aiApp.applicationcore.employeecomponent;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
 import java.io.Serializable;
+import java.util.Locale;
 
 /**
  * Created by srs on 08.12.15.
  */
+@JsonSerialize(using = EmailTypeSerializer.class)
 public class EmailType implements Serializable {
     @SuppressWarnings("unused")
     public EmailType() {
 
     }
 
+    /**
+     * Creates an EmailType. The address is stored in its normalized form, without surrounding whitespace and in
+     * lower case, so that addresses that only differ in case are the same.
+     *
+     * @param email The email address.
+     * @throws IllegalArgumentException if the email address is null or invalid.
+     */
     public EmailType(String email) {
         if (email == null) {
             throw new IllegalArgumentException("not a valid email address");
         }
 
-        if (!isValidEmailAddress(email)) {
+        final String normalized = email.trim().toLowerCase(Locale.ROOT);
+
+        if (!isValidEmailAddress(normalized)) {
             throw new IllegalArgumentException("not a valid email address:" + email);
         }
 
-        this.email = email;
+        this.email = normalized;
     }
 
     @SuppressWarnings("unused")
@@ -30,7 +43,7 @@ public class EmailType implements Serializable {
 
     @Override
     public String toString() {
-        return String.format("{\"email\":\"%s\"}", getEmail());
+        return EmailTypeSerializer.toJson(this);
     }
 
     @Override
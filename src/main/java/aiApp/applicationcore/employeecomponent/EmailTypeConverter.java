@@ -0,0 +1,47 @@
+package aiApp.applicationcore.employeecomponent;
+
+import javax.persistence.AttributeConverter;
+import javax.persistence.Converter;
+
+/**
+ * JPA converter that stores an EmailType as its normalized address.
+ * Storing plain text instead of the serialized object allows the database to index email addresses, look employees up
+ * by them and keep them unique.
+ */
+@Converter
+public class EmailTypeConverter implements AttributeConverter<EmailType, String> {
+    /**
+     * Converts an EmailType to the value stored in the database.
+     *
+     * @param email The EmailType to convert. May be null.
+     * @return The normalized email address or null if null was passed in.
+     */
+    @Override
+    public String convertToDatabaseColumn(EmailType email) {
+        if (email == null) {
+            return null;
+        }
+
+        return email.getEmail();
+    }
+
+    /**
+     * Converts a value stored in the database back to an EmailType.
+     *
+     * @param email The email address stored in the database. May be null.
+     * @return The EmailType corresponding to the email address passed in or null if null was passed in.
+     * @throws IllegalStateException if the database holds an invalid email address.
+     */
+    @Override
+    public EmailType convertToEntityAttribute(String email) {
+        if (email == null) {
+            return null;
+        }
+
+        try {
+            return new EmailType(email);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalStateException("Invalid email address stored in the database: " + email);
+        }
+    }
+}
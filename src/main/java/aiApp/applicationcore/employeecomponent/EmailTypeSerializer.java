@@ -0,0 +1,71 @@
+package aiApp.applicationcore.employeecomponent;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+/**
+ * Jackson serializer that writes an EmailType as a JSON object, e.g. {"email":"john.doe@example.com"}
+ * EmailType.toString writes through this class as well.
+ */
+public class EmailTypeSerializer extends StdSerializer<EmailType> {
+    /**
+     * Creates an EmailTypeSerializer, used by Jackson.
+     */
+    public EmailTypeSerializer() {
+        super(EmailType.class);
+    }
+
+    /**
+     * Writes an EmailType to the JsonGenerator passed in.
+     *
+     * @param email The EmailType to write.
+     * @param generator The JsonGenerator to write to.
+     * @param provider The provider of the serialization, unused.
+     * @throws IOException if the JsonGenerator could not write.
+     */
+    @Override
+    public void serialize(EmailType email, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        write(email, generator);
+    }
+
+    /**
+     * Writes an EmailType to a JsonGenerator.
+     *
+     * @param email The EmailType to write, null is written as JSON null.
+     * @param generator The JsonGenerator to write to.
+     * @throws IOException if the JsonGenerator could not write.
+     */
+    static void write(EmailType email, JsonGenerator generator) throws IOException {
+        if (email == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject();
+        generator.writeFieldName(emailField);
+        generator.writeString(email.getEmail());
+        generator.writeEndObject();
+    }
+
+    /**
+     * Creates the JSON text of an EmailType.
+     *
+     * @param email The EmailType to create the JSON text of.
+     * @return The JSON text.
+     */
+    static String toJson(EmailType email) {
+        final int expectedLength = 48;
+
+        return JsonText.toJson(email, expectedLength, EmailTypeSerializer::write);
+    }
+
+    /**
+     * The name of the field that holds the email address.
+     */
+    private static final SerializableString emailField = new SerializedString("email");
+}
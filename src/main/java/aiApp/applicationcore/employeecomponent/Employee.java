@@ -1,16 +1,27 @@
 package aiApp.applicationcore.employeecomponent;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import org.jetbrains.annotations.Contract;
+import javax.persistence.Column;
+import javax.persistence.Convert;
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
 import javax.validation.constraints.NotNull;
 import java.io.Serializable;
 
 /**
  * This class is used to represent employees.
+ * The email address is stored as plain text with a unique index, so that an employee can be found by it and no two
+ * employees share an address.
  */
 @Entity
+@Table(indexes = {
+    @Index(name = "idx_employee_email", columnList = Employee.EMAIL_COLUMN, unique = true)
+})
+@JsonSerialize(using = EmployeeSerializer.class)
 public class Employee implements Serializable {
     /**
      * magic empty constructor - don't touch.
@@ -142,8 +153,7 @@ public class Employee implements Serializable {
      */
     @Override
     public String toString() {
-        return String.format("{\"firstName\":\"%s\",\"lastName\":\"%s\",\"name\":\"%s\",\"id\":%d,\"email\":%s}",
-                             getFirstName(), getLastName(), getName(), getId(), getEmail());
+        return EmployeeSerializer.toJson(this);
     }
 
     /**
@@ -263,9 +273,16 @@ public class Employee implements Serializable {
      */
     private String name;
 
+    /**
+     * The name of the database column that holds the email address.
+     */
+    static final String EMAIL_COLUMN = "email";
+
     /**
      * The email address of the employee.
      * May be null if the employee has no email address.
      */
+    @Convert(converter = EmailTypeConverter.class)
+    @Column(name = EMAIL_COLUMN)
     private EmailType email;
 }
@@ -0,0 +1,102 @@
+package aiApp.applicationcore.employeecomponent;
+
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.internal.SessionFactoryImpl;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.EntityManagerFactory;
+
+/**
+ * Hibernate listener that passes employees that were stored or deleted on to the name index of the
+ * EmployeeComponent once their transaction has committed.
+ * This keeps the name index in sync with employees that are written through the EmployeeRepository directly
+ * instead of through the EmployeeComponent. Transactions that are rolled back never reach the name index.
+ * The names of an employee never change once they have been stored, so updates are of no interest.
+ */
+@Component
+class EmployeeCommitListener implements PostCommitInsertEventListener, PostCommitDeleteEventListener {
+    /**
+     * Creates an EmployeeCommitListener and registers it with the Hibernate SessionFactory.
+     *
+     * @param entityManagerFactory The EntityManagerFactory whose SessionFactory to register with.
+     * @param employeeComponent The EmployeeComponent whose name index to keep in sync.
+     */
+    @Autowired
+    EmployeeCommitListener(EntityManagerFactory entityManagerFactory, EmployeeComponent employeeComponent) {
+        this.employeeComponent = employeeComponent;
+
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImpl.class)
+                                                             .getServiceRegistry()
+                                                             .getService(EventListenerRegistry.class);
+
+        registry.appendListeners(EventType.POST_COMMIT_INSERT, this);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+    }
+
+    /**
+     * Adds an employee whose insertion was committed to the name index.
+     *
+     * @param event The event of the insertion.
+     */
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        if (event.getEntity() instanceof Employee) {
+            employeeComponent.addToNameIndex((Employee) event.getEntity());
+        }
+    }
+
+    /**
+     * Does nothing, the insertion never happened.
+     *
+     * @param event The event of the insertion.
+     */
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+
+    }
+
+    /**
+     * Removes an employee whose deletion was committed from the name index.
+     *
+     * @param event The event of the deletion.
+     */
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        if (event.getEntity() instanceof Employee) {
+            employeeComponent.removeFromNameIndex((Integer) event.getId());
+        }
+    }
+
+    /**
+     * Does nothing, the deletion never happened.
+     *
+     * @param event The event of the deletion.
+     */
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+
+    }
+
+    /**
+     * Determines whether this listener wants to be notified about an entity once its transaction has completed.
+     *
+     * @param persister The persister of the entity.
+     * @return true for employees; false otherwise.
+     */
+    @Override
+    public boolean requiresPostCommitHanding(EntityPersister persister) {
+        return Employee.class.equals(persister.getMappedClass());
+    }
+
+    /**
+     * The EmployeeComponent whose name index to keep in sync.
+     */
+    private final transient EmployeeComponent employeeComponent;
+}
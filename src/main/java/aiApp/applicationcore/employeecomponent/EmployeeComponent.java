@@ -1,9 +1,20 @@
 package aiApp.applicationcore.employeecomponent;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Component;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
 
 /**
  * The EmployeeComponent.
@@ -41,6 +52,7 @@ public class EmployeeComponent implements EmployeeComponentInterface {
         }
 
         employeeRepository.save(employee);
+        addToNameIndex(employee);
 
         return employee;
     }
@@ -89,6 +101,7 @@ public class EmployeeComponent implements EmployeeComponentInterface {
         }
 
         employeeRepository.delete(employeeId);
+        removeFromNameIndex(employeeId);
     }
 
     /**
@@ -101,6 +114,157 @@ public class EmployeeComponent implements EmployeeComponentInterface {
         return employeeRepository.findAll();
     }
 
+    /**
+     * Gives the caller a page of the listing of all employees, which is ordered by the ids of the employees.
+     *
+     * @param afterId The id of the last employee of the previous page, or null for the first page.
+     * @param limit The amount of employees per page, or null for the default of 100.
+     *        Larger amounts than 1000 are lowered to 1000.
+     * @return The employees of the page. The Slice tells whether there are further pages.
+     * @throws InvalidEmployeePageException if the limit is less than 1.
+     */
+    @Override
+    public Slice<Employee> getEmployeesAfter(Integer afterId, Integer limit) throws InvalidEmployeePageException {
+        if (limit != null && limit < 1) {
+            throw new InvalidEmployeePageException("limit was invalid");
+        }
+
+        final int pageSize = limit == null ? defaultPageSize : Math.min(limit, maxPageSize);
+        final Pageable pageable = new PageRequest(0, pageSize);
+
+        if (afterId == null) {
+            return employeeRepository.findAllByOrderByIdAsc(pageable);
+        }
+
+        return employeeRepository.findByIdGreaterThanOrderByIdAsc(afterId, pageable);
+    }
+
+    /**
+     * Searches for employees by their names, for instance to complete a name as it is typed.
+     * The words of the query are matched against the beginnings of the words of the first and last names, ignoring
+     * case and accents. If that finds fewer employees than requested, the employees whose names are most similar
+     * to the query follow, so that a typo still finds the employee meant.
+     *
+     * @param query The query, for instance "pet schm". Must contain a letter or a digit.
+     * @param limit The largest amount of employees to find, or null for the default of 10.
+     *        Larger amounts than 100 are lowered to 100.
+     * @return The employees found, the best match first. May be empty.
+     * @throws InvalidEmployeeSearchException if the query has no letters or digits or the limit is less than 1.
+     */
+    @Override
+    public List<Employee> searchEmployees(String query, Integer limit) throws InvalidEmployeeSearchException {
+        if (query == null || TextNormalizer.words(query).length == 0) {
+            throw new InvalidEmployeeSearchException("query was invalid");
+        }
+
+        if (limit != null && limit < 1) {
+            throw new InvalidEmployeeSearchException("limit was invalid");
+        }
+
+        final int maxResults = limit == null ? defaultSearchLimit : Math.min(limit, maxSearchLimit);
+
+        return findAllInOrder(queryNameIndex(index -> index.search(query, maxResults)));
+    }
+
+    /**
+     * Finds the ids of the employees with a name, for instance to look up the appointments they attend.
+     * Other than searchEmployees only the employees for which every word of the name is the beginning of a word of
+     * their first or last name are found, ignoring case and accents; similar names are not. The employees are not
+     * loaded from the repository, so the limit may be as large as a page of a listing.
+     *
+     * @param name The name, for instance "Müller" or "pet schm". Must contain a letter or a digit.
+     * @param limit The largest amount of employees to find, or null for the default of 10.
+     *        Larger amounts than 1000 are lowered to 1000.
+     * @return The ids of the employees found. May be empty.
+     * @throws InvalidEmployeeSearchException if the name has no letters or digits or the limit is less than 1.
+     */
+    @Override
+    public List<Integer> findEmployeeIdsByName(String name, Integer limit) throws InvalidEmployeeSearchException {
+        if (name == null || TextNormalizer.words(name).length == 0) {
+            throw new InvalidEmployeeSearchException("name was invalid");
+        }
+
+        if (limit != null && limit < 1) {
+            throw new InvalidEmployeeSearchException("limit was invalid");
+        }
+
+        final int maxResults = limit == null ? defaultSearchLimit : Math.min(limit, maxPageSize);
+
+        return queryNameIndex(index -> index.searchByPrefix(name, maxResults));
+    }
+
+    /**
+     * Gives the caller the employee with an email address.
+     *
+     * @param email The email address, case and surrounding whitespace do not matter.
+     * @return The employee with the email address.
+     * @throws InvalidEmailAddressException if the email address is null or invalid.
+     * @throws EmployeeNotFoundException if no employee has the email address.
+     */
+    @Override
+    public Employee getEmployeeByEmail(String email) throws InvalidEmailAddressException, EmployeeNotFoundException {
+        EmailType emailType;
+
+        try {
+            emailType = new EmailType(email);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidEmailAddressException("email was invalid");
+        }
+
+        return employeeRepository.findByEmail(emailType)
+                                 .orElseThrow(() -> new EmployeeNotFoundException("no employee has the email " + email));
+    }
+
+    /**
+     * Resolves many email addresses to the IDs of the employees that have them, for instance the attendees of
+     * invitations coming in. The addresses are looked up in batches of 1000 with a single query each.
+     *
+     * @param emails The email addresses, case and surrounding whitespace do not matter. May be null.
+     * @return The IDs of the employees by the email addresses as passed in, in the order they were passed in.
+     *         Email addresses that are null, invalid or that no employee has are left out.
+     */
+    @Override
+    public Map<String, Integer> resolveEmployeeIds(List<String> emails) {
+        Map<String, Integer> employeeIds = new LinkedHashMap<>();
+
+        if (emails == null || emails.isEmpty()) {
+            return employeeIds;
+        }
+
+        EmailType normalizedEmails[] = new EmailType[emails.size()];
+        Set<EmailType> distinctEmails = new LinkedHashSet<>();
+
+        for (int i = 0; i < normalizedEmails.length; ++i) {
+            try {
+                normalizedEmails[i] = new EmailType(emails.get(i));
+                distinctEmails.add(normalizedEmails[i]);
+            } catch (IllegalArgumentException e) {
+                // an invalid address has no employee.
+            }
+        }
+
+        Map<EmailType, Integer> idsByEmail = new HashMap<>(distinctEmails.size() * 2);
+        List<EmailType> toResolve = new ArrayList<>(distinctEmails);
+
+        for (int first = 0; first < toResolve.size(); first += resolveBatchSize) {
+            final int last = Math.min(first + resolveBatchSize, toResolve.size());
+
+            for (Object emailAndId[] : employeeRepository.findIdsByEmails(toResolve.subList(first, last))) {
+                idsByEmail.put((EmailType) emailAndId[0], (Integer) emailAndId[1]);
+            }
+        }
+
+        for (int i = 0; i < normalizedEmails.length; ++i) {
+            final Integer employeeId = normalizedEmails[i] == null ? null : idsByEmail.get(normalizedEmails[i]);
+
+            if (employeeId != null) {
+                employeeIds.put(emails.get(i), employeeId);
+            }
+        }
+
+        return employeeIds;
+    }
+
     /**
      * Gives the caller a list of the employees corresponding to the IDs passed in.
      *
@@ -153,8 +317,159 @@ public class EmployeeComponent implements EmployeeComponentInterface {
         return true;
     }
 
+    /**
+     * Adds a stored employee to the name index, if it has been loaded.
+     * Adding an employee that already is in the name index does nothing.
+     *
+     * @param employee The employee, must have an id.
+     */
+    void addToNameIndex(Employee employee) {
+        nameIndexLock.writeLock().lock();
+        try {
+            if (nameIndex != null) {
+                nameIndex.add(employee.getId(), employee.getFirstName(), employee.getLastName());
+            }
+        } finally {
+            nameIndexLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a deleted employee from the name index, if it has been loaded.
+     * Removing an employee that is not in the name index does nothing.
+     *
+     * @param employeeId The id of the employee.
+     */
+    void removeFromNameIndex(int employeeId) {
+        nameIndexLock.writeLock().lock();
+        try {
+            if (nameIndex != null) {
+                nameIndex.remove(employeeId);
+            }
+        } finally {
+            nameIndexLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Runs a search against the name index, loading it if it has not been loaded yet.
+     *
+     * @param search The search to run.
+     * @return The ids of the employees found by the search.
+     */
+    private List<Integer> queryNameIndex(Function<EmployeeNameIndex, List<Integer>> search) {
+        nameIndexLock.readLock().lock();
+        try {
+            if (nameIndex != null) {
+                return search.apply(nameIndex);
+            }
+        } finally {
+            nameIndexLock.readLock().unlock();
+        }
+
+        nameIndexLock.writeLock().lock();
+        try {
+            if (nameIndex == null) {
+                nameIndex = loadNameIndex();
+            }
+
+            return search.apply(nameIndex);
+        } finally {
+            nameIndexLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Builds the name index from the names of all the employees in the repository.
+     *
+     * @return The name index.
+     */
+    private EmployeeNameIndex loadNameIndex() {
+        List<Object[]> names = employeeRepository.findAllNames();
+
+        final int count = names.size();
+        int ids[] = new int[count];
+        String firstNames[] = new String[count];
+        String lastNames[] = new String[count];
+
+        for (int i = 0; i < count; ++i) {
+            final Object name[] = names.get(i);
+            ids[i] = (Integer) name[0];
+            firstNames[i] = (String) name[1];
+            lastNames[i] = (String) name[2];
+        }
+
+        return EmployeeNameIndex.fromNames(ids, firstNames, lastNames, count);
+    }
+
+    /**
+     * Loads employees by their ids, keeping the order of the ids.
+     * Ids of employees that no longer exist are skipped.
+     *
+     * @param employeeIds The ids of the employees to load.
+     * @return The employees, in the order of employeeIds.
+     */
+    private List<Employee> findAllInOrder(List<Integer> employeeIds) {
+        List<Employee> employees = new ArrayList<>(employeeIds.size());
+
+        if (employeeIds.isEmpty()) {
+            return employees;
+        }
+
+        Map<Integer, Employee> employeesById = new HashMap<>(employeeIds.size() * 2);
+        for (Employee employee : employeeRepository.findAll(employeeIds)) {
+            employeesById.put(employee.getId(), employee);
+        }
+
+        for (Integer employeeId : employeeIds) {
+            Employee employee = employeesById.get(employeeId);
+
+            if (employee != null) {
+                employees.add(employee);
+            }
+        }
+
+        return employees;
+    }
+
     /**
      * Autowiring by Constructor-Injection
      */
     private EmployeeRepository employeeRepository;
+
+    /**
+     * The amount of employees on a page if the caller does not ask for a specific amount.
+     */
+    private static final int defaultPageSize = 100;
+
+    /**
+     * The largest amount of employees on a page.
+     */
+    private static final int maxPageSize = 1000;
+
+    /**
+     * The largest amount of email addresses resolved with a single query.
+     */
+    private static final int resolveBatchSize = 1000;
+
+    /**
+     * The amount of employees a search finds at most if the caller does not ask for a specific amount.
+     */
+    private static final int defaultSearchLimit = 10;
+
+    /**
+     * The largest amount of employees a search finds.
+     */
+    private static final int maxSearchLimit = 100;
+
+    /**
+     * The index over the names of all employees, null until it is needed for the first time.
+     * Guarded by nameIndexLock.
+     */
+    private EmployeeNameIndex nameIndex;
+
+    /**
+     * The lock that guards the name index, searches share it and changes take it exclusively.
+     */
+    private final ReadWriteLock nameIndexLock = new ReentrantReadWriteLock();
 }
@@ -1,6 +1,9 @@
 package aiApp.applicationcore.employeecomponent;
 
+import org.springframework.data.domain.Slice;
+
 import java.util.List;
+import java.util.Map;
 
 /**
  * Interface of the EmployeeComponent.
@@ -40,6 +43,56 @@ public interface EmployeeComponentInterface {
      */
     List<Employee> getAllEmployees();
 
+    /**
+     * Gives the caller a page of the listing of all employees, which is ordered by the ids of the employees.
+     *
+     * @param afterId The id of the last employee of the previous page, or null for the first page.
+     * @param limit The amount of employees per page, or null for the default of 100.
+     *        Larger amounts than 1000 are lowered to 1000.
+     * @return The employees of the page. The Slice tells whether there are further pages.
+     * @throws InvalidEmployeePageException if the limit is less than 1.
+     */
+    Slice<Employee> getEmployeesAfter(Integer afterId, Integer limit) throws InvalidEmployeePageException;
+
+    /**
+     * Function to search for employees by their names.
+     *
+     * @param query The query, the beginnings of the words of the name or a name that is similar.
+     * @param limit The largest amount of employees to find, or null for the default.
+     * @return The employees found, the best match first. May be empty.
+     * @throws InvalidEmployeeSearchException if the query has no letters or digits or the limit is less than 1.
+     */
+    List<Employee> searchEmployees(String query, Integer limit) throws InvalidEmployeeSearchException;
+
+    /**
+     * Function to find the ids of the employees with a name. Other than searchEmployees similar names are not found.
+     *
+     * @param name The name, the beginnings of the words of the name.
+     * @param limit The largest amount of employees to find, or null for the default.
+     * @return The ids of the employees found. May be empty.
+     * @throws InvalidEmployeeSearchException if the name has no letters or digits or the limit is less than 1.
+     */
+    List<Integer> findEmployeeIdsByName(String name, Integer limit) throws InvalidEmployeeSearchException;
+
+    /**
+     * Function to get the employee with an email address.
+     *
+     * @param email The email address, case does not matter.
+     * @return The employee with the email address.
+     * @throws InvalidEmailAddressException if the email address is null or invalid.
+     * @throws EmployeeNotFoundException if no employee has the email address.
+     */
+    Employee getEmployeeByEmail(String email) throws InvalidEmailAddressException, EmployeeNotFoundException;
+
+    /**
+     * Function to resolve many email addresses to the IDs of the employees that have them.
+     *
+     * @param emails The email addresses, case does not matter. May be null.
+     * @return The IDs of the employees by the email addresses as passed in.
+     *         Email addresses that are invalid or that no employee has are left out.
+     */
+    Map<String, Integer> resolveEmployeeIds(List<String> emails);
+
     /**
      * Function to get all employees identified by a list of employee IDs.
      *
@@ -0,0 +1,877 @@
+package aiApp.applicationcore.employeecomponent;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * An index over the names of the employees for a typeahead search.
+ * Names are split into words by the TextNormalizer, so that "Anne-Marie" consists of the words "anne" and "marie".
+ * The words of all names are kept in a trie, so that the employees with a
+ * word that begins with a prefix are found by walking down the trie and collecting its subtree in alphabetical order.
+ * Names that merely look like the query, for instance because of a typo, are found through the trigrams of the names,
+ * every trigram has a posting list of the employees whose name contains it. They are ranked by the share of the
+ * trigrams of the query their names contain, shorter names first if that is the same.
+ * The trie is stored in parallel arrays, node 0 is the root. Employees are numbered by slots, which are reused once
+ * an employee has been removed. Every node knows how many employees lie below it, so that a query of several words
+ * walks the smallest subtree and only checks the other words against the names found there.
+ * Searches may run concurrently, changes may not run alongside anything else. The EmployeeComponent guards it with
+ * its lock.
+ */
+final class EmployeeNameIndex {
+    /**
+     * Creates an empty EmployeeNameIndex.
+     */
+    EmployeeNameIndex() {
+        labels = new char[initialCapacity];
+        firstChildren = new int[initialCapacity];
+        nextSiblings = new int[initialCapacity];
+        nodeSlots = new int[initialCapacity][];
+        nodeSlotCounts = new int[initialCapacity];
+        subtreeSizes = new int[initialCapacity];
+        nodeCount = 1;
+
+        slotIds = new int[initialCapacity];
+        slotWords = new String[initialCapacity][];
+        slotPrefixMasks = new long[initialCapacity];
+        slotTrigramCounts = new int[initialCapacity];
+        slotsById = new HashMap<>();
+        freeSlots = new int[initialCapacity];
+        trigrams = new HashMap<>();
+    }
+
+    /**
+     * Builds an EmployeeNameIndex from the names of many employees at once.
+     * The words are put into the trie in alphabetical order first, so that the nodes of every subtree lie next to each
+     * other in memory and are walked through quickly.
+     *
+     * @param ids The ids of the employees.
+     * @param firstNames The first names of the employees.
+     * @param lastNames The last names of the employees.
+     * @param count The amount of employees.
+     * @return The EmployeeNameIndex.
+     */
+    static EmployeeNameIndex fromNames(int ids[], String firstNames[], String lastNames[], int count) {
+        EmployeeNameIndex index = new EmployeeNameIndex();
+        String wordsOfNames[][] = new String[count][];
+        List<String> allWords = new ArrayList<>(count * 2);
+
+        for (int i = 0; i < count; ++i) {
+            wordsOfNames[i] = TextNormalizer.words(firstNames[i] + " " + lastNames[i]);
+            allWords.addAll(Arrays.asList(wordsOfNames[i]));
+        }
+
+        allWords.sort(null);
+        for (String word : allWords) {
+            index.insertWord(word);
+        }
+
+        for (int i = 0; i < count; ++i) {
+            index.add(ids[i], wordsOfNames[i]);
+        }
+
+        return index;
+    }
+
+    /**
+     * Adds an employee. Adding an employee that is present already does nothing.
+     *
+     * @param id The id of the employee.
+     * @param firstName The first name of the employee.
+     * @param lastName The last name of the employee.
+     */
+    void add(int id, String firstName, String lastName) {
+        add(id, TextNormalizer.words(firstName + " " + lastName));
+    }
+
+    /**
+     * Adds an employee by the words of their name. Adding an employee that is present already does nothing.
+     *
+     * @param id The id of the employee.
+     * @param words The normalized words of the name of the employee.
+     */
+    private void add(int id, String words[]) {
+        if (slotsById.containsKey(id)) {
+            return;
+        }
+
+        final int slot = allocateSlot();
+
+        slotIds[slot] = id;
+        slotWords[slot] = words;
+        slotPrefixMasks[slot] = prefixMaskOf(words);
+        slotsById.put(id, slot);
+
+        for (String word : words) {
+            if (addToNode(insertWord(word), slot)) {
+                adjustSubtreeSizes(word, 1);
+            }
+        }
+
+        final long nameTrigrams[] = trigramsOf(words);
+        slotTrigramCounts[slot] = nameTrigrams.length;
+        for (long trigram : nameTrigrams) {
+            trigrams.computeIfAbsent(trigram, key -> new Postings()).add(slot);
+        }
+
+        ++size;
+    }
+
+    /**
+     * Removes an employee. Removing an employee that is not present does nothing.
+     *
+     * @param id The id of the employee.
+     */
+    void remove(int id) {
+        final Integer slot = slotsById.remove(id);
+        if (slot == null) {
+            return;
+        }
+
+        final String words[] = slotWords[slot];
+        for (String word : words) {
+            if (removeFromNode(findNode(word), slot)) {
+                adjustSubtreeSizes(word, -1);
+            }
+        }
+
+        for (long trigram : trigramsOf(words)) {
+            Postings postings = trigrams.get(trigram);
+            postings.remove(slot);
+
+            if (postings.size == 0) {
+                trigrams.remove(trigram);
+            }
+        }
+
+        slotWords[slot] = null;
+        freeSlot(slot);
+        --size;
+    }
+
+    /**
+     * Returns the amount of employees present.
+     *
+     * @return The amount of employees.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Searches for employees by their names.
+     * First come the employees for which every word of the query is the beginning of a word of their name,
+     * in the alphabetical order of the name word the most selective word of the query matched.
+     * If there are fewer of these than limit, the employees whose names are most similar to the query follow.
+     *
+     * @param query The query, for instance "pet schm" or "Peter Shmidt".
+     * @param limit The largest amount of employees to return, must be greater than 0.
+     * @return The ids of the employees found, the best match first. Empty if the query has no letters or digits.
+     */
+    List<Integer> search(String query, int limit) {
+        final String queryWords[] = TextNormalizer.words(query);
+        Set<Integer> found = new LinkedHashSet<>();
+
+        if (queryWords.length == 0) {
+            return new ArrayList<>(found);
+        }
+
+        searchPrefixes(queryWords, limit, found);
+
+        if (found.size() < limit) {
+            searchSimilar(queryWords, limit, found);
+        }
+
+        return new ArrayList<>(found);
+    }
+
+    /**
+     * Searches for the employees for which every word of the query is the beginning of a word of their name,
+     * without falling back to similar names, for callers that act on the employees found rather than offer them
+     * for completion.
+     *
+     * @param query The query, for instance "müller" or "pet schm".
+     * @param limit The largest amount of employees to return, must be greater than 0.
+     * @return The ids of the employees found, in the order of search. Empty if the query has no letters or digits.
+     */
+    List<Integer> searchByPrefix(String query, int limit) {
+        final String queryWords[] = TextNormalizer.words(query);
+        Set<Integer> found = new LinkedHashSet<>();
+
+        if (queryWords.length > 0) {
+            searchPrefixes(queryWords, limit, found);
+        }
+
+        return new ArrayList<>(found);
+    }
+
+    /**
+     * Collects the employees for which every word of the query is the beginning of a word of their name.
+     *
+     * @param queryWords The words of the query.
+     * @param limit The largest amount of employees to collect.
+     * @param found The ids of the employees collected so far, added to.
+     */
+    private void searchPrefixes(String queryWords[], int limit, Set<Integer> found) {
+        final long queryMask = prefixMaskOf(queryWords);
+
+        // walks the smallest subtree, the other words only filter.
+        int prefixNode = nil;
+        for (String queryWord : queryWords) {
+            final int node = findNode(queryWord);
+
+            if (node == nil) {
+                return;
+            }
+
+            if (prefixNode == nil || subtreeSizes[node] < subtreeSizes[prefixNode]) {
+                prefixNode = node;
+            }
+        }
+
+        // depth first in alphabetical order, a node comes before its children.
+        int stack[] = new int[16];
+        int stackSize = 0;
+        stack[stackSize++] = prefixNode;
+
+        while (stackSize > 0 && found.size() < limit) {
+            final int node = stack[--stackSize];
+
+            for (int i = 0; i < nodeSlotCounts[node] && found.size() < limit; ++i) {
+                final int slot = nodeSlots[node][i];
+
+                if ((slotPrefixMasks[slot] & queryMask) == queryMask
+                        && matchesAllPrefixes(slotWords[slot], queryWords)) {
+                    found.add(slotIds[slot]);
+                }
+            }
+
+            final int firstStacked = stackSize;
+            for (int child = firstChildren[node]; child != nil; child = nextSiblings[child]) {
+                if (stackSize == stack.length) {
+                    stack = Arrays.copyOf(stack, stackSize * 2);
+                }
+
+                stack[stackSize++] = child;
+            }
+
+            reverse(stack, firstStacked, stackSize);
+        }
+    }
+
+    /**
+     * Collects the employees whose names share the most trigrams with the query.
+     * A name that contains at least minShared of the q trigrams of the query must contain one of the q - minShared + 1
+     * rarest of them, so only the posting lists of those are counted through. The names found that way look up the
+     * remaining, longer posting lists by binary search, unless going through such a list is cheaper. After each list
+     * the names that can no longer reach minShared are dropped, which leaves few names for the longest lists.
+     *
+     * @param queryWords The words of the query.
+     * @param limit The largest amount of employees to have collected.
+     * @param found The ids of the employees collected so far, added to.
+     */
+    private void searchSimilar(String queryWords[], int limit, Set<Integer> found) {
+        final long queryTrigrams[] = trigramsOf(queryWords);
+        final int minShared = (int) Math.ceil(queryTrigrams.length * minSimilarity);
+
+        List<Postings> lists = new ArrayList<>(queryTrigrams.length);
+        for (long trigram : queryTrigrams) {
+            Postings postings = trigrams.get(trigram);
+
+            if (postings != null) {
+                lists.add(postings);
+            }
+        }
+
+        if (lists.size() < minShared) {
+            return;
+        }
+
+        lists.sort((lhs, rhs) -> Integer.compare(lhs.size, rhs.size));
+
+        final int candidateLists = lists.size() - minShared + 1;
+        final int common[] = sharedCountsOfThread();
+        int touched[] = new int[16];
+        int touchedCount = 0;
+
+        for (int list = 0; list < candidateLists; ++list) {
+            final Postings postings = lists.get(list);
+
+            for (int i = 0; i < postings.size; ++i) {
+                final int slot = postings.slots[i];
+
+                if (common[slot]++ == 0) {
+                    if (touchedCount == touched.length) {
+                        touched = Arrays.copyOf(touched, touchedCount * 2);
+                    }
+
+                    touched[touchedCount++] = slot;
+                }
+            }
+        }
+
+        for (int list = candidateLists; list < lists.size() && touchedCount > 0; ++list) {
+            final Postings postings = lists.get(list);
+
+            if (postings.size <= touchedCount * (32 - Integer.numberOfLeadingZeros(postings.size))) {
+                for (int i = 0; i < postings.size; ++i) {
+                    if (common[postings.slots[i]] > 0) {
+                        ++common[postings.slots[i]];
+                    }
+                }
+            } else {
+                for (int i = 0; i < touchedCount; ++i) {
+                    if (postings.contains(touched[i])) {
+                        ++common[touched[i]];
+                    }
+                }
+            }
+
+            final int remainingLists = lists.size() - list - 1;
+            int kept = 0;
+
+            for (int i = 0; i < touchedCount; ++i) {
+                final int slot = touched[i];
+
+                if (common[slot] + remainingLists >= minShared) {
+                    touched[kept++] = slot;
+                } else {
+                    // no longer counted when going through the remaining lists.
+                    common[slot] = 0;
+                }
+            }
+
+            touchedCount = kept;
+        }
+
+        final int wanted = limit - found.size();
+
+        // the worst of the best matches so far on top.
+        PriorityQueue<Integer> best = new PriorityQueue<>(wanted + 1, (lhs, rhs) -> {
+            final int byShared = Integer.compare(common[lhs], common[rhs]);
+            if (byShared != 0) {
+                return byShared;
+            }
+
+            final int byLength = Integer.compare(slotTrigramCounts[rhs], slotTrigramCounts[lhs]);
+            return byLength != 0 ? byLength : Integer.compare(slotIds[rhs], slotIds[lhs]);
+        });
+
+        for (int i = 0; i < touchedCount; ++i) {
+            final int slot = touched[i];
+
+            if (common[slot] < minShared || found.contains(slotIds[slot])) {
+                continue;
+            }
+
+            best.add(slot);
+
+            if (best.size() > wanted) {
+                best.poll();
+            }
+        }
+
+        Integer ranked[] = best.toArray(new Integer[best.size()]);
+        Arrays.sort(ranked, best.comparator().reversed());
+
+        for (Integer slot : ranked) {
+            found.add(slotIds[slot]);
+        }
+
+        // leaves the counts zeroed for the next search of this thread.
+        for (int i = 0; i < touchedCount; ++i) {
+            common[touched[i]] = 0;
+        }
+    }
+
+    /**
+     * Returns the array the current thread counts the trigrams shared with a query in, large enough for every slot.
+     *
+     * @return The array, all zeros.
+     */
+    private int[] sharedCountsOfThread() {
+        int counts[] = sharedCounts.get();
+
+        if (counts.length < slotCount) {
+            counts = new int[slotIds.length];
+            sharedCounts.set(counts);
+        }
+
+        return counts;
+    }
+
+    /**
+     * Determines whether every word of a query is the beginning of a word of a name.
+     *
+     * @param nameWords The words of the name.
+     * @param queryWords The words of the query.
+     * @return true if all the query words match; false otherwise.
+     */
+    private static boolean matchesAllPrefixes(String nameWords[], String queryWords[]) {
+        for (String queryWord : queryWords) {
+            boolean matched = false;
+
+            for (String nameWord : nameWords) {
+                if (nameWord.startsWith(queryWord)) {
+                    matched = true;
+                    break;
+                }
+            }
+
+            if (!matched) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Determines a mask of bits that any name whose words begin with the words passed in has set as well, so that most
+     * names that do not match a query are told apart without looking at their words.
+     * Every word sets a bit for its first char and one for its first two chars.
+     *
+     * @param words The words.
+     * @return The mask.
+     */
+    private static long prefixMaskOf(String words[]) {
+        long mask = 0;
+
+        for (String word : words) {
+            mask |= 1L << (word.charAt(0) & 31);
+
+            if (word.length() > 1) {
+                mask |= 1L << (32 + ((word.charAt(0) * 31 + word.charAt(1)) & 31));
+            }
+        }
+
+        return mask;
+    }
+
+    /**
+     * Determines the distinct trigrams of the words of a name.
+     * The words are joined by single spaces and the result is padded with two spaces in front and one at the end,
+     * so that the beginning of the name weighs more than its middle.
+     *
+     * @param words The words.
+     * @return The trigrams, three chars packed into the lower 48 bits each.
+     */
+    private static long[] trigramsOf(String words[]) {
+        final String padded = "  " + String.join(" ", words) + " ";
+        long result[] = new long[padded.length() - 2];
+
+        for (int i = 0; i < result.length; ++i) {
+            result[i] = ((long) padded.charAt(i) << 32) | ((long) padded.charAt(i + 1) << 16) | padded.charAt(i + 2);
+        }
+
+        Arrays.sort(result);
+
+        int distinct = 0;
+        for (int i = 0; i < result.length; ++i) {
+            if (i == 0 || result[i] != result[i - 1]) {
+                result[distinct++] = result[i];
+            }
+        }
+
+        return Arrays.copyOf(result, distinct);
+    }
+
+    /**
+     * Finds the node of a word, that is the node reached by walking down its chars from the root.
+     *
+     * @param word The word.
+     * @return The node, or nil if no word begins with word.
+     */
+    private int findNode(String word) {
+        int node = root;
+
+        for (int i = 0; i < word.length(); ++i) {
+            node = findChild(node, word.charAt(i));
+
+            if (node == nil) {
+                break;
+            }
+        }
+
+        return node;
+    }
+
+    /**
+     * Finds the child of a node for a char.
+     *
+     * @param node The node.
+     * @param label The char.
+     * @return The child, or nil if there is none.
+     */
+    private int findChild(int node, char label) {
+        for (int child = firstChildren[node]; child != nil && labels[child] <= label; child = nextSiblings[child]) {
+            if (labels[child] == label) {
+                return child;
+            }
+        }
+
+        return nil;
+    }
+
+    /**
+     * Walks down the chars of a word from the root, creating the nodes that are missing.
+     * The children of a node are kept in the order of their chars.
+     *
+     * @param word The word.
+     * @return The node of the word.
+     */
+    private int insertWord(String word) {
+        int node = root;
+
+        for (int i = 0; i < word.length(); ++i) {
+            final char label = word.charAt(i);
+
+            int previous = nil;
+            int child = firstChildren[node];
+            while (child != nil && labels[child] < label) {
+                previous = child;
+                child = nextSiblings[child];
+            }
+
+            if (child == nil || labels[child] != label) {
+                final int created = allocateNode(label);
+                nextSiblings[created] = child;
+
+                if (previous == nil) {
+                    firstChildren[node] = created;
+                } else {
+                    nextSiblings[previous] = created;
+                }
+
+                child = created;
+            }
+
+            node = child;
+        }
+
+        return node;
+    }
+
+    /**
+     * Creates a node without children or employees.
+     *
+     * @param label The char of the node.
+     * @return The node.
+     */
+    private int allocateNode(char label) {
+        if (nodeCount == labels.length) {
+            final int capacity = nodeCount * 2;
+            labels = Arrays.copyOf(labels, capacity);
+            firstChildren = Arrays.copyOf(firstChildren, capacity);
+            nextSiblings = Arrays.copyOf(nextSiblings, capacity);
+            nodeSlots = Arrays.copyOf(nodeSlots, capacity);
+            nodeSlotCounts = Arrays.copyOf(nodeSlotCounts, capacity);
+            subtreeSizes = Arrays.copyOf(subtreeSizes, capacity);
+        }
+
+        final int node = nodeCount++;
+        labels[node] = label;
+        firstChildren[node] = nil;
+        nextSiblings[node] = nil;
+        return node;
+    }
+
+    /**
+     * Adds an employee to the employees of a node, unless it is present already because two of their words are the
+     * same.
+     *
+     * @param node The node.
+     * @param slot The slot of the employee.
+     * @return true if the employee was added; false if it was present already.
+     */
+    private boolean addToNode(int node, int slot) {
+        int slots[] = nodeSlots[node];
+        final int count = nodeSlotCounts[node];
+
+        if (slots == null) {
+            slots = new int[1];
+        } else if (indexOf(slots, count, slot) >= 0) {
+            return false;
+        } else if (count == slots.length) {
+            slots = Arrays.copyOf(slots, count * 2);
+        }
+
+        slots[count] = slot;
+        nodeSlots[node] = slots;
+        nodeSlotCounts[node] = count + 1;
+        return true;
+    }
+
+    /**
+     * Removes an employee from the employees of a node. The node is kept, even if it no longer leads to any employee.
+     *
+     * @param node The node.
+     * @param slot The slot of the employee.
+     * @return true if the employee was removed; false if it was not present.
+     */
+    private boolean removeFromNode(int node, int slot) {
+        final int idx = indexOf(nodeSlots[node], nodeSlotCounts[node], slot);
+
+        if (idx < 0) {
+            return false;
+        }
+
+        final int last = --nodeSlotCounts[node];
+        nodeSlots[node][idx] = nodeSlots[node][last];
+        return true;
+    }
+
+    /**
+     * Changes the amount of employees below every node on the path of a word, the node of the word included.
+     *
+     * @param word The word, its nodes must exist.
+     * @param delta The amount to change by.
+     */
+    private void adjustSubtreeSizes(String word, int delta) {
+        int node = root;
+
+        for (int i = 0; i < word.length(); ++i) {
+            node = findChild(node, word.charAt(i));
+            subtreeSizes[node] += delta;
+        }
+    }
+
+    /**
+     * Hands out a slot for an employee, reusing the slots of employees that were removed.
+     *
+     * @return The slot.
+     */
+    private int allocateSlot() {
+        if (freeSlotCount > 0) {
+            return freeSlots[--freeSlotCount];
+        }
+
+        if (slotCount == slotIds.length) {
+            final int capacity = slotCount * 2;
+            slotIds = Arrays.copyOf(slotIds, capacity);
+            slotWords = Arrays.copyOf(slotWords, capacity);
+            slotPrefixMasks = Arrays.copyOf(slotPrefixMasks, capacity);
+            slotTrigramCounts = Arrays.copyOf(slotTrigramCounts, capacity);
+        }
+
+        return slotCount++;
+    }
+
+    /**
+     * Hands back the slot of an employee that was removed.
+     *
+     * @param slot The slot.
+     */
+    private void freeSlot(int slot) {
+        if (freeSlotCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, freeSlotCount * 2);
+        }
+
+        freeSlots[freeSlotCount++] = slot;
+    }
+
+    /**
+     * Finds a value within the beginning of an array.
+     *
+     * @param values The array.
+     * @param count The amount of values in use.
+     * @param value The value.
+     * @return The index of the value, or -1 if it is not present.
+     */
+    private static int indexOf(int values[], int count, int value) {
+        for (int i = 0; i < count; ++i) {
+            if (values[i] == value) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Reverses a range of an array.
+     *
+     * @param values The array.
+     * @param from The first index of the range.
+     * @param to The index after the range.
+     */
+    private static void reverse(int values[], int from, int to) {
+        for (int i = from, j = to - 1; i < j; ++i, --j) {
+            final int value = values[i];
+            values[i] = values[j];
+            values[j] = value;
+        }
+    }
+
+    /**
+     * The posting list of a trigram, the slots of the employees whose names contain it in ascending order.
+     */
+    private static final class Postings {
+        /**
+         * Adds a slot. Slots are mostly handed out in ascending order, so this rarely has to move any slots.
+         *
+         * @param slot The slot, must not be present.
+         */
+        void add(int slot) {
+            final int idx = -(Arrays.binarySearch(slots, 0, size, slot) + 1);
+
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+            }
+
+            System.arraycopy(slots, idx, slots, idx + 1, size - idx);
+            slots[idx] = slot;
+            ++size;
+        }
+
+        /**
+         * Removes a slot.
+         *
+         * @param slot The slot.
+         */
+        void remove(int slot) {
+            final int idx = Arrays.binarySearch(slots, 0, size, slot);
+
+            if (idx >= 0) {
+                System.arraycopy(slots, idx + 1, slots, idx, size - idx - 1);
+                --size;
+            }
+        }
+
+        /**
+         * Determines whether a slot is present.
+         *
+         * @param slot The slot.
+         * @return true if the slot is present; false otherwise.
+         */
+        boolean contains(int slot) {
+            return Arrays.binarySearch(slots, 0, size, slot) >= 0;
+        }
+
+        /**
+         * The slots, only the first size are in use.
+         */
+        private int slots[] = new int[2];
+
+        /**
+         * The amount of slots.
+         */
+        private int size;
+    }
+
+    /**
+     * The amount of trigrams every slot shares with the query, kept per thread as searches may run concurrently,
+     * so that a search does not have to allocate and clear an array as large as the index. All zeros between searches.
+     */
+    private final ThreadLocal<int[]> sharedCounts = ThreadLocal.withInitial(() -> new int[0]);
+
+    /**
+     * The node that stands for no node at all. Never a child, as the root is never a child.
+     */
+    private static final int nil = 0;
+
+    /**
+     * The root of the trie.
+     */
+    private static final int root = 0;
+
+    /**
+     * The smallest share of the trigrams of the query a name has to contain to be found by similarity.
+     */
+    private static final double minSimilarity = 0.5;
+
+    /**
+     * The amount of nodes and slots an empty index has room for.
+     */
+    private static final int initialCapacity = 16;
+
+    /**
+     * The chars of the nodes.
+     */
+    private char labels[];
+
+    /**
+     * The first child of every node, nil if the node has no children.
+     */
+    private int firstChildren[];
+
+    /**
+     * The next sibling of every node, nil for the last child of a node.
+     */
+    private int nextSiblings[];
+
+    /**
+     * The slots of the employees with a word that ends at the node, null for nodes at which no word ever ended.
+     */
+    private int nodeSlots[][];
+
+    /**
+     * The amount of slots in use of every node.
+     */
+    private int nodeSlotCounts[];
+
+    /**
+     * The amount of employees with a word that ends at every node or below it, counting an employee once per word.
+     */
+    private int subtreeSizes[];
+
+    /**
+     * The amount of nodes.
+     */
+    private int nodeCount;
+
+    /**
+     * The id of the employee of every slot.
+     */
+    private int slotIds[];
+
+    /**
+     * The words of the name of the employee of every slot, null for free slots.
+     */
+    private String slotWords[][];
+
+    /**
+     * The masks of the beginnings of the words of the name of the employee of every slot, see prefixMaskOf.
+     */
+    private long slotPrefixMasks[];
+
+    /**
+     * The amount of distinct trigrams of the name of the employee of every slot.
+     */
+    private int slotTrigramCounts[];
+
+    /**
+     * The amount of slots that have been handed out at least once.
+     */
+    private int slotCount;
+
+    /**
+     * The slots of the employees, by their ids.
+     */
+    private final Map<Integer, Integer> slotsById;
+
+    /**
+     * The slots of employees that were removed, to be reused.
+     */
+    private int freeSlots[];
+
+    /**
+     * The amount of free slots.
+     */
+    private int freeSlotCount;
+
+    /**
+     * The posting lists of the trigrams.
+     */
+    private final Map<Long, Postings> trigrams;
+
+    /**
+     * The amount of employees present.
+     */
+    private int size;
+}
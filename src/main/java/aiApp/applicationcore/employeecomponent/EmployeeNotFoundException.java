@@ -0,0 +1,17 @@
+package aiApp.applicationcore.employeecomponent;
+
+import javax.validation.constraints.NotNull;
+
+/**
+ * Thrown by EmployeeComponent::getEmployeeByEmail if no employee has the email address passed in.
+ */
+public class EmployeeNotFoundException extends Throwable {
+    /**
+     * Creates a new EmployeeNotFoundException.
+     *
+     * @param errorMsg The error message to use. May not be null.
+     */
+    EmployeeNotFoundException(@NotNull String errorMsg) {
+        super(errorMsg);
+    }
+}
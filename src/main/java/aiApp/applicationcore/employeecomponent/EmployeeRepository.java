@@ -1,7 +1,12 @@
 package aiApp.applicationcore.employeecomponent;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,4 +24,51 @@ public interface EmployeeRepository extends JpaRepository<Employee, Integer> {
      */
     @SuppressWarnings({"unused", "SameParameterValue"})
     Optional<List<Employee>> findByName(String name);
+
+    /**
+     * Finds the employee with an email address. Served by the unique index on the email addresses.
+     *
+     * @param email The email address.
+     * @return The employee, empty if no employee has the email address.
+     */
+    Optional<Employee> findByEmail(EmailType email);
+
+    /**
+     * Function to get the email addresses and the ids of the employees that have any of many email addresses
+     * without loading the Employees themselves.
+     * Served by the unique index on the email addresses.
+     *
+     * @param emails The email addresses, may not be empty.
+     * @return A List of arrays that hold the EmailType and the Integer id of an Employee.
+     */
+    @Query("select e.email, e.id from Employee e where e.email in :emails")
+    List<Object[]> findIdsByEmails(@Param("emails") Collection<EmailType> emails);
+
+    /**
+     * Finds the first page of all employees, ordered by their ids.
+     *
+     * @param pageable The page to get, only its size is used.
+     * @return A Slice of at most pageable.getPageSize() employees.
+     */
+    Slice<Employee> findAllByOrderByIdAsc(Pageable pageable);
+
+    /**
+     * Finds the page of all employees that follows an employee, ordered by their ids.
+     * Served by the primary key.
+     *
+     * @param id The id of the employee the page follows.
+     * @param pageable The page to get, only its size is used.
+     * @return A Slice of at most pageable.getPageSize() employees whose ids are greater than id.
+     */
+    Slice<Employee> findByIdGreaterThanOrderByIdAsc(Integer id, Pageable pageable);
+
+    /**
+     * Function to get the id, the first name and the last name of every Employee without loading the Employees
+     * themselves.
+     * Used to build the name index of the EmployeeComponent.
+     *
+     * @return A List of arrays that hold the Integer id, the first name and the last name of an Employee.
+     */
+    @Query("select e.id, e.firstName, e.lastName from Employee e")
+    List<Object[]> findAllNames();
 }
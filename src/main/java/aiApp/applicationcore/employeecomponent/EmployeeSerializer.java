@@ -0,0 +1,105 @@
+package aiApp.applicationcore.employeecomponent;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+/**
+ * Jackson serializer that writes an Employee as a JSON object, e.g.
+ * {"firstName":"John","lastName":"Doe","name":"John Doe","id":1,"email":{"email":"john.doe@example.com"}}
+ * The field names are encoded once up front, the email address is written by the EmailTypeSerializer into the same
+ * JsonGenerator. Appointments write their attendees through this class and Employee.toString does as well.
+ */
+public class EmployeeSerializer extends StdSerializer<Employee> {
+    /**
+     * Creates an EmployeeSerializer, used by Jackson.
+     */
+    public EmployeeSerializer() {
+        super(Employee.class);
+    }
+
+    /**
+     * Writes an Employee to the JsonGenerator passed in.
+     *
+     * @param employee The Employee to write.
+     * @param generator The JsonGenerator to write to.
+     * @param provider The provider of the serialization, unused.
+     * @throws IOException if the JsonGenerator could not write.
+     */
+    @Override
+    public void serialize(Employee employee, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        write(employee, generator);
+    }
+
+    /**
+     * Writes an Employee to a JsonGenerator.
+     *
+     * @param employee The Employee to write, null is written as JSON null.
+     * @param generator The JsonGenerator to write to.
+     * @throws IOException if the JsonGenerator could not write.
+     */
+    public static void write(Employee employee, JsonGenerator generator) throws IOException {
+        if (employee == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject();
+        generator.writeFieldName(firstNameField);
+        generator.writeString(employee.getFirstName());
+        generator.writeFieldName(lastNameField);
+        generator.writeString(employee.getLastName());
+        generator.writeFieldName(nameField);
+        generator.writeString(employee.getName());
+        generator.writeFieldName(idField);
+        if (employee.getId() == null) {
+            generator.writeNull();
+        } else {
+            generator.writeNumber(employee.getId());
+        }
+        generator.writeFieldName(emailField);
+        EmailTypeSerializer.write(employee.getEmail(), generator);
+        generator.writeEndObject();
+    }
+
+    /**
+     * Creates the JSON text of an Employee.
+     *
+     * @param employee The Employee to create the JSON text of.
+     * @return The JSON text.
+     */
+    static String toJson(Employee employee) {
+        final int expectedLength = 128;
+
+        return JsonText.toJson(employee, expectedLength, EmployeeSerializer::write);
+    }
+
+    /**
+     * The name of the field that holds the first name.
+     */
+    private static final SerializableString firstNameField = new SerializedString("firstName");
+
+    /**
+     * The name of the field that holds the last name.
+     */
+    private static final SerializableString lastNameField = new SerializedString("lastName");
+
+    /**
+     * The name of the field that holds the full name.
+     */
+    private static final SerializableString nameField = new SerializedString("name");
+
+    /**
+     * The name of the field that holds the id.
+     */
+    private static final SerializableString idField = new SerializedString("id");
+
+    /**
+     * The name of the field that holds the email address.
+     */
+    private static final SerializableString emailField = new SerializedString("email");
+}
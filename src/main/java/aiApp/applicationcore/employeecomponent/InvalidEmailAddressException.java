@@ -0,0 +1,17 @@
+package aiApp.applicationcore.employeecomponent;
+
+import javax.validation.constraints.NotNull;
+
+/**
+ * Thrown by EmployeeComponent::getEmployeeByEmail if the email address passed in is invalid.
+ */
+public class InvalidEmailAddressException extends Throwable {
+    /**
+     * Creates a new InvalidEmailAddressException.
+     *
+     * @param errorMsg The error message to use. May not be null.
+     */
+    InvalidEmailAddressException(@NotNull String errorMsg) {
+        super(errorMsg);
+    }
+}
@@ -0,0 +1,17 @@
+package aiApp.applicationcore.employeecomponent;
+
+import javax.validation.constraints.NotNull;
+
+/**
+ * Thrown by EmployeeComponent::getEmployeesAfter if the cursor or the page size requested is invalid.
+ */
+public class InvalidEmployeePageException extends Throwable {
+    /**
+     * Creates a new InvalidEmployeePageException.
+     *
+     * @param errorMsg The error message to use. May not be null.
+     */
+    InvalidEmployeePageException(@NotNull String errorMsg) {
+        super(errorMsg);
+    }
+}
@@ -0,0 +1,17 @@
+package aiApp.applicationcore.employeecomponent;
+
+import javax.validation.constraints.NotNull;
+
+/**
+ * Thrown by EmployeeComponent::searchEmployees if the query or the amount of employees requested is invalid.
+ */
+public class InvalidEmployeeSearchException extends Throwable {
+    /**
+     * Creates a new InvalidEmployeeSearchException.
+     *
+     * @param errorMsg The error message to use. May not be null.
+     */
+    InvalidEmployeeSearchException(@NotNull String errorMsg) {
+        super(errorMsg);
+    }
+}
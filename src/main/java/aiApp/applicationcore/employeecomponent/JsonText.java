@@ -0,0 +1,64 @@
+package aiApp.applicationcore.employeecomponent;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+
+/**
+ * Creates the JSON text of a value through the write method of its serializer, so that toString of the entities
+ * writes the same JSON as the REST API without going through an ObjectMapper.
+ */
+public final class JsonText {
+    /**
+     * Writes a value to a JsonGenerator, the write method of a serializer.
+     *
+     * @param <T> The type of the values written.
+     */
+    @FunctionalInterface
+    public interface Writer<T> {
+        /**
+         * Writes a value to a JsonGenerator.
+         *
+         * @param value The value to write.
+         * @param generator The JsonGenerator to write to.
+         * @throws IOException if the JsonGenerator could not write.
+         */
+        void write(T value, JsonGenerator generator) throws IOException;
+    }
+
+    /**
+     * Not to be instantiated.
+     */
+    private JsonText() {
+    }
+
+    /**
+     * Creates the JSON text of a value.
+     *
+     * @param value The value to create the JSON text of.
+     * @param expectedLength The length the JSON text is expected to have, the initial capacity of the buffer.
+     * @param writer The write method of the serializer of the value.
+     * @param <T> The type of the value.
+     * @return The JSON text.
+     */
+    public static <T> String toJson(T value, int expectedLength, Writer<T> writer) {
+        StringWriter stringWriter = new StringWriter(expectedLength);
+
+        try (JsonGenerator generator = jsonFactory.createGenerator(stringWriter)) {
+            writer.write(value, generator);
+        } catch (IOException e) {
+            // a StringWriter never throws.
+            throw new UncheckedIOException(e);
+        }
+
+        return stringWriter.toString();
+    }
+
+    /**
+     * The JsonFactory used to create the JsonGenerators for toJson.
+     */
+    private static final JsonFactory jsonFactory = new JsonFactory();
+}
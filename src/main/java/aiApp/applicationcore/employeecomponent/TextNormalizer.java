@@ -0,0 +1,51 @@
+package aiApp.applicationcore.employeecomponent;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Splits texts into normalized words, the way the names of the employees and the titles and descriptions of the
+ * appointments are indexed and searched, so that "Müller" is the word "muller" wherever it occurs.
+ */
+public final class TextNormalizer {
+    /**
+     * Not to be instantiated.
+     */
+    private TextNormalizer() {
+    }
+
+    /**
+     * Splits a text into its normalized words.
+     *
+     * @param text The text.
+     * @return The words, in lower case, without accents and consisting only of letters and digits.
+     */
+    public static String[] words(String text) {
+        final String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        List<String> words = new ArrayList<>();
+        StringBuilder word = new StringBuilder();
+
+        for (int i = 0; i < decomposed.length(); ++i) {
+            final char c = decomposed.charAt(i);
+
+            if (Character.getType(c) == Character.NON_SPACING_MARK) {
+                continue;
+            }
+
+            if (Character.isLetterOrDigit(c)) {
+                word.append(c);
+            } else if (word.length() > 0) {
+                words.add(word.toString().toLowerCase(Locale.ROOT));
+                word.setLength(0);
+            }
+        }
+
+        if (word.length() > 0) {
+            words.add(word.toString().toLowerCase(Locale.ROOT));
+        }
+
+        return words.toArray(new String[words.size()]);
+    }
+}
@@ -2,19 +2,45 @@ package aiApp.applicationcore.facade;
 
 import aiApp.applicationcore.appointmentcomponent.Appointment;
 import aiApp.applicationcore.appointmentcomponent.AppointmentComponentInterface;
+import aiApp.applicationcore.appointmentcomponent.AppointmentCursor;
+import aiApp.applicationcore.appointmentcomponent.AppointmentDraft;
 import aiApp.applicationcore.appointmentcomponent.AppointmentNotFoundException;
+import aiApp.applicationcore.appointmentcomponent.ArgumentNotValidException;
+import aiApp.applicationcore.appointmentcomponent.CalendarWeek;
 import aiApp.applicationcore.employeecomponent.Employee;
 import aiApp.applicationcore.employeecomponent.EmployeeComponentInterface;
+import aiApp.applicationcore.employeecomponent.EmployeeNotFoundException;
 import aiApp.applicationcore.appointmentcomponent.FailedToCreateAppointmentException;
 import aiApp.applicationcore.employeecomponent.FailedToFireEmployeeException;
 import aiApp.applicationcore.employeecomponent.FailedToHireEmployeeException;
+import aiApp.applicationcore.employeecomponent.InvalidEmailAddressException;
+import aiApp.applicationcore.employeecomponent.InvalidEmployeePageException;
+import aiApp.applicationcore.employeecomponent.InvalidEmployeeSearchException;
 import aiApp.applicationcore.appointmentcomponent.InvalidAppointmentIdException;
+import aiApp.applicationcore.appointmentcomponent.InvalidAppointmentPageException;
+import aiApp.applicationcore.appointmentcomponent.InvalidAppointmentSearchException;
+import aiApp.applicationcore.appointmentcomponent.InvalidDateException;
+import aiApp.applicationcore.appointmentcomponent.InvalidTimePointException;
+import aiApp.applicationcore.appointmentcomponent.InvalidTimeSpanException;
 import aiApp.applicationcore.appointmentcomponent.InvalidWeekException;
+import aiApp.applicationcore.appointmentcomponent.TimePoint;
+import aiApp.applicationcore.appointmentcomponent.TimeSpan;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 /**
@@ -27,37 +53,510 @@ class ApplicationFacadeController {
      *
      * @param appointmentComponentInterface the AppointmentComponentInterface to use.
      * @param employeeComponentInterface the EmployeeComponentInterface to use.
+     * @param objectMapper the ObjectMapper to read JSON request bodies and to stream JSON responses with.
      */
     @Autowired
     public ApplicationFacadeController(AppointmentComponentInterface appointmentComponentInterface,
-                                       EmployeeComponentInterface employeeComponentInterface) {
+                                       EmployeeComponentInterface employeeComponentInterface,
+                                       ObjectMapper objectMapper) {
 
         this.appointmentComponentInterface = appointmentComponentInterface;
         this.employeeComponentInterface = employeeComponentInterface;
+        this.objectMapper = objectMapper;
     }
 
     /**
-     * GET /appointment
-     * Returns the appointments that begin in the week passed in, or if week is null all appointments.
+     * GET /appointment[?after=&limit=]
+     * Returns the appointments that begin in the week passed in, or if week is null a page of all appointments,
+     * ordered by the point in time at which they begin and then by their ids.
      *
      * @param week The week for which to get the appointments that begin in that week.
-     *        May be null, in that case all appointments will be returned.
+     *        May be null, in that case a page of all appointments will be returned.
+     * @param after The cursor of the page to get, as found in the X-Next-Cursor header of the previous page.
+     *        May be omitted to get the first page. Ignored if a week is passed in.
+     * @param limit The amount of appointments per page, 100 if omitted and at most 1000.
+     *        Ignored if a week is passed in.
      * @return The appointments requested on success with the HTTP status code 202.
-     *         If the week passed in is not a valid week error code 412 is returned.
+     *         If there are further appointments after the page the X-Next-Cursor header holds the cursor of the next
+     *         page.
+     *         If the week passed in is not a valid week, or the cursor or the limit are invalid error code 412 is
+     *         returned.
      *         If an internal server error occurred the error code 500 is returned.
-     * @apiNote Note that the week must be passed as a request parameter as part of the URL itself.
+     * @apiNote Note that the week, the cursor and the limit must be passed as request parameters as part of the URL
+     *          itself.
      */
     @RequestMapping(value = "/appointment", method = RequestMethod.GET)
-    public ResponseEntity<?> getAppointmentsOfWeek(@RequestParam(value = "week", required = false) Integer week) {
+    public ResponseEntity<?> getAppointmentsOfWeek(@RequestParam(value = "week", required = false) Integer week,
+                                                   @RequestParam(value = "after", required = false) String after,
+                                                   @RequestParam(value = "limit", required = false) Integer limit) {
         final String invalidWeekErrorTxt = "Invalid week.";
+        final String invalidPageErrorTxt = "Invalid page.";
         List<Appointment> appointments;
 
         try {
+            if (week == null) {
+                Slice<Appointment> page = appointmentComponentInterface.getAppointmentsAfter(after, limit);
+                HttpHeaders headers = new HttpHeaders();
+
+                if (page.hasNext()) {
+                    final Appointment last = page.getContent().get(page.getNumberOfElements() - 1);
+                    headers.set(nextCursorHeader, AppointmentCursor.encode(last));
+                }
+
+                return new ResponseEntity<>(page.getContent(), headers, HttpStatus.ACCEPTED);
+            }
+
             appointments = appointmentComponentInterface.getAppointmentsOfWeek(week);
 
             return new ResponseEntity<>(appointments, HttpStatus.ACCEPTED);
         } catch (AppointmentNotFoundException | InvalidWeekException e) {
             return new ResponseEntity<>(invalidWeekErrorTxt, HttpStatus.PRECONDITION_FAILED);
+        } catch (InvalidAppointmentPageException e) {
+            return new ResponseEntity<>(invalidPageErrorTxt, HttpStatus.PRECONDITION_FAILED);
+        } catch (Throwable e) {
+            return new ResponseEntity<>(internalServerErrorTxt, HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * GET /appointment?stream=true
+     * Returns all appointments, ordered by the point in time at which they begin and then by their ids, for clients
+     * that need the complete listing at once, such as exports.
+     * The appointments are written to the response one after another while they are read from the database, so the
+     * memory used does not depend on the amount of appointments.
+     *
+     * @return All appointments with the HTTP status code 202.
+     *         As the status code is sent before the first appointment has been read, an error that occurs while the
+     *         appointments are written aborts the response, which leaves its body incomplete.
+     * @apiNote Note that stream=true must be passed as a request parameter as part of the URL itself.
+     */
+    @RequestMapping(value = "/appointment", method = RequestMethod.GET, params = "stream=true")
+    public ResponseEntity<StreamingResponseBody> streamAllAppointments() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON_UTF8);
+
+        StreamingResponseBody body = (OutputStream outputStream) -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.writeStartArray();
+
+                appointmentComponentInterface.forEachAppointment((Appointment appointment) -> {
+                    try {
+                        generator.writeObject(appointment);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+
+                generator.writeEndArray();
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        };
+
+        return new ResponseEntity<>(body, headers, HttpStatus.ACCEPTED);
+    }
+
+    /**
+     * GET /appointment?year=&week=
+     * Returns the appointments that begin in an ISO week of a week-based-year, ordered by the point in time at which
+     * they begin.
+     *
+     * @param year The ISO week-based-year of the week.
+     * @param week The ISO week for which to get the appointments that begin in that week.
+     * @return The appointments requested on success with the HTTP status code 202.
+     *         If the year or the week passed in is missing or invalid error code 412 is returned.
+     *         If an internal server error occurred the error code 500 is returned.
+     * @apiNote Note that the year and the week must be passed as request parameters as part of the URL itself.
+     */
+    @RequestMapping(value = "/appointment", method = RequestMethod.GET, params = "year")
+    public ResponseEntity<?> getAppointmentsOfWeekOfYear(@RequestParam(value = "year") Integer year,
+                                                         @RequestParam(value = "week", required = false) Integer week) {
+        final String invalidWeekErrorTxt = "Invalid week.";
+        List<Appointment> appointments;
+
+        try {
+            appointments = appointmentComponentInterface.getAppointmentsOfWeek(year, week);
+
+            return new ResponseEntity<>(appointments, HttpStatus.ACCEPTED);
+        } catch (AppointmentNotFoundException | InvalidWeekException e) {
+            return new ResponseEntity<>(invalidWeekErrorTxt, HttpStatus.PRECONDITION_FAILED);
+        } catch (Throwable e) {
+            return new ResponseEntity<>(internalServerErrorTxt, HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * GET /appointment?year=&fromWeek=&toWeek=[&toYear=][&limit=]
+     * Returns the first appointments that begin in a range of ISO weeks, ordered by the point in time at which they
+     * begin.
+     * The range may span several week-based-years, e.g. year=2016&fromWeek=40&toYear=2017&toWeek=12.
+     *
+     * @param year The ISO week-based-year of the first week.
+     * @param fromWeek The first ISO week of the range, inclusive.
+     * @param toYear The ISO week-based-year of the last week. May be omitted if it is the same as year.
+     * @param toWeek The last ISO week of the range, inclusive.
+     * @param limit The largest amount of appointments to return, 100 if omitted and at most 1000.
+     * @return The appointments requested on success with the HTTP status code 202.
+     *         If one of the years or weeks passed in is missing or invalid, the last week lies before the first week
+     *         or the limit is invalid error code 412 is returned.
+     *         If an internal server error occurred the error code 500 is returned.
+     * @apiNote Note that the years and the weeks must be passed as request parameters as part of the URL itself.
+     */
+    @RequestMapping(value = "/appointment", method = RequestMethod.GET, params = {"year", "fromWeek"})
+    public ResponseEntity<?> getAppointmentsOfWeeks(@RequestParam(value = "year") Integer year,
+                                                    @RequestParam(value = "fromWeek") Integer fromWeek,
+                                                    @RequestParam(value = "toYear", required = false) Integer toYear,
+                                                    @RequestParam(value = "toWeek", required = false) Integer toWeek,
+                                                    @RequestParam(value = "limit", required = false) Integer limit) {
+        final String invalidWeekErrorTxt = "Invalid week.";
+        List<Appointment> appointments;
+
+        try {
+            appointments = appointmentComponentInterface.getAppointmentsOfWeeks(year, fromWeek,
+                                                                                toYear == null ? year : toYear, toWeek,
+                                                                                limit);
+
+            return new ResponseEntity<>(appointments, HttpStatus.ACCEPTED);
+        } catch (InvalidWeekException | ArgumentNotValidException e) {
+            return new ResponseEntity<>(invalidWeekErrorTxt, HttpStatus.PRECONDITION_FAILED);
+        } catch (Throwable e) {
+            return new ResponseEntity<>(internalServerErrorTxt, HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * GET /appointment?from=&to=[&limit=]
+     * Returns the first appointments that overlap a range of time, including those that begin before the range or end
+     * after it, ordered by the point in time at which they begin.
+     *
+     * @param from The begin of the range as an ISO-8601 local date-time, e.g. 2017-04-15T16:00:00. Inclusive.
+     * @param to The end of the range as an ISO-8601 local date-time, e.g. 2017-04-15T17:00:00. Inclusive.
+     * @param limit The largest amount of appointments to return, 100 if omitted and at most 1000.
+     * @return The appointments requested on success with the HTTP status code 202.
+     *         If from or to is missing or invalid, to lies before from, or the limit is invalid error code 412 is
+     *         returned.
+     *         If an internal server error occurred the error code 500 is returned.
+     * @apiNote Note that from and to must be passed as request parameters as part of the URL itself.
+     */
+    @RequestMapping(value = "/appointment", method = RequestMethod.GET, params = {"from", "!attendee"})
+    public ResponseEntity<?> getAppointmentsOverlapping(@RequestParam(value = "from") String from,
+                                                        @RequestParam(value = "to", required = false) String to,
+                                                        @RequestParam(value = "limit", required = false) Integer limit) {
+        final String invalidTimeRangeErrorTxt = "Invalid time range.";
+        List<Appointment> appointments;
+
+        try {
+            TimeSpan range = new TimeSpan(TimePoint.fromIsoString(from), TimePoint.fromIsoString(to));
+            appointments = appointmentComponentInterface.getAppointmentsOverlapping(range, limit);
+
+            return new ResponseEntity<>(appointments, HttpStatus.ACCEPTED);
+        } catch (ArgumentNotValidException | InvalidDateException | InvalidTimePointException | InvalidTimeSpanException e) {
+            return new ResponseEntity<>(invalidTimeRangeErrorTxt, HttpStatus.PRECONDITION_FAILED);
+        } catch (Throwable e) {
+            return new ResponseEntity<>(internalServerErrorTxt, HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * GET /appointment/attended?allOf=&anyOf=&noneOf=[&limit=]
+     * Returns the first appointments that are attended by all of a group of employees and by any of another group of
+     * employees, but by none of a third group of employees, ordered by the point in time at which they begin.
+     * For instance allOf=1,2 returns the appointments that employees 1 and 2 both attend, anyOf=3,4,5&noneOf=6 returns
+     * the appointments that employee 3, 4 or 5 attends without employee 6.
+     *
+     * @param allOf The comma separated IDs of the employees that must all attend.
+     * @param anyOf The comma separated IDs of the employees of which at least one must attend.
+     * @param noneOf The comma separated IDs of the employees of which none may attend.
+     *        Each of them may be omitted, but allOf and anyOf may not both be omitted.
+     * @param limit The largest amount of appointments to return, 100 if omitted and at most 1000.
+     * @return The appointments requested on success with the HTTP status code 202.
+     *         If allOf and anyOf are both omitted or the limit is invalid error code 412 is returned.
+     *         If an internal server error occurred the error code 500 is returned.
+     * @apiNote Note that the IDs must be passed as request parameters as part of the URL itself.
+     */
+    @RequestMapping(value = "/appointment/attended", method = RequestMethod.GET)
+    public ResponseEntity<?> getAppointmentsAttendedBy(@RequestParam(value = "allOf", required = false) List<Integer> allOf,
+                                                       @RequestParam(value = "anyOf", required = false) List<Integer> anyOf,
+                                                       @RequestParam(value = "noneOf", required = false) List<Integer> noneOf,
+                                                       @RequestParam(value = "limit", required = false) Integer limit) {
+        final String invalidAttendeesErrorTxt = "Invalid attendees.";
+        List<Appointment> appointments;
+
+        try {
+            appointments = appointmentComponentInterface.getAppointmentsAttendedBy(allOf, anyOf, noneOf, limit);
+
+            return new ResponseEntity<>(appointments, HttpStatus.ACCEPTED);
+        } catch (ArgumentNotValidException e) {
+            return new ResponseEntity<>(invalidAttendeesErrorTxt, HttpStatus.PRECONDITION_FAILED);
+        } catch (Throwable e) {
+            return new ResponseEntity<>(internalServerErrorTxt, HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * GET /appointment?text=[&limit=]
+     * Searches for appointments by the words of their titles and descriptions. An appointment is found if every word
+     * of the text occurs in its title or its description, ignoring case and accents.
+     *
+     * @param text The words to search for, e.g. "sprint review". Must contain a letter or a digit.
+     * @param limit The largest amount of appointments to return, 100 if omitted and at most 1000.
+     * @return On success returns the first appointments found, ordered by the point in time at which they begin,
+     *         along with the HTTP status code 202.
+     *         If the text or the limit are invalid error code 412 is returned.
+     *         If an internal server error occurred error code 500 is returned.
+     * @apiNote The array returned may be empty if no appointment matches.
+     */
+    @RequestMapping(value = "/appointment", method = RequestMethod.GET, params = "text")
+    public ResponseEntity<?> searchAppointments(@RequestParam("text") String text,
+                                                @RequestParam(value = "limit", required = false) Integer limit) {
+        final String invalidSearchErrorTxt = "Invalid search.";
+
+        try {
+            return new ResponseEntity<>(appointmentComponentInterface.searchAppointments(text, limit),
+                                        HttpStatus.ACCEPTED);
+        } catch (InvalidAppointmentSearchException e) {
+            return new ResponseEntity<>(invalidSearchErrorTxt, HttpStatus.PRECONDITION_FAILED);
+        } catch (Throwable e) {
+            return new ResponseEntity<>(internalServerErrorTxt, HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * GET /appointment?attendee=[&from=&to=][&limit=]
+     * Returns the appointments attended by the employees with a name that overlap a range of time, ordered by the
+     * point in time at which they begin. The name is matched against the beginnings of the first and last names of
+     * the employees, ignoring case and accents, so attendee=müller finds the appointments of every Müller.
+     * The name may match at most 100 employees, a name as short as "a" that matches more is rejected rather than
+     * silently searching the appointments of only some of them.
+     *
+     * @param attendee The name of the attendees, e.g. "Müller" or "pet schm". Must contain a letter or a digit.
+     * @param from The begin of the range as an ISO-8601 local date-time, e.g. 2017-04-16T19:00, inclusive.
+     * @param to The end of the range as an ISO-8601 local date-time, inclusive.
+     *        from and to may both be omitted to get the appointments regardless of time.
+     * @param limit The largest amount of appointments to return, 100 if omitted and at most 1000.
+     * @return The first appointments found on success with the HTTP status code 202.
+     *         If the name or the limit are invalid, the name matches more than 100 employees, or only one of from
+     *         and to is passed in, or they do not form a valid range error code 412 is returned.
+     *         If an internal server error occurred the error code 500 is returned.
+     * @apiNote The array returned may be empty if no employee has the name or they attend no appointments.
+     */
+    @RequestMapping(value = "/appointment", method = RequestMethod.GET, params = "attendee")
+    public ResponseEntity<?> getAppointmentsOfAttendee(@RequestParam("attendee") String attendee,
+                                                       @RequestParam(value = "from", required = false) String from,
+                                                       @RequestParam(value = "to", required = false) String to,
+                                                       @RequestParam(value = "limit", required = false) Integer limit) {
+        final String invalidSearchErrorTxt = "Invalid search.";
+        final String tooManyAttendeesErrorTxt = "Too many employees have the name.";
+
+        try {
+            TimeSpan range = null;
+            if (from != null || to != null) {
+                range = new TimeSpan(TimePoint.fromIsoString(from), TimePoint.fromIsoString(to));
+            }
+
+            // one more than the cap tells whether the name matches more employees than that.
+            List<Integer> attendeeIds = employeeComponentInterface.findEmployeeIdsByName(attendee,
+                                                                                         maxAttendeesPerName + 1);
+            if (attendeeIds.size() > maxAttendeesPerName) {
+                return new ResponseEntity<>(tooManyAttendeesErrorTxt, HttpStatus.PRECONDITION_FAILED);
+            }
+
+            return new ResponseEntity<>(appointmentComponentInterface.getAppointmentsOfEmployees(attendeeIds, range, limit),
+                                        HttpStatus.ACCEPTED);
+        } catch (InvalidEmployeeSearchException | ArgumentNotValidException | InvalidDateException
+                 | InvalidTimePointException e) {
+            return new ResponseEntity<>(invalidSearchErrorTxt, HttpStatus.PRECONDITION_FAILED);
+        } catch (Throwable e) {
+            return new ResponseEntity<>(internalServerErrorTxt, HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * GET /appointment/recurring?[days=][&fromHour=][&toHour=][&from=&to=][&limit=]
+     * Returns the appointments that begin on certain days of the week within a range of hours of the day, ordered by
+     * the point in time at which they begin. For instance days=1&fromHour=8&toHour=12 returns the appointments that
+     * begin on monday mornings, fromHour=12&toHour=13 those that begin between 12:00 and 13:00 on any day.
+     *
+     * @param daysOfWeek The comma separated ISO days of the week, 1 for monday up to 7 for sunday.
+     *        May be omitted for every day.
+     * @param fromHour The first hour of the day, 0 to 23, inclusive. 0 if omitted.
+     * @param toHour The hour of the day at which the range of hours ends, 1 to 24, exclusive. 24 if omitted.
+     * @param from The earliest begin as an ISO-8601 local date-time, e.g. 2017-04-01T00:00, inclusive.
+     * @param to The latest begin as an ISO-8601 local date-time, inclusive.
+     *        from and to may both be omitted to get the appointments regardless of their dates.
+     * @param limit The largest amount of appointments to return, 100 if omitted and at most 1000.
+     * @return The first appointments found on success with the HTTP status code 202.
+     *         If a day, an hour or the limit is invalid, or only one of from and to is passed in, or they do not form
+     *         a valid range error code 412 is returned.
+     *         If an internal server error occurred the error code 500 is returned.
+     * @apiNote The array returned may be empty if no appointment matches.
+     */
+    @RequestMapping(value = "/appointment/recurring", method = RequestMethod.GET)
+    public ResponseEntity<?> getAppointmentsByTimeOfWeek(@RequestParam(value = "days", required = false) List<Integer> daysOfWeek,
+                                                         @RequestParam(value = "fromHour", required = false) Integer fromHour,
+                                                         @RequestParam(value = "toHour", required = false) Integer toHour,
+                                                         @RequestParam(value = "from", required = false) String from,
+                                                         @RequestParam(value = "to", required = false) String to,
+                                                         @RequestParam(value = "limit", required = false) Integer limit) {
+        final String invalidTimeOfWeekErrorTxt = "Invalid time of week.";
+
+        try {
+            TimeSpan range = null;
+            if (from != null || to != null) {
+                range = new TimeSpan(TimePoint.fromIsoString(from), TimePoint.fromIsoString(to));
+            }
+
+            return new ResponseEntity<>(appointmentComponentInterface.getAppointmentsByTimeOfWeek(daysOfWeek, fromHour, toHour,
+                                                                                                  range, limit),
+                                        HttpStatus.ACCEPTED);
+        } catch (ArgumentNotValidException | InvalidDateException | InvalidTimePointException e) {
+            return new ResponseEntity<>(invalidTimeOfWeekErrorTxt, HttpStatus.PRECONDITION_FAILED);
+        } catch (Throwable e) {
+            return new ResponseEntity<>(internalServerErrorTxt, HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * GET /appointment/recurring/count?[days=][&fromHour=][&toHour=][&from=&to=]
+     * Counts the appointments that begin on certain days of the week within a range of hours of the day, e.g. how
+     * many appointments begin on monday mornings within the second quarter with
+     * days=1&fromHour=8&toHour=12&from=2017-04-01T00:00&to=2017-06-30T23:59:59.
+     *
+     * @param daysOfWeek The comma separated ISO days of the week, 1 for monday up to 7 for sunday.
+     *        May be omitted for every day.
+     * @param fromHour The first hour of the day, 0 to 23, inclusive. 0 if omitted.
+     * @param toHour The hour of the day at which the range of hours ends, 1 to 24, exclusive. 24 if omitted.
+     * @param from The earliest begin as an ISO-8601 local date-time, inclusive.
+     * @param to The latest begin as an ISO-8601 local date-time, inclusive.
+     *        from and to may both be omitted to count the appointments regardless of their dates.
+     * @return The amount of appointments that match on success with the HTTP status code 202.
+     *         If a day or an hour is invalid, or only one of from and to is passed in, or they do not form a valid
+     *         range error code 412 is returned.
+     *         If an internal server error occurred the error code 500 is returned.
+     */
+    @RequestMapping(value = "/appointment/recurring/count", method = RequestMethod.GET)
+    public ResponseEntity<?> countAppointmentsByTimeOfWeek(@RequestParam(value = "days", required = false) List<Integer> daysOfWeek,
+                                                           @RequestParam(value = "fromHour", required = false) Integer fromHour,
+                                                           @RequestParam(value = "toHour", required = false) Integer toHour,
+                                                           @RequestParam(value = "from", required = false) String from,
+                                                           @RequestParam(value = "to", required = false) String to,
+                                                        @RequestParam(value = "limit", required = false) Integer limit) {
+        final String invalidTimeOfWeekErrorTxt = "Invalid time of week.";
+
+        try {
+            TimeSpan range = null;
+            if (from != null || to != null) {
+                range = new TimeSpan(TimePoint.fromIsoString(from), TimePoint.fromIsoString(to));
+            }
+
+            return new ResponseEntity<>(appointmentComponentInterface.countAppointmentsByTimeOfWeek(daysOfWeek, fromHour, toHour,
+                                                                                                    range),
+                                        HttpStatus.ACCEPTED);
+        } catch (ArgumentNotValidException | InvalidDateException | InvalidTimePointException e) {
+            return new ResponseEntity<>(invalidTimeOfWeekErrorTxt, HttpStatus.PRECONDITION_FAILED);
+        } catch (Throwable e) {
+            return new ResponseEntity<>(internalServerErrorTxt, HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * GET /appointment/summary[?year=]
+     * Returns the amount of all appointments, the amounts of appointments that begin in the ISO weeks and the amounts
+     * of appointments the employees attend, e.g.
+     * {"appointmentCount":42,"weeks":[{"year":2017,"week":15,"appointmentCount":3}],"employees":[{"employeeId":1,"appointmentCount":2}]}
+     * The amounts are kept up to date as appointments change, so polling them does not load any appointments.
+     *
+     * @param year The ISO week-based-year whose weeks to return. May be omitted for the weeks of all years.
+     * @return The summary on success with the HTTP status code 202.
+     *         Weeks without appointments and employees that attend no appointments are left out.
+     *         If the year passed in is invalid error code 412 is returned.
+     *         If an internal server error occurred the error code 500 is returned.
+     */
+    @RequestMapping(value = "/appointment/summary", method = RequestMethod.GET)
+    public ResponseEntity<?> getAppointmentSummary(@RequestParam(value = "year", required = false) Integer year) {
+        final String invalidYearErrorTxt = "Invalid year.";
+
+        try {
+            return new ResponseEntity<>(appointmentComponentInterface.getAppointmentSummary(year), HttpStatus.ACCEPTED);
+        } catch (InvalidWeekException e) {
+            return new ResponseEntity<>(invalidYearErrorTxt, HttpStatus.PRECONDITION_FAILED);
+        } catch (Throwable e) {
+            return new ResponseEntity<>(internalServerErrorTxt, HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * GET /appointment/heatmap?from=&to=[&employees=]
+     * Returns the booked minutes of every 15 minute slot of every day of the week, added up over the days of a range,
+     * for the whole organization, a team or a single employee, e.g.
+     * {"slotMinutes":15,"days":[{"dayOfWeek":1,"bookedMinutes":[0,0,...,15,15,...]},...]}
+     * The heatmaps are kept up to date as appointments change, so polling them does not load any appointments.
+     *
+     * @param from The first day of the range as an ISO-8601 local date-time, e.g. 2017-04-01T00:00. The whole day is
+     *        added up.
+     * @param to The last day of the range as an ISO-8601 local date-time. The whole day is added up.
+     * @param employeeIds The comma separated IDs of the employees whose appointments to add up, a single one for an
+     *        employee or the members of a team. May be omitted for the whole organization. Employees that do not
+     *        exist attend no appointments.
+     * @return The heatmap on success with the HTTP status code 202.
+     *         If from or to is missing or invalid, they do not form a valid range, or more than 1000 employees are
+     *         passed in error code 412 is returned.
+     *         If an internal server error occurred the error code 500 is returned.
+     */
+    @RequestMapping(value = "/appointment/heatmap", method = RequestMethod.GET)
+    public ResponseEntity<?> getBookingHeatmap(@RequestParam(value = "from", required = false) String from,
+                                               @RequestParam(value = "to", required = false) String to,
+                                               @RequestParam(value = "employees", required = false) List<Integer> employeeIds) {
+        final String invalidHeatmapErrorTxt = "Invalid heatmap.";
+
+        try {
+            TimeSpan range = new TimeSpan(TimePoint.fromIsoString(from), TimePoint.fromIsoString(to));
+
+            return new ResponseEntity<>(appointmentComponentInterface.getBookingHeatmap(employeeIds, range),
+                                        HttpStatus.ACCEPTED);
+        } catch (ArgumentNotValidException | InvalidDateException | InvalidTimePointException e) {
+            return new ResponseEntity<>(invalidHeatmapErrorTxt, HttpStatus.PRECONDITION_FAILED);
+        } catch (Throwable e) {
+            return new ResponseEntity<>(internalServerErrorTxt, HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * GET /calendar/week?year=&week=[&employee=]
+     * Returns the appointments that overlap an ISO week laid out for a calendar: for every day of the week the
+     * entries of the appointments on that day with the second of the day at which they begin and end and the lane
+     * they take up, so that overlapping entries are drawn side by side. An appointment that runs across midnight has
+     * an entry on each of its days. The appointments themselves follow the days.
+     *
+     * @param year The ISO week-based-year of the week.
+     * @param week The ISO week.
+     * @param employeeId The ID of the employee whose appointments to lay out. May be omitted to lay out the
+     *        appointments of all employees.
+     * @return The week laid out on success with the HTTP status code 202.
+     *         If the employee does not exist error code 404 is returned.
+     *         If the year or the week passed in is missing or invalid error code 412 is returned.
+     *         If an internal server error occurred the error code 500 is returned.
+     * @apiNote Note that the year, the week and the employee must be passed as request parameters as part of the URL
+     *          itself.
+     */
+    @RequestMapping(value = "/calendar/week", method = RequestMethod.GET)
+    public ResponseEntity<?> getCalendarWeek(@RequestParam(value = "year", required = false) Integer year,
+                                             @RequestParam(value = "week", required = false) Integer week,
+                                             @RequestParam(value = "employee", required = false) Integer employeeId) {
+        final String employeeNotFoundErrorTxt = "Employee does not exist";
+        final String invalidWeekErrorTxt = "Invalid week.";
+        CalendarWeek calendarWeek;
+
+        try {
+            if (employeeId != null && !employeeComponentInterface.doesEmployeeExist(employeeId)) {
+                return new ResponseEntity<>(employeeNotFoundErrorTxt, HttpStatus.NOT_FOUND);
+            }
+
+            calendarWeek = appointmentComponentInterface.getCalendarWeek(year, week, employeeId);
+
+            return new ResponseEntity<>(calendarWeek, HttpStatus.ACCEPTED);
+        } catch (InvalidWeekException e) {
+            return new ResponseEntity<>(invalidWeekErrorTxt, HttpStatus.PRECONDITION_FAILED);
         } catch (Throwable e) {
             return new ResponseEntity<>(internalServerErrorTxt, HttpStatus.INTERNAL_SERVER_ERROR);
         }
@@ -78,7 +577,6 @@ class ApplicationFacadeController {
      */
     @RequestMapping(value = "/appointment", method = RequestMethod.POST)
     public ResponseEntity<?> createAppointment(@RequestBody String timeSpanString) {
-        final String invalidTimeSpanErrorTxt = "Invalid time span.";
         Appointment newAppointment;
 
         try {
@@ -91,6 +589,36 @@ class ApplicationFacadeController {
         }
     }
 
+    /**
+     * POST /appointment
+     * Creates a new appointment from a JSON object that holds the begin and the end of the TimeSpan for which to
+     * schedule the appointment as ISO-8601 local date-times, and optionally its title and its description.
+     * Examples of valid bodies below:
+     * {"start":"2017-04-15T16:00:00","end":"2017-04-15T17:00:00"}
+     * {"start":"2017-04-15T16:00:00","end":"2017-04-15T17:00:00","title":"Sprint review","description":"Demo"}
+     *
+     * @param body The request body, streamed through the AppointmentDraftDeserializer without being buffered as a
+     *        String.
+     * @return The appointment created with the HTTP status code 201 on success.
+     *         Error code 412 if the body was malformed, the time span passed in was not valid, or the title or the
+     *         description was too long.
+     *         Error code 500 if an internal server error occurred.
+     * @apiNote Note that the body must be sent with the content type application/json.
+     */
+    @RequestMapping(value = "/appointment", method = RequestMethod.POST, consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> createAppointmentFromJson(InputStream body) {
+        try {
+            AppointmentDraft draft = objectMapper.readValue(body, AppointmentDraft.class);
+            Appointment newAppointment = appointmentComponentInterface.addAppointment(
+                draft.getTimeSpan(), draft.getTitle(), draft.getDescription());
+            return new ResponseEntity<>(newAppointment, HttpStatus.CREATED);
+        } catch (JsonProcessingException | FailedToCreateAppointmentException e) {
+            return new ResponseEntity<>(invalidTimeSpanErrorTxt, HttpStatus.PRECONDITION_FAILED);
+        } catch (Throwable e) {
+            return new ResponseEntity<>(internalServerErrorTxt, HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
     /**
      * DELETE /appointment/{id}
      * Deletes the appointment with the id given.
@@ -164,17 +692,241 @@ class ApplicationFacadeController {
     }
 
     /**
-     * GET /employee
-     * Returns all employees.
+     * GET /employee[?after=&limit=]
+     * Returns a page of all employees, ordered by their ids.
      *
-     * @return On success returns all employees along with the HTTP status code 202.
+     * @param after The cursor of the page to get, as found in the X-Next-Cursor header of the previous page.
+     *        May be omitted to get the first page.
+     * @param limit The amount of employees per page, 100 if omitted and at most 1000.
+     * @return On success returns the employees of the page along with the HTTP status code 202.
+     *         If there are further employees after the page the X-Next-Cursor header holds the cursor of the next
+     *         page.
+     *         If the cursor or the limit are invalid error code 412 is returned.
      *         If an internal server error occurred error code 500 is returned.
      * @apiNote The array returned may be empty if there are no employees.
      */
     @RequestMapping(value = "/employee", method = RequestMethod.GET)
-    public ResponseEntity<?> getAllEmployees() {
+    public ResponseEntity<?> getAllEmployees(@RequestParam(value = "after", required = false) Integer after,
+                                             @RequestParam(value = "limit", required = false) Integer limit) {
+        final String invalidPageErrorTxt = "Invalid page.";
+
         try {
-            return new ResponseEntity<>(employeeComponentInterface.getAllEmployees(), HttpStatus.ACCEPTED);
+            Slice<Employee> page = employeeComponentInterface.getEmployeesAfter(after, limit);
+            HttpHeaders headers = new HttpHeaders();
+
+            if (page.hasNext()) {
+                final Employee last = page.getContent().get(page.getNumberOfElements() - 1);
+                headers.set(nextCursorHeader, String.valueOf(last.getId()));
+            }
+
+            return new ResponseEntity<>(page.getContent(), headers, HttpStatus.ACCEPTED);
+        } catch (InvalidEmployeePageException e) {
+            return new ResponseEntity<>(invalidPageErrorTxt, HttpStatus.PRECONDITION_FAILED);
+        } catch (Throwable e) {
+            return new ResponseEntity<>(internalServerErrorTxt, HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * GET /employee?q=[&limit=]
+     * Searches for employees by their names, for instance to complete a name as it is typed.
+     * The words of the query are matched against the beginnings of the first and last names, ignoring case and accents.
+     * If that finds fewer employees than requested, the employees with the most similar names follow.
+     *
+     * @param query The query, e.g. "pet schm". Must contain a letter or a digit.
+     * @param limit The largest amount of employees to return, 10 if omitted and at most 100.
+     * @return On success returns the employees found, the best match first, along with the HTTP status code 202.
+     *         If the query or the limit are invalid error code 412 is returned.
+     *         If an internal server error occurred error code 500 is returned.
+     * @apiNote The array returned may be empty if no employee matches.
+     */
+    @RequestMapping(value = "/employee", method = RequestMethod.GET, params = "q")
+    public ResponseEntity<?> searchEmployees(@RequestParam("q") String query,
+                                             @RequestParam(value = "limit", required = false) Integer limit) {
+        final String invalidSearchErrorTxt = "Invalid search.";
+
+        try {
+            return new ResponseEntity<>(employeeComponentInterface.searchEmployees(query, limit),
+                                        HttpStatus.ACCEPTED);
+        } catch (InvalidEmployeeSearchException e) {
+            return new ResponseEntity<>(invalidSearchErrorTxt, HttpStatus.PRECONDITION_FAILED);
+        } catch (Throwable e) {
+            return new ResponseEntity<>(internalServerErrorTxt, HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * GET /employee?email=
+     * Returns the employee with an email address.
+     *
+     * @param email The email address, case does not matter.
+     * @return On success returns the employee along with the HTTP status code 202.
+     *         If no employee has the email address error code 404 is returned.
+     *         If the email address is invalid error code 412 is returned.
+     *         If an internal server error occurred error code 500 is returned.
+     */
+    @RequestMapping(value = "/employee", method = RequestMethod.GET, params = "email")
+    public ResponseEntity<?> getEmployeeByEmail(@RequestParam("email") String email) {
+        final String employeeNotFoundErrorTxt = "Employee does not exist";
+        final String invalidEmailErrorTxt = "Invalid email address.";
+
+        try {
+            return new ResponseEntity<>(employeeComponentInterface.getEmployeeByEmail(email), HttpStatus.ACCEPTED);
+        } catch (EmployeeNotFoundException e) {
+            return new ResponseEntity<>(employeeNotFoundErrorTxt, HttpStatus.NOT_FOUND);
+        } catch (InvalidEmailAddressException e) {
+            return new ResponseEntity<>(invalidEmailErrorTxt, HttpStatus.PRECONDITION_FAILED);
+        } catch (Throwable e) {
+            return new ResponseEntity<>(internalServerErrorTxt, HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * POST /employee/resolve
+     * Resolves many email addresses to the IDs of the employees that have them, e.g. the attendees of invitations.
+     *
+     * @param emails The email addresses as a JSON array of strings, case does not matter.
+     * @return On success returns a JSON object that maps the email addresses as passed in to the IDs of the employees
+     *         along with the HTTP status code 202. Email addresses that are invalid or that no employee has are left
+     *         out.
+     *         If the request body is missing error code 412 is returned.
+     *         If an internal server error occurred error code 500 is returned.
+     * @apiNote note that the email addresses must be passed in the request body as JSON.
+     */
+    @RequestMapping(value = "/employee/resolve", method = RequestMethod.POST)
+    public ResponseEntity<?> resolveEmployeeIds(@RequestBody(required = false) List<String> emails) {
+        final String missingEmailsErrorTxt = "Email addresses are missing.";
+
+        if (emails == null) {
+            return new ResponseEntity<>(missingEmailsErrorTxt, HttpStatus.PRECONDITION_FAILED);
+        }
+
+        try {
+            return new ResponseEntity<>(employeeComponentInterface.resolveEmployeeIds(emails), HttpStatus.ACCEPTED);
+        } catch (Throwable e) {
+            return new ResponseEntity<>(internalServerErrorTxt, HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * GET /employee/{id}/appointments[?from=&to=][&limit=]
+     * Returns the first appointments an employee attends that overlap a range of time, ordered by the point in time at
+     * which they begin. Appointments that run across the boundaries of the range are returned as well.
+     *
+     * @param employeeId The ID of the employee.
+     * @param from The begin of the range as an ISO-8601 local date-time, e.g. 2017-04-16T19:00, inclusive.
+     * @param to The end of the range as an ISO-8601 local date-time, inclusive.
+     *        from and to may both be omitted to not restrict the appointments in time.
+     * @param limit The largest amount of appointments to return, 100 if omitted and at most 1000.
+     * @return The appointments requested on success with the HTTP status code 202.
+     *         If the employee does not exist error code 404 is returned.
+     *         If only one of from and to is passed in, they do not form a valid range or the limit is invalid error
+     *         code 412 is returned.
+     *         If an internal server error occurred the error code 500 is returned.
+     * @apiNote Note that from and to must be passed as request parameters as part of the URL itself.
+     */
+    @RequestMapping(value = "/employee/{id}/appointments", method = RequestMethod.GET)
+    public ResponseEntity<?> getAppointmentsOfEmployee(@PathVariable("id") Integer employeeId,
+                                                       @RequestParam(value = "from", required = false) String from,
+                                                       @RequestParam(value = "to", required = false) String to,
+                                                       @RequestParam(value = "limit", required = false) Integer limit) {
+        final String employeeNotFoundErrorTxt = "Employee does not exist";
+        final String invalidTimeRangeErrorTxt = "Invalid time range.";
+        List<Appointment> appointments;
+
+        try {
+            if (!employeeComponentInterface.doesEmployeeExist(employeeId)) {
+                return new ResponseEntity<>(employeeNotFoundErrorTxt, HttpStatus.NOT_FOUND);
+            }
+
+            TimeSpan range = null;
+            if (from != null || to != null) {
+                range = new TimeSpan(TimePoint.fromIsoString(from), TimePoint.fromIsoString(to));
+            }
+
+            appointments = appointmentComponentInterface.getAppointmentsOfEmployee(employeeId, range, limit);
+
+            return new ResponseEntity<>(appointments, HttpStatus.ACCEPTED);
+        } catch (ArgumentNotValidException | InvalidDateException | InvalidTimePointException e) {
+            return new ResponseEntity<>(invalidTimeRangeErrorTxt, HttpStatus.PRECONDITION_FAILED);
+        } catch (Throwable e) {
+            return new ResponseEntity<>(internalServerErrorTxt, HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * GET /employee/{id}/utilization[?from=&to=]
+     * Returns the minutes an employee is booked in total and in every ISO week, e.g.
+     * {"employeeId":1,"bookedMinutes":150,"weeks":[{"year":2017,"week":15,"bookedMinutes":90}]}
+     * The booked minutes are kept up to date as appointments change, so polling them does not load any appointments.
+     *
+     * @param employeeId The ID of the employee.
+     * @param from A point in time within the first week as an ISO-8601 local date-time, e.g. 2017-04-10T00:00.
+     * @param to A point in time within the last week as an ISO-8601 local date-time.
+     *        from and to may both be omitted for all weeks.
+     * @return The utilization of the employee on success with the HTTP status code 202.
+     *         Weeks without booked minutes are left out.
+     *         If the employee does not exist error code 404 is returned.
+     *         If only one of from and to is passed in, or they do not form a valid range error code 412 is returned.
+     *         If an internal server error occurred the error code 500 is returned.
+     */
+    @RequestMapping(value = "/employee/{id}/utilization", method = RequestMethod.GET)
+    public ResponseEntity<?> getEmployeeUtilization(@PathVariable("id") Integer employeeId,
+                                                    @RequestParam(value = "from", required = false) String from,
+                                                    @RequestParam(value = "to", required = false) String to) {
+        final String employeeNotFoundErrorTxt = "Employee does not exist";
+        final String invalidTimeRangeErrorTxt = "Invalid time range.";
+
+        try {
+            if (!employeeComponentInterface.doesEmployeeExist(employeeId)) {
+                return new ResponseEntity<>(employeeNotFoundErrorTxt, HttpStatus.NOT_FOUND);
+            }
+
+            TimeSpan range = null;
+            if (from != null || to != null) {
+                range = new TimeSpan(TimePoint.fromIsoString(from), TimePoint.fromIsoString(to));
+            }
+
+            return new ResponseEntity<>(appointmentComponentInterface.getEmployeeUtilization(employeeId, range),
+                                        HttpStatus.ACCEPTED);
+        } catch (ArgumentNotValidException | InvalidDateException | InvalidTimePointException e) {
+            return new ResponseEntity<>(invalidTimeRangeErrorTxt, HttpStatus.PRECONDITION_FAILED);
+        } catch (Throwable e) {
+            return new ResponseEntity<>(internalServerErrorTxt, HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * GET /employee/utilization[?from=&to=][&limit=]
+     * Returns the employees booked the most, each with the minutes booked in total and in every ISO week as returned
+     * by GET /employee/{id}/utilization, the most booked first.
+     *
+     * @param from A point in time within the first week as an ISO-8601 local date-time, e.g. 2017-04-10T00:00.
+     * @param to A point in time within the last week as an ISO-8601 local date-time.
+     *        from and to may both be omitted for all weeks.
+     * @param limit The largest amount of employees to return, 100 if omitted and at most 1000.
+     * @return The utilizations of the employees on success with the HTTP status code 202.
+     *         Employees without booked minutes are left out.
+     *         If the limit is invalid, or only one of from and to is passed in, or they do not form a valid range error
+     *         code 412 is returned.
+     *         If an internal server error occurred the error code 500 is returned.
+     */
+    @RequestMapping(value = "/employee/utilization", method = RequestMethod.GET)
+    public ResponseEntity<?> getMostBookedEmployees(@RequestParam(value = "from", required = false) String from,
+                                                    @RequestParam(value = "to", required = false) String to,
+                                                    @RequestParam(value = "limit", required = false) Integer limit) {
+        final String invalidUtilizationErrorTxt = "Invalid utilization query.";
+
+        try {
+            TimeSpan range = null;
+            if (from != null || to != null) {
+                range = new TimeSpan(TimePoint.fromIsoString(from), TimePoint.fromIsoString(to));
+            }
+
+            return new ResponseEntity<>(appointmentComponentInterface.getMostBookedEmployees(range, limit),
+                                        HttpStatus.ACCEPTED);
+        } catch (ArgumentNotValidException | InvalidDateException | InvalidTimePointException e) {
+            return new ResponseEntity<>(invalidUtilizationErrorTxt, HttpStatus.PRECONDITION_FAILED);
         } catch (Throwable e) {
             return new ResponseEntity<>(internalServerErrorTxt, HttpStatus.INTERNAL_SERVER_ERROR);
         }
@@ -208,7 +960,7 @@ class ApplicationFacadeController {
 
     /**
      * DELETE /employee/{id}
-     * Deletes an employee.
+     * Deletes an employee, which removes them from the attendees of the appointments they attend as well.
      *
      * @param employeeId The ID of the employee to delete.
      * @return On success HTTP status code 202 is returned.
@@ -229,6 +981,21 @@ class ApplicationFacadeController {
         }
     }
 
+    /**
+     * The string to use when a time span passed in was invalid.
+     */
+    private static final String invalidTimeSpanErrorTxt = "Invalid time span.";
+
+    /**
+     * The response header that holds the cursor of the next page of a paged listing.
+     */
+    private static final String nextCursorHeader = "X-Next-Cursor";
+
+    /**
+     * The largest amount of employees a name passed to GET /appointment?attendee= may match.
+     */
+    private static final int maxAttendeesPerName = 100;
+
     /**
      * The string to use when an internal server error has occurred.
      */
@@ -243,4 +1010,10 @@ class ApplicationFacadeController {
      * The EmployeeComponentInterface
      */
     private final EmployeeComponentInterface employeeComponentInterface;
+
+    /**
+     * The ObjectMapper used to read JSON request bodies and to create the JsonGenerator that streams the listing of
+     * all appointments.
+     */
+    private final ObjectMapper objectMapper;
 }
@@ -0,0 +1,2 @@
+alter table appointment_attendee drop constraint fk_appointment_attendee_employee;
+alter table appointment_attendee add constraint fk_appointment_attendee_employee foreign key (employee_id) references employee on delete restrict;
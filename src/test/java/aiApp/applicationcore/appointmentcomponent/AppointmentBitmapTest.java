@@ -0,0 +1,112 @@
+package aiApp.applicationcore.appointmentcomponent;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+
+import java.util.Random;
+import java.util.TreeSet;
+
+import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertFalse;
+import static junit.framework.TestCase.assertTrue;
+import static org.junit.Assert.assertArrayEquals;
+
+@RunWith(SpringJUnit4ClassRunner.class)
+@ActiveProfiles("test")
+public class AppointmentBitmapTest {
+    @Test
+    public void testAddRemoveContains() {
+        AppointmentBitmap bitmap = new AppointmentBitmap();
+
+        assertTrue(bitmap.isEmpty());
+        assertTrue(bitmap.add(70000));
+        assertTrue(bitmap.add(5));
+        assertFalse(bitmap.add(5));
+        assertTrue(bitmap.add(Integer.MAX_VALUE));
+
+        assertArrayEquals(new int[] { 5, 70000, Integer.MAX_VALUE }, bitmap.toArray());
+        assertTrue(bitmap.contains(70000));
+        assertFalse(bitmap.contains(70001));
+
+        assertTrue(bitmap.remove(70000));
+        assertFalse(bitmap.remove(70000));
+        assertEquals(2, bitmap.cardinality());
+
+        // a chunk turns into a bitmap once it holds more than 4096 ids and back into an array once it holds fewer.
+        for (int id = 0; id < 10000; id += 2) {
+            bitmap.add(id);
+        }
+
+        assertEquals(5002, bitmap.cardinality());
+        assertTrue(bitmap.contains(9998));
+        assertFalse(bitmap.contains(9999));
+
+        for (int id = 0; id < 10000; id += 2) {
+            assertTrue(bitmap.remove(id));
+        }
+
+        assertArrayEquals(new int[] { 5, Integer.MAX_VALUE }, bitmap.toArray());
+    }
+
+    @Test
+    public void testMatchesBruteForce() {
+        final Random random = new Random(42);
+        // few ids per chunk as well as dense chunks, across several chunks.
+        final int ranges[] = { 300000, 100000, 20000 };
+
+        for (int range : ranges) {
+            for (int round = 0; round < 20; ++round) {
+                TreeSet<Integer> lhsSet = new TreeSet<>();
+                TreeSet<Integer> rhsSet = new TreeSet<>();
+                AppointmentBitmap lhs = randomBitmap(random, range, lhsSet);
+                AppointmentBitmap rhs = randomBitmap(random, range, rhsSet);
+
+                TreeSet<Integer> expected = new TreeSet<>(lhsSet);
+                expected.retainAll(rhsSet);
+                assertArrayEquals(toArray(expected), AppointmentBitmap.and(lhs, rhs).toArray());
+
+                expected = new TreeSet<>(lhsSet);
+                expected.addAll(rhsSet);
+                assertArrayEquals(toArray(expected), AppointmentBitmap.or(lhs, rhs).toArray());
+
+                expected = new TreeSet<>(lhsSet);
+                expected.removeAll(rhsSet);
+                assertArrayEquals(toArray(expected), AppointmentBitmap.andNot(lhs, rhs).toArray());
+
+                // the operands are left as they were.
+                assertArrayEquals(toArray(lhsSet), lhs.toArray());
+                assertArrayEquals(toArray(rhsSet), rhs.toArray());
+            }
+        }
+    }
+
+    private static AppointmentBitmap randomBitmap(Random random, int range, TreeSet<Integer> set) {
+        AppointmentBitmap bitmap = new AppointmentBitmap();
+        final int count = random.nextInt(range / 4);
+
+        for (int i = 0; i < count; ++i) {
+            final int id = random.nextInt(range);
+            assertEquals(set.add(id), bitmap.add(id));
+        }
+
+        for (int i = 0; i < count / 4; ++i) {
+            final int id = random.nextInt(range);
+            assertEquals(set.remove(id), bitmap.remove(id));
+        }
+
+        assertEquals(set.size(), bitmap.cardinality());
+        return bitmap;
+    }
+
+    private static int[] toArray(TreeSet<Integer> set) {
+        int array[] = new int[set.size()];
+        int i = 0;
+        for (int id : set) {
+            array[i++] = id;
+        }
+
+        return array;
+    }
+}
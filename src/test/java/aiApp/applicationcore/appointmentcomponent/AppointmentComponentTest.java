@@ -9,14 +9,19 @@ import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Slice;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
 
 import java.util.*;
 
 import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertFalse;
 import static junit.framework.TestCase.assertTrue;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -143,6 +148,440 @@ public class AppointmentComponentTest {
         }
     }
 
+    @Test
+    public void testGetAppointmentsOfWeekOfYear() {
+        try {
+            // 2017-01-01 is a sunday and belongs to the last week of 2016.
+            final int weekBasedYearOfAppointment = 2016;
+            final int weekOfAppointment = 52;
+
+            assertThat(appointmentComponentInterface.getAppointmentsOfWeek(weekBasedYearOfAppointment, weekOfAppointment))
+                    .containsExactly(appointment);
+
+            assertThat(appointmentComponentInterface.getAppointmentsOfWeek(weekBasedYearOfAppointment + 1, weekOfAppointment))
+                    .isEmpty();
+
+            // week 17 of 2016 and of 2017, the later one added first.
+            final int week = 17;
+            TimePoint begin2017 = new TimePoint(2017, TimePoint.APRIL, 28, 12, 0, 0);
+            TimePoint begin2016 = new TimePoint(2016, TimePoint.APRIL, 29, 12, 0, 0);
+            TimePoint earlierBegin2017 = new TimePoint(2017, TimePoint.APRIL, 24, 8, 0, 0);
+
+            Appointment appointment2017 = appointmentComponentInterface.addAppointment(new TimeSpan(begin2017, begin2017));
+            Appointment appointment2016 = appointmentComponentInterface.addAppointment(new TimeSpan(begin2016, begin2016));
+            Appointment earlierAppointment2017 = appointmentComponentInterface.addAppointment(new TimeSpan(earlierBegin2017, earlierBegin2017));
+            commitIndexUpdates();
+
+            assertThat(appointmentComponentInterface.getAppointmentsOfWeek(2017, week))
+                    .containsExactly(earlierAppointment2017, appointment2017);
+
+            assertThat(appointmentComponentInterface.getAppointmentsOfWeek(2016, week))
+                    .containsExactly(appointment2016);
+
+            assertThat(appointmentComponentInterface.getAppointmentsOfWeek(week))
+                    .containsExactlyInAnyOrder(appointment2016, appointment2017, earlierAppointment2017);
+
+            // 2015 has 53 ISO weeks.
+            assertThat(appointmentComponentInterface.getAppointmentsOfWeek(2015, 53)).isEmpty();
+        } catch (AppointmentNotFoundException | InvalidWeekException | InvalidDateException
+                 | InvalidTimePointException | FailedToCreateAppointmentException e) {
+            assertEquals("Exception:", e.getMessage());
+        }
+    }
+
+    @Test
+    public void testGetAppointmentsOfInvalidWeekOfYear() {
+        final Integer invalidYearsAndWeeks[][] = new Integer[][] {
+                {null, 1}, {2017, null}, {null, null},
+                {-1, 1}, {Integer.MIN_VALUE, 1}, {Integer.MAX_VALUE, 1},
+                {2017, 0}, {2017, -1}, {2017, 53}, {2015, 54}, {2017, Integer.MAX_VALUE}
+        };
+
+        for (Integer yearAndWeek[] : invalidYearsAndWeeks) {
+            assertThatThrownBy(() -> appointmentComponentInterface.getAppointmentsOfWeek(yearAndWeek[0], yearAndWeek[1]))
+                    .isInstanceOf(InvalidWeekException.class);
+        }
+    }
+
+    @Test
+    public void testGetAppointmentsOfWeeks() {
+        try {
+            // 2017-01-01 belongs to week 52 of 2016, 2016-12-26 is the monday of that week.
+            TimePoint week40Of2016 = new TimePoint(2016, TimePoint.OCTOBER, 3, 0, 0, 0);
+            TimePoint week1Of2017 = new TimePoint(2017, TimePoint.JANUARY, 8, 23, 59, 59);
+            TimePoint week2Of2017 = new TimePoint(2017, TimePoint.JANUARY, 9, 0, 0, 0);
+            TimePoint week13Of2017 = new TimePoint(2017, TimePoint.APRIL, 2, 12, 0, 0);
+
+            Appointment appointment13 = appointmentComponentInterface.addAppointment(new TimeSpan(week13Of2017, week13Of2017));
+            Appointment appointment2 = appointmentComponentInterface.addAppointment(new TimeSpan(week2Of2017, week2Of2017));
+            Appointment appointment1 = appointmentComponentInterface.addAppointment(new TimeSpan(week1Of2017, week1Of2017));
+            Appointment appointment40 = appointmentComponentInterface.addAppointment(new TimeSpan(week40Of2016, week40Of2016));
+            commitIndexUpdates();
+
+            // a quarter at once, ordered by begin.
+            assertThat(appointmentComponentInterface.getAppointmentsOfWeeks(2017, 1, 2017, 13, null))
+                    .containsExactly(appointment1, appointment2, appointment13);
+
+            // across the end of the week-based-year.
+            assertThat(appointmentComponentInterface.getAppointmentsOfWeeks(2016, 40, 2017, 1, null))
+                    .containsExactly(appointment40, appointment, appointment1);
+
+            assertThat(appointmentComponentInterface.getAppointmentsOfWeeks(2016, 52, 2016, 52, null))
+                    .containsExactly(appointment);
+
+            assertThat(appointmentComponentInterface.getAppointmentsOfWeeks(2016, 41, 2016, 51, null)).isEmpty();
+            assertThat(appointmentComponentInterface.getAppointmentsOfWeeks(0, 1, 0, 52, null)).isEmpty();
+
+            // the first ones of the range only.
+            assertThat(appointmentComponentInterface.getAppointmentsOfWeeks(2016, 40, 2017, 13, 2))
+                    .containsExactly(appointment40, appointment);
+        } catch (InvalidWeekException | ArgumentNotValidException | InvalidDateException | InvalidTimePointException
+                 | FailedToCreateAppointmentException e) {
+            assertEquals("Exception:", e.getMessage());
+        }
+
+        final Integer invalidRanges[][] = new Integer[][] {
+                {2017, 2, 2017, 1}, {2017, 1, 2016, 52}, {null, 1, 2017, 1}, {2017, 1, 2017, null},
+                {2017, 0, 2017, 1}, {2017, 1, 2017, 53}, {-1, 1, 2017, 1}, {2017, 1, Integer.MAX_VALUE, 1}
+        };
+
+        for (Integer range[] : invalidRanges) {
+            assertThatThrownBy(() -> appointmentComponentInterface.getAppointmentsOfWeeks(range[0], range[1], range[2], range[3], null))
+                    .isInstanceOf(InvalidWeekException.class);
+        }
+
+        assertThatThrownBy(() -> appointmentComponentInterface.getAppointmentsOfWeeks(2017, 1, 2017, 13, 0))
+                .isInstanceOf(ArgumentNotValidException.class);
+    }
+
+    @Test
+    public void testGetAppointmentsOverlapping() {
+        try {
+            // the appointment of setUp runs from 2017-01-01 until 2017-02-28 13:30:59.
+            TimePoint januaryBegin = new TimePoint(2017, TimePoint.JANUARY, 10, 9, 0, 0);
+            TimePoint januaryEnd = new TimePoint(2017, TimePoint.JANUARY, 20, 17, 0, 0);
+            TimePoint marchBegin = new TimePoint(2017, TimePoint.MARCH, 1, 9, 0, 0);
+            TimePoint marchEnd = new TimePoint(2017, TimePoint.MARCH, 1, 10, 0, 0);
+
+            Appointment marchAppointment = appointmentComponentInterface.addAppointment(new TimeSpan(marchBegin, marchEnd));
+            Appointment januaryAppointment = appointmentComponentInterface.addAppointment(new TimeSpan(januaryBegin, januaryEnd));
+            commitIndexUpdates();
+
+            // an appointment that begins before the range and ends within it is found.
+            assertThat(appointmentComponentInterface.getAppointmentsOverlapping(
+                    new TimeSpan(new TimePoint(2017, TimePoint.FEBRUARY, 1, 0, 0, 0), marchEnd), null))
+                    .containsExactly(appointment, marchAppointment);
+
+            assertThat(appointmentComponentInterface.getAppointmentsOverlapping(new TimeSpan(januaryEnd, januaryEnd), null))
+                    .containsExactly(appointment, januaryAppointment);
+
+            // both ends of the range are inclusive.
+            assertThat(appointmentComponentInterface.getAppointmentsOverlapping(new TimeSpan(timeSpan.getEndTimePoint(), marchBegin), null))
+                    .containsExactly(appointment, marchAppointment);
+
+            assertThat(appointmentComponentInterface.getAppointmentsOverlapping(
+                    new TimeSpan(new TimePoint(2017, TimePoint.MARCH, 1, 10, 0, 1), new TimePoint(2018, TimePoint.JANUARY, 1, 0, 0, 0)), null))
+                    .isEmpty();
+
+            // the result always agrees with the query of the repository.
+            TimeSpan everything = new TimeSpan(new TimePoint(2016, TimePoint.JANUARY, 1, 0, 0, 0), marchEnd);
+            assertThat(appointmentComponentInterface.getAppointmentsOverlapping(everything, null))
+                    .containsExactlyElementsOf(appointmentRepository.findOverlapping(everything.getStartTimePoint(), everything.getEndTimePoint()));
+
+            // only the first appointments are loaded.
+            assertThat(appointmentComponentInterface.getAppointmentsOverlapping(everything, 2))
+                    .containsExactly(appointment, januaryAppointment);
+
+            appointmentComponentInterface.deleteAppointment(januaryAppointment.getId());
+            commitIndexUpdates();
+
+            assertThat(appointmentComponentInterface.getAppointmentsOverlapping(everything, null))
+                    .containsExactly(appointment, marchAppointment);
+        } catch (InvalidDateException | InvalidTimePointException | InvalidTimeSpanException
+                 | InvalidAppointmentIdException | FailedToCreateAppointmentException | ArgumentNotValidException e) {
+            assertEquals("Exception:", e.getMessage());
+        }
+
+        assertThatThrownBy(() -> appointmentComponentInterface.getAppointmentsOverlapping(null, null))
+                .isInstanceOf(InvalidTimeSpanException.class);
+        assertThatThrownBy(() -> appointmentComponentInterface.getAppointmentsOverlapping(timeSpan, 0))
+                .isInstanceOf(ArgumentNotValidException.class);
+    }
+
+    @Test
+    public void testGetCalendarWeek() {
+        try {
+            // the appointment of setUp ends on 2017-02-28 at 13:30:59, the tuesday of week 9 of 2017.
+            CalendarWeek calendarWeek = appointmentComponentInterface.getCalendarWeek(2017, 9, null);
+
+            assertThat(calendarWeek.getAppointments()).containsExactly(appointment);
+            assertEquals(1, calendarWeek.getGrid().getDay(0).size());
+            assertTrue(calendarWeek.getGrid().getDay(0).continuesFromPreviousDay(0));
+            assertEquals(13 * 3600 + 30 * 60 + 59, calendarWeek.getGrid().getDay(1).getEndSecond(0));
+            assertEquals(0, calendarWeek.getGrid().getDay(2).size());
+
+            TimePoint marchBegin = new TimePoint(2017, TimePoint.MARCH, 1, 9, 0, 0);
+            TimePoint marchEnd = new TimePoint(2017, TimePoint.MARCH, 1, 10, 0, 0);
+
+            // the week laid out before is cached and has to be dropped as the appointment is added.
+            Appointment marchAppointment = appointmentComponentInterface.addAppointment(new TimeSpan(marchBegin, marchEnd));
+            commitIndexUpdates();
+
+            calendarWeek = appointmentComponentInterface.getCalendarWeek(2017, 9, null);
+            assertThat(calendarWeek.getAppointments()).containsExactly(appointment, marchAppointment);
+            assertEquals(marchAppointment.getId().intValue(), calendarWeek.getGrid().getDay(2).getAppointmentId(0));
+
+            assertThat(appointmentComponentInterface.getCalendarWeek(2017, 9, employee1.getId()).getAppointments())
+                    .containsExactly(appointment);
+
+            appointmentComponentInterface.addEmployeesToAppointment(marchAppointment.getId(), Collections.singletonList(employee1));
+            commitIndexUpdates();
+
+            assertThat(appointmentComponentInterface.getCalendarWeek(2017, 9, employee1.getId()).getAppointments())
+                    .containsExactly(appointment, marchAppointment);
+
+            appointmentComponentInterface.deleteAppointment(marchAppointment.getId());
+            commitIndexUpdates();
+
+            assertThat(appointmentComponentInterface.getCalendarWeek(2017, 9, null).getAppointments())
+                    .containsExactly(appointment);
+            assertThat(appointmentComponentInterface.getCalendarWeek(2017, 9, employee1.getId()).getAppointments())
+                    .containsExactly(appointment);
+            assertThat(appointmentComponentInterface.getCalendarWeek(2017, 10, null).getAppointments())
+                    .isEmpty();
+
+            assertThatThrownBy(() -> appointmentComponentInterface.getCalendarWeek(2017, 54, null))
+                    .isInstanceOf(InvalidWeekException.class);
+            assertThatThrownBy(() -> appointmentComponentInterface.getCalendarWeek(null, 1, null))
+                    .isInstanceOf(InvalidWeekException.class);
+        } catch (InvalidDateException | InvalidTimePointException | InvalidAppointmentIdException | InvalidWeekException
+                 | AppointmentNotFoundException | FailedToCreateAppointmentException e) {
+            assertEquals("Exception:", e.getMessage());
+        }
+    }
+
+    @Test
+    public void testGetAppointmentsByTimeOfWeek() {
+        try {
+            // the appointment of setUp begins on sunday, 2017-01-01 at 0:00.
+            TimePoint wednesdayMorning = new TimePoint(2017, TimePoint.MARCH, 1, 9, 0, 0);
+            TimePoint mondayNoon = new TimePoint(2017, TimePoint.MARCH, 6, 12, 15, 0);
+
+            Appointment wednesdayAppointment = appointmentComponentInterface.addAppointment(new TimeSpan(wednesdayMorning, wednesdayMorning));
+            Appointment mondayAppointment = appointmentComponentInterface.addAppointment(new TimeSpan(mondayNoon, mondayNoon));
+            commitIndexUpdates();
+
+            assertThat(appointmentComponentInterface.getAppointmentsByTimeOfWeek(null, null, null, null, null))
+                    .containsExactly(appointment, wednesdayAppointment, mondayAppointment);
+            assertThat(appointmentComponentInterface.getAppointmentsByTimeOfWeek(Arrays.asList(1, 3), 8, 13, null, null))
+                    .containsExactly(wednesdayAppointment, mondayAppointment);
+            assertThat(appointmentComponentInterface.getAppointmentsByTimeOfWeek(null, 12, 13, null, null))
+                    .containsExactly(mondayAppointment);
+            assertThat(appointmentComponentInterface.getAppointmentsByTimeOfWeek(Collections.singletonList(7), null, 1, null, 1))
+                    .containsExactly(appointment);
+
+            final TimeSpan march = new TimeSpan(new TimePoint(2017, TimePoint.MARCH, 1, 0, 0, 0),
+                                                new TimePoint(2017, TimePoint.MARCH, 31, 23, 59, 59));
+
+            assertEquals(2, appointmentComponentInterface.countAppointmentsByTimeOfWeek(null, null, null, march));
+            assertEquals(1, appointmentComponentInterface.countAppointmentsByTimeOfWeek(Collections.singletonList(1), 12, null, march));
+
+            appointmentComponentInterface.deleteAppointment(mondayAppointment.getId());
+            commitIndexUpdates();
+
+            assertEquals(1, appointmentComponentInterface.countAppointmentsByTimeOfWeek(null, null, null, march));
+            assertThat(appointmentComponentInterface.getAppointmentsByTimeOfWeek(null, 12, 13, null, null))
+                    .isEmpty();
+
+            final Integer invalidHours[][] = { { -1, 5 }, { 0, 25 }, { 12, 12 }, { 13, 12 } };
+            for (Integer hours[] : invalidHours) {
+                assertThatThrownBy(() -> appointmentComponentInterface.countAppointmentsByTimeOfWeek(null, hours[0], hours[1], null))
+                        .isInstanceOf(ArgumentNotValidException.class);
+            }
+
+            assertThatThrownBy(() -> appointmentComponentInterface.getAppointmentsByTimeOfWeek(Collections.singletonList(0), null, null, null, null))
+                    .isInstanceOf(ArgumentNotValidException.class);
+            assertThatThrownBy(() -> appointmentComponentInterface.getAppointmentsByTimeOfWeek(Arrays.asList(1, null), null, null, null, null))
+                    .isInstanceOf(ArgumentNotValidException.class);
+            assertThatThrownBy(() -> appointmentComponentInterface.getAppointmentsByTimeOfWeek(null, null, null, null, 0))
+                    .isInstanceOf(ArgumentNotValidException.class);
+        } catch (InvalidDateException | InvalidTimePointException | InvalidAppointmentIdException
+                 | FailedToCreateAppointmentException | ArgumentNotValidException e) {
+            assertEquals("Exception:", e.getMessage());
+        }
+    }
+
+    @Test
+    public void testGetAppointmentSummary() {
+        try {
+            // the appointment of setUp begins on 2017-01-01, which belongs to week 52 of 2016.
+            AppointmentSummary summary = appointmentComponentInterface.getAppointmentSummary(null);
+
+            assertEquals(1, summary.getAppointmentCount());
+            assertEquals(1, summary.getWeekCounts().size());
+            assertEquals(2016, summary.getWeekCounts().get(0).getYear());
+            assertEquals(52, summary.getWeekCounts().get(0).getWeek());
+            assertEquals(1, summary.getWeekCounts().get(0).getAppointmentCount());
+            assertEquals(Integer.valueOf(1), summary.getAttendanceCounts().get(employee1.getId()));
+            assertEquals(Integer.valueOf(1), summary.getAttendanceCounts().get(employee2.getId()));
+
+            TimePoint marchBegin = new TimePoint(2017, TimePoint.MARCH, 1, 9, 0, 0);
+            Appointment marchAppointment = appointmentComponentInterface.addAppointment(new TimeSpan(marchBegin, marchBegin));
+            appointmentComponentInterface.addEmployeesToAppointment(marchAppointment.getId(), Collections.singletonList(employee1));
+            commitIndexUpdates();
+
+            summary = appointmentComponentInterface.getAppointmentSummary(null);
+            assertEquals(2, summary.getAppointmentCount());
+            assertEquals(2, summary.getWeekCounts().size());
+            assertEquals(9, summary.getWeekCounts().get(1).getWeek());
+            assertEquals(Integer.valueOf(2), summary.getAttendanceCounts().get(employee1.getId()));
+            assertEquals(Integer.valueOf(1), summary.getAttendanceCounts().get(employee2.getId()));
+
+            // only the weeks of the year asked for, the total stays the amount of all appointments.
+            summary = appointmentComponentInterface.getAppointmentSummary(2017);
+            assertEquals(2, summary.getAppointmentCount());
+            assertEquals(1, summary.getWeekCounts().size());
+            assertEquals(2017, summary.getWeekCounts().get(0).getYear());
+            assertEquals(0, appointmentComponentInterface.getAppointmentSummary(2018).getWeekCounts().size());
+
+            appointmentComponentInterface.deleteAppointment(marchAppointment.getId());
+            commitIndexUpdates();
+
+            summary = appointmentComponentInterface.getAppointmentSummary(null);
+            assertEquals(1, summary.getAppointmentCount());
+            assertEquals(1, summary.getWeekCounts().size());
+            assertEquals(Integer.valueOf(1), summary.getAttendanceCounts().get(employee1.getId()));
+
+            assertThatThrownBy(() -> appointmentComponentInterface.getAppointmentSummary(-1))
+                    .isInstanceOf(InvalidWeekException.class);
+        } catch (InvalidDateException | InvalidTimePointException | InvalidAppointmentIdException | InvalidWeekException
+                 | AppointmentNotFoundException | FailedToCreateAppointmentException e) {
+            assertEquals("Exception:", e.getMessage());
+        }
+    }
+
+    @Test
+    public void testGetBookingHeatmap() {
+        try {
+            // the appointment of setUp covers the week from monday 2017-01-09 up to sunday 2017-01-15 entirely.
+            TimeSpan week = new TimeSpan(new TimePoint(2017, TimePoint.JANUARY, 9, 0, 0, 0),
+                                         new TimePoint(2017, TimePoint.JANUARY, 15, 0, 0, 0));
+            BookingHeatmap heatmap = appointmentComponentInterface.getBookingHeatmap(null, week);
+
+            assertEquals(15, heatmap.getBookedMinutes(1, 0));
+            assertEquals(15, heatmap.getBookedMinutes(7, 95));
+            assertEquals(15, appointmentComponentInterface.getBookingHeatmap(Collections.singletonList(employee1.getId()), week)
+                                                          .getBookedMinutes(3, 40));
+            assertEquals(30, appointmentComponentInterface.getBookingHeatmap(Arrays.asList(employee1.getId(), employee2.getId()), week)
+                                                          .getBookedMinutes(3, 40));
+            assertEquals(15, appointmentComponentInterface.getBookingHeatmap(Arrays.asList(employee1.getId(), employee1.getId()), week)
+                                                          .getBookedMinutes(3, 40));
+
+            // it ends on tuesday 2017-02-28 at 13:30:59, the slot from 13:30 holds 59 seconds.
+            TimeSpan lastDay = new TimeSpan(new TimePoint(2017, TimePoint.FEBRUARY, 28, 12, 0, 0),
+                                            new TimePoint(2017, TimePoint.FEBRUARY, 28, 12, 0, 0));
+            heatmap = appointmentComponentInterface.getBookingHeatmap(null, lastDay);
+            assertEquals(15, heatmap.getBookedMinutes(2, 53));
+            assertEquals(0, heatmap.getBookedMinutes(2, 54));
+            assertEquals(0, heatmap.getBookedMinutes(1, 53));
+
+            // monday 2017-03-06 from 9:00 until 9:20.
+            TimePoint marchBegin = new TimePoint(2017, TimePoint.MARCH, 6, 9, 0, 0);
+            TimePoint marchEnd = new TimePoint(2017, TimePoint.MARCH, 6, 9, 20, 0);
+            TimeSpan march = new TimeSpan(marchBegin, marchBegin);
+            Appointment marchAppointment = appointmentComponentInterface.addAppointment(new TimeSpan(marchBegin, marchEnd));
+            commitIndexUpdates();
+
+            heatmap = appointmentComponentInterface.getBookingHeatmap(Collections.emptyList(), march);
+            assertEquals(15, heatmap.getBookedMinutes(1, 36));
+            assertEquals(5, heatmap.getBookedMinutes(1, 37));
+            assertEquals(0, appointmentComponentInterface.getBookingHeatmap(Collections.singletonList(employee1.getId()), march)
+                                                         .getBookedMinutes(1, 36));
+
+            appointmentComponentInterface.addEmployeesToAppointment(marchAppointment.getId(), Collections.singletonList(employee1));
+            commitIndexUpdates();
+            assertEquals(15, appointmentComponentInterface.getBookingHeatmap(Collections.singletonList(employee1.getId()), march)
+                                                          .getBookedMinutes(1, 36));
+
+            appointmentComponentInterface.deleteAppointment(marchAppointment.getId());
+            commitIndexUpdates();
+            assertEquals(0, appointmentComponentInterface.getBookingHeatmap(null, march).getBookedMinutes(1, 36));
+            assertEquals(0, appointmentComponentInterface.getBookingHeatmap(Collections.singletonList(employee1.getId()), march)
+                                                         .getBookedMinutes(1, 36));
+
+            assertThatThrownBy(() -> appointmentComponentInterface.getBookingHeatmap(null, null))
+                    .isInstanceOf(ArgumentNotValidException.class);
+            assertThatThrownBy(() -> appointmentComponentInterface.getBookingHeatmap(Collections.singletonList(null), week))
+                    .isInstanceOf(ArgumentNotValidException.class);
+        } catch (InvalidDateException | InvalidTimePointException | InvalidAppointmentIdException
+                 | AppointmentNotFoundException | FailedToCreateAppointmentException | ArgumentNotValidException e) {
+            assertEquals("Exception:", e.getMessage());
+        }
+    }
+
+    @Test
+    public void testGetEmployeeUtilization() {
+        try {
+            // the appointment of setUp runs from sunday 2017-01-01, week 52 of 2016, until 2017-02-28T13:30:59 in week 9.
+            EmployeeUtilization utilization = appointmentComponentInterface.getEmployeeUtilization(employee1.getId(), null);
+
+            assertEquals((int) employee1.getId(), utilization.getEmployeeId());
+            assertEquals(58 * 24 * 60 + 13 * 60 + 30, utilization.getBookedMinutes());
+            assertEquals(10, utilization.getWeeks().size());
+            assertEquals(2016, utilization.getWeeks().get(0).getYear());
+            assertEquals(52, utilization.getWeeks().get(0).getWeek());
+            assertEquals(24 * 60, utilization.getWeeks().get(0).getBookedMinutes());
+            assertEquals(7 * 24 * 60, utilization.getWeeks().get(1).getBookedMinutes());
+            assertEquals(9, utilization.getWeeks().get(9).getWeek());
+            assertEquals(24 * 60 + 13 * 60 + 30, utilization.getWeeks().get(9).getBookedMinutes());
+
+            // the weeks of the range are added up whole.
+            TimeSpan january = new TimeSpan(new TimePoint(2017, TimePoint.JANUARY, 10, 12, 0, 0),
+                                            new TimePoint(2017, TimePoint.JANUARY, 11, 12, 0, 0));
+            utilization = appointmentComponentInterface.getEmployeeUtilization(employee2.getId(), january);
+            assertEquals(7 * 24 * 60, utilization.getBookedMinutes());
+            assertEquals(1, utilization.getWeeks().size());
+            assertEquals(2, utilization.getWeeks().get(0).getWeek());
+
+            TimePoint marchBegin = new TimePoint(2017, TimePoint.MARCH, 6, 9, 0, 0);
+            TimePoint marchEnd = new TimePoint(2017, TimePoint.MARCH, 6, 10, 30, 0);
+            TimeSpan march = new TimeSpan(marchBegin, marchBegin);
+            Appointment marchAppointment = appointmentComponentInterface.addAppointment(new TimeSpan(marchBegin, marchEnd));
+            commitIndexUpdates();
+
+            assertEquals(0, appointmentComponentInterface.getEmployeeUtilization(employee1.getId(), march).getBookedMinutes());
+            assertThat(appointmentComponentInterface.getMostBookedEmployees(march, null)).isEmpty();
+
+            appointmentComponentInterface.addEmployeesToAppointment(marchAppointment.getId(), Collections.singletonList(employee1));
+            commitIndexUpdates();
+
+            List<EmployeeUtilization> mostBooked = appointmentComponentInterface.getMostBookedEmployees(march, null);
+            assertEquals(1, mostBooked.size());
+            assertEquals((int) employee1.getId(), mostBooked.get(0).getEmployeeId());
+            assertEquals(90, mostBooked.get(0).getBookedMinutes());
+
+            mostBooked = appointmentComponentInterface.getMostBookedEmployees(null, null);
+            assertEquals(2, mostBooked.size());
+            assertEquals((int) employee1.getId(), mostBooked.get(0).getEmployeeId());
+            assertEquals((int) employee2.getId(), mostBooked.get(1).getEmployeeId());
+            assertEquals(1, appointmentComponentInterface.getMostBookedEmployees(null, 1).size());
+
+            appointmentComponentInterface.deleteAppointment(marchAppointment.getId());
+            commitIndexUpdates();
+            assertThat(appointmentComponentInterface.getMostBookedEmployees(march, null)).isEmpty();
+            assertEquals(58 * 24 * 60 + 13 * 60 + 30,
+                         appointmentComponentInterface.getEmployeeUtilization(employee1.getId(), null).getBookedMinutes());
+
+            assertThatThrownBy(() -> appointmentComponentInterface.getEmployeeUtilization(null, null))
+                    .isInstanceOf(ArgumentNotValidException.class);
+            assertThatThrownBy(() -> appointmentComponentInterface.getMostBookedEmployees(null, 0))
+                    .isInstanceOf(ArgumentNotValidException.class);
+        } catch (InvalidDateException | InvalidTimePointException | InvalidAppointmentIdException
+                 | AppointmentNotFoundException | FailedToCreateAppointmentException | ArgumentNotValidException e) {
+            assertEquals("Exception:", e.getMessage());
+        }
+    }
+
     @Test
     public void testAddAppointment() {
         try {
@@ -151,6 +590,7 @@ public class AppointmentComponentTest {
                     "TimePoint{year=2017, month=3, day=1, hour=5, minute=0, second=0}");
 
             Appointment appointment = appointmentComponentInterface.addAppointment(timeSpan);
+            commitIndexUpdates();
 
             assertEquals(appointment.getTimeSpan(), timeSpan);
 
@@ -159,6 +599,7 @@ public class AppointmentComponentTest {
             assertThat(appointmentRepository.findAll()).contains(appointment);
 
             Appointment appointmentFromStr = appointmentComponentInterface.addAppointment(timeSpanString);
+            commitIndexUpdates();
 
             assertThat(appointmentFromStr.getAttendees()).isEmpty();
 
@@ -211,6 +652,7 @@ public class AppointmentComponentTest {
     public void testDeleteAppointment() {
         try {
             appointmentComponentInterface.deleteAppointment(appointment.getId());
+            commitIndexUpdates();
         } catch (InvalidAppointmentIdException e) {
             assertEquals("Exception:", e.getMessage());
         }
@@ -221,6 +663,32 @@ public class AppointmentComponentTest {
                 .isInstanceOf(InvalidAppointmentIdException.class);
     }
 
+    @Test
+    public void testAddAndDeleteAppointmentRolledBack() {
+        try {
+            TimePoint marchBegin = new TimePoint(2017, TimePoint.MARCH, 1, 9, 0, 0);
+            final TimeSpan march = new TimeSpan(marchBegin, marchBegin);
+
+            // the indexes are loaded before the appointments are written.
+            assertThat(appointmentComponentInterface.getAppointmentsOverlapping(march, null)).isEmpty();
+            final SortedMap<Integer, Integer> attendanceCounts = appointmentComponentInterface.getAppointmentSummary(null)
+                                                                                              .getAttendanceCounts();
+            assertEquals(2, attendanceCounts.size());
+
+            appointmentComponentInterface.addAppointment(march);
+            appointmentComponentInterface.deleteAppointment(appointment.getId());
+
+            TransactionSynchronizationUtils.invokeAfterCompletion(TransactionSynchronizationManager.getSynchronizations(),
+                                                                  TransactionSynchronization.STATUS_ROLLED_BACK);
+
+            assertThat(appointmentComponentInterface.getAppointmentsOverlapping(march, null)).isEmpty();
+            assertEquals(attendanceCounts, appointmentComponentInterface.getAppointmentSummary(null).getAttendanceCounts());
+        } catch (InvalidDateException | InvalidTimePointException | InvalidTimeSpanException | InvalidAppointmentIdException
+                 | FailedToCreateAppointmentException | ArgumentNotValidException | InvalidWeekException e) {
+            assertEquals("Exception:", e.getMessage());
+        }
+    }
+
     @Test
     public void testDeleteInvalidAppointment() {
         final Integer ids[] = new Integer[] {
@@ -234,6 +702,274 @@ public class AppointmentComponentTest {
         }
     }
 
+    @Test
+    public void testGetAppointmentsOfEmployee() {
+        try {
+            TimePoint marchBegin = new TimePoint(2017, TimePoint.MARCH, 1, 9, 0, 0);
+            TimePoint marchEnd = new TimePoint(2017, TimePoint.MARCH, 1, 10, 0, 0);
+
+            // the agendas are loaded from the repository.
+            assertThat(appointmentComponentInterface.getAppointmentsOfEmployee(employee1.getId(), null, null))
+                    .containsExactly(appointment);
+
+            Appointment marchAppointment = appointmentComponentInterface.addAppointment(new TimeSpan(marchBegin, marchEnd));
+            commitIndexUpdates();
+
+            assertThat(appointmentComponentInterface.getAppointmentsOfEmployee(employee2.getId(), null, null))
+                    .containsExactly(appointment);
+
+            appointmentComponentInterface.addEmployeesToAppointment(marchAppointment.getId(), Collections.singletonList(employee2));
+            commitIndexUpdates();
+
+            assertThat(appointmentComponentInterface.getAppointmentsOfEmployee(employee2.getId(), null, null))
+                    .containsExactly(appointment, marchAppointment);
+            assertThat(appointmentComponentInterface.getAppointmentsOfEmployee(employee1.getId(), null, null))
+                    .containsExactly(appointment);
+
+            // the appointment of setUp ends at 2017-02-28 13:30:59, both ends of the range are inclusive.
+            assertThat(appointmentComponentInterface.getAppointmentsOfEmployee(employee2.getId(), new TimeSpan(marchBegin, marchBegin), null))
+                    .containsExactly(marchAppointment);
+            assertThat(appointmentComponentInterface.getAppointmentsOfEmployee(employee2.getId(), new TimeSpan(timeSpan.getEndTimePoint(), marchBegin), null))
+                    .containsExactly(appointment, marchAppointment);
+            assertThat(appointmentComponentInterface.getAppointmentsOfEmployee(employee2.getId(),
+                    new TimeSpan(new TimePoint(2017, TimePoint.MARCH, 1, 10, 0, 1), new TimePoint(2018, TimePoint.JANUARY, 1, 0, 0, 0)), null))
+                    .isEmpty();
+
+            // the first ones only.
+            assertThat(appointmentComponentInterface.getAppointmentsOfEmployee(employee2.getId(), null, 1))
+                    .containsExactly(appointment);
+            assertThatThrownBy(() -> appointmentComponentInterface.getAppointmentsOfEmployee(employee2.getId(), null, 0))
+                    .isInstanceOf(ArgumentNotValidException.class);
+
+            appointmentComponentInterface.deleteAppointment(appointment.getId());
+            commitIndexUpdates();
+
+            assertThat(appointmentComponentInterface.getAppointmentsOfEmployee(employee2.getId(), null, null))
+                    .containsExactly(marchAppointment);
+            assertThat(appointmentComponentInterface.getAppointmentsOfEmployee(employee1.getId(), null, null)).isEmpty();
+
+            assertThat(appointmentComponentInterface.getAppointmentsOfEmployee(null, null, null)).isEmpty();
+            assertThat(appointmentComponentInterface.getAppointmentsOfEmployee(employee2.getId() + 1000, null, null)).isEmpty();
+        } catch (InvalidDateException | InvalidTimePointException | InvalidAppointmentIdException
+                 | AppointmentNotFoundException | FailedToCreateAppointmentException | ArgumentNotValidException e) {
+            assertEquals("Exception:", e.getMessage());
+        }
+    }
+
+    @Test
+    public void testGetAppointmentsOfEmployees() {
+        try {
+            TimePoint earlierBegin = new TimePoint(2016, TimePoint.DECEMBER, 31, 9, 0, 0);
+            TimePoint marchBegin = new TimePoint(2017, TimePoint.MARCH, 1, 9, 0, 0);
+            TimePoint marchEnd = new TimePoint(2017, TimePoint.MARCH, 1, 10, 0, 0);
+
+            Appointment marchAppointment = appointmentComponentInterface.addAppointment(new TimeSpan(marchBegin, marchEnd));
+            Appointment earlierAppointment = appointmentComponentInterface.addAppointment(new TimeSpan(earlierBegin, earlierBegin));
+
+            appointmentComponentInterface.addEmployeesToAppointment(marchAppointment.getId(), Collections.singletonList(employee1));
+            appointmentComponentInterface.addEmployeesToAppointment(earlierAppointment.getId(), Collections.singletonList(employee2));
+            commitIndexUpdates();
+
+            final List<Integer> both = Arrays.asList(employee1.getId(), employee2.getId());
+
+            // ordered by the point in time at which they begin, the appointment both attend is returned once.
+            assertThat(appointmentComponentInterface.getAppointmentsOfEmployees(both, null, null))
+                    .containsExactly(earlierAppointment, appointment, marchAppointment);
+            assertThat(appointmentComponentInterface.getAppointmentsOfEmployees(both, null, 2))
+                    .containsExactly(earlierAppointment, appointment);
+
+            // the appointment of the setUp runs from 2017-01-01T00:00 until 2017-02-28T13:30:59.
+            final TimeSpan range = new TimeSpan(new TimePoint(2017, TimePoint.JANUARY, 1, 9, 0, 0), marchBegin);
+
+            assertThat(appointmentComponentInterface.getAppointmentsOfEmployees(both, range, null))
+                    .containsExactly(appointment, marchAppointment);
+            assertThat(appointmentComponentInterface.getAppointmentsOfEmployees(
+                    Collections.singletonList(employee2.getId()), range, null))
+                    .containsExactly(appointment);
+            assertThat(appointmentComponentInterface.getAppointmentsOfEmployees(Collections.emptyList(), null, null))
+                    .isEmpty();
+
+            assertThatThrownBy(() -> appointmentComponentInterface.getAppointmentsOfEmployees(null, null, null))
+                    .isInstanceOf(ArgumentNotValidException.class);
+            assertThatThrownBy(() -> appointmentComponentInterface.getAppointmentsOfEmployees(both, null, 0))
+                    .isInstanceOf(ArgumentNotValidException.class);
+        } catch (InvalidDateException | InvalidTimePointException | InvalidAppointmentIdException
+                 | AppointmentNotFoundException | FailedToCreateAppointmentException | ArgumentNotValidException e) {
+            assertEquals("Exception:", e.getMessage());
+        }
+    }
+
+    @Test
+    public void testGetAppointmentsAttendedBy() {
+        try {
+            TimePoint earlierBegin = new TimePoint(2016, TimePoint.DECEMBER, 31, 9, 0, 0);
+            TimePoint marchBegin = new TimePoint(2017, TimePoint.MARCH, 1, 9, 0, 0);
+            TimePoint marchEnd = new TimePoint(2017, TimePoint.MARCH, 1, 10, 0, 0);
+
+            Appointment marchAppointment = appointmentComponentInterface.addAppointment(new TimeSpan(marchBegin, marchEnd));
+            Appointment earlierAppointment = appointmentComponentInterface.addAppointment(new TimeSpan(earlierBegin, marchEnd));
+
+            appointmentComponentInterface.addEmployeesToAppointment(marchAppointment.getId(), Collections.singletonList(employee1));
+            appointmentComponentInterface.addEmployeesToAppointment(earlierAppointment.getId(), Collections.singletonList(employee2));
+            commitIndexUpdates();
+
+            final List<Integer> both = Arrays.asList(employee1.getId(), employee2.getId());
+
+            assertThat(appointmentComponentInterface.getAppointmentsAttendedBy(both, null, null, null))
+                    .containsExactly(appointment);
+
+            // ordered by the point in time at which they begin.
+            assertThat(appointmentComponentInterface.getAppointmentsAttendedBy(null, both, null, null))
+                    .containsExactly(earlierAppointment, appointment, marchAppointment);
+            assertThat(appointmentComponentInterface.getAppointmentsAttendedBy(null, both, null, 2))
+                    .containsExactly(earlierAppointment, appointment);
+
+            assertThat(appointmentComponentInterface.getAppointmentsAttendedBy(
+                    Collections.singletonList(employee1.getId()), null, Collections.singletonList(employee2.getId()), null))
+                    .containsExactly(marchAppointment);
+
+            assertThat(appointmentComponentInterface.getAppointmentsAttendedBy(
+                    Collections.singletonList(employee1.getId()), Collections.singletonList(employee2.getId()), Collections.emptyList(), null))
+                    .containsExactly(appointment);
+
+            appointmentComponentInterface.deleteAppointment(appointment.getId());
+            commitIndexUpdates();
+
+            assertThat(appointmentComponentInterface.getAppointmentsAttendedBy(both, null, null, null)).isEmpty();
+
+            assertThatThrownBy(() -> appointmentComponentInterface.getAppointmentsAttendedBy(null, null, both, null))
+                    .isInstanceOf(ArgumentNotValidException.class);
+            assertThatThrownBy(() -> appointmentComponentInterface.getAppointmentsAttendedBy(Collections.emptyList(), Collections.emptyList(), null, null))
+                    .isInstanceOf(ArgumentNotValidException.class);
+            assertThatThrownBy(() -> appointmentComponentInterface.getAppointmentsAttendedBy(Arrays.asList(employee1.getId(), null), null, null, null))
+                    .isInstanceOf(ArgumentNotValidException.class);
+            assertThatThrownBy(() -> appointmentComponentInterface.getAppointmentsAttendedBy(both, null, null, 0))
+                    .isInstanceOf(ArgumentNotValidException.class);
+        } catch (InvalidDateException | InvalidTimePointException | InvalidAppointmentIdException
+                 | AppointmentNotFoundException | FailedToCreateAppointmentException | ArgumentNotValidException e) {
+            assertEquals("Exception:", e.getMessage());
+        }
+    }
+
+    @Test
+    public void testSearchAppointments() {
+        try {
+            TimePoint earlierBegin = new TimePoint(2016, TimePoint.DECEMBER, 31, 9, 0, 0);
+            TimePoint marchBegin = new TimePoint(2017, TimePoint.MARCH, 1, 9, 0, 0);
+            TimePoint marchEnd = new TimePoint(2017, TimePoint.MARCH, 1, 10, 0, 0);
+
+            Appointment review = appointmentComponentInterface.addAppointment(
+                    new TimeSpan(marchBegin, marchEnd), "Sprint review", "Demo of the search");
+            Appointment planning = appointmentComponentInterface.addAppointment(
+                    new TimeSpan(earlierBegin, marchEnd), "Sprint planning", null);
+            commitIndexUpdates();
+
+            assertEquals("Sprint review", review.getTitle());
+            assertEquals("Demo of the search", review.getDescription());
+
+            // ordered by the point in time at which they begin.
+            assertThat(appointmentComponentInterface.searchAppointments("sprint", null))
+                    .containsExactly(planning, review);
+            assertThat(appointmentComponentInterface.searchAppointments("Sprint", 1))
+                    .containsExactly(planning);
+            assertThat(appointmentComponentInterface.searchAppointments("search sprint", null))
+                    .containsExactly(review);
+            assertThat(appointmentComponentInterface.searchAppointments("retro", null)).isEmpty();
+
+            // appointments stored through the repository are indexed once the component gets to see them.
+            Appointment retro = appointmentRepository.save(new Appointment(new TimeSpan(marchBegin, marchEnd), "Retro", null));
+            appointmentComponentInterface.addEmployeesToAppointment(retro.getId(), Collections.singletonList(employee1));
+            commitIndexUpdates();
+            assertThat(appointmentComponentInterface.searchAppointments("retro", null)).containsExactly(retro);
+
+            appointmentComponentInterface.deleteAppointment(planning.getId());
+            commitIndexUpdates();
+            assertThat(appointmentComponentInterface.searchAppointments("sprint", null)).containsExactly(review);
+
+            final String tooLong = String.join("", Collections.nCopies(Appointment.MAX_TITLE_LENGTH + 1, "a"));
+            assertThatThrownBy(() -> appointmentComponentInterface.addAppointment(new TimeSpan(marchBegin, marchEnd), tooLong, null))
+                    .isInstanceOf(FailedToCreateAppointmentException.class);
+
+            assertThatThrownBy(() -> appointmentComponentInterface.searchAppointments(null, null))
+                    .isInstanceOf(InvalidAppointmentSearchException.class);
+            assertThatThrownBy(() -> appointmentComponentInterface.searchAppointments(" ?! ", null))
+                    .isInstanceOf(InvalidAppointmentSearchException.class);
+            assertThatThrownBy(() -> appointmentComponentInterface.searchAppointments("sprint", 0))
+                    .isInstanceOf(InvalidAppointmentSearchException.class);
+        } catch (InvalidDateException | InvalidTimePointException | InvalidAppointmentIdException | InvalidTimeSpanException
+                 | InvalidWeekException | AppointmentNotFoundException | FailedToCreateAppointmentException
+                 | ArgumentNotValidException | InvalidAppointmentSearchException e) {
+            assertEquals("Exception:", e.getMessage());
+        }
+    }
+
+    @Test
+    public void testGetAppointmentsAfter() {
+        try {
+            // the appointment of setUp begins at 2017-01-01 00:00:00.
+            TimePoint sameBegin = timeSpan.getStartTimePoint();
+            TimePoint laterBegin = new TimePoint(2017, TimePoint.MARCH, 1, 9, 0, 0);
+            TimePoint earlierBegin = new TimePoint(2016, TimePoint.DECEMBER, 31, 9, 0, 0);
+            TimePoint end = new TimePoint(2017, TimePoint.MARCH, 1, 10, 0, 0);
+
+            Appointment later = appointmentComponentInterface.addAppointment(new TimeSpan(laterBegin, end));
+            Appointment same = appointmentComponentInterface.addAppointment(new TimeSpan(sameBegin, end));
+            Appointment earlier = appointmentComponentInterface.addAppointment(new TimeSpan(earlierBegin, end));
+            commitIndexUpdates();
+
+            // ordered by begin and then by id, appointments with the same begin are not skipped.
+            List<Appointment> expected = Arrays.asList(earlier, appointment, same, later);
+
+            List<Appointment> pagedThrough = new ArrayList<>();
+            Slice<Appointment> page = appointmentComponentInterface.getAppointmentsAfter(null, 3);
+            pagedThrough.addAll(page.getContent());
+            assertTrue(page.hasNext());
+
+            page = appointmentComponentInterface.getAppointmentsAfter(
+                    AppointmentCursor.encode(pagedThrough.get(pagedThrough.size() - 1)), 3);
+            pagedThrough.addAll(page.getContent());
+            assertFalse(page.hasNext());
+
+            assertEquals(expected, pagedThrough);
+
+            assertEquals(expected, appointmentComponentInterface.getAppointmentsAfter(null, null).getContent());
+            assertEquals(expected, appointmentComponentInterface.getAppointmentsAfter(null, Integer.MAX_VALUE).getContent());
+
+            // pages of a single appointment.
+            pagedThrough.clear();
+            String cursor = null;
+            do {
+                page = appointmentComponentInterface.getAppointmentsAfter(cursor, 1);
+                pagedThrough.addAll(page.getContent());
+                cursor = AppointmentCursor.encode(page.getContent().get(0));
+            } while (page.hasNext());
+
+            assertEquals(expected, pagedThrough);
+
+            assertThat(appointmentComponentInterface.getAppointmentsAfter(AppointmentCursor.encode(later), null)).isEmpty();
+
+            final String invalidCursors[] = {
+                    "", "_", "1483228800", "1483228800_", "_5", "abc_5", "1483228800_abc", "1483228800_5_6",
+                    "99999999999999999999_5"
+            };
+
+            for (String invalidCursor : invalidCursors) {
+                assertThatThrownBy(() -> appointmentComponentInterface.getAppointmentsAfter(invalidCursor, null))
+                        .isInstanceOf(InvalidAppointmentPageException.class);
+            }
+
+            final Integer invalidLimits[] = { 0, -1, Integer.MIN_VALUE };
+
+            for (Integer invalidLimit : invalidLimits) {
+                assertThatThrownBy(() -> appointmentComponentInterface.getAppointmentsAfter(null, invalidLimit))
+                        .isInstanceOf(InvalidAppointmentPageException.class);
+            }
+        } catch (InvalidDateException | InvalidTimePointException
+                 | FailedToCreateAppointmentException | InvalidAppointmentPageException e) {
+            assertEquals("Exception:", e.getMessage());
+        }
+    }
+
     @Test
     public void testAddEmployeesToAppointment() {
         try {
@@ -278,6 +1014,42 @@ public class AppointmentComponentTest {
         }
     }
 
+    @Test
+    public void testAddEmployeesToAppointmentRolledBack() {
+        try {
+            TimePoint marchBegin = new TimePoint(2017, TimePoint.MARCH, 1, 9, 0, 0);
+            TimePoint marchEnd = new TimePoint(2017, TimePoint.MARCH, 1, 10, 0, 0);
+            final TimeSpan march = new TimeSpan(marchBegin, marchEnd);
+
+            Appointment marchAppointment = appointmentComponentInterface.addAppointment(march);
+            commitIndexUpdates();
+            assertThat(appointmentComponentInterface.getAppointmentsOfEmployee(employee1.getId(), null, null))
+                    .containsExactly(appointment);
+            final long bookedMinutes = appointmentComponentInterface.getEmployeeUtilization(employee1.getId(), march)
+                                                                    .getBookedMinutes();
+
+            appointmentComponentInterface.addEmployeesToAppointment(marchAppointment.getId(), Collections.singletonList(employee1));
+
+            // the attendees have not been committed yet.
+            assertThat(appointmentComponentInterface.getAppointmentsOfEmployee(employee1.getId(), null, null))
+                    .containsExactly(appointment);
+
+            TransactionSynchronizationUtils.invokeAfterCompletion(TransactionSynchronizationManager.getSynchronizations(),
+                                                                  TransactionSynchronization.STATUS_ROLLED_BACK);
+
+            assertThat(appointmentComponentInterface.getAppointmentsOfEmployee(employee1.getId(), null, null))
+                    .containsExactly(appointment);
+            assertThat(appointmentComponentInterface.getAppointmentsOfEmployee(employee1.getId(), march, null)).isEmpty();
+            assertEquals(0, appointmentComponentInterface.getBookingHeatmap(Collections.singletonList(employee1.getId()), march)
+                                                         .getBookedMinutes(3, 36));
+            assertEquals(bookedMinutes, appointmentComponentInterface.getEmployeeUtilization(employee1.getId(), march)
+                                                                     .getBookedMinutes());
+        } catch (InvalidDateException | InvalidTimePointException | InvalidAppointmentIdException
+                 | AppointmentNotFoundException | FailedToCreateAppointmentException | ArgumentNotValidException e) {
+            assertEquals("Exception:", e.getMessage());
+        }
+    }
+
     @Test
     public void testDoesAppointmentHaveEmployees() {
         List<Employee> employees = Arrays.asList(employee1, employee2);
@@ -306,6 +1078,21 @@ public class AppointmentComponentTest {
         }
     }
 
+    /**
+     * Helper function that hands the commit to the synchronizations registered with the test transaction, which is
+     * rolled back in the end, so that the indexes pick up the appointments and attendees that have been added and
+     * drop the appointments that have been deleted. Every synchronization is handed the commit once.
+     */
+    private void commitIndexUpdates() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+
+        TransactionSynchronizationUtils.invokeAfterCommit(synchronizations.subList(committedSynchronizations,
+                                                                                   synchronizations.size()));
+        committedSynchronizations = synchronizations.size();
+    }
+
+    private int committedSynchronizations;
+
     private AppointmentComponentInterface appointmentComponentInterface;
 
     @Autowired
@@ -0,0 +1,62 @@
+package aiApp.applicationcore.appointmentcomponent;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+
+import java.io.IOException;
+
+import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertNull;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@RunWith(SpringJUnit4ClassRunner.class)
+@ActiveProfiles("test")
+public class AppointmentDraftDeserializerTest {
+    @Test
+    public void testDeserialize() {
+        try {
+            TimeSpan expected = new TimeSpan(new TimePoint(2017, TimePoint.APRIL, 15, 16, 0, 0),
+                                             new TimePoint(2017, TimePoint.APRIL, 15, 17, 30, 59));
+
+            AppointmentDraft draft = objectMapper.readValue(
+                    "{\"title\":\"Sprint review\",\"start\":\"2017-04-15T16:00:00\",\"end\":\"2017-04-15T17:30:59\","
+                    + "\"description\":\"Demo\"}", AppointmentDraft.class);
+
+            assertEquals(expected, draft.getTimeSpan());
+            assertEquals("Sprint review", draft.getTitle());
+            assertEquals("Demo", draft.getDescription());
+
+            // the title and the description are optional.
+            draft = objectMapper.readValue("{\"start\":\"2017-04-15T16:00:00\",\"end\":\"2017-04-15T17:30:59\","
+                                           + "\"title\":null}", AppointmentDraft.class);
+
+            assertEquals(expected, draft.getTimeSpan());
+            assertNull(draft.getTitle());
+            assertNull(draft.getDescription());
+        } catch (IOException | InvalidDateException | InvalidTimePointException e) {
+            assertEquals("Exception:", e.getMessage());
+        }
+    }
+
+    @Test
+    public void testDeserializeInvalid() {
+        final String invalid[] = new String[] {
+                "{}", "[]", "{\"title\":\"Sprint review\"}",
+                "{\"start\":\"2017-04-15T16:00:00\",\"title\":\"Sprint review\"}",
+                "{\"start\":\"2017-04-15T16:00:00\",\"end\":\"2017-04-15T17:00:00\",\"title\":1}",
+                "{\"start\":\"2017-04-15T16:00:00\",\"end\":\"2017-04-15T17:00:00\",\"description\":[]}",
+                "{\"start\":\"2017-04-15T17:00:00\",\"end\":\"2017-04-15T16:00:00\",\"title\":\"Sprint review\"}"
+        };
+
+        for (String json : invalid) {
+            assertThatThrownBy(() -> objectMapper.readValue(json, AppointmentDraft.class))
+                    .isInstanceOf(JsonMappingException.class);
+        }
+    }
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+}
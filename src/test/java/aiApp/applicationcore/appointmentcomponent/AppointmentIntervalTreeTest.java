@@ -0,0 +1,163 @@
+package aiApp.applicationcore.appointmentcomponent;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertFalse;
+import static junit.framework.TestCase.assertTrue;
+import static org.junit.Assert.assertArrayEquals;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@RunWith(SpringJUnit4ClassRunner.class)
+@ActiveProfiles("test")
+public class AppointmentIntervalTreeTest {
+    @Test
+    public void testQuery() {
+        AppointmentIntervalTree tree = new AppointmentIntervalTree();
+
+        tree.insert(1, 10, 20);
+        tree.insert(2, 0, 100);
+        tree.insert(3, 30, 30);
+        tree.insert(4, 10, 15);
+        tree.insert(2, 0, 100);
+
+        assertEquals(4, tree.size());
+
+        // ordered by begin and then by id.
+        assertEquals(Arrays.asList(2, 1, 4), tree.query(15, 15));
+        assertEquals(Arrays.asList(2, 1), tree.query(16, 29));
+        assertEquals(Arrays.asList(2, 3), tree.query(30, 30));
+        assertEquals(Arrays.asList(2, 1, 4, 3), tree.query(-5, 1000));
+        assertEquals(Collections.emptyList(), tree.query(101, 1000));
+        assertEquals(Collections.emptyList(), tree.query(20, 10));
+        assertEquals(Arrays.asList(2, 1, 4, 3), tree.query(Long.MIN_VALUE, Long.MAX_VALUE));
+
+        assertTrue(tree.remove(2, 0));
+        assertFalse(tree.remove(2, 0));
+        assertFalse(tree.remove(1, 11));
+
+        assertEquals(3, tree.size());
+        assertEquals(Collections.singletonList(3), tree.query(21, 30));
+    }
+
+    @Test
+    public void testQueryWithLimit() {
+        AppointmentIntervalTree tree = new AppointmentIntervalTree();
+
+        tree.insert(1, 10, 20);
+        tree.insert(2, 0, 100);
+        tree.insert(3, 30, 30);
+        tree.insert(4, 10, 15);
+
+        int ids[] = new int[4];
+        long begins[] = new long[4];
+
+        assertEquals(4, tree.query(-5, 1000, 4, ids, begins));
+        assertArrayEquals(new int[] { 2, 1, 4, 3 }, ids);
+        assertArrayEquals(new long[] { 0, 10, 10, 30 }, begins);
+
+        assertEquals(2, tree.query(15, 1000, 2, ids, begins));
+        assertArrayEquals(new int[] { 2, 1 }, Arrays.copyOf(ids, 2));
+
+        assertEquals(3, tree.query(16, 30, 4, ids, begins));
+        assertArrayEquals(new int[] { 2, 1, 3 }, Arrays.copyOf(ids, 3));
+
+        assertEquals(0, tree.query(101, 1000, 4, ids, begins));
+        assertEquals(0, tree.query(20, 10, 4, ids, begins));
+
+        assertEquals(Arrays.asList(2, 1, 4), tree.query(-5, 1000, 3));
+        assertEquals(Arrays.asList(2, 1, 3), tree.query(16, 30, 10));
+        assertEquals(Collections.emptyList(), tree.query(20, 10, 10));
+    }
+
+    @Test
+    public void testFromSorted() {
+        final int count = 1000;
+        int ids[] = new int[count];
+        long begins[] = new long[count];
+        long ends[] = new long[count];
+
+        for (int i = 0; i < count; ++i) {
+            ids[i] = i + 1;
+            begins[i] = i * 10;
+            ends[i] = i * 10 + 15;
+        }
+
+        AppointmentIntervalTree tree = AppointmentIntervalTree.fromSorted(ids, begins, ends, count);
+
+        assertEquals(count, tree.size());
+        assertEquals(10, tree.height());
+        assertEquals(Arrays.asList(10, 11, 12), tree.query(100, 115));
+
+        tree.insert(count + 1, 5, 5);
+        assertEquals(Arrays.asList(1, count + 1), tree.query(5, 5));
+
+        long unsorted[] = new long[] { 10, 5 };
+        assertThatThrownBy(() -> AppointmentIntervalTree.fromSorted(new int[] { 1, 2 }, unsorted, unsorted, 2))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testMatchesBruteForce() {
+        final Random random = new Random(42);
+        final int range = 10000;
+        final int operations = 20000;
+
+        AppointmentIntervalTree tree = new AppointmentIntervalTree();
+        List<long[]> appointments = new ArrayList<>();
+
+        for (int id = 1; id <= operations; ++id) {
+            if (!appointments.isEmpty() && random.nextInt(3) == 0) {
+                long appointment[] = appointments.remove(random.nextInt(appointments.size()));
+                assertTrue(tree.remove((int) appointment[0], appointment[1]));
+            } else {
+                final long begin = random.nextInt(range);
+                final long end = begin + random.nextInt(200);
+                tree.insert(id, begin, end);
+                appointments.add(new long[] { id, begin, end });
+            }
+
+            assertEquals(appointments.size(), tree.size());
+
+            if (id % 100 == 0) {
+                final long from = random.nextInt(range);
+                final long to = from + random.nextInt(300);
+
+                assertEquals(bruteForce(appointments, from, to), tree.query(from, to));
+
+                // an AVL tree is never higher than 1.45 * log2(n + 2).
+                assertTrue(tree.height() <= 1.45 * Math.log(tree.size() + 2) / Math.log(2));
+            }
+        }
+    }
+
+    private static List<Integer> bruteForce(List<long[]> appointments, long from, long to) {
+        List<long[]> found = new ArrayList<>();
+
+        for (long appointment[] : appointments) {
+            if (appointment[1] <= to && appointment[2] >= from) {
+                found.add(appointment);
+            }
+        }
+
+        found.sort(Comparator.<long[]>comparingLong(appointment -> appointment[1])
+                             .thenComparingLong(appointment -> appointment[0]));
+
+        List<Integer> ids = new ArrayList<>();
+        for (long appointment[] : found) {
+            ids.add((int) appointment[0]);
+        }
+
+        return ids;
+    }
+}
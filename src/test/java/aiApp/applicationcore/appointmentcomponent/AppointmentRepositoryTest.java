@@ -5,16 +5,22 @@ import aiApp.applicationcore.employeecomponent.EmailType;
 import aiApp.applicationcore.employeecomponent.Employee;
 import aiApp.applicationcore.employeecomponent.EmployeeRepository;
 import aiApp.applicationcore.employeecomponent.InvalidEmployeeNameException;
+import org.hibernate.Session;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
 import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
@@ -107,11 +113,128 @@ public class AppointmentRepositoryTest {
         assertThat(optional.get()).containsExactly(appointment);
     }
 
+    @Test
+    public void testFindByTime() {
+        try {
+            TimePoint laterBegin = new TimePoint(2015, TimePoint.JUNE, 5, 9, 0, 0);
+            TimePoint laterEnd = new TimePoint(2015, TimePoint.JUNE, 5, 11, 0, 0);
+            TimePoint earlierBegin = new TimePoint(2015, TimePoint.MAY, 1, 8, 0, 0);
+            TimePoint earlierEnd = new TimePoint(2015, TimePoint.MAY, 1, 9, 0, 0);
+
+            Appointment laterAppointment = appointmentRepository.save(new Appointment(new TimeSpan(laterBegin, laterEnd)));
+            Appointment earlierAppointment = appointmentRepository.save(new Appointment(new TimeSpan(earlierBegin, earlierEnd)));
+
+            assertThat(appointmentRepository.findAllByOrderByTimeSpanBeginAsc())
+                    .containsExactly(earlierAppointment, appointment, laterAppointment);
+
+            final PageRequest firstTen = new PageRequest(0, 10);
+
+            assertThat(appointmentRepository.findStartingBetween(earlierBegin, laterBegin, firstTen))
+                    .containsExactly(earlierAppointment, appointment, laterAppointment);
+
+            assertThat(appointmentRepository.findStartingBetween(earlierBegin, laterBegin, new PageRequest(0, 2)))
+                    .containsExactly(earlierAppointment, appointment);
+
+            assertThat(appointmentRepository.findStartingBetween(new TimePoint(2015, TimePoint.JUNE, 1, 0, 0, 0), laterEnd,
+                                                                 firstTen))
+                    .containsExactly(appointment, laterAppointment);
+
+            assertThat(appointmentRepository.findStartingBetween(laterEnd, new TimePoint(2016, TimePoint.JUNE, 1, 0, 0, 0),
+                                                                 firstTen))
+                    .isEmpty();
+
+            // 10:00 is the end of the first and within the later appointment, 08:30 only hits the earlier appointment.
+            TimePoint tenOClock = new TimePoint(2015, TimePoint.JUNE, 5, 10, 0, 0);
+            assertThat(appointmentRepository.findOverlapping(tenOClock, tenOClock))
+                    .containsExactly(appointment, laterAppointment);
+
+            TimePoint halfPastEight = new TimePoint(2015, TimePoint.MAY, 1, 8, 30, 0);
+            assertThat(appointmentRepository.findOverlapping(halfPastEight, halfPastEight))
+                    .containsExactly(earlierAppointment);
+
+            Appointment appointmentGotten = appointmentRepository.findOne(laterAppointment.getId());
+            assertEquals(laterAppointment.getTimeSpan(), appointmentGotten.getTimeSpan());
+        } catch (InvalidDateException | InvalidTimeSpanException | InvalidWeekException | InvalidTimePointException e) {
+            assertEquals("Exception:", e.getMessage());
+        }
+    }
+
+    @Test
+    public void testFindByAttendeesId() {
+        List<Employee> attendees = appointment.getAttendees();
+        List<Integer> attendeeIds = Arrays.asList(attendees.get(0).getId(), attendees.get(1).getId());
+
+        for (Integer attendeeId : attendeeIds) {
+            assertThat(appointmentRepository.findByAttendeesId(attendeeId)).containsExactly(appointment);
+        }
+
+        assertEquals(attendeeIds.size(), appointmentRepository.countAttendees(appointment.getId(), attendeeIds));
+
+        final int nonExistentEmployeeId = attendeeIds.get(1) + 1;
+        assertEquals(0L, appointmentRepository.countAttendees(appointment.getId(), Collections.singletonList(nonExistentEmployeeId)));
+        assertThat(appointmentRepository.findByAttendeesId(nonExistentEmployeeId)).isEmpty();
+
+        // deleting an employee removes them from the appointments they attended.
+        employeeRepository.delete(attendeeIds.get(0));
+        employeeRepository.flush();
+
+        assertThat(appointmentRepository.findByAttendeesId(attendeeIds.get(0))).isEmpty();
+        assertEquals(1L, appointmentRepository.countAttendees(appointment.getId(), attendeeIds));
+
+        // through JPA, so the attendee that followed moves up instead of leaving a gap in the order.
+        entityManager.clear();
+        assertThat(appointmentRepository.findOne(appointment.getId()).getAttendees())
+                .extracting(Employee::getId)
+                .containsExactly(attendeeIds.get(1));
+    }
+
+    @Test
+    public void testForEachInOrder() {
+        try {
+            TimePoint laterBegin = new TimePoint(2015, TimePoint.JUNE, 5, 9, 0, 0);
+            TimePoint earlierBegin = new TimePoint(2015, TimePoint.MAY, 1, 8, 0, 0);
+            TimePoint end = new TimePoint(2015, TimePoint.JUNE, 5, 11, 0, 0);
+
+            Appointment laterAppointment = appointmentRepository.save(new Appointment(new TimeSpan(laterBegin, end)));
+            Appointment earlierAppointment = new Appointment(new TimeSpan(earlierBegin, end));
+            Appointment sameBeginAppointment = appointmentRepository.save(new Appointment(appointment.getTimeSpan()));
+
+            // the attendees keep the order in which they were added.
+            List<Employee> attendees = new ArrayList<>(appointment.getAttendees());
+            Collections.reverse(attendees);
+            earlierAppointment.addEmployees(attendees);
+            appointmentRepository.save(earlierAppointment);
+
+            List<String> expected = Arrays.asList(earlierAppointment.toString(), appointment.toString(),
+                                                  sameBeginAppointment.toString(), laterAppointment.toString());
+
+            entityManager.flush();
+            entityManager.clear();
+
+            List<String> actual = new ArrayList<>();
+            appointmentRepository.forEachInOrder(streamed -> {
+                assertTrue(entityManager.contains(streamed));
+                actual.add(streamed.toString());
+            });
+
+            assertEquals(expected, actual);
+
+            // nothing is left attached once an appointment has been passed on.
+            assertTrue(entityManager.unwrap(Session.class).getStatistics().getEntityCount() == 0);
+            assertTrue(entityManager.unwrap(Session.class).getStatistics().getCollectionCount() == 0);
+        } catch (InvalidDateException | InvalidTimeSpanException | InvalidWeekException | InvalidTimePointException e) {
+            assertEquals("Exception:", e.getMessage());
+        }
+    }
+
     @Autowired
     private AppointmentRepository appointmentRepository;
 
     @Autowired
     private EmployeeRepository employeeRepository;
 
+    @PersistenceContext
+    private EntityManager entityManager;
+
     private Appointment appointment;
 }
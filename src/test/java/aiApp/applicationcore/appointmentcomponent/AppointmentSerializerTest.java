@@ -0,0 +1,76 @@
+package aiApp.applicationcore.appointmentcomponent;
+
+import aiApp.applicationcore.employeecomponent.EmailType;
+import aiApp.applicationcore.employeecomponent.Employee;
+import aiApp.applicationcore.employeecomponent.InvalidEmployeeNameException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static junit.framework.TestCase.assertEquals;
+
+@RunWith(SpringJUnit4ClassRunner.class)
+@ActiveProfiles("test")
+public class AppointmentSerializerTest {
+    @Test
+    public void testSerialize() {
+        try {
+            TimeSpan timeSpan = new TimeSpan(new TimePoint(2017, TimePoint.APRIL, 15, 16, 0, 0),
+                                             new TimePoint(2017, TimePoint.APRIL, 15, 17, 30, 59));
+            Appointment appointment = new Appointment(timeSpan);
+            appointment.addEmployees(Collections.singletonList(
+                    new Employee("Peter", "Schmidt", new EmailType("peter.schmidt@internet.de"))));
+
+            final String timePointJson = "{\"month\":4,\"hour\":16,\"year\":2017,\"day\":15,\"minute\":0,\"second\":0}";
+            final String timeSpanJson = "{\"startTimePoint\":" + timePointJson
+                                        + ",\"endTimePoint\":{\"month\":4,\"hour\":17,\"year\":2017,\"day\":15,\"minute\":30,\"second\":59}}";
+            final String appointmentJson = "{\"startWeek\":15,\"attendees\":["
+                                           + "{\"firstName\":\"Peter\",\"lastName\":\"Schmidt\",\"name\":\"Peter Schmidt\",\"id\":null,\"email\":{\"email\":\"peter.schmidt@internet.de\"}}"
+                                           + "],\"startWeekBasedYear\":2017,\"timeSpan\":" + timeSpanJson + ",\"id\":null}";
+
+            assertEquals(timePointJson, timeSpan.getStartTimePoint().toString());
+            assertEquals(timeSpanJson, timeSpan.toString());
+            assertEquals(appointmentJson, appointment.toString());
+            assertEquals("{\"firstName\":\"ABC\",\"lastName\":\"DEF\",\"name\":\"ABC DEF\",\"id\":null,\"email\":null}",
+                         new Employee("ABC", "DEF", null).toString());
+
+            // the HTTP responses are written by the very same serializers.
+            assertEquals(timePointJson, objectMapper.writeValueAsString(timeSpan.getStartTimePoint()));
+            assertEquals(timeSpanJson, objectMapper.writeValueAsString(timeSpan));
+            assertEquals(appointmentJson, objectMapper.writeValueAsString(appointment));
+            assertEquals("[" + appointmentJson + "," + appointmentJson + "]",
+                         objectMapper.writeValueAsString(Arrays.asList(appointment, appointment)));
+        } catch (InvalidDateException | InvalidTimePointException | InvalidTimeSpanException | InvalidWeekException
+                 | InvalidEmployeeNameException | JsonProcessingException e) {
+            assertEquals("Exception:", e.getMessage());
+        }
+    }
+
+    @Test
+    public void testSerializeTitleAndDescription() {
+        try {
+            TimeSpan timeSpan = new TimeSpan(new TimePoint(2017, TimePoint.APRIL, 15, 16, 0, 0),
+                                             new TimePoint(2017, TimePoint.APRIL, 15, 17, 30, 59));
+
+            final String appointmentJson = "{\"startWeek\":15,\"attendees\":[],\"startWeekBasedYear\":2017,\"timeSpan\":"
+                                           + timeSpan.toString() + ",\"id\":null";
+
+            assertEquals(appointmentJson + ",\"title\":\"Sprint \\\"review\\\"\",\"description\":\"Demo\"}",
+                         new Appointment(timeSpan, "Sprint \"review\"", "Demo").toString());
+            assertEquals(appointmentJson + ",\"description\":\"Demo\"}",
+                         new Appointment(timeSpan, null, "Demo").toString());
+            assertEquals(appointmentJson + "}", new Appointment(timeSpan, null, null).toString());
+        } catch (InvalidDateException | InvalidTimePointException | InvalidTimeSpanException | InvalidWeekException
+                 | ArgumentNotValidException e) {
+            assertEquals("Exception:", e.getMessage());
+        }
+    }
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+}
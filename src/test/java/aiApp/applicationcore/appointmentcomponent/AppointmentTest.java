@@ -121,9 +121,30 @@ public class AppointmentTest {
 
     @Test
     public void testGetStartWeek() {
-        final int week = 32;
+        // 2016-08-02 lies in ISO week 31 of 2016.
+        final int week = 31;
+        final int weekBasedYear = 2016;
 
         assertEquals(week, appointment.getStartWeek().intValue());
+        assertEquals(weekBasedYear, appointment.getStartWeekBasedYear().intValue());
+
+        try {
+            // 2016-01-01 is a friday, it belongs to the last week of 2015.
+            TimePoint newYear = new TimePoint(2016, TimePoint.JANUARY, 1, 10, 0, 0);
+            Appointment newYearAppointment = new Appointment(new TimeSpan(newYear, newYear));
+
+            assertEquals(53, newYearAppointment.getStartWeek().intValue());
+            assertEquals(2015, newYearAppointment.getStartWeekBasedYear().intValue());
+
+            // 2014-12-29 is a monday, it begins the first week of 2015.
+            TimePoint endOfYear = new TimePoint(2014, TimePoint.DECEMBER, 29, 10, 0, 0);
+            Appointment endOfYearAppointment = new Appointment(new TimeSpan(endOfYear, endOfYear));
+
+            assertEquals(1, endOfYearAppointment.getStartWeek().intValue());
+            assertEquals(2015, endOfYearAppointment.getStartWeekBasedYear().intValue());
+        } catch (InvalidDateException | InvalidTimePointException | InvalidTimeSpanException | InvalidWeekException e) {
+            assertEquals("Exception:", e.getMessage());
+        }
     }
 
     @Test
@@ -172,6 +193,18 @@ public class AppointmentTest {
         }
     }
 
+    @Test
+    public void testRemoveEmployee() {
+        assertFalse(appointment.removeEmployee(null));
+        assertFalse(appointment.removeEmployee(employee2.getId() + 1));
+
+        assertTrue(appointment.removeEmployee(employee1.getId()));
+        assertFalse(appointment.hasAttendee(employee1.getId()));
+        assertThat(appointment.getAttendees()).containsExactly(employee2);
+
+        assertFalse(appointment.removeEmployee(employee1.getId()));
+    }
+
     @Test
     public void testEquals() {
         assertEquals(appointment, appointment);
@@ -0,0 +1,89 @@
+package aiApp.applicationcore.appointmentcomponent;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static junit.framework.TestCase.assertEquals;
+
+@RunWith(SpringJUnit4ClassRunner.class)
+@ActiveProfiles("test")
+public class AppointmentTextIndexTest {
+    @Test
+    public void testSearch() {
+        AppointmentTextIndex index = new AppointmentTextIndex();
+
+        index.add(1, 100, "Sprint review", "Demo of the new search");
+        index.add(2, 50, "Sprint planning", null);
+        index.add(3, 100, null, "Review of the budget");
+        index.add(4, 0, "Budget", "Planning the budget of the next sprint");
+
+        // ordered by the begin and then by the id.
+        assertEquals(Arrays.asList(4, 2, 1), index.search("sprint", 100));
+        assertEquals(Arrays.asList(1, 3), index.search("REVIEW", 100));
+        assertEquals(Arrays.asList(4, 2), index.search("planning sprint", 100));
+        assertEquals(Collections.singletonList(3), index.search("review budget", 100));
+        assertEquals(Collections.singletonList(4), index.search("budget sprint budget", 100));
+        assertEquals(Arrays.asList(4, 2), index.search("sprint", 2));
+        assertEquals(Collections.emptyList(), index.search("sprint retro", 100));
+        assertEquals(Collections.emptyList(), index.search("sprin", 100));
+
+        // adding an appointment again does nothing.
+        index.add(2, 50, "Sprint planning", null);
+        assertEquals(Arrays.asList(4, 2, 1), index.search("sprint", 100));
+
+        index.remove(4, 0, "Budget", "Planning the budget of the next sprint");
+        assertEquals(Arrays.asList(2, 1), index.search("sprint", 100));
+        assertEquals(Collections.emptyList(), index.search("next", 100));
+
+        index.remove(4, 0, "Budget", "Planning the budget of the next sprint");
+        index.remove(1, 100, "Sprint review", "Demo of the new search");
+        index.remove(2, 50, "Sprint planning", null);
+        index.remove(3, 100, null, "Review of the budget");
+        assertEquals(0, index.wordCount());
+    }
+
+    @Test
+    public void testSearchManyAppointments() {
+        AppointmentTextIndex index = new AppointmentTextIndex();
+        final int count = 10000;
+
+        // every appointment has the word of every divisor among 2, 3 and 5 of its id, added out of order.
+        for (int i = count; i >= 1; --i) {
+            index.add(i, i / 10, wordsOfDivisors(i));
+        }
+
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 30; i <= count; i += 30) {
+            expected.add(i);
+        }
+
+        assertEquals(expected, index.search("two three five", count));
+        assertEquals(expected, index.search("five two three", count));
+        assertEquals(expected.subList(0, 10), index.search("three five two", 10));
+    }
+
+    private static String wordsOfDivisors(int number) {
+        StringBuilder words = new StringBuilder("any");
+
+        if (number % 2 == 0) {
+            words.append(" two");
+        }
+
+        if (number % 3 == 0) {
+            words.append(" three");
+        }
+
+        if (number % 5 == 0) {
+            words.append(" five");
+        }
+
+        return words.toString();
+    }
+}
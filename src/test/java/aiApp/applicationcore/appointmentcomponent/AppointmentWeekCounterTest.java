@@ -0,0 +1,52 @@
+package aiApp.applicationcore.appointmentcomponent;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+
+import java.util.Collections;
+
+import static junit.framework.TestCase.assertEquals;
+
+@RunWith(SpringJUnit4ClassRunner.class)
+@ActiveProfiles("test")
+public class AppointmentWeekCounterTest {
+    @Test
+    public void testWeekStartOf() {
+        try {
+            // 2017-04-10 was a monday, 1970-01-01 a thursday.
+            final long monday = DateKernel.toEpochDay(2017, TimePoint.APRIL, 10);
+
+            assertEquals(monday, AppointmentWeekCounter.weekStartOf(monday * DateKernel.SECONDS_PER_DAY));
+            assertEquals(monday, AppointmentWeekCounter.weekStartOf(new TimePoint(2017, TimePoint.APRIL, 16, 23, 59, 59).toEpochSecond()));
+            assertEquals(monday + 7, AppointmentWeekCounter.weekStartOf(new TimePoint(2017, TimePoint.APRIL, 17, 0, 0, 0).toEpochSecond()));
+            assertEquals(-3, AppointmentWeekCounter.weekStartOf(0));
+            assertEquals(-10, AppointmentWeekCounter.weekStartOf(-3 * DateKernel.SECONDS_PER_DAY - 1));
+        } catch (InvalidDateException e) {
+            assertEquals("Exception:", e.getMessage());
+        }
+    }
+
+    @Test
+    public void testCounts() {
+        final long day = DateKernel.SECONDS_PER_DAY;
+        final long begins[] = { 0, day, 5 * day, 20 * day };
+
+        // 1970-01-01 was a thursday, so days 0 and 1 lie in the week of monday -3 and day 5 in the week of monday 4.
+        AppointmentWeekCounter counter = AppointmentWeekCounter.fromBegins(begins, begins.length);
+
+        assertEquals(4, counter.total());
+        assertEquals("{-3=2, 4=1, 18=1}", counter.countsByWeekStart(Long.MIN_VALUE, Long.MAX_VALUE).toString());
+        assertEquals("{4=1, 18=1}", counter.countsByWeekStart(4, 18).toString());
+        assertEquals(Collections.emptyMap(), counter.countsByWeekStart(5, 17));
+        assertEquals(Collections.emptyMap(), counter.countsByWeekStart(18, 4));
+
+        counter.add(-day);
+        counter.remove(5 * day);
+        counter.remove(5 * day);
+
+        assertEquals(4, counter.total());
+        assertEquals("{-3=3, 18=1}", counter.countsByWeekStart(Long.MIN_VALUE, Long.MAX_VALUE).toString());
+    }
+}
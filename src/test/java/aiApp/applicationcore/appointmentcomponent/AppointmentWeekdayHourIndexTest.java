@@ -0,0 +1,95 @@
+package aiApp.applicationcore.appointmentcomponent;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertFalse;
+import static junit.framework.TestCase.assertTrue;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@RunWith(SpringJUnit4ClassRunner.class)
+@ActiveProfiles("test")
+public class AppointmentWeekdayHourIndexTest {
+    @Test
+    public void testBucketOf() {
+        try {
+            // 1970-01-01 was a thursday.
+            assertEquals(3 * 24, AppointmentWeekdayHourIndex.bucketOf(0));
+            assertEquals(2 * 24 + 23, AppointmentWeekdayHourIndex.bucketOf(-1));
+
+            // 2017-04-10 was a monday.
+            assertEquals(0, AppointmentWeekdayHourIndex.bucketOf(new TimePoint(2017, TimePoint.APRIL, 10, 0, 0, 0).toEpochSecond()));
+            assertEquals(9, AppointmentWeekdayHourIndex.bucketOf(new TimePoint(2017, TimePoint.APRIL, 10, 9, 59, 59).toEpochSecond()));
+            assertEquals(6 * 24 + 23, AppointmentWeekdayHourIndex.bucketOf(new TimePoint(2017, TimePoint.APRIL, 16, 23, 59, 59).toEpochSecond()));
+        } catch (InvalidDateException e) {
+            assertEquals("Exception:", e.getMessage());
+        }
+    }
+
+    @Test
+    public void testCountAndQuery() {
+        try {
+            final int monday = 1;
+            final int allDays = 0x7F;
+            final long week16Begin = new TimePoint(2017, TimePoint.APRIL, 17, 0, 0, 0).toEpochSecond();
+
+            final int ids[] = { 1, 2, 3, 5, 4 };
+            final long begins[] = {
+                    new TimePoint(2017, TimePoint.APRIL, 10, 9, 15, 0).toEpochSecond(),
+                    new TimePoint(2017, TimePoint.APRIL, 10, 12, 30, 0).toEpochSecond(),
+                    new TimePoint(2017, TimePoint.APRIL, 11, 12, 0, 0).toEpochSecond(),
+                    new TimePoint(2017, TimePoint.APRIL, 16, 23, 59, 0).toEpochSecond(),
+                    new TimePoint(2017, TimePoint.APRIL, 17, 9, 0, 0).toEpochSecond()
+            };
+
+            AppointmentWeekdayHourIndex index = AppointmentWeekdayHourIndex.fromSorted(ids, begins, ids.length);
+            AppointmentWeekdayHourIndex added = new AppointmentWeekdayHourIndex();
+            for (int i = ids.length - 1; i >= 0; --i) {
+                added.add(ids[i], begins[i]);
+                added.add(ids[i], begins[i]);
+            }
+
+            for (AppointmentWeekdayHourIndex idx : Arrays.asList(index, added)) {
+                assertEquals(5, idx.size());
+
+                // monday mornings.
+                assertEquals(2, idx.count(monday, 8, 12, Long.MIN_VALUE, Long.MAX_VALUE));
+                assertEquals(1, idx.count(monday, 8, 12, Long.MIN_VALUE, week16Begin - 1));
+                assertEquals(Arrays.asList(1, 4), idx.query(monday, 8, 12, Long.MIN_VALUE, Long.MAX_VALUE, 100));
+
+                // between 12:00 and 13:00 on any day, the bounds of the range of time are inclusive.
+                assertEquals(Arrays.asList(2, 3), idx.query(allDays, 12, 13, Long.MIN_VALUE, Long.MAX_VALUE, 100));
+                assertEquals(Collections.singletonList(3), idx.query(allDays, 12, 13, begins[2], begins[2], 100));
+                assertEquals(Collections.singletonList(1), idx.query(allDays, 9, 10, Long.MIN_VALUE, begins[0], 100));
+
+                // merged in the order of the listing, stopping at the limit.
+                assertEquals(Arrays.asList(1, 2, 3, 5, 4), idx.query(allDays, 0, 24, Long.MIN_VALUE, Long.MAX_VALUE, 100));
+                assertEquals(Arrays.asList(1, 2), idx.query(allDays, 0, 24, Long.MIN_VALUE, Long.MAX_VALUE, 2));
+                assertEquals(5, idx.count(allDays, 0, 24, Long.MIN_VALUE, Long.MAX_VALUE));
+                assertEquals(1, idx.count(1 << 6, 23, 24, Long.MIN_VALUE, Long.MAX_VALUE));
+
+                assertEquals(1, idx.count(allDays, 13, 24, Long.MIN_VALUE, week16Begin - 1));
+                assertEquals(Collections.emptyList(), idx.query(allDays, 0, 24, week16Begin + 1, week16Begin, 100));
+            }
+
+            assertTrue(index.remove(2, begins[1]));
+            assertFalse(index.remove(2, begins[1]));
+            assertFalse(index.remove(3, begins[1]));
+            assertEquals(4, index.size());
+            assertEquals(Collections.singletonList(3), index.query(allDays, 12, 13, Long.MIN_VALUE, Long.MAX_VALUE, 100));
+
+            final int unsortedIds[] = { 2, 1 };
+            final long unsortedBegins[] = { 10, 10 };
+            assertThatThrownBy(() -> AppointmentWeekdayHourIndex.fromSorted(unsortedIds, unsortedBegins, 2))
+                    .isInstanceOf(IllegalArgumentException.class);
+        } catch (InvalidDateException e) {
+            assertEquals("Exception:", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package aiApp.applicationcore.appointmentcomponent;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static junit.framework.TestCase.assertEquals;
+import static org.junit.Assert.assertArrayEquals;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@RunWith(SpringJUnit4ClassRunner.class)
+@ActiveProfiles("test")
+public class AttendeeAgendaIndexTest {
+    @Test
+    public void testQuery() {
+        AttendeeAgendaIndex index = new AttendeeAgendaIndex();
+
+        index.add(1, 10, 20, new int[] { 100, 200 });
+        index.add(2, 0, 5, new int[] { 200 });
+        index.add(3, 30, 40, new int[0]);
+
+        assertEquals(Collections.singletonList(1), index.query(100, 0, 100));
+        assertEquals(Arrays.asList(2, 1), index.query(200, 0, 100));
+        assertEquals(Collections.singletonList(1), index.query(200, 20, 20));
+        assertEquals(Collections.emptyList(), index.query(200, 21, 100));
+        assertEquals(Collections.emptyList(), index.query(300, 0, 100));
+
+        // adding an appointment again only adds the attendees that are new.
+        index.add(2, 0, 5, new int[] { 200, 300 });
+        assertEquals(Collections.singletonList(2), index.query(300, 0, 100));
+        assertEquals(Arrays.asList(2, 1), index.query(200, 0, 100));
+
+        index.remove(2, 0);
+        assertEquals(Collections.singletonList(1), index.query(200, 0, 100));
+        assertEquals(Collections.emptyList(), index.query(300, 0, 100));
+
+        index.remove(2, 0);
+        index.remove(3, 30);
+
+        index.removeAttendee(100);
+        assertEquals(Collections.emptyList(), index.query(100, 0, 100));
+
+        // the removed attendee is skipped when the appointment is removed.
+        index.remove(1, 10);
+        assertEquals(Collections.emptyList(), index.query(200, 0, 100));
+    }
+
+    @Test
+    public void testQueryAnyOf() {
+        AttendeeAgendaIndex index = new AttendeeAgendaIndex();
+
+        index.add(1, 10, 20, new int[] { 100, 200 });
+        index.add(2, 0, 5, new int[] { 200 });
+        index.add(3, 30, 40, new int[] { 300 });
+        index.add(4, 10, 15, new int[] { 100 });
+
+        // ordered by begin and then by id, appointment 1 is attended by both 100 and 200.
+        assertEquals(Arrays.asList(2, 1, 4, 3), index.queryAnyOf(new int[] { 100, 200, 300 }, 0, 100, 10));
+        assertEquals(Arrays.asList(2, 1, 4), index.queryAnyOf(new int[] { 200, 100 }, 0, 100, 10));
+        assertEquals(Arrays.asList(2, 1), index.queryAnyOf(new int[] { 100, 200, 300 }, 0, 100, 2));
+        assertEquals(Arrays.asList(1, 3), index.queryAnyOf(new int[] { 200, 300, 999 }, 16, 35, 10));
+        assertEquals(Collections.emptyList(), index.queryAnyOf(new int[] { 999 }, 0, 100, 10));
+        assertEquals(Collections.emptyList(), index.queryAnyOf(new int[0], 0, 100, 10));
+    }
+
+    @Test
+    public void testAttendedBy() {
+        AttendeeAgendaIndex index = new AttendeeAgendaIndex();
+
+        index.add(1, 0, 10, new int[] { 100, 200, 300 });
+        index.add(2, 0, 10, new int[] { 100, 200 });
+        index.add(3, 0, 10, new int[] { 200, 300 });
+        index.add(4, 0, 10, new int[] { 400 });
+
+        final int none[] = new int[0];
+
+        assertArrayEquals(new int[] { 1, 2 }, index.attendedBy(new int[] { 100, 200 }, none, none));
+        assertArrayEquals(new int[] { 1 }, index.attendedBy(new int[] { 100, 200, 300 }, none, none));
+        assertArrayEquals(new int[] { 1, 3, 4 }, index.attendedBy(none, new int[] { 300, 400 }, none));
+        assertArrayEquals(new int[] { 3 }, index.attendedBy(new int[] { 200 }, none, new int[] { 100 }));
+        assertArrayEquals(new int[] { 2 }, index.attendedBy(new int[] { 100 }, new int[] { 200, 400 }, new int[] { 300 }));
+        assertArrayEquals(none, index.attendedBy(new int[] { 100, 400 }, none, none));
+        assertArrayEquals(none, index.attendedBy(new int[] { 999 }, none, none));
+        assertArrayEquals(new int[] { 4 }, index.attendedBy(none, new int[] { 999, 400 }, new int[] { 999 }));
+
+        index.remove(1, 0);
+        assertArrayEquals(new int[] { 2 }, index.attendedBy(new int[] { 100, 200 }, none, none));
+
+        index.removeAttendee(400);
+        assertArrayEquals(new int[] { 3 }, index.attendedBy(none, new int[] { 300, 400 }, none));
+
+        assertThatThrownBy(() -> index.attendedBy(none, none, new int[] { 100 }))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testFirstAttendedBy() {
+        AttendeeAgendaIndex index = AttendeeAgendaIndex.fromSorted(new int[] { 100, 100, 200 }, new int[] { 3, 1, 2 },
+                                                                   new long[] { 5, 20, 5 }, new long[] { 10, 30, 10 }, 3);
+        index.add(4, 0, 10, new int[] { 200 });
+        index.add(5, 20, 30, new int[] { 100 });
+
+        final int none[] = new int[0];
+
+        // ordered by begin and then by id, not by id alone.
+        assertEquals(Arrays.asList(4, 2, 3, 1, 5), index.firstAttendedBy(none, new int[] { 100, 200 }, none, 10));
+        assertEquals(Arrays.asList(4, 2, 3), index.firstAttendedBy(none, new int[] { 100, 200 }, none, 3));
+        assertEquals(Collections.singletonList(3), index.firstAttendedBy(new int[] { 100 }, none, none, 1));
+        assertEquals(Collections.emptyList(), index.firstAttendedBy(new int[] { 999 }, none, none, 10));
+
+        index.remove(4, 0);
+        assertEquals(Arrays.asList(2, 3), index.firstAttendedBy(none, new int[] { 100, 200 }, none, 2));
+
+        assertThatThrownBy(() -> index.firstAttendedBy(none, none, new int[] { 100 }, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testAttendanceCounts() {
+        AttendeeAgendaIndex index = new AttendeeAgendaIndex();
+
+        index.add(1, 10, 20, new int[] { 200, 100 });
+        index.add(2, 0, 5, new int[] { 200 });
+        index.add(2, 0, 5, new int[] { 200 });
+
+        assertEquals("{100=1, 200=2}", index.attendanceCounts().toString());
+
+        // employees whose agendas became empty are left out.
+        index.remove(1, 10);
+        assertEquals("{200=1}", index.attendanceCounts().toString());
+
+        index.removeAttendee(200);
+        assertEquals(Collections.emptyMap(), index.attendanceCounts());
+    }
+
+    @Test
+    public void testFromSorted() {
+        final int employeeIds[] = { 1, 1, 1, 2, 3, 3 };
+        final int appointmentIds[] = { 5, 4, 6, 4, 4, 7 };
+        final long begins[] = { 0, 10, 10, 10, 10, 50 };
+        final long ends[] = { 100, 20, 30, 20, 20, 60 };
+
+        AttendeeAgendaIndex index = AttendeeAgendaIndex.fromSorted(employeeIds, appointmentIds, begins, ends, employeeIds.length);
+
+        assertEquals(Arrays.asList(5, 4, 6), index.query(1, 15, 15));
+        assertEquals(Collections.singletonList(4), index.query(2, 0, 100));
+        assertEquals(Arrays.asList(4, 7), index.query(3, 0, 100));
+
+        // the attendees of an appointment are known, so it can be removed by its id.
+        index.remove(4, 10);
+        assertEquals(Arrays.asList(5, 6), index.query(1, 15, 15));
+        assertEquals(Collections.emptyList(), index.query(2, 0, 100));
+        assertEquals(Collections.singletonList(7), index.query(3, 0, 100));
+
+        assertThatThrownBy(() -> AttendeeAgendaIndex.fromSorted(new int[] { 2, 1 }, new int[] { 1, 1 },
+                                                                new long[] { 0, 0 }, new long[] { 1, 1 }, 2))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        assertThatThrownBy(() -> AttendeeAgendaIndex.fromSorted(new int[] { 1, 1 }, new int[] { 1, 2 },
+                                                                new long[] { 5, 0 }, new long[] { 6, 1 }, 2))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,107 @@
+package aiApp.applicationcore.appointmentcomponent;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+
+import java.util.Arrays;
+
+import static junit.framework.TestCase.assertEquals;
+
+@RunWith(SpringJUnit4ClassRunner.class)
+@ActiveProfiles("test")
+public class BookingHeatmapIndexTest {
+    @Test
+    public void testPartialSlots() {
+        BookingHeatmapIndex index = new BookingHeatmapIndex();
+
+        // wednesday from 9:10 until 9:50.
+        index.add(1, seconds(wednesday, 9, 10), seconds(wednesday, 9, 50), new int[] { 7 });
+
+        long cells[] = index.query(null, monday, monday + 6);
+        assertEquals(5 * 60, cells[cell(3, 36)]);
+        assertEquals(15 * 60, cells[cell(3, 37)]);
+        assertEquals(15 * 60, cells[cell(3, 38)]);
+        assertEquals(5 * 60, cells[cell(3, 39)]);
+        assertEquals(40 * 60, Arrays.stream(cells).sum());
+
+        assertEquals(40 * 60, Arrays.stream(index.query(new int[] { 7 }, wednesday, wednesday)).sum());
+        assertEquals(0, Arrays.stream(index.query(new int[] { 8 }, monday, monday + 6)).sum());
+        assertEquals(0, Arrays.stream(index.query(null, monday, monday + 1)).sum());
+        assertEquals(0, Arrays.stream(index.query(null, monday + 7, monday + 13)).sum());
+        assertEquals(0, Arrays.stream(index.query(null, monday + 6, monday)).sum());
+    }
+
+    @Test
+    public void testCoveredWeeks() {
+        BookingHeatmapIndex index = new BookingHeatmapIndex();
+
+        // from sunday 23:00 of the week before up to tuesday 1:00 three weeks later, two weeks are covered entirely.
+        index.add(1, seconds(monday - 1, 23, 0), seconds(monday + 15, 1, 0), new int[0]);
+
+        long cells[] = index.query(null, monday - 7, monday + 20);
+        assertEquals(2 * 15 * 60, cells[cell(3, 50)]);
+        assertEquals(3 * 15 * 60, cells[cell(1, 0)]);
+        assertEquals(3 * 15 * 60, cells[cell(2, 3)]);
+        assertEquals(2 * 15 * 60, cells[cell(2, 4)]);
+        assertEquals(3 * 15 * 60, cells[cell(7, 95)]);
+        assertEquals((14 * 24 + 1 + 24 + 1) * 60 * 60, Arrays.stream(cells).sum());
+
+        // only the days of the range are added up.
+        cells = index.query(null, wednesday, wednesday + 7);
+        assertEquals(2 * 15 * 60, cells[cell(3, 0)]);
+        assertEquals(15 * 60, cells[cell(5, 0)]);
+        assertEquals(8 * 24 * 60 * 60, Arrays.stream(cells).sum());
+
+        index.remove(1);
+        assertEquals(0, Arrays.stream(index.query(null, monday - 700, monday + 700)).sum());
+    }
+
+    @Test
+    public void testAddAndRemove() {
+        BookingHeatmapIndex index = new BookingHeatmapIndex();
+
+        index.add(1, seconds(monday, 8, 0), seconds(monday, 9, 0), new int[] { 7 });
+        index.add(1, seconds(monday, 8, 0), seconds(monday, 9, 0), new int[] { 7, 8 });
+        index.add(2, seconds(monday, 8, 30), seconds(monday, 8, 45), new int[] { 8 });
+
+        assertEquals(2 * 15 * 60, index.query(null, monday, monday)[cell(1, 34)]);
+        assertEquals(15 * 60, index.query(new int[] { 7 }, monday, monday)[cell(1, 34)]);
+        assertEquals(2 * 15 * 60, index.query(new int[] { 8 }, monday, monday)[cell(1, 34)]);
+        assertEquals(3 * 15 * 60, index.query(new int[] { 7, 8 }, monday, monday)[cell(1, 34)]);
+
+        index.remove(1);
+        index.remove(1);
+        assertEquals(15 * 60, Arrays.stream(index.query(null, monday, monday)).sum());
+        assertEquals(0, Arrays.stream(index.query(new int[] { 7 }, monday, monday)).sum());
+
+        index.removeAttendee(8);
+        assertEquals(0, Arrays.stream(index.query(new int[] { 8 }, monday, monday)).sum());
+        assertEquals(15 * 60, Arrays.stream(index.query(null, monday, monday)).sum());
+    }
+
+    /**
+     * Helper function that returns the epoch second of a time of a day.
+     */
+    private static long seconds(long epochDay, int hour, int minute) {
+        return epochDay * DateKernel.SECONDS_PER_DAY + hour * 3600 + minute * 60;
+    }
+
+    /**
+     * Helper function that returns the cell of a slot of an ISO day of the week.
+     */
+    private static int cell(int dayOfWeek, int slot) {
+        return (dayOfWeek - 1) * BookingHeatmapIndex.SLOTS_PER_DAY + slot;
+    }
+
+    /**
+     * 2017-04-10, a monday.
+     */
+    private static final long monday = 17266;
+
+    /**
+     * 2017-04-12, a wednesday.
+     */
+    private static final long wednesday = monday + 2;
+}
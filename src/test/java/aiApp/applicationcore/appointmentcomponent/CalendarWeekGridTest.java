@@ -0,0 +1,117 @@
+package aiApp.applicationcore.appointmentcomponent;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertFalse;
+import static junit.framework.TestCase.assertTrue;
+
+@RunWith(SpringJUnit4ClassRunner.class)
+@ActiveProfiles("test")
+public class CalendarWeekGridTest {
+    @Test
+    public void testLayout() {
+        try {
+            // 2017-04-10 is the monday of week 15 of 2017.
+            final long weekStart = DateKernel.isoWeekStart(2017, 15) * DateKernel.SECONDS_PER_DAY;
+            assertEquals(new TimePoint(2017, TimePoint.APRIL, 10, 0, 0, 0).toEpochSecond(), weekStart);
+
+            Appointment overnight = appointment(4, new TimePoint(2017, TimePoint.APRIL, 9, 22, 0, 0),
+                                                new TimePoint(2017, TimePoint.APRIL, 11, 2, 0, 0));
+            Appointment first = appointment(1, new TimePoint(2017, TimePoint.APRIL, 10, 9, 0, 0),
+                                            new TimePoint(2017, TimePoint.APRIL, 10, 10, 0, 0));
+            Appointment overlapping = appointment(2, new TimePoint(2017, TimePoint.APRIL, 10, 9, 30, 0),
+                                                  new TimePoint(2017, TimePoint.APRIL, 10, 11, 0, 0));
+            Appointment touching = appointment(3, new TimePoint(2017, TimePoint.APRIL, 10, 10, 0, 0),
+                                               new TimePoint(2017, TimePoint.APRIL, 10, 10, 30, 0));
+            Appointment sunday = appointment(5, new TimePoint(2017, TimePoint.APRIL, 16, 23, 0, 0),
+                                             new TimePoint(2017, TimePoint.APRIL, 17, 1, 0, 0));
+            Appointment nextWeek = appointment(6, new TimePoint(2017, TimePoint.APRIL, 17, 9, 0, 0),
+                                               new TimePoint(2017, TimePoint.APRIL, 17, 10, 0, 0));
+
+            CalendarWeekGrid grid = CalendarWeekGrid.layout(weekStart, Arrays.asList(overnight, first, overlapping,
+                                                                                     touching, sunday, nextWeek));
+
+            assertEquals(weekStart, grid.getWeekStart());
+            assertEquals(Arrays.asList(4, 1, 2, 3, 5), grid.getAppointmentIds());
+
+            // the appointment that began the day before takes up the first lane for the whole monday.
+            CalendarWeekGrid.Day monday = grid.getDay(0);
+            assertEquals(4, monday.size());
+            assertEquals(3, monday.getLaneCount());
+            assertEquals(4, monday.getAppointmentId(0));
+            assertEquals(0, monday.getLane(0));
+            assertEquals(0, monday.getBeginSecond(0));
+            assertEquals(DateKernel.SECONDS_PER_DAY - 1, monday.getEndSecond(0));
+            assertTrue(monday.continuesFromPreviousDay(0));
+            assertTrue(monday.continuesOnNextDay(0));
+
+            assertEquals(1, monday.getLane(1));
+            assertEquals(9 * 3600, monday.getBeginSecond(1));
+            assertEquals(10 * 3600, monday.getEndSecond(1));
+            assertEquals(2, monday.getLane(2));
+
+            // begins in the very second the first one ends, so it shares its lane.
+            assertEquals(3, monday.getAppointmentId(3));
+            assertEquals(1, monday.getLane(3));
+
+            CalendarWeekGrid.Day tuesday = grid.getDay(1);
+            assertEquals(1, tuesday.size());
+            assertEquals(1, tuesday.getLaneCount());
+            assertEquals(0, tuesday.getBeginSecond(0));
+            assertEquals(2 * 3600, tuesday.getEndSecond(0));
+            assertTrue(tuesday.continuesFromPreviousDay(0));
+            assertFalse(tuesday.continuesOnNextDay(0));
+
+            for (int day = 2; day < 6; ++day) {
+                assertEquals(0, grid.getDay(day).size());
+                assertEquals(0, grid.getDay(day).getLaneCount());
+            }
+
+            // cut off at the end of the week.
+            CalendarWeekGrid.Day sundayOfWeek = grid.getDay(6);
+            assertEquals(1, sundayOfWeek.size());
+            assertEquals(5, sundayOfWeek.getAppointmentId(0));
+            assertEquals(23 * 3600, sundayOfWeek.getBeginSecond(0));
+            assertEquals(DateKernel.SECONDS_PER_DAY - 1, sundayOfWeek.getEndSecond(0));
+            assertFalse(sundayOfWeek.continuesFromPreviousDay(0));
+            assertTrue(sundayOfWeek.continuesOnNextDay(0));
+
+            final long weekEnd = weekStart + CalendarWeekGrid.DAYS_PER_WEEK * DateKernel.SECONDS_PER_DAY - 1;
+            assertTrue(grid.overlaps(weekStart, weekStart));
+            assertTrue(grid.overlaps(weekEnd, weekEnd + 100));
+            assertTrue(grid.overlaps(Long.MIN_VALUE, Long.MAX_VALUE));
+            assertFalse(grid.overlaps(weekStart - 100, weekStart - 1));
+            assertFalse(grid.overlaps(weekEnd + 1, weekEnd + 100));
+
+            CalendarWeekGrid empty = CalendarWeekGrid.layout(weekStart, Collections.emptyList());
+            assertEquals(Collections.emptyList(), empty.getAppointmentIds());
+            assertEquals(0, empty.getDay(0).size());
+        } catch (InvalidDateException | InvalidTimePointException | InvalidTimeSpanException | InvalidWeekException e) {
+            assertEquals("Exception:", e.getMessage());
+        }
+    }
+
+    /**
+     * Creates an appointment with an id, as if it had been stored.
+     *
+     * @param id The id of the appointment.
+     * @param begin The begin of the appointment.
+     * @param end The end of the appointment.
+     * @return The appointment.
+     */
+    private static Appointment appointment(int id, TimePoint begin, TimePoint end)
+            throws InvalidTimePointException, InvalidTimeSpanException, InvalidWeekException {
+        Appointment appointment = new Appointment(new TimeSpan(begin, end));
+        ReflectionTestUtils.setField(appointment, "id", id);
+
+        return appointment;
+    }
+}
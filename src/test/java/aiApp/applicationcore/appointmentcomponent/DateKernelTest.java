@@ -0,0 +1,88 @@
+package aiApp.applicationcore.appointmentcomponent;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoField;
+import java.time.temporal.IsoFields;
+
+import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertFalse;
+import static junit.framework.TestCase.assertTrue;
+
+@RunWith(SpringJUnit4ClassRunner.class)
+@ActiveProfiles("test")
+public class DateKernelTest {
+    @Test
+    public void testIsValidDate() {
+        assertTrue(DateKernel.isValidDate(2016, TimePoint.FEBRUARY, 29));
+        assertTrue(DateKernel.isValidDate(2000, TimePoint.FEBRUARY, 29));
+        assertTrue(DateKernel.isValidDate(2017, TimePoint.DECEMBER, 31));
+        assertTrue(DateKernel.isValidDate(DateKernel.MIN_YEAR, TimePoint.JANUARY, 1));
+
+        assertFalse(DateKernel.isValidDate(2017, TimePoint.FEBRUARY, 29));
+        assertFalse(DateKernel.isValidDate(1900, TimePoint.FEBRUARY, 29));
+        assertFalse(DateKernel.isValidDate(2017, TimePoint.APRIL, 31));
+        assertFalse(DateKernel.isValidDate(2017, TimePoint.APRIL, 0));
+        assertFalse(DateKernel.isValidDate(2017, 0, 1));
+        assertFalse(DateKernel.isValidDate(2017, 13, 1));
+        assertFalse(DateKernel.isValidDate(0, TimePoint.JANUARY, 1));
+    }
+
+    @Test
+    public void testMatchesJavaTime() {
+        final LocalDate first = LocalDate.of(1, 1, 1);
+        final LocalDate last = LocalDate.of(2500, 12, 31);
+
+        for (LocalDate date = first; !date.isAfter(last); date = date.plusDays(1)) {
+            final int year = date.getYear();
+            final int month = date.getMonthValue();
+            final int day = date.getDayOfMonth();
+            final long epochDay = DateKernel.toEpochDay(year, month, day);
+
+            assertEquals(date.toEpochDay(), epochDay);
+
+            final long packedDate = DateKernel.fromEpochDay(epochDay);
+            assertEquals(year, DateKernel.packedYear(packedDate));
+            assertEquals(month, DateKernel.packedMonth(packedDate));
+            assertEquals(day, DateKernel.packedDay(packedDate));
+
+            assertEquals(date.getDayOfWeek().getValue(), DateKernel.dayOfWeek(epochDay));
+            assertEquals(date.getDayOfYear(), DateKernel.dayOfYear(year, month, day));
+            assertEquals(date.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR), DateKernel.isoWeek(year, month, day));
+            assertEquals(date.get(IsoFields.WEEK_BASED_YEAR), DateKernel.isoWeekBasedYear(year, month, day));
+        }
+    }
+
+    @Test
+    public void testWeeksInWeekBasedYear() {
+        for (int year = DateKernel.MIN_YEAR; year <= 2500; ++year) {
+            final long expected = LocalDate.of(year, TimePoint.JUNE, 1).range(IsoFields.WEEK_OF_WEEK_BASED_YEAR).getMaximum();
+
+            assertEquals(expected, DateKernel.weeksInWeekBasedYear(year));
+        }
+    }
+
+    @Test
+    public void testIsoWeekStart() {
+        for (int year = DateKernel.MIN_YEAR; year <= 2500; ++year) {
+            for (int week = 1; week <= DateKernel.weeksInWeekBasedYear(year); ++week) {
+                final LocalDate expected = LocalDate.of(year, TimePoint.JUNE, 1)
+                                                    .with(IsoFields.WEEK_OF_WEEK_BASED_YEAR, week)
+                                                    .with(ChronoField.DAY_OF_WEEK, 1);
+
+                assertEquals(expected.toEpochDay(), DateKernel.isoWeekStart(year, week));
+            }
+        }
+    }
+
+    @Test
+    public void testEpochSecond() {
+        assertEquals(0L, DateKernel.toEpochSecond(1970, TimePoint.JANUARY, 1, 0, 0, 0));
+        assertEquals(-1L, DateKernel.toEpochSecond(1969, TimePoint.DECEMBER, 31, 23, 59, 59));
+        assertEquals(1492369200L, DateKernel.toEpochSecond(2017, TimePoint.APRIL, 16, 19, 0, 0));
+    }
+}
@@ -0,0 +1,93 @@
+package aiApp.applicationcore.appointmentcomponent;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+
+import java.util.Collections;
+
+import static junit.framework.TestCase.assertEquals;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RunWith(SpringJUnit4ClassRunner.class)
+@ActiveProfiles("test")
+public class EmployeeUtilizationIndexTest {
+    @Test
+    public void testBookedSecondsByWeekStart() {
+        EmployeeUtilizationIndex index = filledIndex();
+
+        // the appointment from sunday 22:00 until monday 2:00 is split at midnight of the monday.
+        assertEquals("{" + (monday - 7) + "=7200, " + monday + "=7200}",
+                     index.bookedSecondsByWeekStart(1, Long.MIN_VALUE, Long.MAX_VALUE).toString());
+        assertEquals("{" + (monday - 7) + "=7200, " + monday + "=10800}",
+                     index.bookedSecondsByWeekStart(2, Long.MIN_VALUE, Long.MAX_VALUE).toString());
+        assertEquals("{" + monday + "=10800}", index.bookedSecondsByWeekStart(2, monday, monday + 7).toString());
+        assertEquals(Collections.emptyMap(), index.bookedSecondsByWeekStart(2, monday + 7, monday));
+        assertEquals(Collections.emptyMap(), index.bookedSecondsByWeekStart(4, Long.MIN_VALUE, Long.MAX_VALUE));
+    }
+
+    @Test
+    public void testMostBooked() {
+        EmployeeUtilizationIndex index = filledIndex();
+
+        assertThat(index.mostBooked(10, Long.MIN_VALUE, Long.MAX_VALUE)).containsExactly(2, 1, 3);
+        assertThat(index.mostBooked(2, Long.MIN_VALUE, Long.MAX_VALUE)).containsExactly(2, 1);
+        assertThat(index.mostBooked(10, monday, monday)).containsExactly(2, 1);
+        assertThat(index.mostBooked(10, monday + 7, monday + 7)).containsExactly(3);
+        assertThat(index.mostBooked(1, monday + 14, monday + 700)).isEmpty();
+
+        // booked alike, ordered by their ids.
+        assertThat(index.mostBooked(10, monday - 7, monday - 7)).containsExactly(1, 2);
+        assertThat(index.mostBooked(1, monday - 7, monday - 7)).containsExactly(1);
+    }
+
+    @Test
+    public void testAddAndRemove() {
+        EmployeeUtilizationIndex index = filledIndex();
+
+        // adding the appointment again only books it for the new attendee.
+        index.add(1, seconds(monday - 1, 22), seconds(monday, 2), new int[] { 1, 2, 3 });
+        assertThat(index.mostBooked(10, Long.MIN_VALUE, Long.MAX_VALUE)).containsExactly(3, 2, 1);
+
+        index.remove(1);
+        index.remove(1);
+        assertThat(index.mostBooked(10, Long.MIN_VALUE, Long.MAX_VALUE)).containsExactly(3, 2);
+        assertEquals(Collections.emptyMap(), index.bookedSecondsByWeekStart(1, Long.MIN_VALUE, Long.MAX_VALUE));
+        assertEquals("{" + monday + "=3600}", index.bookedSecondsByWeekStart(2, Long.MIN_VALUE, Long.MAX_VALUE).toString());
+
+        index.removeAttendee(3);
+        assertThat(index.mostBooked(10, Long.MIN_VALUE, Long.MAX_VALUE)).containsExactly(2);
+
+        index.remove(3);
+        assertThat(index.mostBooked(10, Long.MIN_VALUE, Long.MAX_VALUE)).containsExactly(2);
+    }
+
+    /**
+     * Helper function that creates an index with three appointments: employees 1 and 2 from sunday 22:00 until
+     * monday 2:00, employee 2 on wednesday from 10:00 until 11:00 and employee 3 on the monday after from 9:00 until
+     * 12:00.
+     */
+    private static EmployeeUtilizationIndex filledIndex() {
+        EmployeeUtilizationIndex index = new EmployeeUtilizationIndex();
+
+        index.add(1, seconds(monday - 1, 22), seconds(monday, 2), new int[] { 1, 2 });
+        index.add(2, seconds(monday + 2, 10), seconds(monday + 2, 11), new int[] { 2 });
+        index.add(3, seconds(monday + 7, 9), seconds(monday + 7, 12), new int[] { 3 });
+        index.add(4, seconds(monday + 7, 9), seconds(monday + 7, 12), new int[0]);
+
+        return index;
+    }
+
+    /**
+     * Helper function that returns the epoch second of an hour of a day.
+     */
+    private static long seconds(long epochDay, int hour) {
+        return epochDay * DateKernel.SECONDS_PER_DAY + hour * 3600;
+    }
+
+    /**
+     * 2017-04-10, a monday.
+     */
+    private static final long monday = 17266;
+}
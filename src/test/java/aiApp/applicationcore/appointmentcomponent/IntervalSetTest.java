@@ -0,0 +1,178 @@
+package aiApp.applicationcore.appointmentcomponent;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertFalse;
+import static junit.framework.TestCase.assertTrue;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@RunWith(SpringJUnit4ClassRunner.class)
+@ActiveProfiles("test")
+public class IntervalSetTest {
+    @Test
+    public void testFromIntervals() {
+        IntervalSet set = IntervalSet.fromIntervals(new long[] { 50, 10, 20, 30, 70, 5 },
+                                                    new long[] { 60, 20, 25, 40, 70, 8 });
+
+        // [10, 20) and [20, 25) are adjacent and merged, [70, 70) is empty.
+        assertEquals(intervals(5, 8, 10, 25, 30, 40, 50, 60), set);
+        assertEquals(4, set.size());
+        assertEquals(5, set.start(0));
+        assertEquals(60, set.end(3));
+
+        assertEquals(IntervalSet.EMPTY, IntervalSet.fromIntervals(new long[0], new long[0]));
+        assertEquals(intervals(0, 100), IntervalSet.fromIntervals(new long[] { 0, 10, 20 }, new long[] { 100, 20, 30 }));
+
+        assertThatThrownBy(() -> IntervalSet.fromIntervals(new long[1], new long[2]))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> set.start(4))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    public void testOperations() {
+        IntervalSet a = intervals(0, 10, 20, 30, 40, 50);
+        IntervalSet b = intervals(5, 25, 30, 35, 45, 60);
+
+        assertEquals(intervals(0, 35, 40, 60), a.union(b));
+        assertEquals(intervals(5, 10, 20, 25, 45, 50), a.intersection(b));
+        assertEquals(intervals(0, 5, 25, 30, 40, 45), a.subtract(b));
+        assertEquals(intervals(10, 20, 30, 35, 50, 60), b.subtract(a));
+        assertEquals(intervals(10, 20, 30, 40), a.gaps());
+        assertEquals(intervals(-5, 0, 10, 15), a.gaps(-5, 15));
+        assertEquals(30, a.totalDuration());
+
+        assertEquals(a, a.union(IntervalSet.EMPTY));
+        assertEquals(IntervalSet.EMPTY, a.intersection(IntervalSet.EMPTY));
+        assertEquals(IntervalSet.EMPTY, a.subtract(a));
+        assertEquals(IntervalSet.EMPTY, IntervalSet.of(5, 5).gaps());
+    }
+
+    @Test
+    public void testContainsAndOverlaps() {
+        IntervalSet set = intervals(0, 10, 20, 30);
+
+        assertTrue(set.contains(0));
+        assertTrue(set.contains(9));
+        assertFalse(set.contains(10));
+        assertFalse(set.contains(-1));
+        assertTrue(set.contains(25));
+        assertFalse(set.contains(30));
+
+        assertTrue(set.overlaps(9, 11));
+        assertFalse(set.overlaps(10, 20));
+        assertTrue(set.overlaps(-100, 100));
+        assertFalse(set.overlaps(30, 40));
+        assertFalse(set.overlaps(5, 5));
+    }
+
+    @Test
+    public void testMatchesBruteForce() {
+        final Random random = new Random(42);
+        final int range = 200;
+        final int maxLength = 30;
+
+        for (int round = 0; round < 200; ++round) {
+            IntervalSet a = randomSet(random, range, maxLength);
+            IntervalSet b = randomSet(random, range, maxLength);
+
+            for (long second = -1; second <= range + maxLength; ++second) {
+                assertEquals(a.contains(second) || b.contains(second), a.union(b).contains(second));
+                assertEquals(a.contains(second) && b.contains(second), a.intersection(b).contains(second));
+                assertEquals(a.contains(second) && !b.contains(second), a.subtract(b).contains(second));
+            }
+
+            long covered = 0;
+            for (long second = 0; second < range + maxLength; ++second) {
+                if (a.contains(second)) {
+                    ++covered;
+                }
+            }
+
+            assertEquals(covered, a.totalDuration());
+        }
+    }
+
+    @Test
+    public void testTimeSpans() {
+        try {
+            TimeSpan morning = new TimeSpan(new TimePoint(2017, TimePoint.APRIL, 15, 9, 0, 0),
+                                            new TimePoint(2017, TimePoint.APRIL, 15, 11, 0, 0));
+            TimeSpan lateMorning = new TimeSpan(new TimePoint(2017, TimePoint.APRIL, 15, 10, 0, 0),
+                                                new TimePoint(2017, TimePoint.APRIL, 15, 12, 0, 0));
+            TimeSpan afternoon = new TimeSpan(new TimePoint(2017, TimePoint.APRIL, 15, 14, 0, 0),
+                                              new TimePoint(2017, TimePoint.APRIL, 15, 15, 0, 0));
+
+            IntervalSet set = IntervalSet.fromTimeSpans(Arrays.asList(afternoon, morning, lateMorning));
+
+            final long hour = 3600;
+            assertEquals(4 * hour, set.totalDuration());
+
+            List<TimeSpan> timeSpans = set.toTimeSpans();
+            assertEquals(2, timeSpans.size());
+            assertEquals(new TimeSpan(morning.getStartTimePoint(), lateMorning.getEndTimePoint()), timeSpans.get(0));
+            assertEquals(afternoon, timeSpans.get(1));
+
+            assertEquals(Collections.singletonList(new TimeSpan(lateMorning.getEndTimePoint(), afternoon.getStartTimePoint())),
+                         set.gaps().toTimeSpans());
+        } catch (InvalidDateException | InvalidTimePointException e) {
+            assertEquals("Exception:", e.getMessage());
+        }
+    }
+
+    @Test
+    public void testZeroLengthTimeSpans() {
+        try {
+            TimePoint nine = new TimePoint(2017, TimePoint.APRIL, 15, 9, 0, 0);
+            TimePoint ten = new TimePoint(2017, TimePoint.APRIL, 15, 10, 0, 0);
+            TimePoint eleven = new TimePoint(2017, TimePoint.APRIL, 15, 11, 0, 0);
+
+            // an appointment that begins and ends at 10:00 contains no point in time of the half-open interval.
+            Appointment standUp = new Appointment(new TimeSpan(ten, ten));
+            assertTrue(IntervalSet.fromTimeSpans(Collections.singletonList(standUp.getTimeSpan())).isEmpty());
+
+            TimeSpan morning = new TimeSpan(nine, ten);
+            IntervalSet set = IntervalSet.fromTimeSpans(Arrays.asList(standUp.getTimeSpan(), morning));
+            assertEquals(Collections.singletonList(morning), set.toTimeSpans());
+            assertEquals(3600, set.totalDuration());
+
+            // it neither bridges nor splits the TimeSpans ending and beginning at 10:00.
+            set = IntervalSet.fromTimeSpans(Arrays.asList(morning, standUp.getTimeSpan(), new TimeSpan(ten, eleven)));
+            assertEquals(Collections.singletonList(new TimeSpan(nine, eleven)), set.toTimeSpans());
+        } catch (InvalidDateException | InvalidTimePointException | InvalidTimeSpanException | InvalidWeekException e) {
+            assertEquals("Exception:", e.getMessage());
+        }
+    }
+
+    private static IntervalSet intervals(long... bounds) {
+        IntervalSet set = IntervalSet.EMPTY;
+
+        for (int i = 0; i < bounds.length; i += 2) {
+            set = set.union(IntervalSet.of(bounds[i], bounds[i + 1]));
+        }
+
+        return set;
+    }
+
+    private static IntervalSet randomSet(Random random, int range, int maxLength) {
+        final int count = random.nextInt(8);
+        final long starts[] = new long[count];
+        final long ends[] = new long[count];
+
+        for (int i = 0; i < count; ++i) {
+            starts[i] = random.nextInt(range);
+            ends[i] = starts[i] + random.nextInt(maxLength);
+        }
+
+        return IntervalSet.fromIntervals(starts, ends);
+    }
+}
@@ -126,6 +126,89 @@ public class TimePointTest {
         }
     }
 
+    @Test
+    public void testEpochSecond() {
+        try {
+            final long epochSecondOfTimePoint = 1451606400L; // 2016-01-01T00:00:00
+
+            assertEquals(epochSecondOfTimePoint, timePoint.toEpochSecond());
+
+            assertEquals(timePoint, TimePoint.fromEpochSecond(epochSecondOfTimePoint));
+
+            assertEquals(0L, new TimePoint(1970, TimePoint.JANUARY, 1, 0, 0, 0).toEpochSecond());
+
+            TimePoint leapDay = new TimePoint(2016, TimePoint.FEBRUARY, 29, 23, 59, 59);
+            assertEquals(leapDay, TimePoint.fromEpochSecond(leapDay.toEpochSecond()));
+
+            TimePoint later = new TimePoint(year, month, day, hour, minute, second + 1);
+            assertTrue(timePoint.toEpochSecond() < later.toEpochSecond());
+        } catch (InvalidDateException e) {
+            assertEquals("Exception:", e.getMessage());
+        }
+
+        assertThatThrownBy(() -> TimePoint.fromEpochSecond(Long.MIN_VALUE))
+                .isInstanceOf(InvalidDateException.class);
+
+        assertThatThrownBy(() -> TimePoint.fromEpochSecond(Long.MAX_VALUE))
+                .isInstanceOf(InvalidDateException.class);
+    }
+
+    @Test
+    public void testPacked() {
+        try {
+            assertEquals(timePoint, TimePoint.fromPacked(timePoint.toPacked()));
+
+            TimePoint laterSecond = new TimePoint(year, month, day, hour, minute, second + 1);
+            TimePoint laterYear = new TimePoint(year + 1, TimePoint.JANUARY, 1, 0, 0, 0);
+            TimePoint maxYear = new TimePoint(Integer.MAX_VALUE, TimePoint.DECEMBER, 31, 23, 59, 59);
+
+            assertTrue(timePoint.toPacked() < laterSecond.toPacked());
+            assertTrue(laterSecond.toPacked() < laterYear.toPacked());
+            assertTrue(laterYear.toPacked() < maxYear.toPacked());
+            assertTrue(timePoint.compareTo(laterSecond) < 0);
+            assertTrue(maxYear.compareTo(laterYear) > 0);
+
+            assertEquals(maxYear, TimePoint.fromPacked(maxYear.toPacked()));
+            assertEquals(Integer.MAX_VALUE, maxYear.getYear());
+            assertEquals(59, maxYear.getSecond());
+        } catch (InvalidDateException e) {
+            assertEquals("Exception:", e.getMessage());
+        }
+
+        assertThatThrownBy(() -> TimePoint.fromPacked(-1L))
+                .isInstanceOf(InvalidDateException.class);
+
+        try {
+            // the day is stored above the 17 bits of the hour, minute and second; turn february 28th into the 30th.
+            final long oneDay = 1L << 17;
+            final long invalidDay = new TimePoint(2017, TimePoint.FEBRUARY, 28, 0, 0, 0).toPacked() + 2 * oneDay;
+
+            assertThatThrownBy(() -> TimePoint.fromPacked(invalidDay))
+                    .isInstanceOf(InvalidDateException.class);
+        } catch (InvalidDateException e) {
+            assertEquals("Exception:", e.getMessage());
+        }
+    }
+
+    @Test
+    public void testIntern() {
+        try {
+            TimePoint topOfHour = new TimePoint(2017, TimePoint.APRIL, 16, 19, 0, 0);
+            TimePoint sameTopOfHour = new TimePoint(2017, TimePoint.APRIL, 16, 19, 0, 0);
+
+            assertTrue(topOfHour.intern() == sameTopOfHour.intern());
+            assertEquals(topOfHour, sameTopOfHour.intern());
+
+            TimePoint notTopOfHour = new TimePoint(2017, TimePoint.APRIL, 16, 19, 30, 0);
+            TimePoint sameNotTopOfHour = new TimePoint(2017, TimePoint.APRIL, 16, 19, 30, 0);
+
+            assertTrue(notTopOfHour.intern() == notTopOfHour);
+            assertTrue(sameNotTopOfHour.intern() == sameNotTopOfHour);
+        } catch (InvalidDateException e) {
+            assertEquals("Exception:", e.getMessage());
+        }
+    }
+
     @Test
     public void testFromString() {
         try {
@@ -0,0 +1,186 @@
+package aiApp.applicationcore.appointmentcomponent;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
+import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertFalse;
+import static junit.framework.TestCase.assertNull;
+import static junit.framework.TestCase.assertTrue;
+
+@RunWith(SpringJUnit4ClassRunner.class)
+@ActiveProfiles("test")
+public class TimeSpanBatchParserTest {
+    @Test
+    public void testParseReader() {
+        final String text = timeSpanString(1) + "\n"
+                            + "\n"
+                            + "garbage\n"
+                            + timeSpanString(2) + "trailing\n"
+                            + invalidDateString + "\n"
+                            + timeSpanString(3);
+
+        checkMixedResults(TimeSpanBatchParser.parse(new StringReader(text)).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testParseByteBuffer() {
+        final String text = timeSpanString(1) + "\r\n"
+                            + "\r\n"
+                            + "garbage\r\n"
+                            + timeSpanString(2) + "trailing\r\n"
+                            + invalidDateString + "\r\n"
+                            + timeSpanString(3) + "\r\n";
+
+        ByteBuffer buffer = ByteBuffer.wrap(text.getBytes(StandardCharsets.ISO_8859_1));
+
+        checkMixedResults(TimeSpanBatchParser.parse(buffer).collect(Collectors.toList()));
+        assertEquals(0, buffer.position());
+    }
+
+    @Test
+    public void testParseManyChunksInOrder() {
+        // enough lines to span several chunks of the ByteBuffer parser and of the Reader parser.
+        final int lineCount = 20000;
+
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < lineCount; ++i) {
+            sb.append(i % 1000 == 999 ? "garbage" : timeSpanString(i % 24 + 1)).append('\n');
+        }
+
+        final String text = sb.toString();
+
+        checkManyLines(TimeSpanBatchParser.parse(new StringReader(text)).collect(Collectors.toList()), lineCount);
+        checkManyLines(TimeSpanBatchParser.parse(ByteBuffer.wrap(text.getBytes(StandardCharsets.ISO_8859_1)))
+                                          .collect(Collectors.toList()), lineCount);
+    }
+
+    @Test
+    public void testParseReaderLazily() {
+        final int lineCount = 100000;
+
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < lineCount; ++i) {
+            sb.append(timeSpanString(i % 24 + 1)).append('\n');
+        }
+
+        final int linesRead[] = new int[1];
+        BufferedReader reader = new BufferedReader(new StringReader(sb.toString())) {
+            @Override
+            public String readLine() throws IOException {
+                ++linesRead[0];
+                return super.readLine();
+            }
+        };
+
+        Spliterator<ParsedTimeSpan> rest = TimeSpanBatchParser.parse(reader).spliterator();
+        Spliterator<ParsedTimeSpan> first = rest.trySplit();
+
+        // handing work to another thread only reads a single chunk of lines.
+        assertTrue(linesRead[0] < lineCount / 10);
+
+        final int parsed[] = new int[1];
+        first.forEachRemaining(result -> assertEquals(++parsed[0], result.getLineNumber()));
+        rest.forEachRemaining(result -> assertEquals(++parsed[0], result.getLineNumber()));
+        assertEquals(lineCount, parsed[0]);
+    }
+
+    @Test
+    public void testParseFile() {
+        try {
+            Path file = Files.createTempFile("timespans", ".txt");
+
+            try {
+                Files.write(file, (timeSpanString(1) + "\n" + "garbage\n" + timeSpanString(2) + "\n")
+                        .getBytes(StandardCharsets.ISO_8859_1));
+
+                List<ParsedTimeSpan> results = TimeSpanBatchParser.parse(file).collect(Collectors.toList());
+
+                assertEquals(3, results.size());
+                assertTrue(results.get(0).isValid());
+                assertFalse(results.get(1).isValid());
+                assertEquals(2, results.get(1).getLineNumber());
+                assertEquals(timeSpan(2), results.get(2).getTimeSpan());
+            } finally {
+                Files.delete(file);
+            }
+        } catch (IOException | InvalidDateException | InvalidTimePointException e) {
+            assertEquals("Exception:", e.getMessage());
+        }
+    }
+
+    private void checkMixedResults(List<ParsedTimeSpan> results) {
+        try {
+            assertEquals(5, results.size());
+
+            assertEquals(1, results.get(0).getLineNumber());
+            assertEquals(timeSpan(1), results.get(0).getTimeSpan());
+            assertNull(results.get(0).getError());
+
+            // line 2 is empty and skipped.
+            assertEquals(3, results.get(1).getLineNumber());
+            assertFalse(results.get(1).isValid());
+            assertEquals(0, results.get(1).getErrorIndex());
+
+            assertEquals(4, results.get(2).getLineNumber());
+            assertFalse(results.get(2).isValid());
+            assertEquals(timeSpanString(2).length(), results.get(2).getErrorIndex());
+
+            assertEquals(5, results.get(3).getLineNumber());
+            assertFalse(results.get(3).isValid());
+            assertEquals(ParsedTimeSpan.noErrorIndex, results.get(3).getErrorIndex());
+
+            assertEquals(6, results.get(4).getLineNumber());
+            assertEquals(timeSpan(3), results.get(4).getTimeSpan());
+        } catch (InvalidDateException | InvalidTimePointException e) {
+            assertEquals("Exception:", e.getMessage());
+        }
+    }
+
+    private void checkManyLines(List<ParsedTimeSpan> results, int lineCount) {
+        try {
+            assertEquals(lineCount, results.size());
+
+            for (int i = 0; i < lineCount; ++i) {
+                ParsedTimeSpan result = results.get(i);
+
+                assertEquals(i + 1, result.getLineNumber());
+
+                if (i % 1000 == 999) {
+                    assertFalse(result.isValid());
+                } else {
+                    assertEquals(timeSpan(i % 24 + 1), result.getTimeSpan());
+                }
+            }
+        } catch (InvalidDateException | InvalidTimePointException e) {
+            assertEquals("Exception:", e.getMessage());
+        }
+    }
+
+    private static String timeSpanString(int day) {
+        return String.format("TimeSpan{TimePoint{year=2017, month=4, day=%d, hour=16, minute=0, second=0}"
+                             + "TimePoint{year=2017, month=4, day=%d, hour=17, minute=0, second=0}}", day, day);
+    }
+
+    private static TimeSpan timeSpan(int day) throws InvalidDateException, InvalidTimePointException {
+        return new TimeSpan(new TimePoint(2017, TimePoint.APRIL, day, 16, 0, 0),
+                            new TimePoint(2017, TimePoint.APRIL, day, 17, 0, 0));
+    }
+
+    private final String invalidDateString
+            = "TimeSpan{TimePoint{year=2017, month=2, day=29, hour=16, minute=0, second=0}"
+              + "TimePoint{year=2017, month=3, day=1, hour=17, minute=0, second=0}}";
+}
@@ -0,0 +1,57 @@
+package aiApp.applicationcore.appointmentcomponent;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+
+import java.io.IOException;
+
+import static junit.framework.TestCase.assertEquals;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@RunWith(SpringJUnit4ClassRunner.class)
+@ActiveProfiles("test")
+public class TimeSpanDeserializerTest {
+    @Test
+    public void testDeserialize() {
+        try {
+            TimeSpan expected = new TimeSpan(new TimePoint(2017, TimePoint.APRIL, 15, 16, 0, 0),
+                                             new TimePoint(2017, TimePoint.APRIL, 15, 17, 30, 59));
+
+            assertEquals(expected, objectMapper.readValue(
+                    "{\"start\":\"2017-04-15T16:00:00\",\"end\":\"2017-04-15T17:30:59\"}", TimeSpan.class));
+
+            // the order of the fields doesn't matter and the seconds may be omitted.
+            assertEquals(new TimeSpan(expected.getStartTimePoint(), new TimePoint(2017, TimePoint.APRIL, 15, 17, 30, 0)),
+                         objectMapper.readValue("{\"end\":\"2017-04-15T17:30\", \"start\":\"2017-04-15T16:00\"}",
+                                                TimeSpan.class));
+        } catch (IOException | InvalidDateException | InvalidTimePointException e) {
+            assertEquals("Exception:", e.getMessage());
+        }
+    }
+
+    @Test
+    public void testDeserializeInvalid() {
+        final String invalid[] = new String[] {
+                "{}", "[]", "\"2017-04-15T16:00:00\"",
+                "{\"start\":\"2017-04-15T16:00:00\"}",
+                "{\"start\":\"2017-04-15T16:00:00\",\"end\":null}",
+                "{\"start\":\"17-04-15T16:00:00\",\"end\":\"2017-04-15T17:00:00\"}",
+                "{\"start\":\"2017-4-15T16:00:00\",\"end\":\"2017-04-15T17:00:00\"}",
+                "{\"start\":\"2017-04-15T16:00:00.5\",\"end\":\"2017-04-15T17:00:00\"}",
+                "{\"start\":\"2017-04-31T16:00:00\",\"end\":\"2017-05-01T17:00:00\"}",
+                "{\"start\":\"2017-04-15T24:00:00\",\"end\":\"2017-04-16T17:00:00\"}",
+                "{\"start\":\"2017-04-15T17:00:00\",\"end\":\"2017-04-15T16:00:00\"}"
+        };
+
+        for (String json : invalid) {
+            assertThatThrownBy(() -> objectMapper.readValue(json, TimeSpan.class))
+                    .isInstanceOf(JsonMappingException.class);
+        }
+    }
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+}
@@ -0,0 +1,117 @@
+package aiApp.applicationcore.appointmentcomponent;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+
+import java.text.ParsePosition;
+
+import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertNull;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@RunWith(SpringJUnit4ClassRunner.class)
+@ActiveProfiles("test")
+public class TimeSpanParserTest {
+    @Test
+    public void testParseTimeSpan() {
+        try {
+            ParsePosition position = new ParsePosition(0);
+            TimeSpan timeSpan = TimeSpanParser.parseTimeSpan(validTimeSpanString, position);
+
+            assertEquals(new TimeSpan(new TimePoint(2017, TimePoint.APRIL, 15, 16, 0, 0),
+                                      new TimePoint(2017, TimePoint.APRIL, 15, 17, 30, 59)), timeSpan);
+            assertEquals(validTimeSpanString.length(), position.getIndex());
+            assertEquals(-1, position.getErrorIndex());
+        } catch (InvalidDateException | InvalidTimePointException e) {
+            assertEquals("Exception:", e.getMessage());
+        }
+    }
+
+    @Test
+    public void testParseWithinLargerText() {
+        try {
+            final String prefix = "xx";
+            final String text = prefix + validTimeSpanString + validTimeSpanString + "yy";
+
+            ParsePosition position = new ParsePosition(prefix.length());
+
+            TimeSpanParser.parseTimeSpan(text, position);
+            assertEquals(prefix.length() + validTimeSpanString.length(), position.getIndex());
+
+            TimeSpanParser.parseTimeSpan(text, position);
+            assertEquals(prefix.length() + 2 * validTimeSpanString.length(), position.getIndex());
+
+            assertNull(TimeSpanParser.parseTimeSpan(text, position));
+            assertEquals(prefix.length() + 2 * validTimeSpanString.length(), position.getIndex());
+        } catch (InvalidDateException | InvalidTimePointException e) {
+            assertEquals("Exception:", e.getMessage());
+        }
+    }
+
+    @Test
+    public void testWhitespace() {
+        try {
+            final String text = "TimeSpan{TimePoint{year=2017,month=4,  day=15,\thour=16, minute=0, second=0}\n"
+                                + "  TimePoint{year=2017, month=4, day=15, hour=17, minute=0, second=0}}";
+
+            ParsePosition position = new ParsePosition(0);
+
+            assertEquals(new TimeSpan(new TimePoint(2017, TimePoint.APRIL, 15, 16, 0, 0),
+                                      new TimePoint(2017, TimePoint.APRIL, 15, 17, 0, 0)),
+                         TimeSpanParser.parseTimeSpan(text, position));
+        } catch (InvalidDateException | InvalidTimePointException e) {
+            assertEquals("Exception:", e.getMessage());
+        }
+    }
+
+    @Test
+    public void testErrorIndex() {
+        final int spanPrefixLength = "TimeSpan{".length();
+        final int pointPrefixLength = "TimePoint{".length();
+
+        assertErrorIndex("", 0);
+        assertErrorIndex("TimeSpan", spanPrefixLength - 1);
+        assertErrorIndex("TimeSpan{TimePoint{year=", spanPrefixLength + pointPrefixLength + "year=".length());
+        assertErrorIndex("TimeSpan{TimePoint{year=2017 month", spanPrefixLength + pointPrefixLength + "year=2017".length());
+        assertErrorIndex("TimeSpan{TimePoint{year=99999999999",
+                         spanPrefixLength + pointPrefixLength + "year=999999999".length());
+
+        final int closingBraceIdx = validTimeSpanString.length() - 1;
+        assertErrorIndex(validTimeSpanString.substring(0, closingBraceIdx), closingBraceIdx);
+        assertErrorIndex(validTimeSpanString.substring(0, closingBraceIdx) + "x", closingBraceIdx);
+    }
+
+    @Test
+    public void testInvalidValues() {
+        final String invalidDate = "TimeSpan{TimePoint{year=2017, month=2, day=29, hour=0, minute=0, second=0}"
+                                   + "TimePoint{year=2017, month=3, day=1, hour=0, minute=0, second=0}}";
+
+        assertThatThrownBy(() -> TimeSpanParser.parseTimeSpan(invalidDate, new ParsePosition(0)))
+                .isInstanceOf(InvalidDateException.class);
+
+        final String endBeforeBegin = "TimeSpan{TimePoint{year=2017, month=3, day=2, hour=0, minute=0, second=0}"
+                                      + "TimePoint{year=2017, month=3, day=1, hour=0, minute=0, second=0}}";
+
+        assertThatThrownBy(() -> TimeSpanParser.parseTimeSpan(endBeforeBegin, new ParsePosition(0)))
+                .isInstanceOf(InvalidTimePointException.class);
+    }
+
+    private void assertErrorIndex(String text, int expectedErrorIdx) {
+        try {
+            final int start = 0;
+            ParsePosition position = new ParsePosition(start);
+
+            assertNull(TimeSpanParser.parseTimeSpan(text, position));
+            assertEquals(expectedErrorIdx, position.getErrorIndex());
+            assertEquals(start, position.getIndex());
+        } catch (InvalidDateException | InvalidTimePointException e) {
+            assertEquals("Exception:", e.getMessage());
+        }
+    }
+
+    private final String validTimeSpanString
+            = "TimeSpan{TimePoint{year=2017, month=4, day=15, hour=16, minute=0, second=0}"
+              + "TimePoint{year=2017, month=4, day=15, hour=17, minute=30, second=59}}";
+}
@@ -58,6 +58,14 @@ public class EmailTypeTest {
         }
     }
 
+    @Test
+    public void testNormalize() {
+        EmailType emailType = new EmailType(" Test@TEST.de ");
+
+        assertEquals("test@test.de", emailType.getEmail());
+        assertEquals(email, emailType);
+    }
+
     @Test
     public void testHashCode() {
         final String str = "mail@mail.de";
@@ -5,6 +5,7 @@ import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Slice;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
@@ -13,6 +14,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static junit.framework.TestCase.assertFalse;
@@ -20,6 +22,7 @@ import static junit.framework.TestCase.assertTrue;
 import static org.junit.Assert.assertEquals;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
 
 @RunWith(SpringJUnit4ClassRunner.class)
 @Transactional
@@ -148,6 +151,121 @@ public class EmployeeComponentTest {
         }
     }
 
+    @Test
+    public void testGetEmployeesAfter() {
+        try {
+            Slice<Employee> page = employeeComponentInterface.getEmployeesAfter(null, 2);
+
+            assertEquals(Arrays.asList(employee1, employee2), page.getContent());
+            assertTrue(page.hasNext());
+
+            page = employeeComponentInterface.getEmployeesAfter(employee2.getId(), 2);
+
+            assertEquals(Arrays.asList(employee3), page.getContent());
+            assertFalse(page.hasNext());
+
+            assertEquals(employees, employeeComponentInterface.getEmployeesAfter(null, null).getContent());
+            assertEquals(employees, employeeComponentInterface.getEmployeesAfter(Integer.MIN_VALUE, Integer.MAX_VALUE).getContent());
+            assertThat(employeeComponentInterface.getEmployeesAfter(employee3.getId(), null)).isEmpty();
+
+            final Integer invalidLimits[] = { 0, -1, Integer.MIN_VALUE };
+
+            for (Integer invalidLimit : invalidLimits) {
+                assertThatThrownBy(() -> employeeComponentInterface.getEmployeesAfter(null, invalidLimit))
+                        .isInstanceOf(InvalidEmployeePageException.class);
+            }
+        } catch (InvalidEmployeePageException e) {
+            assertEquals("Exception:", e.getMessage());
+        }
+    }
+
+    @Test
+    public void testSearchEmployees() {
+        try {
+            assertEquals(Arrays.asList(employee1), employeeComponentInterface.searchEmployees("pet", null));
+            assertEquals(Arrays.asList(employee2), employeeComponentInterface.searchEmployees("t last", 5));
+            assertEquals(Arrays.asList(employee1), employeeComponentInterface.searchEmployees("Shmidt", 5));
+            assertThat(employeeComponentInterface.searchEmployees("xyz", 5)).isEmpty();
+
+            Employee hired = employeeComponentInterface.hireNewEmployee("Petra", "Schmitz");
+            assertEquals(Arrays.asList(employee1, hired), employeeComponentInterface.searchEmployees("pet", null));
+
+            employeeComponentInterface.fireEmployee(employee1.getId());
+            assertEquals(Arrays.asList(hired), employeeComponentInterface.searchEmployees("pet", null));
+
+            final String invalidQueries[] = { null, "", " ", "-?!" };
+
+            for (String invalidQuery : invalidQueries) {
+                assertThatThrownBy(() -> employeeComponentInterface.searchEmployees(invalidQuery, null))
+                        .isInstanceOf(InvalidEmployeeSearchException.class);
+            }
+
+            final Integer invalidLimits[] = { 0, -1, Integer.MIN_VALUE };
+
+            for (Integer invalidLimit : invalidLimits) {
+                assertThatThrownBy(() -> employeeComponentInterface.searchEmployees("pet", invalidLimit))
+                        .isInstanceOf(InvalidEmployeeSearchException.class);
+            }
+        } catch (InvalidEmployeeSearchException | FailedToHireEmployeeException | FailedToFireEmployeeException e) {
+            assertEquals("Exception:", e.getMessage());
+        }
+    }
+
+    @Test
+    public void testFindEmployeeIdsByName() {
+        try {
+            assertEquals(Arrays.asList(employee1.getId()), employeeComponentInterface.findEmployeeIdsByName("pet", null));
+            assertThat(employeeComponentInterface.findEmployeeIdsByName("Shmidt", null)).isEmpty();
+
+            Employee hired = employeeComponentInterface.hireNewEmployee("Petra", "Schmitz");
+            assertEquals(Arrays.asList(employee1.getId(), hired.getId()),
+                         employeeComponentInterface.findEmployeeIdsByName("pet", null));
+            assertEquals(Arrays.asList(employee1.getId()), employeeComponentInterface.findEmployeeIdsByName("pet", 1));
+
+            assertThatThrownBy(() -> employeeComponentInterface.findEmployeeIdsByName(" ", null))
+                    .isInstanceOf(InvalidEmployeeSearchException.class);
+            assertThatThrownBy(() -> employeeComponentInterface.findEmployeeIdsByName("pet", 0))
+                    .isInstanceOf(InvalidEmployeeSearchException.class);
+        } catch (InvalidEmployeeSearchException | FailedToHireEmployeeException e) {
+            assertEquals("Exception:", e.getMessage());
+        }
+    }
+
+    @Test
+    public void testGetEmployeeByEmail() {
+        try {
+            assertEquals(employee1, employeeComponentInterface.getEmployeeByEmail("peter.schmidt@mail.de"));
+            assertEquals(employee2, employeeComponentInterface.getEmployeeByEmail(" Test@Testing.org"));
+
+            assertThatThrownBy(() -> employeeComponentInterface.getEmployeeByEmail("hans.wurst@mail.de"))
+                    .isInstanceOf(EmployeeNotFoundException.class);
+
+            final String invalidEmails[] = { null, "", "peter.schmidt", "@mail.de" };
+
+            for (String invalidEmail : invalidEmails) {
+                assertThatThrownBy(() -> employeeComponentInterface.getEmployeeByEmail(invalidEmail))
+                        .isInstanceOf(InvalidEmailAddressException.class);
+            }
+        } catch (InvalidEmailAddressException | EmployeeNotFoundException e) {
+            assertEquals("Exception:", e.getMessage());
+        }
+    }
+
+    @Test
+    public void testResolveEmployeeIds() {
+        final List<String> emails = Arrays.asList(
+                "TEST@testing.org", "unknown@mail.de", null, "invalid", "peter.schmidt@mail.de", "test@testing.org");
+
+        Map<String, Integer> employeeIds = employeeComponentInterface.resolveEmployeeIds(emails);
+
+        assertThat(employeeIds).containsExactly(entry("TEST@testing.org", employee2.getId()),
+                                                entry("peter.schmidt@mail.de", employee1.getId()),
+                                                entry("test@testing.org", employee2.getId()));
+
+        assertThat(employeeComponentInterface.resolveEmployeeIds(null)).isEmpty();
+        assertThat(employeeComponentInterface.resolveEmployeeIds(new ArrayList<>())).isEmpty();
+    }
+
     @Test
     public void testGetEmployeesById() {
         List<Employee> employeeList = employeeComponentInterface.getEmployeesById(employeeIds);
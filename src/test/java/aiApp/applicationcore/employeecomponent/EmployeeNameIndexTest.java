@@ -0,0 +1,111 @@
+package aiApp.applicationcore.employeecomponent;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static junit.framework.TestCase.assertEquals;
+
+@RunWith(SpringJUnit4ClassRunner.class)
+@ActiveProfiles("test")
+public class EmployeeNameIndexTest {
+    @Test
+    public void testSearchByPrefix() {
+        EmployeeNameIndex index = createIndex();
+
+        // alphabetical order of the words matched: peter, peters, petra.
+        assertEquals(Arrays.asList(1, 3, 2), index.search("pet", 10));
+        assertEquals(Arrays.asList(1, 3), index.search("PET", 2));
+        assertEquals(Arrays.asList(1, 2), index.search("pet schm", 10));
+        assertEquals(Arrays.asList(1, 2), index.search("schm pet", 10));
+        assertEquals(Collections.singletonList(4), index.search("jose muller", 10));
+        assertEquals(Collections.singletonList(4), index.search("Lüdensch", 10));
+        assertEquals(Collections.emptyList(), index.search("xyz", 10));
+        assertEquals(Collections.emptyList(), index.search("!?", 10));
+    }
+
+    @Test
+    public void testSearchByPrefixOnly() {
+        EmployeeNameIndex index = createIndex();
+
+        assertEquals(Arrays.asList(1, 3, 2), index.searchByPrefix("pet", 10));
+        assertEquals(Collections.singletonList(4), index.searchByPrefix("Müller", 10));
+
+        // similar names are not found.
+        assertEquals(Collections.emptyList(), index.searchByPrefix("Shmidt", 10));
+        assertEquals(Collections.emptyList(), index.searchByPrefix("!?", 10));
+    }
+
+    @Test
+    public void testSearchBySimilarity() {
+        EmployeeNameIndex index = createIndex();
+
+        // the shorter name comes first.
+        assertEquals(Arrays.asList(1, 5), index.search("Shmidt", 10));
+        assertEquals(Collections.singletonList(1), index.search("Shmidt", 1));
+        assertEquals(Arrays.asList(2, 1), index.search("Petra Schmiz", 10));
+
+        // prefix matches come before similar names.
+        assertEquals(Arrays.asList(1, 5, 2), index.search("schmidt", 10));
+        assertEquals(Arrays.asList(2, 1, 5), index.search("schmit", 10));
+    }
+
+    @Test
+    public void testAddAndRemove() {
+        EmployeeNameIndex index = createIndex();
+
+        assertEquals(5, index.size());
+
+        index.add(1, "Someone", "Else");
+        assertEquals(5, index.size());
+        assertEquals(Arrays.asList(1, 3, 2), index.search("pet", 10));
+
+        index.remove(1);
+        index.remove(1);
+        assertEquals(4, index.size());
+        assertEquals(Arrays.asList(3, 2), index.search("pet", 10));
+        assertEquals(Collections.singletonList(5), index.search("Shmidt", 10));
+
+        // the slot of the removed employee is reused.
+        index.add(6, "Petunia", "Schmidt");
+        assertEquals(Arrays.asList(3, 2, 6), index.search("pet", 10));
+        assertEquals(Arrays.asList(5, 6, 2), index.search("schmidt", 10));
+
+        // an employee whose first and last name are the same.
+        index.add(7, "Peter", "Peter");
+        assertEquals(Collections.singletonList(7), index.search("peter peter", 1));
+        index.remove(7);
+        assertEquals(Arrays.asList(3, 2, 6), index.search("pet", 10));
+    }
+
+    @Test
+    public void testFromNames() {
+        EmployeeNameIndex index = EmployeeNameIndex.fromNames(new int[] { 1, 2, 3, 4, 5 },
+                new String[] { "Peter", "Petra", "Hans", "José", "Anne-Marie" },
+                new String[] { "Schmidt", "Schmitz", "Peters", "Müller-Lüdenscheidt", "Schmidt" }, 5);
+
+        assertEquals(5, index.size());
+        assertEquals(Arrays.asList(1, 3, 2), index.search("pet", 10));
+        assertEquals(Arrays.asList(1, 2), index.search("pet schm", 10));
+        assertEquals(Arrays.asList(1, 5), index.search("Shmidt", 10));
+
+        index.remove(2);
+        assertEquals(Arrays.asList(1, 3), index.search("pet", 10));
+    }
+
+    private static EmployeeNameIndex createIndex() {
+        EmployeeNameIndex index = new EmployeeNameIndex();
+
+        index.add(1, "Peter", "Schmidt");
+        index.add(2, "Petra", "Schmitz");
+        index.add(3, "Hans", "Peters");
+        index.add(4, "José", "Müller-Lüdenscheidt");
+        index.add(5, "Anne-Marie", "Schmidt");
+
+        return index;
+    }
+}
@@ -5,16 +5,20 @@ import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
 import static junit.framework.TestCase.assertTrue;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.Assert.assertEquals;
 
 @RunWith(SpringJUnit4ClassRunner.class)
@@ -83,6 +87,33 @@ public class EmployeeRepositoryTest {
         }
     }
 
+    @Test
+    public void testFindByEmail() {
+        assertEquals(Optional.of(employee), employeeRepository.findByEmail(new EmailType("Peter.Schmidt@testing.org")));
+        assertEquals(Optional.empty(), employeeRepository.findByEmail(new EmailType("hans.wurst@testing.org")));
+
+        List<Object[]> emailsAndIds = employeeRepository.findIdsByEmails(
+                Arrays.asList(new EmailType("peter.schmidt@testing.org"), new EmailType("hans.wurst@testing.org")));
+
+        assertThat(emailsAndIds).hasSize(1);
+        assertEquals(employee.getEmail(), emailsAndIds.get(0)[0]);
+        assertEquals(employee.getId(), emailsAndIds.get(0)[1]);
+
+        assertThat(employeeRepository.findIdsByEmails(Collections.singletonList(new EmailType("a@b.de")))).isEmpty();
+    }
+
+    @Test
+    public void testEmailIsUnique() {
+        try {
+            Employee sameEmail = new Employee("Hans", "Wurst", new EmailType("PETER.SCHMIDT@testing.org"));
+
+            assertThatThrownBy(() -> employeeRepository.saveAndFlush(sameEmail))
+                    .isInstanceOf(DataIntegrityViolationException.class);
+        } catch (InvalidEmployeeNameException e) {
+            assertEquals("Exception:", e.getMessage());
+        }
+    }
+
     @Autowired
     private EmployeeRepository employeeRepository;
 
@@ -91,7 +91,8 @@ public class EmployeeTest {
     @Test
     public void testEquals() {
         try {
-            Employee testEmployee = new Employee("Peter", "Schmidt", new EmailType("peter.schmidt@testers.com"));
+            // email addresses are unique, so the namesake has another one.
+            Employee testEmployee = new Employee("Peter", "Schmidt", new EmailType("peter.schmidt2@testers.com"));
             testEmployee = employeeRepository.save(testEmployee);
 
             assertThat(testEmployee).isNotEqualTo(employee);
@@ -0,0 +1,22 @@
+package aiApp.applicationcore.employeecomponent;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+
+import static org.junit.Assert.assertArrayEquals;
+
+@RunWith(SpringJUnit4ClassRunner.class)
+@ActiveProfiles("test")
+public class TextNormalizerTest {
+    @Test
+    public void testWords() {
+        assertArrayEquals(new String[] { "anne", "marie", "schmidt" }, TextNormalizer.words("Anne-Marie SCHMIDT"));
+        assertArrayEquals(new String[] { "jose", "muller" }, TextNormalizer.words(" José  Müller "));
+        assertArrayEquals(new String[] { "sprint", "review", "q3", "2017" },
+                          TextNormalizer.words("Sprint-Review: Q3/2017"));
+        assertArrayEquals(new String[] { "uber", "cafe" }, TextNormalizer.words("  Über Café! "));
+        assertArrayEquals(new String[0], TextNormalizer.words(" -.' "));
+    }
+}
@@ -22,11 +22,14 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.HttpStatus;
 import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import static com.jayway.restassured.RestAssured.*;
 import static junit.framework.TestCase.assertEquals;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.nullValue;
 
@@ -110,11 +113,314 @@ public class ApplicationFacadeControllerTest {
         checkAppointmentGottenWithGet(response);
     }
 
+    // GET /appointment
+    @Test
+    public void canGetAllAppointmentsOfWeekOfYear() {
+        given().
+                queryParam("year", appointment.getStartWeekBasedYear()).
+                queryParam("week", appointment.getStartWeek()).
+        when().
+                get("/appointment").
+        then().
+                statusCode(HttpStatus.ACCEPTED.value());
+
+        Response response = get(String.format("/appointment?year=%d&week=%d",
+                                              appointment.getStartWeekBasedYear(), appointment.getStartWeek()));
+
+        checkAppointmentGottenWithGet(response);
+
+        given().
+                queryParam("year", appointment.getStartWeekBasedYear() - 1).
+                queryParam("week", appointment.getStartWeek()).
+        expect().
+                statusCode(HttpStatus.ACCEPTED.value()).
+                body("size()", is(0)).
+        when().
+                get("/appointment");
+    }
+
+    // GET /appointment
+    @Test
+    public void canGetPreconditionFailureForInvalidWeekOfYear() {
+        final String invalidYearsAndWeeks[][] = new String[][] {
+                {"2017", "53"}, {"2017", "0"}, {"-1", "5"}, {"2017", ""}, {"", "5"}
+        };
+
+        for (String yearAndWeek[] : invalidYearsAndWeeks) {
+            given().
+                    queryParam("year", yearAndWeek[0]).
+                    queryParam("week", yearAndWeek[1]).
+            when().
+                    get("/appointment").
+            then().
+                    statusCode(HttpStatus.PRECONDITION_FAILED.value());
+        }
+    }
+
+    // GET /appointment
+    @Test
+    public void canGetAppointmentsOfWeeks() {
+        // the appointment begins in week 15 of 2017.
+        given().
+                queryParam("year", 2017).
+                queryParam("fromWeek", 14).
+                queryParam("toWeek", 26).
+        when().
+                get("/appointment").
+        then().
+                statusCode(HttpStatus.ACCEPTED.value());
+
+        Response response = get("/appointment?year=2016&fromWeek=40&toYear=2017&toWeek=15");
+
+        checkAppointmentGottenWithGet(response);
+
+        given().
+                queryParam("year", 2017).
+                queryParam("fromWeek", 16).
+                queryParam("toWeek", 28).
+        expect().
+                statusCode(HttpStatus.ACCEPTED.value()).
+                body("size()", is(0)).
+        when().
+                get("/appointment");
+
+        given().
+                queryParam("year", 2017).
+                queryParam("fromWeek", 14).
+                queryParam("toWeek", 26).
+                queryParam("limit", 1).
+        expect().
+                statusCode(HttpStatus.ACCEPTED.value()).
+                body("size()", is(1)).
+        when().
+                get("/appointment");
+    }
+
+    // GET /appointment
+    @Test
+    public void canGetPreconditionFailureForInvalidWeekRange() {
+        final String invalidRanges[][] = new String[][] {
+                {"2017", "14", "2017", "13"}, {"2017", "14", "2016", "20"}, {"2017", "14", "2017", ""},
+                {"2017", "0", "2017", "13"}, {"2017", "1", "2017", "53"}, {"", "1", "2017", "13"}
+        };
+
+        for (String range[] : invalidRanges) {
+            given().
+                    queryParam("year", range[0]).
+                    queryParam("fromWeek", range[1]).
+                    queryParam("toYear", range[2]).
+                    queryParam("toWeek", range[3]).
+            when().
+                    get("/appointment").
+            then().
+                    statusCode(HttpStatus.PRECONDITION_FAILED.value());
+        }
+
+        given().
+                queryParam("year", 2017).
+                queryParam("fromWeek", 14).
+                queryParam("toWeek", 26).
+                queryParam("limit", 0).
+        when().
+                get("/appointment").
+        then().
+                statusCode(HttpStatus.PRECONDITION_FAILED.value());
+    }
+
+    // GET /appointment
+    @Test
+    public void canGetAppointmentsOverlapping() {
+        // the appointment runs from 2017-04-16T19:00 until 2017-04-16T20:00.
+        given().
+                queryParam("from", "2017-04-16T19:30:00").
+                queryParam("to", "2017-04-17T00:00").
+        when().
+                get("/appointment").
+        then().
+                statusCode(HttpStatus.ACCEPTED.value());
+
+        Response response = get("/appointment?from=2017-04-16T18:00&to=2017-04-16T19:00");
+
+        checkAppointmentGottenWithGet(response);
+
+        given().
+                queryParam("from", "2017-04-16T20:00:01").
+                queryParam("to", "2017-04-30T00:00").
+        expect().
+                statusCode(HttpStatus.ACCEPTED.value()).
+                body("size()", is(0)).
+        when().
+                get("/appointment");
+
+        // appointments stored without going through the REST API are found as well.
+        try {
+            TimePoint later = new TimePoint(2017, TimePoint.APRIL, 16, 21, 0, 0);
+            appointmentRepository.save(new Appointment(new TimeSpan(later, later)));
+        } catch (InvalidDateException | InvalidTimePointException | InvalidTimeSpanException | InvalidWeekException e) {
+            assertEquals("Exception:", e.getMessage());
+        }
+
+        given().
+                queryParam("from", "2017-04-16T19:00").
+                queryParam("to", "2017-04-16T21:00").
+        expect().
+                statusCode(HttpStatus.ACCEPTED.value()).
+                body("size()", is(2)).
+        when().
+                get("/appointment");
+
+        given().
+                queryParam("from", "2017-04-16T19:00").
+                queryParam("to", "2017-04-16T21:00").
+                queryParam("limit", 1).
+        expect().
+                statusCode(HttpStatus.ACCEPTED.value()).
+                body("size()", is(1)).
+                body("[0].id", is(appointment.getId())).
+        when().
+                get("/appointment");
+
+        given().
+                queryParam("from", "2017-04-16T19:00").
+                queryParam("to", "2017-04-16T21:00").
+                queryParam("limit", 0).
+        expect().
+                statusCode(HttpStatus.PRECONDITION_FAILED.value()).
+        when().
+                get("/appointment");
+    }
+
+    // GET /appointment
+    @Test
+    public void canGetPreconditionFailureForInvalidTimeRange() {
+        final String invalidRanges[][] = new String[][] {
+                {"2017-04-16T20:00", "2017-04-16T19:00"}, {"2017-04-16T19:00", ""}, {"", "2017-04-16T19:00"},
+                {"2017-04-31T19:00", "2017-05-01T19:00"}, {"16.04.2017", "17.04.2017"}, {"2017-04-16", "2017-04-17"}
+        };
+
+        for (String range[] : invalidRanges) {
+            given().
+                    queryParam("from", range[0]).
+                    queryParam("to", range[1]).
+            when().
+                    get("/appointment").
+            then().
+                    statusCode(HttpStatus.PRECONDITION_FAILED.value());
+        }
+
+        given().
+                queryParam("from", "2017-04-16T19:00").
+        when().
+                get("/appointment").
+        then().
+                statusCode(HttpStatus.PRECONDITION_FAILED.value());
+    }
+
+    // GET /appointment
+    @Test
+    public void canGetPagesOfAppointments() {
+        Appointment later = null;
+
+        try {
+            TimePoint laterBegin = new TimePoint(2017, TimePoint.APRIL, 16, 21, 0, 0);
+            later = appointmentRepository.save(new Appointment(new TimeSpan(laterBegin, laterBegin)));
+        } catch (InvalidDateException | InvalidTimePointException | InvalidTimeSpanException | InvalidWeekException e) {
+            assertEquals("Exception:", e.getMessage());
+        }
+
+        Response response = given().queryParam("limit", 1).get("/appointment");
+
+        checkAppointmentGottenWithGet(response);
+
+        final String cursor = response.getHeader("X-Next-Cursor");
+        assertEquals(AppointmentCursor.encode(appointment), cursor);
+
+        given().
+                queryParam("after", cursor).
+                queryParam("limit", 1).
+        expect().
+                statusCode(HttpStatus.ACCEPTED.value()).
+                header("X-Next-Cursor", nullValue()).
+                body("size()", is(1)).
+                body("[0].id", is(later.getId())).
+        when().
+                get("/appointment");
+
+        given().
+                queryParam("after", AppointmentCursor.encode(later)).
+        expect().
+                statusCode(HttpStatus.ACCEPTED.value()).
+                header("X-Next-Cursor", nullValue()).
+                body("size()", is(0)).
+        when().
+                get("/appointment");
+    }
+
+    // GET /appointment
+    @Test
+    public void canStreamAllAppointments() {
+        Response response = given().queryParam("stream", true).get("/appointment");
+
+        assertEquals(HttpStatus.ACCEPTED.value(), response.getStatusCode());
+        checkAppointmentGottenWithGet(response);
+
+        Appointment earlier = null;
+
+        try {
+            TimePoint earlierBegin = new TimePoint(2017, TimePoint.APRIL, 16, 18, 0, 0);
+            earlier = new Appointment(new TimeSpan(earlierBegin, earlierBegin));
+            earlier.addEmployees(Arrays.asList(employee3, employee1));
+            earlier = appointmentRepository.save(earlier);
+        } catch (InvalidDateException | InvalidTimePointException | InvalidTimeSpanException | InvalidWeekException e) {
+            assertEquals("Exception:", e.getMessage());
+        }
+
+        given().
+                queryParam("stream", true).
+        expect().
+                statusCode(HttpStatus.ACCEPTED.value()).
+                contentType(ContentType.JSON).
+                body("size()", is(2)).
+                body("[0].id", is(earlier.getId())).
+                body("[0].attendees.id", contains(employee3.getId(), employee1.getId())).
+                body("[1].id", is(appointment.getId())).
+        when().
+                get("/appointment");
+    }
+
+    // GET /appointment
+    @Test
+    public void canGetPreconditionFailureForInvalidPageOfAppointments() {
+        final String invalidCursors[] = new String[] {
+                "", "abc", "1492369200", "1492369200_", "_1", "1492369200_1_2"
+        };
+
+        for (String invalidCursor : invalidCursors) {
+            given().
+                    queryParam("after", invalidCursor).
+            when().
+                    get("/appointment").
+            then().
+                    statusCode(HttpStatus.PRECONDITION_FAILED.value());
+        }
+
+        final int invalidLimits[] = new int[] { 0, -1, Integer.MIN_VALUE };
+
+        for (int invalidLimit : invalidLimits) {
+            given().
+                    queryParam("limit", invalidLimit).
+            when().
+                    get("/appointment").
+            then().
+                    statusCode(HttpStatus.PRECONDITION_FAILED.value());
+        }
+    }
+
     // GET /appointment
     @Test
     public void canGetPreconditionFailureForInvalidWeek() {
         final int invalidWeeks[] = new int[] {
-            -1, 0, 53,
+            -1, 0, 54,
             -2, -999, 999,
             5000, 0xFFFFFFFF, 0x7FFFFFFF
         };
@@ -129,39 +435,550 @@ public class ApplicationFacadeControllerTest {
         }
     }
 
-    // POST /appointment
+    // GET /appointment/attended
+    @Test
+    public void canGetAppointmentsAttendedBy() {
+        final String path = "/appointment/attended";
+
+        Appointment later = null;
+
+        try {
+            TimePoint laterBegin = new TimePoint(2017, TimePoint.APRIL, 17, 9, 0, 0);
+            later = new Appointment(new TimeSpan(laterBegin, laterBegin));
+            later.addEmployees(Arrays.asList(employee1));
+            later = appointmentRepository.save(later);
+        } catch (InvalidDateException | InvalidTimePointException | InvalidTimeSpanException | InvalidWeekException e) {
+            assertEquals("Exception:", e.getMessage());
+        }
+
+        Response response = given().queryParam("allOf", employee1.getId() + "," + employee2.getId()).get(path);
+
+        assertEquals(HttpStatus.ACCEPTED.value(), response.getStatusCode());
+        checkAppointmentGottenWithGet(response);
+
+        given().
+                queryParam("anyOf", employee1.getId() + "," + employee3.getId()).
+        expect().
+                statusCode(HttpStatus.ACCEPTED.value()).
+                body("size()", is(2)).
+                body("[0].id", is(appointment.getId())).
+                body("[1].id", is(later.getId())).
+        when().
+                get(path);
+
+        given().
+                queryParam("allOf", employee1.getId()).
+                queryParam("noneOf", employee2.getId()).
+        expect().
+                statusCode(HttpStatus.ACCEPTED.value()).
+                body("size()", is(1)).
+                body("[0].id", is(later.getId())).
+        when().
+                get(path);
+
+        given().
+                queryParam("anyOf", employee1.getId() + "," + employee3.getId()).
+                queryParam("limit", 1).
+        expect().
+                statusCode(HttpStatus.ACCEPTED.value()).
+                body("size()", is(1)).
+                body("[0].id", is(appointment.getId())).
+        when().
+                get(path);
+
+        given().
+                queryParam("noneOf", employee2.getId()).
+        expect().
+                statusCode(HttpStatus.PRECONDITION_FAILED.value()).
+        when().
+                get(path);
+
+        given().
+                queryParam("anyOf", employee1.getId()).
+                queryParam("limit", 0).
+        expect().
+                statusCode(HttpStatus.PRECONDITION_FAILED.value()).
+        when().
+                get(path);
+
+        when().
+                get(path).
+        then().
+                statusCode(HttpStatus.PRECONDITION_FAILED.value());
+    }
+
+    // POST /appointment
+    @Test
+    public void canCreateAppointment() {
+        try {
+            final String bodyToSendStr = String.format("TimeSpan{%s%s}",
+                    "TimePoint{year=2017, month=4, day=15, hour=16, minute=0, second=0}",
+                    "TimePoint{year=2017, month=4, day=15, hour=17, minute=0, second=0}");
+
+            TimeSpan timeSpan = TimeSpan.fromString(bodyToSendStr);
+            Appointment appointmentSent = new Appointment(timeSpan);
+            Integer expectedId = appointment.getId() + 1;
+
+            given().
+                    contentType(ContentType.TEXT).
+                    body(bodyToSendStr).
+            expect().
+                    statusCode(HttpStatus.CREATED.value()).
+                    body("id", is(expectedId)).
+                    body("startWeek", is(appointmentSent.getStartWeek())).
+                    body("attendees", is(appointmentSent.getAttendees())).
+            when().
+                    post("/appointment");
+
+            RequestSpecification requestSpecification = given().contentType(ContentType.TEXT).body(bodyToSendStr);
+
+            Response response = requestSpecification.when().post("/appointment");
+
+            JSONObject responseJsonObject = new JSONObject(response.asString());
+
+            assertEquals(appointmentSent.getTimeSpan().toString(), responseJsonObject.getString("timeSpan"));
+        } catch (ArgumentNotValidException | InvalidDateException | InvalidTimePointException
+                 | JSONException | InvalidTimeSpanException | InvalidWeekException e) {
+            assertEquals("An exception occurred!", "Exception in canCreateAppointment!");
+        }
+    }
+
+    // POST /appointment
+    @Test
+    public void canCreateAppointmentFromJson() {
+        try {
+            final String bodyToSendStr = "{\"start\":\"2017-04-15T16:00:00\",\"end\":\"2017-04-15T17:30\"}";
+
+            TimeSpan timeSpan = new TimeSpan(new TimePoint(2017, TimePoint.APRIL, 15, 16, 0, 0),
+                                             new TimePoint(2017, TimePoint.APRIL, 15, 17, 30, 0));
+            Appointment appointmentSent = new Appointment(timeSpan);
+
+            Response response = given().
+                    contentType(ContentType.JSON).
+                    body(bodyToSendStr).
+            expect().
+                    statusCode(HttpStatus.CREATED.value()).
+                    body("startWeek", is(appointmentSent.getStartWeek())).
+                    body("attendees", is(appointmentSent.getAttendees())).
+            when().
+                    post("/appointment");
+
+            JSONObject responseJsonObject = new JSONObject(response.asString());
+
+            assertEquals(appointmentSent.getTimeSpan().toString(), responseJsonObject.getString("timeSpan"));
+        } catch (InvalidDateException | InvalidTimePointException | JSONException | InvalidTimeSpanException
+                 | InvalidWeekException e) {
+            assertEquals("An exception occurred!", "Exception in canCreateAppointmentFromJson!");
+        }
+    }
+
+    // GET /appointment?text=
+    @Test
+    public void canSearchAppointments() {
+        final String bodyToSendStr = "{\"start\":\"2017-04-15T16:00:00\",\"end\":\"2017-04-15T17:30\","
+                                     + "\"title\":\"Sprint review\",\"description\":\"Démo of the search\"}";
+
+        Integer createdId = given().
+                contentType(ContentType.JSON).
+                body(bodyToSendStr).
+        expect().
+                statusCode(HttpStatus.CREATED.value()).
+                body("title", is("Sprint review")).
+                body("description", is("Démo of the search")).
+        when().
+                post("/appointment").
+        then().
+                extract().path("id");
+
+        given().
+                queryParam("text", "REVIEW demo").
+        expect().
+                statusCode(HttpStatus.ACCEPTED.value()).
+                body("size()", is(1)).
+                body("[0].id", is(createdId)).
+                body("[0].title", is("Sprint review")).
+        when().
+                get("/appointment");
+
+        given().
+                queryParam("text", "retro").
+        expect().
+                statusCode(HttpStatus.ACCEPTED.value()).
+                body("size()", is(0)).
+        when().
+                get("/appointment");
+
+        given().
+                queryParam("text", " ").
+        when().
+                get("/appointment").
+        then().
+                statusCode(HttpStatus.PRECONDITION_FAILED.value());
+
+        given().
+                queryParam("text", "review").
+                queryParam("limit", 0).
+        when().
+                get("/appointment").
+        then().
+                statusCode(HttpStatus.PRECONDITION_FAILED.value());
+    }
+
+    // GET /appointment?attendee=
+    @Test
+    public void canGetAppointmentsOfAttendee() {
+        Appointment later = null;
+
+        try {
+            TimePoint laterBegin = new TimePoint(2017, TimePoint.APRIL, 17, 9, 0, 0);
+            later = new Appointment(new TimeSpan(laterBegin, laterBegin));
+            later.addEmployees(Collections.singletonList(employee1));
+            later = appointmentRepository.save(later);
+        } catch (InvalidDateException | InvalidTimePointException | InvalidTimeSpanException | InvalidWeekException e) {
+            assertEquals("Exception:", e.getMessage());
+        }
+
+        given().
+                queryParam("attendee", "SCHMI").
+        expect().
+                statusCode(HttpStatus.ACCEPTED.value()).
+                body("size()", is(2)).
+                body("[0].id", is(appointment.getId())).
+                body("[1].id", is(later.getId())).
+        when().
+                get("/appointment");
+
+        // the appointment runs from 2017-04-16T19:00 until 2017-04-16T20:00.
+        given().
+                queryParam("attendee", "peter schmidt").
+                queryParam("from", "2017-04-17T00:00").
+                queryParam("to", "2017-04-17T23:59").
+        expect().
+                statusCode(HttpStatus.ACCEPTED.value()).
+                body("size()", is(1)).
+                body("[0].id", is(later.getId())).
+        when().
+                get("/appointment");
+
+        given().
+                queryParam("attendee", "schmidt").
+                queryParam("limit", 1).
+        expect().
+                statusCode(HttpStatus.ACCEPTED.value()).
+                body("size()", is(1)).
+                body("[0].id", is(appointment.getId())).
+        when().
+                get("/appointment");
+
+        given().
+                queryParam("attendee", "Shmidt").
+        expect().
+                statusCode(HttpStatus.ACCEPTED.value()).
+                body("size()", is(0)).
+        when().
+                get("/appointment");
+
+        final String invalidParams[][] = {
+                { "attendee", " " },
+                { "attendee", "schmidt", "limit", "0" },
+                { "attendee", "schmidt", "from", "2017-04-17T00:00" },
+                { "attendee", "schmidt", "from", "2017-04-17T00:00", "to", "2017-04-16T00:00" }
+        };
+
+        for (String params[] : invalidParams) {
+            RequestSpecification request = given();
+            for (int i = 0; i < params.length; i += 2) {
+                request = request.queryParam(params[i], params[i + 1]);
+            }
+
+            request.when().get("/appointment").then().statusCode(HttpStatus.PRECONDITION_FAILED.value());
+        }
+    }
+
+    // GET /appointment?attendee=
+    @Test
+    public void canGetPreconditionFailureForAttendeeNameOfTooManyEmployees() {
+        final int maxAttendeesPerName = 100;
+        List<Employee> namesakes = new ArrayList<>();
+
+        try {
+            for (int i = 0; i < maxAttendeesPerName; ++i) {
+                // names consist of letters only, so the first names count in base 26: Naa, Nab, ...
+                namesakes.add(new Employee("N" + (char) ('a' + i / 26) + (char) ('a' + i % 26), "Meier", null));
+            }
+        } catch (InvalidEmployeeNameException e) {
+            assertEquals("Exception:", e.getMessage());
+        }
+
+        employeeRepository.save(namesakes);
+
+        given().
+                queryParam("attendee", "meier").
+        expect().
+                statusCode(HttpStatus.ACCEPTED.value()).
+        when().
+                get("/appointment");
+
+        try {
+            employeeRepository.save(new Employee("Another", "Meier", null));
+        } catch (InvalidEmployeeNameException e) {
+            assertEquals("Exception:", e.getMessage());
+        }
+
+        given().
+                queryParam("attendee", "meier").
+        when().
+                get("/appointment").
+        then().
+                statusCode(HttpStatus.PRECONDITION_FAILED.value());
+    }
+
+    // GET /appointment/recurring
+    @Test
+    public void canGetAppointmentsByTimeOfWeek() {
+        // the appointment begins on sunday, 2017-04-16 at 19:00.
+        given().
+                queryParam("days", "6,7").
+                queryParam("fromHour", 19).
+                queryParam("toHour", 20).
+        expect().
+                statusCode(HttpStatus.ACCEPTED.value()).
+                body("size()", is(1)).
+                body("[0].id", is(appointment.getId())).
+        when().
+                get("/appointment/recurring");
+
+        given().
+                queryParam("days", 1).
+        expect().
+                statusCode(HttpStatus.ACCEPTED.value()).
+                body("size()", is(0)).
+        when().
+                get("/appointment/recurring");
+
+        Response response = get("/appointment/recurring/count?fromHour=19&from=2017-04-01T00:00&to=2017-06-30T23:59:59");
+
+        assertEquals(HttpStatus.ACCEPTED.value(), response.getStatusCode());
+        assertEquals("1", response.asString());
+
+        assertEquals("0", get("/appointment/recurring/count?toHour=19").asString());
+
+        final String invalidQueries[] = {
+                "days=0", "days=8", "fromHour=-1", "toHour=25", "fromHour=20&toHour=19",
+                "from=2017-04-01T00:00", "from=2017-06-30T00:00&to=2017-04-01T00:00", "limit=0"
+        };
+
+        for (String query : invalidQueries) {
+            get("/appointment/recurring?" + query).then().statusCode(HttpStatus.PRECONDITION_FAILED.value());
+        }
+
+        get("/appointment/recurring/count?fromHour=20&toHour=19").then().statusCode(HttpStatus.PRECONDITION_FAILED.value());
+    }
+
+    // GET /appointment/summary
+    @Test
+    public void canGetAppointmentSummary() {
+        // the appointment begins on 2017-04-16, the sunday of week 15 of 2017, and is attended by all three employees.
+        given().
+        expect().
+                statusCode(HttpStatus.ACCEPTED.value()).
+                body("appointmentCount", is(1)).
+                body("weeks.size()", is(1)).
+                body("weeks[0].year", is(2017)).
+                body("weeks[0].week", is(15)).
+                body("weeks[0].appointmentCount", is(1)).
+                body("employees.size()", is(3)).
+                body("employees[0].employeeId", is(employee1.getId())).
+                body("employees[0].appointmentCount", is(1)).
+        when().
+                get("/appointment/summary");
+
+        // appointments stored without going through the REST API are counted as well.
+        try {
+            TimePoint later = new TimePoint(2017, TimePoint.APRIL, 16, 21, 0, 0);
+            Appointment laterAppointment = new Appointment(new TimeSpan(later, later));
+            laterAppointment.addEmployees(Collections.singletonList(employee2));
+            appointmentRepository.save(laterAppointment);
+        } catch (InvalidDateException | InvalidTimePointException | InvalidTimeSpanException | InvalidWeekException e) {
+            assertEquals("Exception:", e.getMessage());
+        }
+
+        given().
+                queryParam("year", 2017).
+        expect().
+                statusCode(HttpStatus.ACCEPTED.value()).
+                body("appointmentCount", is(2)).
+                body("weeks[0].appointmentCount", is(2)).
+                body("employees[1].employeeId", is(employee2.getId())).
+                body("employees[1].appointmentCount", is(2)).
+        when().
+                get("/appointment/summary");
+
+        given().
+                queryParam("year", 2016).
+        expect().
+                statusCode(HttpStatus.ACCEPTED.value()).
+                body("weeks.size()", is(0)).
+        when().
+                get("/appointment/summary");
+
+        get("/appointment/summary?year=-1").then().statusCode(HttpStatus.PRECONDITION_FAILED.value());
+    }
+
+    // GET /appointment/heatmap
     @Test
-    public void canCreateAppointment() {
+    public void canGetBookingHeatmap() {
+        // the appointment runs from 2017-04-16T19:00 until 2017-04-16T20:00, a sunday, the slots 76 up to 79.
+        given().
+                queryParam("from", "2017-04-10T00:00").
+                queryParam("to", "2017-04-16T00:00").
+        expect().
+                statusCode(HttpStatus.ACCEPTED.value()).
+                body("slotMinutes", is(15)).
+                body("days.size()", is(7)).
+                body("days[6].dayOfWeek", is(7)).
+                body("days[6].bookedMinutes.size()", is(96)).
+                body("days[6].bookedMinutes[75]", is(0)).
+                body("days[6].bookedMinutes[76]", is(15)).
+                body("days[6].bookedMinutes[79]", is(15)).
+                body("days[6].bookedMinutes[80]", is(0)).
+        when().
+                get("/appointment/heatmap");
+
+        // a team adds up the minutes of each of its members.
+        given().
+                queryParam("from", "2017-04-16T00:00").
+                queryParam("to", "2017-04-16T00:00").
+                queryParam("employees", employee1.getId() + "," + employee2.getId()).
+        expect().
+                statusCode(HttpStatus.ACCEPTED.value()).
+                body("days[6].bookedMinutes[77]", is(30)).
+        when().
+                get("/appointment/heatmap");
+
+        // the days of the range that do not hold the appointment add up nothing.
+        given().
+                queryParam("from", "2017-04-17T00:00").
+                queryParam("to", "2017-04-30T00:00").
+                queryParam("employees", employee3.getId()).
+        expect().
+                statusCode(HttpStatus.ACCEPTED.value()).
+                body("days[6].bookedMinutes[77]", is(0)).
+        when().
+                get("/appointment/heatmap");
+
+        get("/appointment/heatmap?from=2017-04-16T00:00").then().statusCode(HttpStatus.PRECONDITION_FAILED.value());
+        get("/appointment/heatmap?from=2017-04-16T00:00&to=2017-04-10T00:00").then().statusCode(HttpStatus.PRECONDITION_FAILED.value());
+    }
+
+    // GET /calendar/week
+    @Test
+    public void canGetCalendarWeek() {
+        // the appointment runs from 2017-04-16T19:00 until 2017-04-16T20:00, the sunday of week 15 of 2017.
+        given().
+                queryParam("year", 2017).
+                queryParam("week", 15).
+        expect().
+                statusCode(HttpStatus.ACCEPTED.value()).
+                body("days.size()", is(7)).
+                body("days[0].date", is("2017-04-10")).
+                body("days[6].laneCount", is(1)).
+                body("days[6].entries[0].appointmentId", is(appointment.getId())).
+                body("days[6].entries[0].beginSecond", is(19 * 3600)).
+                body("appointments.size()", is(1)).
+        when().
+                get("/calendar/week");
+
+        Appointment overnight = null;
+
+        // the cached week has to be dropped as an appointment overlapping it is stored.
         try {
-            final String bodyToSendStr = String.format("TimeSpan{%s%s}",
-                    "TimePoint{year=2017, month=4, day=15, hour=16, minute=0, second=0}",
-                    "TimePoint{year=2017, month=4, day=15, hour=17, minute=0, second=0}");
+            TimePoint overnightBegin = new TimePoint(2017, TimePoint.APRIL, 16, 19, 30, 0);
+            TimePoint overnightEnd = new TimePoint(2017, TimePoint.APRIL, 17, 1, 0, 0);
+            overnight = new Appointment(new TimeSpan(overnightBegin, overnightEnd));
+            overnight.addEmployees(Collections.singletonList(employee2));
+            overnight = appointmentRepository.save(overnight);
+        } catch (InvalidDateException | InvalidTimePointException | InvalidTimeSpanException | InvalidWeekException e) {
+            assertEquals("Exception:", e.getMessage());
+        }
 
-            TimeSpan timeSpan = TimeSpan.fromString(bodyToSendStr);
-            Appointment appointmentSent = new Appointment(timeSpan);
-            Integer expectedId = appointment.getId() + 1;
+        given().
+                queryParam("year", 2017).
+                queryParam("week", 15).
+        expect().
+                statusCode(HttpStatus.ACCEPTED.value()).
+                body("days[6].laneCount", is(2)).
+                body("days[6].entries[1].appointmentId", is(overnight.getId())).
+                body("days[6].entries[1].lane", is(1)).
+                body("days[6].entries[1].continuesOnNextDay", is(true)).
+                body("appointments.size()", is(2)).
+        when().
+                get("/calendar/week");
 
-            given().
-                    contentType(ContentType.TEXT).
-                    body(bodyToSendStr).
-            expect().
-                    statusCode(HttpStatus.CREATED.value()).
-                    body("id", is(expectedId)).
-                    body("startWeek", is(appointmentSent.getStartWeek())).
-                    body("attendees", is(appointmentSent.getAttendees())).
-            when().
-                    post("/appointment");
+        given().
+                queryParam("year", 2017).
+                queryParam("week", 16).
+                queryParam("employee", employee1.getId()).
+        expect().
+                statusCode(HttpStatus.ACCEPTED.value()).
+                body("employeeId", is(employee1.getId())).
+                body("appointments.size()", is(0)).
+        when().
+                get("/calendar/week");
 
-            RequestSpecification requestSpecification = given().contentType(ContentType.TEXT).body(bodyToSendStr);
+        given().
+                queryParam("year", 2017).
+                queryParam("week", 16).
+                queryParam("employee", employee2.getId()).
+        expect().
+                statusCode(HttpStatus.ACCEPTED.value()).
+                body("days[0].entries[0].continuesFromPreviousDay", is(true)).
+                body("days[0].entries[0].endSecond", is(3600)).
+                body("appointments[0].id", is(overnight.getId())).
+        when().
+                get("/calendar/week");
 
-            Response response = requestSpecification.when().post("/appointment");
+        given().
+                queryParam("year", 2017).
+                queryParam("week", 15).
+                queryParam("employee", employee3.getId() + 1000).
+        expect().
+                statusCode(HttpStatus.NOT_FOUND.value()).
+        when().
+                get("/calendar/week");
 
-            JSONObject responseJsonObject = new JSONObject(response.asString());
+        given().
+                queryParam("year", 2017).
+                queryParam("week", 54).
+        expect().
+                statusCode(HttpStatus.PRECONDITION_FAILED.value()).
+        when().
+                get("/calendar/week");
 
-            assertEquals(appointmentSent.getTimeSpan().toString(), responseJsonObject.getString("timeSpan"));
-        } catch (ArgumentNotValidException | InvalidDateException | InvalidTimePointException
-                 | JSONException | InvalidTimeSpanException | InvalidWeekException e) {
-            assertEquals("An exception occurred!", "Exception in canCreateAppointment!");
+        get("/calendar/week?week=15").then().statusCode(HttpStatus.PRECONDITION_FAILED.value());
+    }
+
+    // POST /appointment
+    @Test
+    public void canGetPreconditionFailureForInvalidJsonTimeSpan() {
+        final String invalid[] = new String[] {
+                "", "{", "[]", "\"2017-04-15T16:00:00\"",
+                "{\"start\":\"2017-04-15T16:00:00\"}",
+                "{\"start\":\"2017-04-15T16:00:00\",\"end\":17}",
+                "{\"start\":\"2017-04-15 16:00:00\",\"end\":\"2017-04-15T17:00:00\"}",
+                "{\"start\":\"2017-04-15T16:00:00Z\",\"end\":\"2017-04-15T17:00:00\"}",
+                "{\"start\":\"2017-02-29T16:00:00\",\"end\":\"2017-03-01T17:00:00\"}",
+                "{\"start\":\"2017-04-15T17:00:00\",\"end\":\"2017-04-15T16:00:00\"}"
+        };
+
+        for (String invalidBody : invalid) {
+            given().
+                    contentType(ContentType.JSON).
+                    body(invalidBody).
+            expect().
+                    statusCode(HttpStatus.PRECONDITION_FAILED.value()).
+            when().
+                    post("/appointment");
         }
     }
 
@@ -382,6 +1199,314 @@ public class ApplicationFacadeControllerTest {
         }
     }
 
+    // GET /employee
+    @Test
+    public void canGetPagesOfEmployees() {
+        given().
+                queryParam("limit", 2).
+        expect().
+                statusCode(HttpStatus.ACCEPTED.value()).
+                header("X-Next-Cursor", is(String.valueOf(employee2.getId()))).
+                body("size()", is(2)).
+                body("[0].id", is(employee1.getId())).
+                body("[1].id", is(employee2.getId())).
+        when().
+                get("/employee");
+
+        given().
+                queryParam("after", employee2.getId()).
+                queryParam("limit", 2).
+        expect().
+                statusCode(HttpStatus.ACCEPTED.value()).
+                header("X-Next-Cursor", nullValue()).
+                body("size()", is(1)).
+                body("[0].id", is(employee3.getId())).
+        when().
+                get("/employee");
+
+        final int invalidLimits[] = new int[] { 0, -1, Integer.MIN_VALUE };
+
+        for (int invalidLimit : invalidLimits) {
+            given().
+                    queryParam("limit", invalidLimit).
+            when().
+                    get("/employee").
+            then().
+                    statusCode(HttpStatus.PRECONDITION_FAILED.value());
+        }
+
+        given().
+                queryParam("after", "abc").
+        when().
+                get("/employee").
+        then().
+                statusCode(HttpStatus.BAD_REQUEST.value());
+    }
+
+    // GET /employee?q=
+    @Test
+    public void canSearchEmployees() {
+        given().
+                queryParam("q", "pet").
+        expect().
+                statusCode(HttpStatus.ACCEPTED.value()).
+                body("size()", is(1)).
+                body("[0].id", is(employee1.getId())).
+        when().
+                get("/employee");
+
+        given().
+                queryParam("q", "Shmidt").
+                queryParam("limit", 1).
+        expect().
+                statusCode(HttpStatus.ACCEPTED.value()).
+                body("size()", is(1)).
+                body("[0].id", is(employee1.getId())).
+        when().
+                get("/employee");
+
+        given().
+                queryParam("q", "xyz").
+        expect().
+                statusCode(HttpStatus.ACCEPTED.value()).
+                body("size()", is(0)).
+        when().
+                get("/employee");
+
+        given().
+                queryParam("q", " ").
+        when().
+                get("/employee").
+        then().
+                statusCode(HttpStatus.PRECONDITION_FAILED.value());
+
+        given().
+                queryParam("q", "pet").
+                queryParam("limit", 0).
+        when().
+                get("/employee").
+        then().
+                statusCode(HttpStatus.PRECONDITION_FAILED.value());
+    }
+
+    // GET /employee?email=
+    @Test
+    public void canGetEmployeeByEmail() {
+        given().
+                queryParam("email", "Peter.Schmidt@mail.com").
+        expect().
+                statusCode(HttpStatus.ACCEPTED.value()).
+                body("id", is(employee1.getId())).
+                body("email.email", is("peter.schmidt@mail.com")).
+        when().
+                get("/employee");
+
+        given().
+                queryParam("email", "hans.wurst@mail.com").
+        when().
+                get("/employee").
+        then().
+                statusCode(HttpStatus.NOT_FOUND.value());
+
+        given().
+                queryParam("email", "hans.wurst").
+        when().
+                get("/employee").
+        then().
+                statusCode(HttpStatus.PRECONDITION_FAILED.value());
+    }
+
+    // POST /employee/resolve
+    @Test
+    public void canResolveEmployeeIds() {
+        given().
+                contentType(ContentType.JSON).
+                body("[\"PETER.SCHMIDT@mail.com\", \"hans.wurst@mail.com\", \"invalid\"]").
+        expect().
+                statusCode(HttpStatus.ACCEPTED.value()).
+                body("size()", is(1)).
+                body("'PETER.SCHMIDT@mail.com'", is(employee1.getId())).
+        when().
+                post("/employee/resolve");
+
+        given().
+                contentType(ContentType.JSON).
+        when().
+                post("/employee/resolve").
+        then().
+                statusCode(HttpStatus.PRECONDITION_FAILED.value());
+    }
+
+    // GET /employee/{id}/appointments
+    @Test
+    public void canGetAppointmentsOfEmployee() {
+        final String path = "/employee/{id}/appointments";
+
+        Response response = get(path, employee1.getId());
+
+        assertEquals(HttpStatus.ACCEPTED.value(), response.getStatusCode());
+        checkAppointmentGottenWithGet(response);
+
+        // the appointment runs from 2017-04-16T19:00 until 2017-04-16T20:00.
+        response = given().queryParam("from", "2017-04-16T20:00").queryParam("to", "2017-04-17T00:00").get(path, employee2.getId());
+
+        checkAppointmentGottenWithGet(response);
+
+        given().
+                queryParam("from", "2017-04-16T20:00:01").
+                queryParam("to", "2017-04-17T00:00").
+        expect().
+                statusCode(HttpStatus.ACCEPTED.value()).
+                body("size()", is(0)).
+        when().
+                get(path, employee2.getId());
+
+        // attendees added through the REST API show up in their agendas.
+        Appointment later = null;
+
+        try {
+            TimePoint laterBegin = new TimePoint(2017, TimePoint.APRIL, 17, 9, 0, 0);
+            later = appointmentRepository.save(new Appointment(new TimeSpan(laterBegin, laterBegin)));
+        } catch (InvalidDateException | InvalidTimePointException | InvalidTimeSpanException | InvalidWeekException e) {
+            assertEquals("Exception:", e.getMessage());
+        }
+
+        given().
+                contentType(ContentType.JSON).
+                body(Arrays.asList(employee3.getId())).
+        expect().
+                statusCode(HttpStatus.ACCEPTED.value()).
+        when().
+                put("/appointment/{id}", later.getId());
+
+        given().
+        expect().
+                statusCode(HttpStatus.ACCEPTED.value()).
+                body("size()", is(2)).
+                body("[0].id", is(appointment.getId())).
+                body("[1].id", is(later.getId())).
+        when().
+                get(path, employee3.getId());
+
+        given().
+                queryParam("limit", 1).
+        expect().
+                statusCode(HttpStatus.ACCEPTED.value()).
+                body("size()", is(1)).
+                body("[0].id", is(appointment.getId())).
+        when().
+                get(path, employee3.getId());
+
+        given().
+        expect().
+                statusCode(HttpStatus.ACCEPTED.value()).
+                body("size()", is(1)).
+        when().
+                get(path, employee1.getId());
+    }
+
+    // GET /employee/{id}/appointments
+    @Test
+    public void canGetErrorsForInvalidAgendaRequest() {
+        final String path = "/employee/{id}/appointments";
+
+        when().
+                get(path, employee3.getId() + 1000).
+        then().
+                statusCode(HttpStatus.NOT_FOUND.value());
+
+        final String invalidRanges[][] = new String[][] {
+                {"2017-04-16T20:00", "2017-04-16T19:00"}, {"2017-04-16T19:00", null}, {null, "2017-04-16T19:00"},
+                {"2017-04-31T19:00", "2017-05-01T19:00"}, {"16.04.2017", "17.04.2017"}
+        };
+
+        for (String range[] : invalidRanges) {
+            RequestSpecification request = given();
+
+            if (range[0] != null) {
+                request.queryParam("from", range[0]);
+            }
+
+            if (range[1] != null) {
+                request.queryParam("to", range[1]);
+            }
+
+            request.
+            when().
+                    get(path, employee1.getId()).
+            then().
+                    statusCode(HttpStatus.PRECONDITION_FAILED.value());
+        }
+
+        given().
+                queryParam("limit", 0).
+        when().
+                get(path, employee1.getId()).
+        then().
+                statusCode(HttpStatus.PRECONDITION_FAILED.value());
+    }
+
+    // GET /employee/{id}/utilization
+    @Test
+    public void canGetEmployeeUtilization() {
+        // the appointment runs from 2017-04-16T19:00 until 2017-04-16T20:00, the sunday of week 15 of 2017.
+        expect().
+                statusCode(HttpStatus.ACCEPTED.value()).
+                body("employeeId", is(employee2.getId())).
+                body("bookedMinutes", is(60)).
+                body("weeks.size()", is(1)).
+                body("weeks[0].year", is(2017)).
+                body("weeks[0].week", is(15)).
+                body("weeks[0].bookedMinutes", is(60)).
+        when().
+                get("/employee/{id}/utilization", employee2.getId());
+
+        given().
+                queryParam("from", "2017-04-17T00:00").
+                queryParam("to", "2017-04-30T00:00").
+        expect().
+                statusCode(HttpStatus.ACCEPTED.value()).
+                body("bookedMinutes", is(0)).
+                body("weeks.size()", is(0)).
+        when().
+                get("/employee/{id}/utilization", employee2.getId());
+
+        when().
+                get("/employee/{id}/utilization", employee3.getId() + 1000).
+        then().
+                statusCode(HttpStatus.NOT_FOUND.value());
+
+        get("/employee/{id}/utilization?from=2017-04-16T00:00", employee1.getId()).then().statusCode(HttpStatus.PRECONDITION_FAILED.value());
+    }
+
+    // GET /employee/utilization
+    @Test
+    public void canGetMostBookedEmployees() {
+        // all three employees attend the appointment, those booked alike are ordered by their ids.
+        given().
+                queryParam("limit", 2).
+        expect().
+                statusCode(HttpStatus.ACCEPTED.value()).
+                body("size()", is(2)).
+                body("[0].employeeId", is(employee1.getId())).
+                body("[0].bookedMinutes", is(60)).
+                body("[1].employeeId", is(employee2.getId())).
+        when().
+                get("/employee/utilization");
+
+        given().
+                queryParam("from", "2017-04-17T00:00").
+                queryParam("to", "2017-04-30T00:00").
+        expect().
+                statusCode(HttpStatus.ACCEPTED.value()).
+                body("size()", is(0)).
+        when().
+                get("/employee/utilization");
+
+        get("/employee/utilization?limit=0").then().statusCode(HttpStatus.PRECONDITION_FAILED.value());
+        get("/employee/utilization?to=2017-04-16T00:00").then().statusCode(HttpStatus.PRECONDITION_FAILED.value());
+    }
+
     // POST /employee
     @Test
     public void canCreateNewEmployee() {
@@ -439,6 +1564,43 @@ public class ApplicationFacadeControllerTest {
         }
     }
 
+    // DELETE /employee/{id}, PUT /appointment/{id}
+    @Test
+    public void canAddEmployeesToAppointmentAfterFiringAnAttendee() {
+        Employee newEmployee = null;
+
+        try {
+            newEmployee = employeeRepository.save(new Employee("New", "Hire", null));
+        } catch (InvalidEmployeeNameException e) {
+            assertEquals("Exception:", e.getMessage());
+        }
+
+        // the attendee rows of the fired employee, the first attendee of the appointment, are removed through JPA by
+        // AppointmentComponent::removeEmployeeFromAppointments.
+        when().
+                delete("/employee/{id}", employee1.getId()).
+        then().
+                statusCode(HttpStatus.ACCEPTED.value());
+
+        given().
+                contentType(ContentType.JSON).
+                body(Collections.singletonList(newEmployee.getId())).
+        expect().
+                statusCode(HttpStatus.ACCEPTED.value()).
+                body("attendees.size()", is(3)).
+                body("attendees.id", contains(employee2.getId(), employee3.getId(), newEmployee.getId())).
+        when().
+                put("/appointment/{id}", appointment.getId());
+
+        given().
+        expect().
+                statusCode(HttpStatus.ACCEPTED.value()).
+                body("size()", is(1)).
+                body("[0].id", is(appointment.getId())).
+        when().
+                get("/employee/{id}/appointments", newEmployee.getId());
+    }
+
     // DELETE /employee/{id}
     @Test
     public void canNotDeleteNonExistentEmployees() {